@@ -0,0 +1,88 @@
+package john.api1.benchmarks;
+
+import john.api1.application.components.enums.boarding.BoardingType;
+import john.api1.application.domain.cores.boarding.BoardingExtensionDS;
+import john.api1.application.domain.cores.boarding.BoardingManagementDS;
+import john.api1.application.domain.cores.boarding.BoardingPricingDS;
+import john.api1.application.domain.models.boarding.BoardingPricingDomain;
+import john.api1.application.domain.models.request.ExtensionDomain;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Pricing totals, extension end time and duration math run for every aggregated boarding
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardingCoreBenchmark {
+
+    // Request breakdowns and extensions per boarding
+    @Param({"0", "5", "50"})
+    public int items;
+
+    private BoardingPricingDomain pricing;
+    private List<ExtensionDomain> extensions;
+    private Instant start;
+    private Instant end;
+
+    @Setup
+    public void setup() {
+        start = Instant.parse("2025-01-01T08:00:00Z");
+        end = start.plus(Duration.ofDays(3));
+
+        List<BoardingPricingDomain.RequestBreakdown> breakdowns = new ArrayList<>(items);
+        extensions = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            breakdowns.add(new BoardingPricingDomain.RequestBreakdown(new ObjectId(), "Grooming Service", 350 + i, start));
+            extensions.add(new ExtensionDomain(new ObjectId().toHexString(), new ObjectId().toHexString(), new ObjectId().toHexString(),
+                    200, 24, BoardingType.LONG_STAY, "Extension", start, start, i % 2 == 0));
+        }
+
+        pricing = BoardingPricingDomain.mapping(new ObjectId().toHexString(), new ObjectId().toHexString(),
+                400, BoardingType.LONG_STAY, 3, false, breakdowns, true, null);
+    }
+
+    @Benchmark
+    public double pricingFinalTotal() {
+        return BoardingPricingDS.getFinalTotal(pricing);
+    }
+
+    @Benchmark
+    public double pricingRequestTotal() {
+        return BoardingPricingDS.getRequestTotal(pricing);
+    }
+
+    @Benchmark
+    public Instant extensionFinalEnd() {
+        return BoardingExtensionDS.calculateFinalBoardingEnd(end, extensions);
+    }
+
+    @Benchmark
+    public Instant extensionEffectiveEnd() {
+        return BoardingExtensionDS.calculateEffectiveEnd(end, extensions);
+    }
+
+    @Benchmark
+    public long durationHoursAndDays() {
+        return BoardingManagementDS.calculateBoardingDurationHours(start, end)
+                + BoardingManagementDS.calculateBoardingDurationDays(start, end);
+    }
+}
@@ -0,0 +1,133 @@
+package john.api1.benchmarks;
+
+import john.api1.application.components.enums.ActivityLogType;
+import john.api1.application.components.enums.NotificationType;
+import john.api1.application.components.enums.boarding.BoardingType;
+import john.api1.application.components.enums.boarding.PaymentStatus;
+import john.api1.application.components.enums.boarding.RequestStatus;
+import john.api1.application.components.enums.boarding.RequestType;
+import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.domain.cores.ActivityLogDS;
+import john.api1.application.domain.cores.ActivityLogDataContext;
+import john.api1.application.domain.cores.NotificationContext;
+import john.api1.application.domain.cores.NotificationDescriptionDS;
+import john.api1.application.domain.cores.RequestStatusDS;
+import john.api1.application.domain.models.ActivityLogDomain;
+import john.api1.application.domain.models.ActivityLogSnapshot;
+import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.domain.models.request.RequestDomain;
+import john.api1.application.dto.mapper.history.ActivityLogDTO;
+import john.api1.application.ports.repositories.boarding.PricingCQRS;
+import john.api1.application.ports.repositories.pet.PetCQRS;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+// Request status guards, notification text and activity log transforms
+// Rejected guard measures the exception path, it builds a message on every call
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DescriptionCoreBenchmark {
+
+    private RequestDomain inProgress;
+    private RequestDomain rejected;
+    private NotificationContext extensionApproved;
+    private NotificationContext pickupReminder;
+    private ActivityLogDomain boardingLog;
+    private ActivityLogDataContext boardingContext;
+    private ActivityLogDomain snapshottedBoardingLog;
+
+    @Setup
+    public void setup() {
+        Instant start = Instant.parse("2025-01-01T08:00:00Z");
+        Instant end = start.plus(Duration.ofDays(3));
+        String petId = new ObjectId().toHexString();
+        String ownerId = new ObjectId().toHexString();
+        String boardingId = new ObjectId().toHexString();
+
+        inProgress = new RequestDomain(new ObjectId().toHexString(), petId, ownerId, boardingId,
+                RequestType.GROOMING_SERVICE, RequestStatus.IN_PROGRESS, "Full grooming", start, start, null, true);
+        rejected = new RequestDomain(new ObjectId().toHexString(), petId, ownerId, boardingId,
+                RequestType.GROOMING_SERVICE, RequestStatus.REJECTED, "Full grooming", start, start, "No slot", false);
+
+        extensionApproved = NotificationContext.builder()
+                .notificationType(NotificationType.EXTENSION_REQUEST_COMPLETED)
+                .ownerName("Juan Dela Cruz")
+                .petName("Bantay")
+                .requestType(RequestType.BOARDING_EXTENSION)
+                .boardingType(BoardingType.LONG_STAY)
+                .newDuration(end.plus(Duration.ofDays(1)))
+                .charges(400)
+                .checkoutTime(end)
+                .build();
+        pickupReminder = NotificationContext.builder()
+                .notificationType(NotificationType.PICKUP_REMINDER)
+                .ownerName("Juan Dela Cruz")
+                .petName("Bantay")
+                .boardingType(BoardingType.LONG_STAY)
+                .checkoutTime(end)
+                .build();
+
+        BoardingDomain boarding = BoardingDomain.create(petId, ownerId, BoardingType.LONG_STAY, start, end, PaymentStatus.PAID, "Feed twice")
+                .withId(boardingId);
+        boardingLog = ActivityLogDomain.createForBoarding(boarding, ActivityLogType.BOARDING_MANAGEMENT, "Juan Dela Cruz", "Bantay", "Boarding created");
+        boardingContext = new ActivityLogDataContext.Builder()
+                .boarding(boarding)
+                .pricing(new PricingCQRS(BoardingType.LONG_STAY, 400, 3))
+                .pet(new PetCQRS(petId, null, "Bantay", "DOG", "Aspin", "MEDIUM", 3, "", true))
+                .build();
+        snapshottedBoardingLog = boardingLog.withSnapshot(ActivityLogDS.snapshot(boardingLog, boardingContext));
+    }
+
+    @Benchmark
+    public RequestDomain requestValidToCommit() {
+        RequestStatusDS.isValidToCommit(inProgress);
+        return inProgress;
+    }
+
+    @Benchmark
+    public void requestRejectedToCommit(Blackhole blackhole) {
+        try {
+            RequestStatusDS.isValidToCommit(rejected);
+        } catch (DomainArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public String notificationExtensionApproved() {
+        return NotificationDescriptionDS.description(extensionApproved);
+    }
+
+    @Benchmark
+    public String notificationPickupReminder() {
+        return NotificationDescriptionDS.description(pickupReminder);
+    }
+
+    @Benchmark
+    public ActivityLogSnapshot activityLogSnapshotBoarding() {
+        return ActivityLogDS.snapshot(boardingLog, boardingContext);
+    }
+
+    @Benchmark
+    public ActivityLogDTO activityLogBoarding() {
+        return ActivityLogDS.transform(snapshottedBoardingLog);
+    }
+}
@@ -0,0 +1,91 @@
+package john.api1.benchmarks;
+
+import john.api1.application.components.enums.BucketType;
+import john.api1.application.components.enums.PetPrices;
+import john.api1.application.components.enums.PetSize;
+import john.api1.application.components.enums.SpeciesType;
+import john.api1.application.components.enums.boarding.BoardingStatus;
+import john.api1.application.components.enums.boarding.RequestType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// String and pair lookups done on every mapped document or request
+// Worst case values sit at the end of values()
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumLookupBenchmark {
+
+    // One state per parser so the params do not multiply
+    @State(Scope.Benchmark)
+    public static class PetPricesInput {
+        @Param({"DOG:SMALL", "CAT:ADULT"})
+        public String pair;
+
+        SpeciesType species;
+        PetSize size;
+
+        @Setup
+        public void setup() {
+            String[] parts = pair.split(":");
+            species = SpeciesType.valueOf(parts[0]);
+            size = PetSize.valueOf(parts[1]);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BoardingStatusInput {
+        @Param({"BOARDING", "released"})
+        public String value;
+    }
+
+    @State(Scope.Benchmark)
+    public static class RequestTypeInput {
+        @Param({"PHOTO_REQUEST", "custom_request"})
+        public String value;
+    }
+
+    @State(Scope.Benchmark)
+    public static class BucketTypeInput {
+        @Param({"PROFILE_PHOTO", "service_video"})
+        public String value;
+    }
+
+    @Benchmark
+    public PetPrices petPricesFromSpeciesAndSize(PetPricesInput input) {
+        return PetPrices.fromSpeciesAndSize(input.species, input.size);
+    }
+
+    @Benchmark
+    public BoardingStatus boardingStatusFromString(BoardingStatusInput input) {
+        return BoardingStatus.fromStringOrDefault(input.value);
+    }
+
+    @Benchmark
+    public BoardingStatus boardingStatusSafeFromString(BoardingStatusInput input) {
+        return BoardingStatus.safeFromStringOrDefault(input.value);
+    }
+
+    @Benchmark
+    public RequestType requestTypeFromString(RequestTypeInput input) {
+        return RequestType.fromString(input.value);
+    }
+
+    @Benchmark
+    public BucketType bucketTypeFromString(BucketTypeInput input) {
+        return BucketType.fromString(input.value);
+    }
+}
@@ -0,0 +1,49 @@
+package john.api1.benchmarks;
+
+import john.api1.application.components.LogSink;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// What a log write costs the request thread, several writers offering at once
+// The writer only counts, the database side is not part of this
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LogSinkBenchmark {
+    private final AtomicLong written = new AtomicLong();
+    private LogSink<String> sink;
+
+    @Setup
+    public void setup() {
+        sink = new LogSink<>("benchmark", 10_000, 500, Duration.ofMillis(200), Duration.ofSeconds(10),
+                LogSink.SpillPolicy.CALLER_RUNS, batch -> written.addAndGet(batch.size()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        sink.close();
+    }
+
+    @Benchmark
+    public void offer() {
+        sink.offer("Pet check in for boarding");
+    }
+}
@@ -0,0 +1,75 @@
+package john.api1.benchmarks;
+
+import john.api1.application.components.enums.SearchHitType;
+import john.api1.application.domain.cores.search.SearchTokenDS;
+import john.api1.application.domain.models.search.OmniSearchIndex;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Admin typeahead against an index of owners and pets, target is well under a millisecond per query
+// One letter queries hit the longest posting lists
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OmniSearchBenchmark {
+    private static final String[] FIRST = {"juan", "maria", "jose", "ana", "pedro", "rosa", "carlo", "liza", "mark", "joy"};
+    private static final String[] LAST = {"dela cruz", "santos", "reyes", "garcia", "mendoza", "bautista", "ramos", "aquino"};
+    private static final String[] PETS = {"bantay", "bruno", "mingming", "choco", "max", "luna", "coco", "princess"};
+    private static final String[] BREEDS = {"aspin", "shih tzu", "labrador", "puspin", "persian", "beagle"};
+
+    @Param({"1000", "20000"})
+    public int owners;
+
+    @Param({"j", "juan", "juan dela", "0917", "bantay asp"})
+    public String query;
+
+    private OmniSearchIndex index;
+    private List<String> tokens;
+
+    @Setup
+    public void setup() {
+        index = new OmniSearchIndex();
+        for (int i = 0; i < owners; i++) {
+            String name = FIRST[i % FIRST.length] + " " + LAST[(i / FIRST.length) % LAST.length];
+            String email = name.replace(' ', '.') + i + "@mail.com";
+            String phone = String.format("0917%07d", i);
+
+            Map<String, Integer> grams = new HashMap<>();
+            SearchTokenDS.textGrams(name, grams);
+            SearchTokenDS.textGrams(email, grams);
+            SearchTokenDS.phoneGrams(phone, grams);
+            index.upsert(new OmniSearchIndex.Entry(SearchHitType.OWNER, new ObjectId().toHexString(), name, email, null), grams);
+
+            String pet = PETS[i % PETS.length];
+            String breed = BREEDS[i % BREEDS.length];
+            Map<String, Integer> petGrams = new HashMap<>();
+            SearchTokenDS.textGrams(pet, petGrams);
+            SearchTokenDS.textGrams(breed, petGrams);
+            index.upsert(new OmniSearchIndex.Entry(SearchHitType.PET, new ObjectId().toHexString(), pet, breed, null), petGrams);
+        }
+        tokens = SearchTokenDS.queryTokens(query);
+    }
+
+    @Benchmark
+    public List<OmniSearchIndex.Hit> search() {
+        return index.search(tokens, 10);
+    }
+}
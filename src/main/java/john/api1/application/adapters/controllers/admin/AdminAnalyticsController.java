@@ -0,0 +1,76 @@
+package john.api1.application.adapters.controllers.admin;
+
+import john.api1.application.components.enums.RollupGranularity;
+import john.api1.application.dto.DTOResponse;
+import john.api1.application.dto.mapper.analytics.RevenueBucketDTO;
+import john.api1.application.dto.mapper.analytics.RevenueSummaryDTO;
+import john.api1.application.ports.services.analytics.IRevenueRollup;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/analytics")
+public class AdminAnalyticsController {
+    private final IRevenueRollup revenueRollup;
+
+    @Autowired
+    public AdminAnalyticsController(IRevenueRollup revenueRollup) {
+        this.revenueRollup = revenueRollup;
+    }
+
+    // Totals for [from, to], dates inclusive
+    @GetMapping("/revenue/summary")
+    public ResponseEntity<DTOResponse<RevenueSummaryDTO>> getRevenueSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        var summary = revenueRollup.summary(from, to);
+        if (!summary.isSuccess()) return buildErrorResponse(HttpStatus.BAD_REQUEST, summary.getMessage());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(
+                        HttpStatus.OK.value(),
+                        summary.getData()));
+    }
+
+    // One bucket per day or month with activity
+    @GetMapping("/revenue/series")
+    public ResponseEntity<DTOResponse<List<RevenueBucketDTO>>> getRevenueSeries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") String granularity) {
+        try {
+            var series = revenueRollup.series(from, to, RollupGranularity.fromString(granularity));
+            if (!series.isSuccess()) return buildErrorResponse(HttpStatus.BAD_REQUEST, series.getMessage());
+
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(DTOResponse.of(
+                            HttpStatus.OK.value(),
+                            series.getData()));
+        } catch (IllegalArgumentException e) {
+            return buildErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // Recompute every bucket from boardings and pricing breakdowns
+    @PostMapping("/revenue/rebuild")
+    public ResponseEntity<DTOResponse<Long>> rebuildRevenueRollups() {
+        var rebuild = revenueRollup.rebuild();
+        if (!rebuild.isSuccess()) return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, rebuild.getMessage());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(
+                        HttpStatus.OK.value(),
+                        rebuild.getData(),
+                        rebuild.getMessage()));
+    }
+
+    private <T> ResponseEntity<DTOResponse<T>> buildErrorResponse(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(DTOResponse.message(status.value(), message));
+    }
+}
@@ -10,6 +10,8 @@ import john.api1.application.dto.request.BoardingStatusRDTO;
 import john.api1.application.dto.request.PaymentStatusDTO;
 import john.api1.application.ports.services.boarding.IBoardingCreate;
 import john.api1.application.ports.services.boarding.IBoardingManagement;
+import john.api1.application.ports.services.boarding.IBoardingEffectiveEnd;
+import john.api1.application.ports.services.boarding.IBoardingView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,11 +32,18 @@ public class AdminBoardingController {
     private static final Logger logger = LoggerFactory.getLogger(AdminBoardingController.class);
     private final IBoardingCreate boardingCreate;
     private final IBoardingManagement boardingManagement;
+    private final IBoardingView boardingView;
+    private final IBoardingEffectiveEnd boardingEffectiveEnd;
 
     @Autowired
-    public AdminBoardingController(IBoardingCreate boardingCreate, IBoardingManagement boardingManagement) {
+    public AdminBoardingController(IBoardingCreate boardingCreate,
+                                   IBoardingManagement boardingManagement,
+                                   IBoardingView boardingView,
+                                   IBoardingEffectiveEnd boardingEffectiveEnd) {
         this.boardingCreate = boardingCreate;
         this.boardingManagement = boardingManagement;
+        this.boardingView = boardingView;
+        this.boardingEffectiveEnd = boardingEffectiveEnd;
     }
 
     // CREATE BOARDING
@@ -153,6 +162,32 @@ public class AdminBoardingController {
                         update.getMessage()));
     }
 
+    // Backfill materialized boarding view
+    @PostMapping("/view/rebuild")
+    public ResponseEntity<DTOResponse<Long>> rebuildBoardingView() {
+        var rebuild = boardingView.rebuild();
+        if (!rebuild.isSuccess()) return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, rebuild.getMessage());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(
+                        HttpStatus.OK.value(),
+                        rebuild.getData(),
+                        rebuild.getMessage()));
+    }
+
+    // Resumable backfill of stored effective end and durations
+    @PostMapping("/effective-end/backfill")
+    public ResponseEntity<DTOResponse<Long>> backfillEffectiveEnd() {
+        var backfill = boardingEffectiveEnd.backfill();
+        if (!backfill.isSuccess()) return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, backfill.getMessage());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(
+                        HttpStatus.OK.value(),
+                        backfill.getData(),
+                        backfill.getMessage()));
+    }
+
     private <T> ResponseEntity<DTOResponse<T>> buildErrorResponse(HttpStatus status, String message) {
         return ResponseEntity.status(status).body(DTOResponse.message(status.value(), message));
     }
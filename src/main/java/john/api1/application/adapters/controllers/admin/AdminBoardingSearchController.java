@@ -1,28 +1,46 @@
 package john.api1.application.adapters.controllers.admin;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import john.api1.application.dto.DTOResponse;
 import john.api1.application.dto.mapper.boarding.BoardingDTO;
+import john.api1.application.dto.mapper.boarding.BoardingPageDTO;
+import john.api1.application.dto.mapper.boarding.KennelAvailabilityDTO;
 import john.api1.application.ports.services.boarding.IBoardingSearch;
+import john.api1.application.ports.services.boarding.IKennelAvailability;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/admin/search/boarding")
 public class AdminBoardingSearchController {
     private static final Logger logger = LoggerFactory.getLogger(AdminBoardingController.class);
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
     private final IBoardingSearch boardingSearch;
+    private final IKennelAvailability kennelAvailability;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public AdminBoardingSearchController(IBoardingSearch boardingSearch) {
+    public AdminBoardingSearchController(IBoardingSearch boardingSearch,
+                                         IKennelAvailability kennelAvailability,
+                                         ObjectMapper objectMapper) {
         this.boardingSearch = boardingSearch;
+        this.kennelAvailability = kennelAvailability;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/all")
@@ -38,6 +56,53 @@ public class AdminBoardingSearchController {
                 .body(DTOResponse.of(HttpStatus.OK.value(), search.getData(), search.getMessage()));
     }
 
+    // Keyset paged, pass back 'nextCursor' to get the following page
+    @GetMapping("/page")
+    public ResponseEntity<DTOResponse<BoardingPageDTO>> getBoardingPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        var search = boardingSearch.boardingPage(cursor, limit);
+
+        if (!search.isSuccess()) {
+            return buildErrorResponse(
+                    HttpStatus.BAD_REQUEST, search.getMessage());
+        }
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(HttpStatus.OK.value(), search.getData(), search.getMessage()));
+    }
+
+    @GetMapping("/owner/{ownerId}")
+    public ResponseEntity<DTOResponse<List<BoardingDTO>>> getBoardingByOwner(@PathVariable String ownerId) {
+        var search = boardingSearch.findAllByOwnerId(ownerId);
+
+        if (!search.isSuccess()) {
+            return buildErrorResponse(
+                    HttpStatus.BAD_REQUEST, search.getMessage());
+        }
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(HttpStatus.OK.value(), search.getData(), search.getMessage()));
+    }
+
+    // One boarding json per line, written as chunks are aggregated
+    @GetMapping("/all/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllBoarding() {
+        StreamingResponseBody body = out -> boardingSearch.streamAllBoarding(dto -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(dto));
+                out.write("\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/recent")
     public ResponseEntity<DTOResponse<BoardingDTO>> getRecentBoarding() {
         var search = boardingSearch.recentBoarding()    ;
@@ -51,6 +116,34 @@ public class AdminBoardingSearchController {
                 .body(DTOResponse.of(HttpStatus.OK.value(), search.getData(), search.getMessage()));
     }
 
+    @GetMapping("/ending-today")
+    public ResponseEntity<DTOResponse<List<BoardingDTO>>> getBoardingEndingToday() {
+        var search = boardingSearch.endingToday();
+
+        if (!search.isSuccess()) {
+            return buildErrorResponse(
+                    HttpStatus.BAD_REQUEST, search.getMessage());
+        }
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(HttpStatus.OK.value(), search.getData(), search.getMessage()));
+    }
+
+    // Free kennels per size class from today
+    @GetMapping("/availability")
+    public ResponseEntity<DTOResponse<List<KennelAvailabilityDTO>>> getKennelAvailability(
+            @RequestParam(defaultValue = "14") int days) {
+        var search = kennelAvailability.freeSlots(days);
+
+        if (!search.isSuccess()) {
+            return buildErrorResponse(
+                    HttpStatus.BAD_REQUEST, search.getMessage());
+        }
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(HttpStatus.OK.value(), search.getData(), search.getMessage()));
+    }
+
     private <T> ResponseEntity<DTOResponse<T>> buildErrorResponse(HttpStatus status, String message) {
         return ResponseEntity.status(status).body(DTOResponse.message(status.value(), message));
     }
@@ -0,0 +1,33 @@
+package john.api1.application.adapters.controllers.admin;
+
+import john.api1.application.components.TwoTierCache;
+import john.api1.application.dto.DTOResponse;
+import john.api1.application.dto.mapper.CacheStatsDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/cache")
+public class AdminCacheController {
+    private final TwoTierCache cache;
+
+    @Autowired
+    public AdminCacheController(TwoTierCache cache) {
+        this.cache = cache;
+    }
+
+    // Hit and miss counters of this node since start
+    @GetMapping("/stats")
+    public ResponseEntity<DTOResponse<List<CacheStatsDTO>>> getCacheStats() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(
+                        HttpStatus.OK.value(),
+                        cache.stats()));
+    }
+}
@@ -1,32 +1,56 @@
 package john.api1.application.adapters.controllers.admin;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.components.exception.PersistenceHistoryException;
 import john.api1.application.dto.DTOResponse;
 import john.api1.application.dto.mapper.history.ActivityLogDTO;
+import john.api1.application.dto.mapper.history.ActivityLogPageDTO;
 import john.api1.application.dto.mapper.history.media.MediaHistoryDTO;
+import john.api1.application.dto.mapper.history.media.MediaHistoryPageDTO;
+import john.api1.application.ports.services.archive.ILogArchive;
+import john.api1.application.ports.services.history.IActivityLogSnapshot;
 import john.api1.application.ports.services.history.IHistoryLogSearch;
 import john.api1.application.ports.services.history.IHistoryMediaSearch;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/admin/history")
 public class AdminHistoryController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
     private final IHistoryLogSearch historyLogSearch;
     private final IHistoryMediaSearch historyMediaSearch;
+    private final IActivityLogSnapshot activityLogSnapshot;
+    private final ILogArchive logArchive;
+    private final ObjectMapper objectMapper;
 
     @Autowired
     public AdminHistoryController(IHistoryLogSearch historyLogSearch,
-                                  IHistoryMediaSearch historyMediaSearch) {
+                                  IHistoryMediaSearch historyMediaSearch,
+                                  IActivityLogSnapshot activityLogSnapshot,
+                                  ILogArchive logArchive,
+                                  ObjectMapper objectMapper) {
         this.historyLogSearch = historyLogSearch;
         this.historyMediaSearch = historyMediaSearch;
+        this.activityLogSnapshot = activityLogSnapshot;
+        this.logArchive = logArchive;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/search/recent")
@@ -64,6 +88,77 @@ public class AdminHistoryController {
         }
     }
 
+    // Newest first within [from, to), defaults to today
+    // Keyset paged, pass back 'nextCursor' with the same filters to get the following page
+    @GetMapping("/search")
+    public ResponseEntity<DTOResponse<ActivityLogPageDTO>> searchRange(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String activityType,
+            @RequestParam(required = false) String requestType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        var range = historyLogSearch.range(from, to, activityType, requestType);
+        if (!range.isSuccess()) return buildErrorResponse(HttpStatus.BAD_REQUEST, range.getMessage());
+
+        var search = historyLogSearch.searchRange(range.getData(), cursor, limit);
+        if (!search.isSuccess()) return buildErrorResponse(HttpStatus.BAD_REQUEST, search.getMessage());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(HttpStatus.OK.value(), search.getData(), search.getMessage()));
+    }
+
+    // Export of the same range, one log json per line
+    @GetMapping("/search/stream")
+    public ResponseEntity<?> streamRange(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String activityType,
+            @RequestParam(required = false) String requestType) {
+        var range = historyLogSearch.range(from, to, activityType, requestType);
+        if (!range.isSuccess()) return buildErrorResponse(HttpStatus.BAD_REQUEST, range.getMessage());
+
+        StreamingResponseBody body = out -> historyLogSearch.streamRange(range.getData(), dto -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(dto));
+                out.write("\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(body);
+    }
+
+    // Resumable backfill of display snapshots for logs written before them
+    @PostMapping("/snapshot/backfill")
+    public ResponseEntity<DTOResponse<Long>> backfillSnapshot() {
+        var backfill = activityLogSnapshot.backfill();
+        if (!backfill.isSuccess()) return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, backfill.getMessage());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(
+                        HttpStatus.OK.value(),
+                        backfill.getData(),
+                        backfill.getMessage()));
+    }
+
+    // Moves history, email and sms logs older than the horizon into archive segments, resumable
+    @PostMapping("/archive/run")
+    public ResponseEntity<DTOResponse<Long>> runArchive() {
+        var archive = logArchive.archive();
+        if (!archive.isSuccess()) return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, archive.getMessage());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(
+                        HttpStatus.OK.value(),
+                        archive.getData(),
+                        archive.getMessage()));
+    }
+
     // Media
     @GetMapping("/search/media/recent")
     public ResponseEntity<DTOResponse<MediaHistoryDTO>> searchRecentMedia() {
@@ -82,9 +177,18 @@ public class AdminHistoryController {
         }
     }
 
+    // Completed photo/video requests newest first, optionally for one owner
+    // Keyset paged, pass back 'nextCursor' to get the following page
     @GetMapping("/search/media/all")
-    public ResponseEntity<DTOResponse<List<ActivityLogDTO>>> searchAllMedia() {
-        return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Something wrong with the system. Try again");
+    public ResponseEntity<DTOResponse<MediaHistoryPageDTO>> searchAllMedia(
+            @RequestParam(required = false) String ownerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        var search = historyMediaSearch.getAllHistoryMedia(ownerId, cursor, limit);
+        if (!search.isSuccess()) return buildErrorResponse(HttpStatus.BAD_REQUEST, search.getMessage());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(HttpStatus.OK.value(), search.getData(), search.getMessage()));
     }
 
 
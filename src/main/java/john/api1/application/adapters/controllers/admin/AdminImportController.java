@@ -0,0 +1,102 @@
+package john.api1.application.adapters.controllers.admin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import john.api1.application.components.enums.ImportFormat;
+import john.api1.application.dto.DTOResponse;
+import john.api1.application.ports.services.admin.IOwnerBulkImport;
+import john.api1.common.config.ImportConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+@RestController
+@RequestMapping("/api/v1/admin/import")
+public class AdminImportController {
+    private static final Logger logger = LoggerFactory.getLogger(AdminImportController.class);
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private final IOwnerBulkImport ownerImport;
+    private final ImportConfig config;
+    private final ThreadPoolTaskExecutor importExecutor;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public AdminImportController(IOwnerBulkImport ownerImport,
+                                 ImportConfig config,
+                                 @Qualifier("ownerImportExecutor") ThreadPoolTaskExecutor importExecutor,
+                                 ObjectMapper objectMapper) {
+        this.ownerImport = ownerImport;
+        this.config = config;
+        this.importExecutor = importExecutor;
+        this.objectMapper = objectMapper;
+    }
+
+    // Body is read as it arrives, one result json per owner row is written back as each chunk is saved
+    // Last line is the summary wrapped in the usual response
+    @PostMapping(value = "/pet-owner", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<?> importPetOwners(HttpServletRequest request) {
+        var format = ImportFormat.fromContentType(request.getContentType());
+        if (format.isEmpty())
+            return buildErrorResponse(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Import accepts text/csv or application/x-ndjson.");
+
+        InputStream body;
+        try {
+            body = request.getInputStream();
+        } catch (IOException e) {
+            return buildErrorResponse(HttpStatus.BAD_REQUEST, "Import body could not be read.");
+        }
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(config.getTimeout().toMillis());
+        try {
+            importExecutor.execute(() -> runImport(body, format.get(), emitter));
+        } catch (TaskRejectedException e) {
+            return buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS, "An import is already running, try again once it finishes.");
+        }
+
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(emitter);
+    }
+
+    private void runImport(InputStream body, ImportFormat format, ResponseBodyEmitter emitter) {
+        try {
+            var result = ownerImport.importOwners(body, format, row -> sendLine(emitter, row));
+            HttpStatus status = result.isSuccess() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+            sendLine(emitter, DTOResponse.of(status.value(), result.getData(), result.getMessage()));
+            emitter.complete();
+        } catch (UncheckedIOException e) {
+            // Client went away, rows already saved stay saved
+            logger.warn("Owner import response could not be written: {}", e.getMessage());
+            emitter.completeWithError(e);
+        } catch (RuntimeException e) {
+            logger.error("Owner import failed: {}", e.getMessage(), e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void sendLine(ResponseBodyEmitter emitter, Object line) {
+        try {
+            emitter.send(objectMapper.writeValueAsString(line) + "\n", MediaType.TEXT_PLAIN);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> ResponseEntity<DTOResponse<T>> buildErrorResponse(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(DTOResponse.message(status.value(), message));
+    }
+}
@@ -0,0 +1,57 @@
+package john.api1.application.adapters.controllers.admin;
+
+import john.api1.application.dto.DTOResponse;
+import john.api1.application.dto.mapper.search.OmniSearchHitDTO;
+import john.api1.application.ports.services.admin.IAdminOmniSearch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/search")
+public class AdminOmniSearchController {
+    private final IAdminOmniSearch omniSearch;
+
+    @Autowired
+    public AdminOmniSearchController(IAdminOmniSearch omniSearch) {
+        this.omniSearch = omniSearch;
+    }
+
+    // Typeahead, e.g. /api/v1/admin/search?q=juan 0917&limit=10
+    @GetMapping
+    public ResponseEntity<DTOResponse<List<OmniSearchHitDTO>>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        var hits = omniSearch.search(q, limit);
+        if (!hits.isSuccess()) return buildErrorResponse(HttpStatus.BAD_REQUEST, hits.getMessage());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(
+                        HttpStatus.OK.value(),
+                        hits.getData(),
+                        hits.getMessage()));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<DTOResponse<Integer>> rebuild() {
+        var rebuild = omniSearch.rebuild();
+        if (!rebuild.isSuccess()) return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, rebuild.getMessage());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(
+                        HttpStatus.OK.value(),
+                        rebuild.getData(),
+                        rebuild.getMessage()));
+    }
+
+    private <T> ResponseEntity<DTOResponse<T>> buildErrorResponse(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(DTOResponse.message(status.value(), message));
+    }
+}
@@ -2,6 +2,7 @@ package john.api1.application.adapters.controllers.admin;
 
 import john.api1.application.dto.DTOResponse;
 import john.api1.application.dto.mapper.owner.PetOwnerDTO;
+import john.api1.application.dto.mapper.owner.PetOwnerPageDTO;
 import john.api1.application.dto.mapper.owner.PetOwnerPendingDTO;
 import john.api1.application.ports.services.IPetOwnerSearchAggregation;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -36,6 +38,21 @@ public class AdminPetOwnerSearchController {
                         all.getData()));
     }
 
+    // Keyset paged, pass back 'nextCursor' to get the following page
+    @GetMapping("/page")
+    public ResponseEntity<DTOResponse<PetOwnerPageDTO>> getActivePage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        var page = ownerSearch.activeOwnerPage(cursor, limit);
+        if (!page.isSuccess())
+            return buildErrorResponse(HttpStatus.BAD_REQUEST, page.getMessage());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(
+                        HttpStatus.OK.value(),
+                        page.getData()));
+    }
+
     @GetMapping("/recent")
     public ResponseEntity<DTOResponse<PetOwnerDTO>> getRecent() {
         var recent = ownerSearch.searchRecent();
@@ -0,0 +1,127 @@
+package john.api1.application.adapters.controllers.admin;
+
+import john.api1.application.components.enums.GroomingType;
+import john.api1.application.components.enums.PetSize;
+import john.api1.application.components.enums.SpeciesType;
+import john.api1.application.components.enums.boarding.BoardingType;
+import john.api1.application.dto.DTOResponse;
+import john.api1.application.dto.mapper.boarding.PriceQuoteDTO;
+import john.api1.application.dto.mapper.boarding.PricingRateDTO;
+import john.api1.application.dto.request.PricingRateRDTO;
+import john.api1.application.ports.services.boarding.IPricingEngine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/v1/admin/pricing")
+public class AdminPricingController {
+    private final IPricingEngine pricingEngine;
+
+    @Autowired
+    public AdminPricingController(IPricingEngine pricingEngine) {
+        this.pricingEngine = pricingEngine;
+    }
+
+    // Current version held in memory
+    @GetMapping("/rates")
+    public ResponseEntity<DTOResponse<PricingRateDTO>> getRates() {
+        var rates = pricingEngine.currentRates();
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(
+                        HttpStatus.OK.value(),
+                        rates,
+                        "Pricing rates version " + rates.version() + "."));
+    }
+
+    // Publish a full rate table as the next version
+    @PostMapping("/rates")
+    public ResponseEntity<DTOResponse<PricingRateDTO>> publishRates(
+            @Valid @RequestBody PricingRateRDTO request,
+            BindingResult result) {
+        if (result.hasErrors()) {
+            String message = result.getAllErrors()
+                    .stream()
+                    .map(DefaultMessageSourceResolvable::getDefaultMessage)
+                    .collect(Collectors.joining(", "));
+            return buildErrorResponse(HttpStatus.BAD_REQUEST, message);
+        }
+
+        var publish = pricingEngine.publishRates(request);
+        if (!publish.isSuccess()) return buildErrorResponse(HttpStatus.BAD_REQUEST, publish.getMessage());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(
+                        HttpStatus.OK.value(),
+                        publish.getData(),
+                        publish.getMessage()));
+    }
+
+    @GetMapping("/quote/boarding")
+    public ResponseEntity<DTOResponse<PriceQuoteDTO>> quoteBoarding(
+            @RequestParam String species,
+            @RequestParam String size,
+            @RequestParam String boardingType,
+            @RequestParam long duration) {
+        try {
+            var quote = pricingEngine.quoteBoarding(
+                    SpeciesType.fromStringToSpecies(species),
+                    PetSize.fromStringToSize(size),
+                    BoardingType.fromStringOrError(boardingType),
+                    duration);
+            return buildQuoteResponse(quote);
+        } catch (IllegalArgumentException e) {
+            return buildErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GetMapping("/quote/extension")
+    public ResponseEntity<DTOResponse<PriceQuoteDTO>> quoteExtension(
+            @RequestParam String species,
+            @RequestParam String size,
+            @RequestParam long hours) {
+        try {
+            var quote = pricingEngine.quoteExtension(
+                    SpeciesType.fromStringToSpecies(species),
+                    PetSize.fromStringToSize(size),
+                    hours);
+            return buildQuoteResponse(quote);
+        } catch (IllegalArgumentException e) {
+            return buildErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GetMapping("/quote/grooming")
+    public ResponseEntity<DTOResponse<PriceQuoteDTO>> quoteGrooming(
+            @RequestParam String species,
+            @RequestParam String size,
+            @RequestParam String groomingType) {
+        try {
+            var quote = pricingEngine.quoteGrooming(
+                    SpeciesType.fromStringToSpecies(species),
+                    PetSize.fromStringToSize(size),
+                    GroomingType.safeFromStringOrDefault(groomingType));
+            return buildQuoteResponse(quote);
+        } catch (IllegalArgumentException e) {
+            return buildErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private ResponseEntity<DTOResponse<PriceQuoteDTO>> buildQuoteResponse(PriceQuoteDTO quote) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(
+                        HttpStatus.OK.value(),
+                        quote,
+                        "Quoted with pricing rates version " + quote.rateVersion() + "."));
+    }
+
+    private <T> ResponseEntity<DTOResponse<T>> buildErrorResponse(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(DTOResponse.message(status.value(), message));
+    }
+}
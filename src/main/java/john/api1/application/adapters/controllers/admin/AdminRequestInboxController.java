@@ -0,0 +1,81 @@
+package john.api1.application.adapters.controllers.admin;
+
+import john.api1.application.dto.DTOResponse;
+import john.api1.application.dto.mapper.request.RequestInboxDeltaDTO;
+import john.api1.application.dto.mapper.request.RequestInboxPageDTO;
+import john.api1.application.ports.services.request.IRequestInbox;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+@RestController
+@RequestMapping("/api/v1/admin/request/inbox")
+public class AdminRequestInboxController {
+    private final IRequestInbox requestInbox;
+
+    @Autowired
+    public AdminRequestInboxController(IRequestInbox requestInbox) {
+        this.requestInbox = requestInbox;
+    }
+
+    // Pending and in-progress requests oldest first, pass back 'nextCursor' to get the following page
+    @GetMapping
+    public ResponseEntity<DTOResponse<RequestInboxPageDTO>> getInbox(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String status) {
+        var page = requestInbox.page(cursor, limit, status);
+
+        if (!page.isSuccess()) {
+            return buildErrorResponse(HttpStatus.BAD_REQUEST, page.getMessage());
+        }
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(HttpStatus.OK.value(), page.getData(), page.getMessage()));
+    }
+
+    // 'version' event first, then one 'delta' event per change
+    // Apply deltas above the version of the page already loaded, refetch the page on a gap
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamInbox() throws IOException {
+        SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
+
+        Consumer<RequestInboxDeltaDTO> listener = delta -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("delta")
+                        .id(String.valueOf(delta.version()))
+                        .data(delta));
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        emitter.onCompletion(() -> requestInbox.unsubscribe(listener));
+        emitter.onTimeout(() -> requestInbox.unsubscribe(listener));
+        emitter.onError((e) -> requestInbox.unsubscribe(listener));
+
+        emitter.send(SseEmitter.event()
+                .name("version")
+                .data(requestInbox.version()));
+        // Dropped for falling behind, closing makes the client reconnect and refetch
+        requestInbox.subscribe(listener, emitter::complete);
+
+        return emitter;
+    }
+
+    private <T> ResponseEntity<DTOResponse<T>> buildErrorResponse(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(DTOResponse.message(status.value(), message));
+    }
+}
@@ -0,0 +1,42 @@
+package john.api1.application.adapters.controllers.user;
+
+import john.api1.application.dto.DTOResponse;
+import john.api1.application.dto.mapper.history.media.MediaHistoryPageDTO;
+import john.api1.application.ports.services.history.IHistoryMediaSearch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/pet-owner/history/")
+public class PetOwnerHistoryController {
+    private final IHistoryMediaSearch historyMediaSearch;
+
+    @Autowired
+    public PetOwnerHistoryController(IHistoryMediaSearch historyMediaSearch) {
+        this.historyMediaSearch = historyMediaSearch;
+    }
+
+    // Owner's completed photo/video requests newest first, pass back 'nextCursor' for the following page
+    @GetMapping("media/{ownerId}")
+    public ResponseEntity<DTOResponse<MediaHistoryPageDTO>> searchMedia(
+            @PathVariable String ownerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        var search = historyMediaSearch.getAllHistoryMedia(ownerId, cursor, limit);
+        if (!search.isSuccess()) return buildErrorResponse(HttpStatus.BAD_REQUEST, search.getMessage());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(DTOResponse.of(HttpStatus.OK.value(), search.getData(), search.getMessage()));
+    }
+
+
+    private <T> ResponseEntity<DTOResponse<T>> buildErrorResponse(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(DTOResponse.message(status.value(), message));
+    }
+}
@@ -1,8 +1,11 @@
 package john.api1.application.adapters.repositories;
 
 import jakarta.annotation.Nullable;
+import john.api1.application.components.enums.ActivityLogType;
+import john.api1.application.components.enums.boarding.RequestType;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.ActivityLogDomain;
+import john.api1.application.domain.models.ActivityLogSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -34,13 +37,15 @@ public class ActivityLogEntity {
     @CreatedDate
     @Indexed
     private Instant createdAt;
+    @Nullable
+    private ActivityLogSnapshot snapshot;
 
     public static ActivityLogEntity mapDomain(ActivityLogDomain domain) {
         if (domain.getTypeId() != null && !ObjectId.isValid(domain.getTypeId()))
             throw new PersistenceException("Invalid animalType id cannot be converted to ObjectId");
 
         return new ActivityLogEntity(
-                null,
+                domain.getId() != null && ObjectId.isValid(domain.getId()) ? new ObjectId(domain.getId()) : null,
                 domain.getTypeId() != null && !domain.getTypeId().isEmpty() ? new ObjectId(domain.getTypeId()) : null,
                 domain.getActivityType().getActivityLogType(),
                 domain.getRequestType() != null ? domain.getRequestType().getRequestType() : null,
@@ -48,6 +53,23 @@ public class ActivityLogEntity {
                 domain.getPetOwner(),
                 domain.getPet(),
                 domain.getDescription(),
-                domain.getTimestamp());
+                domain.getTimestamp(),
+                domain.getSnapshot());
+    }
+
+    // Shared by the live collection and archived segments
+    public static ActivityLogDomain toDomain(ActivityLogEntity entity) {
+        return new ActivityLogDomain(
+                entity.getId().toHexString(),
+                entity.getTypeId() != null ? entity.getTypeId().toHexString() : null,
+                ActivityLogType.fromString(entity.getActivityType()),
+                RequestType.fromString(entity.getRequestType()),
+                entity.getPerformedBy(),
+                entity.getPetOwner(),
+                entity.getPet(),
+                entity.getDescription(),
+                entity.getCreatedAt(),
+                entity.getSnapshot()
+        );
     }
 }
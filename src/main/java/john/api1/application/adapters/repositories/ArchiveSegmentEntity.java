@@ -0,0 +1,28 @@
+package john.api1.application.adapters.repositories;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+// Catalogue of archive segments, id is the object key so a repeated move overwrites its own entry
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "archive_segment")
+public class ArchiveSegmentEntity {
+    @Id
+    private String id;
+    private String collection; // history_log, email_logs, sms_logs
+    private String month;      // yyyy-MM
+    private Instant fromTime;
+    private Instant toTime;
+    private String fromId;     // _id of the first and last document, ties on the time field are ordered by _id
+    private String toId;
+    private int count;
+    private long bytes;
+    private Instant archivedAt;
+}
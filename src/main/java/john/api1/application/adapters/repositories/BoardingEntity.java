@@ -8,6 +8,7 @@ import org.bson.types.ObjectId;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -17,6 +18,7 @@ import java.time.Instant;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "boarding")
+@CompoundIndex(name = "createdAt_id_desc", def = "{'createdAt': -1, '_id': -1}")
 public class BoardingEntity {
     @Id
     private ObjectId id;
@@ -27,6 +29,10 @@ public class BoardingEntity {
     private String boardingCategory; // DAYCARE, LONG_STAY
     private Instant boardingStart;
     private Instant boardingEnd;
+    @Indexed
+    private Instant effectiveEnd; // boardingEnd plus committed extensions
+    private Long durationHours;
+    private Long durationDays;
     private String boardingStatus;  // BOARDING, DONE_BOARDING, OVERDUE, RELEASED
     private String paymentStatus; // PAID, NOT_PAID, PENDING
     private String notes;
@@ -35,6 +41,8 @@ public class BoardingEntity {
     @LastModifiedDate
     private Instant updatedAt;
     private boolean active;
+    private Instant bookedEndRestoredAt; // set once when the migration took the baseline extension shift off boardingEnd
+    private String transitionToken; // last status transition run that moved this boarding
 
     public static BoardingEntity createWithDomain(BoardingDomain domain) {
         return new BoardingEntity(
@@ -44,29 +52,17 @@ public class BoardingEntity {
                 domain.getBoardingType().getBoardingType(),
                 domain.getBoardingStart(),
                 domain.getBoardingEnd(),
+                domain.getEffectiveEnd(),
+                domain.hasEffectiveEnd() ? domain.getDurationHours() : null,
+                domain.hasEffectiveEnd() ? domain.getDurationDays() : null,
                 domain.getBoardingStatus().getBoardingStatus(),
                 domain.getPaymentStatus().getPaymentStatus(),
                 domain.getNotes(),
                 domain.getCreatedAt(),
                 domain.getUpdatedAt(),
-                domain.isActive()
-        );
-    }
-
-    public static BoardingEntity map(BoardingDomain domain) {
-        return new BoardingEntity(
-                new ObjectId(domain.getId()),
-                new ObjectId(domain.getPetId()),
-                new ObjectId(domain.getOwnerId()),
-                domain.getBoardingType().getBoardingType(),
-                domain.getBoardingStart(),
-                domain.getBoardingEnd(),
-                domain.getBoardingStatus().getBoardingStatus(),
-                domain.getPaymentStatus().getPaymentStatus(),
-                domain.getNotes(),
-                domain.getCreatedAt(),
-                domain.getUpdatedAt(),
-                domain.isActive()
+                domain.isActive(),
+                null,
+                null
         );
     }
 }
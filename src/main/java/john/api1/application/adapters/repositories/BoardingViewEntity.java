@@ -0,0 +1,34 @@
+package john.api1.application.adapters.repositories;
+
+import jakarta.annotation.Nullable;
+import john.api1.application.dto.mapper.boarding.BoardingDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+// Denormalized read model of boarding + pricing + pet + owner + extensions + profile photo
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "boarding_view")
+@CompoundIndex(name = "createdAt_id_desc", def = "{'createdAt': -1, '_id': -1}")
+public class BoardingViewEntity {
+    @Id
+    private ObjectId id; // same as boarding id
+    @Indexed
+    private ObjectId ownerId;
+    @Indexed
+    private ObjectId petId;
+    private Instant createdAt;
+    @Nullable
+    private String photoFileName;
+    private BoardingDTO boarding;
+    private Instant refreshedAt;
+}
@@ -0,0 +1,20 @@
+package john.api1.application.adapters.repositories;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// One reservation counter per size class per day, id is 'SIZE:yyyy-MM-dd'
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "kennel_occupancy")
+public class KennelOccupancyEntity {
+    @Id
+    private String id;
+    private String size;
+    private String day;
+    private int reserved;
+}
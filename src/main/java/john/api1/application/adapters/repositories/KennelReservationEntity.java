@@ -0,0 +1,24 @@
+package john.api1.application.adapters.repositories;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+// Days counted for a boarding, so release and extension only touch what was reserved
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "kennel_reservation")
+public class KennelReservationEntity {
+    @Id
+    private ObjectId id; // same as boarding id
+    private String size;
+    private List<String> days;
+    private Instant reservedAt;
+}
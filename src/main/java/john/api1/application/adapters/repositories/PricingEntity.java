@@ -28,8 +28,10 @@ public class PricingEntity {
     private List<BoardingPricingDomain.RequestBreakdown> requestBreakdown; // List of additional service requests
     private boolean isActive; // Marks if this pricing is still relevant
     private Instant deactivatedAt; // Timestamp when pricing became inactive
+    private Long requestTotalCents; // Running sum of requestBreakdown, moved with $inc on every append
+    private Long overallTotalCents; // Boarding total + requestTotalCents, null on documents written before running totals
 
-    public static PricingEntity create(ObjectId boardingId, double ratePerHour, String boardingType, long boardingDuration, boolean isPrepaid, List<BoardingPricingDomain.RequestBreakdown> requestBreakdown, boolean isActive, Instant deactivatedAt){
-        return new PricingEntity(null, boardingId, ratePerHour, boardingType, boardingDuration, isPrepaid, requestBreakdown, isActive, deactivatedAt);
+    public static PricingEntity create(ObjectId boardingId, double ratePerHour, String boardingType, long boardingDuration, boolean isPrepaid, List<BoardingPricingDomain.RequestBreakdown> requestBreakdown, boolean isActive, Instant deactivatedAt, Long requestTotalCents, Long overallTotalCents){
+        return new PricingEntity(null, boardingId, ratePerHour, boardingType, boardingDuration, isPrepaid, requestBreakdown, isActive, deactivatedAt, requestTotalCents, overallTotalCents);
     }
 }
@@ -0,0 +1,37 @@
+package john.api1.application.adapters.repositories;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+// Versioned rate tables, never updated in place, a change is a new version
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "pricing_rates")
+public class PricingRateEntity {
+    @Id
+    private ObjectId id;
+    @Indexed(unique = true)
+    private long version;
+    private List<Rate> rates;
+    private Instant createdAt;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Rate {
+        private String species;   // DOG, CAT
+        private String size;      // SMALL, MEDIUM, LARGE, XL, KITTEN, ADULT
+        private long boardingCents;
+        private long basicGroomingCents;
+        private long fullGroomingCents;
+    }
+}
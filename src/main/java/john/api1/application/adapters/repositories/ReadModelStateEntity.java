@@ -0,0 +1,20 @@
+package john.api1.application.adapters.repositories;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+// One row per read model, written when a full rebuild completes, id is the read model's collection
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "read_model_state")
+public class ReadModelStateEntity {
+    @Id
+    private String id;
+    private Instant builtAt;
+}
@@ -0,0 +1,34 @@
+package john.api1.application.adapters.repositories;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Map;
+
+// One marker per source event counted in the rollups, id is 'RELEASE:<boardingId>' or 'REQUEST:<requestId>'
+// Holds the applied delta so a rebuild can replay events counted while it ran
+// Markers only need to outlive retries and a rebuild run, older ones expire
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "revenue_rollup_applied")
+public class RevenueRollupAppliedEntity {
+    @Id
+    private String id;
+    private String day;
+    private long boardingRevenueCents;
+    private long requestRevenueCents;
+    private Map<String, Long> requestRevenueByType;
+    private Map<String, Long> requestCountByType;
+    private long occupancyNights;
+    private long releasedCount;
+    private Map<String, Long> boardingTypeCounts;
+    private Map<String, Long> speciesCounts;
+    @Indexed(expireAfter = "7d")
+    private Instant appliedAt;
+}
@@ -0,0 +1,33 @@
+package john.api1.application.adapters.repositories;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Map;
+
+// One bucket per period, id is 'DAY:yyyy-MM-dd' or 'MONTH:yyyy-MM'
+// Money in cents, map keys are enum names
+// Source events counted are tracked in 'revenue_rollup_applied', not on the bucket
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "revenue_rollups")
+public class RevenueRollupEntity {
+    @Id
+    private String id;
+    private String granularity;
+    private String period;
+    private long boardingRevenueCents;
+    private long requestRevenueCents;
+    private Map<String, Long> requestRevenueByType;
+    private Map<String, Long> requestCountByType;
+    private long occupancyNights;
+    private long releasedCount;
+    private Map<String, Long> boardingTypeCounts;
+    private Map<String, Long> speciesCounts;
+    private Instant updatedAt;
+}
@@ -5,6 +5,7 @@ import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.AdminDomain;
 import john.api1.application.dto.mapper.AdminDTO;
 import john.api1.application.ports.repositories.admin.IAdminSearchRepository;
+import john.api1.application.ports.repositories.wrapper.AccountKeys;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -15,6 +16,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class AdminSearchRepository implements IAdminSearchRepository {
@@ -57,6 +59,15 @@ public class AdminSearchRepository implements IAdminSearchRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Stream<AccountKeys> streamAccountKeys() {
+        Query query = new Query();
+        query.fields().include("username", "email");
+
+        return mongoTemplate.stream(query, AdminEntity.class)
+                .map(admin -> new AccountKeys(admin.getUsername(), admin.getEmail(), null));
+    }
+
     private AdminDomain map(AdminEntity entity) {
         return new AdminDomain(
                 entity.getId().toHexString(),
@@ -0,0 +1,215 @@
+package john.api1.application.adapters.repositories.analytics;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.RenameCollectionOptions;
+import john.api1.application.adapters.repositories.RevenueRollupAppliedEntity;
+import john.api1.application.adapters.repositories.RevenueRollupEntity;
+import john.api1.application.components.enums.RollupGranularity;
+import john.api1.application.ports.repositories.analytics.IRevenueRollupRepository;
+import john.api1.application.ports.repositories.analytics.RevenueRollupCQRS;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Repository
+public class RevenueRollupRepository implements IRevenueRollupRepository {
+    private static final int BATCH_SIZE = 1000;
+    private static final String STAGING_COLLECTION = "revenue_rollups_rebuild";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public RevenueRollupRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // Marker first, so a retried event stops at the insert and is never counted twice
+    // A crash between marker and buckets leaves them short, which rebuild repairs
+    @Override
+    public boolean increment(String sourceKey, LocalDate day, RevenueRollupCQRS delta) {
+        try {
+            mongoTemplate.insert(toApplied(sourceKey, day, delta, Instant.now()));
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            mongoTemplate.upsert(bucketQuery(granularity, day), bucketUpdate(granularity, day, delta), RevenueRollupEntity.class);
+        }
+        return true;
+    }
+
+    // Keys sort as time, so a period range is an _id range on the default index
+    @Override
+    public List<RevenueRollupCQRS> findRange(RollupGranularity granularity, LocalDate from, LocalDate to) {
+        Query query = new Query(Criteria.where("_id").gte(granularity.key(from)).lte(granularity.key(to)))
+                .with(Sort.by(Sort.Direction.ASC, "_id"));
+
+        return mongoTemplate.find(query, RevenueRollupEntity.class)
+                .stream()
+                .map(this::toCqrs)
+                .toList();
+    }
+
+    // Written to a staging collection first, then renamed over the live one
+    // Readers see the old or the new buckets, never a half-written set
+    // Events counted live while the rebuild ran went to the old buckets, they are replayed into staging
+    // until a pass finds none, only the gap between the last pass and the rename is left to the next rebuild
+    @Override
+    public void replaceAll(List<RevenueRollupCQRS> buckets, Set<String> rebuiltSources, Instant rebuildStart) {
+        mongoTemplate.dropCollection(STAGING_COLLECTION);
+        mongoTemplate.createCollection(STAGING_COLLECTION);
+
+        Instant now = Instant.now();
+        List<RevenueRollupEntity> entities = new ArrayList<>(BATCH_SIZE);
+        for (RevenueRollupCQRS bucket : buckets) {
+            entities.add(toEntity(bucket, now));
+            if (entities.size() == BATCH_SIZE) {
+                mongoTemplate.insert(entities, STAGING_COLLECTION);
+                entities.clear();
+            }
+        }
+        if (!entities.isEmpty()) mongoTemplate.insert(entities, STAGING_COLLECTION);
+
+        Set<String> counted = new HashSet<>(rebuiltSources);
+        Instant since = rebuildStart;
+        while (true) {
+            Instant passStart = Instant.now();
+            if (replayInto(STAGING_COLLECTION, since, counted) == 0) break;
+            since = passStart;
+        }
+
+        MongoNamespace live = new MongoNamespace(mongoTemplate.getDb().getName(),
+                mongoTemplate.getCollectionName(RevenueRollupEntity.class));
+        mongoTemplate.getCollection(STAGING_COLLECTION)
+                .renameCollection(live, new RenameCollectionOptions().dropTarget(true));
+    }
+
+
+    // Markers recorded since the given instant and not counted yet, returns how many were applied
+    private int replayInto(String collection, Instant since, Set<String> counted) {
+        Query query = new Query(Criteria.where("appliedAt").gte(since));
+        int replayed = 0;
+        for (RevenueRollupAppliedEntity applied : mongoTemplate.find(query, RevenueRollupAppliedEntity.class)) {
+            if (!counted.add(applied.getId())) continue;
+
+            LocalDate day = LocalDate.parse(applied.getDay());
+            RevenueRollupCQRS delta = toDelta(applied);
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                mongoTemplate.upsert(bucketQuery(granularity, day), bucketUpdate(granularity, day, delta), collection);
+            }
+            replayed++;
+        }
+        return replayed;
+    }
+
+    // Upsert with $inc, buckets are created on first use
+    // Buckets written before the markers moved out still carry 'appliedKeys', it is dropped on the next write
+    private Query bucketQuery(RollupGranularity granularity, LocalDate day) {
+        return new Query(Criteria.where("_id").is(granularity.key(day)));
+    }
+
+    private Update bucketUpdate(RollupGranularity granularity, LocalDate day, RevenueRollupCQRS delta) {
+        return incrementOf(delta)
+                .unset("appliedKeys")
+                .setOnInsert("granularity", granularity.name())
+                .setOnInsert("period", granularity.period(day))
+                .set("updatedAt", Instant.now());
+    }
+
+    private Update incrementOf(RevenueRollupCQRS delta) {
+        Update update = new Update()
+                .inc("boardingRevenueCents", delta.boardingRevenueCents())
+                .inc("requestRevenueCents", delta.requestRevenueCents())
+                .inc("occupancyNights", delta.occupancyNights())
+                .inc("releasedCount", delta.releasedCount());
+        incAll(update, "requestRevenueByType", delta.requestRevenueByType());
+        incAll(update, "requestCountByType", delta.requestCountByType());
+        incAll(update, "boardingTypeCounts", delta.boardingTypeCounts());
+        incAll(update, "speciesCounts", delta.speciesCounts());
+        return update;
+    }
+
+    private void incAll(Update update, String field, Map<String, Long> values) {
+        if (values == null) return;
+        values.forEach((key, value) -> update.inc(field + "." + key, value));
+    }
+
+    private RevenueRollupCQRS toCqrs(RevenueRollupEntity entity) {
+        RollupGranularity granularity = RollupGranularity.fromString(entity.getGranularity());
+        LocalDate periodStart = granularity == RollupGranularity.MONTH
+                ? YearMonth.parse(entity.getPeriod()).atDay(1)
+                : LocalDate.parse(entity.getPeriod());
+
+        return new RevenueRollupCQRS(granularity, periodStart,
+                entity.getBoardingRevenueCents(),
+                entity.getRequestRevenueCents(),
+                orEmpty(entity.getRequestRevenueByType()),
+                orEmpty(entity.getRequestCountByType()),
+                entity.getOccupancyNights(),
+                entity.getReleasedCount(),
+                orEmpty(entity.getBoardingTypeCounts()),
+                orEmpty(entity.getSpeciesCounts()));
+    }
+
+    private RevenueRollupEntity toEntity(RevenueRollupCQRS bucket, Instant now) {
+        return new RevenueRollupEntity(
+                bucket.granularity().key(bucket.periodStart()),
+                bucket.granularity().name(),
+                bucket.granularity().period(bucket.periodStart()),
+                bucket.boardingRevenueCents(),
+                bucket.requestRevenueCents(),
+                bucket.requestRevenueByType(),
+                bucket.requestCountByType(),
+                bucket.occupancyNights(),
+                bucket.releasedCount(),
+                bucket.boardingTypeCounts(),
+                bucket.speciesCounts(),
+                now);
+    }
+
+    private RevenueRollupAppliedEntity toApplied(String sourceKey, LocalDate day, RevenueRollupCQRS delta, Instant now) {
+        return new RevenueRollupAppliedEntity(
+                sourceKey,
+                day.toString(),
+                delta.boardingRevenueCents(),
+                delta.requestRevenueCents(),
+                delta.requestRevenueByType(),
+                delta.requestCountByType(),
+                delta.occupancyNights(),
+                delta.releasedCount(),
+                delta.boardingTypeCounts(),
+                delta.speciesCounts(),
+                now);
+    }
+
+    private RevenueRollupCQRS toDelta(RevenueRollupAppliedEntity applied) {
+        return new RevenueRollupCQRS(null, LocalDate.parse(applied.getDay()),
+                applied.getBoardingRevenueCents(),
+                applied.getRequestRevenueCents(),
+                orEmpty(applied.getRequestRevenueByType()),
+                orEmpty(applied.getRequestCountByType()),
+                applied.getOccupancyNights(),
+                applied.getReleasedCount(),
+                orEmpty(applied.getBoardingTypeCounts()),
+                orEmpty(applied.getSpeciesCounts()));
+    }
+
+    private static Map<String, Long> orEmpty(Map<String, Long> values) {
+        return values != null ? values : Map.of();
+    }
+}
@@ -0,0 +1,134 @@
+package john.api1.application.adapters.repositories.archive;
+
+import jakarta.annotation.Nullable;
+import john.api1.application.adapters.repositories.ActivityLogEntity;
+import john.api1.application.components.PageCursor;
+import john.api1.application.components.enums.ArchiveCollection;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.domain.models.ActivityLogDomain;
+import john.api1.application.ports.repositories.archive.ArchiveSegment;
+import john.api1.application.ports.repositories.archive.ILogArchiveRepository;
+import john.api1.application.ports.repositories.history.HistoryLogRange;
+import john.api1.application.ports.repositories.history.IHistoryLogArchiveRepository;
+import john.api1.application.ports.services.archive.IArchiveStore;
+import john.api1.common.config.ArchiveConfig;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Reads archived history_log segments found through the catalogue, filters in memory
+// Segments can share an instant at their edges, a page keeps reading until the next segment is older than its last row
+@Repository
+public class HistoryLogArchiveRepository implements IHistoryLogArchiveRepository {
+    private static final Logger log = LoggerFactory.getLogger(HistoryLogArchiveRepository.class);
+    private static final Comparator<ActivityLogEntity> NEWEST_FIRST = Comparator
+            .comparing(ActivityLogEntity::getCreatedAt)
+            .thenComparing(ActivityLogEntity::getId)
+            .reversed();
+
+    private final MongoTemplate mongoTemplate;
+    private final ILogArchiveRepository archiveRepository;
+    private final IArchiveStore archiveStore;
+    private final Map<String, List<ActivityLogEntity>> segments;
+
+    @Autowired
+    public HistoryLogArchiveRepository(MongoTemplate mongoTemplate,
+                                       ILogArchiveRepository archiveRepository,
+                                       @Qualifier("archiveStore") IArchiveStore archiveStore,
+                                       ArchiveConfig config) {
+        this.mongoTemplate = mongoTemplate;
+        this.archiveRepository = archiveRepository;
+        this.archiveStore = archiveStore;
+
+        // segments never change once written, least recently read is dropped first
+        int capacity = Math.max(1, config.getSegmentCache());
+        this.segments = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<ActivityLogEntity>> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    @Override
+    public List<ActivityLogDomain> searchRange(HistoryLogRange range, @Nullable PageCursor after, int limit) {
+        // rows sharing the cursor's instant may still follow it
+        Instant to = after != null && after.createdAt().isBefore(range.to()) ? after.createdAt().plusMillis(1) : range.to();
+        ObjectId afterId = after != null ? new ObjectId(after.id()) : null;
+
+        List<ActivityLogEntity> found = new ArrayList<>();
+        for (ArchiveSegment segment : archiveRepository.searchSegments(ArchiveCollection.HISTORY_LOG, range.from(), to)) {
+            if (found.size() >= limit && segment.to().isBefore(found.get(limit - 1).getCreatedAt())) break;
+
+            for (ActivityLogEntity entity : load(segment)) {
+                if (matches(entity, range) && isAfter(entity, after, afterId)) found.add(entity);
+            }
+            found.sort(NEWEST_FIRST);
+            if (found.size() > limit) found = new ArrayList<>(found.subList(0, limit));
+        }
+
+        return found.stream()
+                .map(ActivityLogEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Stream<ActivityLogDomain> streamRange(HistoryLogRange range) {
+        return archiveRepository.searchSegments(ArchiveCollection.HISTORY_LOG, range.from(), range.to()).stream()
+                .flatMap(segment -> load(segment).stream())
+                .filter(entity -> matches(entity, range))
+                .map(ActivityLogEntity::toDomain);
+    }
+
+
+    // Newest first, decoded once per cache lifetime
+    private List<ActivityLogEntity> load(ArchiveSegment segment) {
+        var cached = segments.get(segment.key());
+        if (cached != null) return cached;
+
+        byte[] body = archiveStore.get(segment.key())
+                .orElseThrow(() -> new PersistenceException("Archive segment is missing: " + segment.key()));
+
+        List<ActivityLogEntity> entities = new ArrayList<>(segment.count());
+        for (Document document : SegmentCodec.decode(body)) {
+            try {
+                entities.add(mongoTemplate.getConverter().read(ActivityLogEntity.class, document));
+            } catch (RuntimeException e) {
+                log.warn("Skipped unreadable archived log {} in {}: {}", document.get("_id"), segment.key(), e.getMessage());
+            }
+        }
+        entities.sort(NEWEST_FIRST);
+
+        var loaded = List.copyOf(entities);
+        segments.put(segment.key(), loaded);
+        return loaded;
+    }
+
+    private boolean matches(ActivityLogEntity entity, HistoryLogRange range) {
+        Instant createdAt = entity.getCreatedAt();
+        if (createdAt == null || createdAt.isBefore(range.from()) || !createdAt.isBefore(range.to())) return false;
+        if (range.activityType() != null && !range.activityType().getActivityLogType().equals(entity.getActivityType()))
+            return false;
+        return range.requestType() == null || range.requestType().getRequestType().equals(entity.getRequestType());
+    }
+
+    private boolean isAfter(ActivityLogEntity entity, @Nullable PageCursor after, @Nullable ObjectId afterId) {
+        if (after == null) return true;
+        int byTime = entity.getCreatedAt().compareTo(after.createdAt());
+        return byTime < 0 || (byTime == 0 && entity.getId().compareTo(afterId) < 0);
+    }
+}
@@ -0,0 +1,176 @@
+package john.api1.application.adapters.repositories.archive;
+
+import john.api1.application.adapters.repositories.ArchiveSegmentEntity;
+import john.api1.application.components.enums.ArchiveCollection;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.ports.repositories.archive.ArchiveSegment;
+import john.api1.application.ports.repositories.archive.ILogArchiveRepository;
+import john.api1.application.ports.services.archive.IArchiveStore;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Store first, catalogue second, delete last
+// A crash in between leaves documents in both places, the next run finds the segments overlapping its chunk,
+// writes one segment holding both without repeating a row, takes the old entries out of the catalogue
+// and then deletes their objects, a failed delete only leaves an unreferenced object behind
+@Repository
+public class LogArchiveRepository implements ILogArchiveRepository {
+    private static final Logger log = LoggerFactory.getLogger(LogArchiveRepository.class);
+    private static final String EXTENSION = ".ndjson.gz";
+
+    private final MongoTemplate mongoTemplate;
+    private final IArchiveStore archiveStore;
+
+    @Autowired
+    public LogArchiveRepository(MongoTemplate mongoTemplate,
+                                @Qualifier("archiveStore") IArchiveStore archiveStore) {
+        this.mongoTemplate = mongoTemplate;
+        this.archiveStore = archiveStore;
+    }
+
+    @Override
+    public Optional<ArchiveSegment> moveChunk(ArchiveCollection collection, Instant cutoff, int chunkSize) {
+        String timeField = collection.getTimeField();
+        // _id breaks ties so a rerun walks the same order and the key's first/last ids bound the chunk
+        Query query = new Query(Criteria.where(timeField).lt(cutoff))
+                .with(Sort.by(Sort.Direction.ASC, timeField, "_id"))
+                .limit(chunkSize);
+
+        List<Document> documents = mongoTemplate.find(query, Document.class, collection.getCollection());
+        if (documents.isEmpty()) return Optional.empty();
+
+        // a segment never spans two months
+        String month = month(documents.get(0).getDate(timeField));
+        List<Document> chunk = documents.stream()
+                .takeWhile(document -> month.equals(month(document.getDate(timeField))))
+                .toList();
+        List<Object> ids = chunk.stream().map(document -> document.get("_id")).toList();
+
+        // a crashed run left its documents behind, fold the segments it wrote into this one
+        List<ArchiveSegmentEntity> overlapping = findOverlapping(collection, chunk);
+        List<Document> rows = overlapping.isEmpty() ? chunk : merge(chunk, overlapping, timeField);
+
+        Document first = rows.get(0);
+        Document last = rows.get(rows.size() - 1);
+        String key = collection.getCollection() + "/" + month + "/" + first.get("_id") + "-" + last.get("_id") + EXTENSION;
+
+        byte[] body = SegmentCodec.encode(rows);
+        archiveStore.put(key, body);
+
+        var segment = new ArchiveSegment(key, collection, month,
+                first.getDate(timeField).toInstant(), last.getDate(timeField).toInstant(), rows.size(), body.length);
+        mongoTemplate.save(new ArchiveSegmentEntity(key, collection.getCollection(), month,
+                segment.from(), segment.to(), first.get("_id").toString(), last.get("_id").toString(),
+                segment.count(), segment.bytes(), Instant.now()));
+
+        // replaced entries leave the catalogue first, so no reader is pointed at an object being deleted
+        List<String> replaced = overlapping.stream()
+                .map(ArchiveSegmentEntity::getId)
+                .filter(id -> !id.equals(key))
+                .toList();
+        if (!replaced.isEmpty()) {
+            mongoTemplate.remove(new Query(Criteria.where("_id").in(replaced)), ArchiveSegmentEntity.class);
+            deleteObjects(replaced);
+        }
+
+        mongoTemplate.remove(new Query(Criteria.where("_id").in(ids)), collection.getCollection());
+
+        return Optional.of(segment);
+    }
+
+    // The new segment already holds their rows, a failure is logged and the move carries on
+    private void deleteObjects(List<String> keys) {
+        for (String replacedKey : keys) {
+            try {
+                archiveStore.delete(replacedKey);
+            } catch (PersistenceException e) {
+                log.warn("Failed to delete replaced archive segment, left unreferenced. Key: {}. Error: {}", replacedKey, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public List<ArchiveSegment> searchSegments(ArchiveCollection collection, Instant from, Instant to) {
+        Query query = new Query(Criteria.where("collection").is(collection.getCollection())
+                .and("toTime").gte(from)
+                .and("fromTime").lt(to))
+                .with(Sort.by(Sort.Direction.DESC, "toTime"));
+
+        return mongoTemplate.find(query, ArchiveSegmentEntity.class).stream()
+                .map(entity -> new ArchiveSegment(entity.getId(), collection, entity.getMonth(),
+                        entity.getFromTime(), entity.getToTime(), entity.getCount(), entity.getBytes()))
+                .toList();
+    }
+
+    // Catalogued segments whose (time, _id) range overlaps the chunk's
+    private List<ArchiveSegmentEntity> findOverlapping(ArchiveCollection collection, List<Document> chunk) {
+        String timeField = collection.getTimeField();
+        Document first = chunk.get(0);
+        Document last = chunk.get(chunk.size() - 1);
+        Instant from = first.getDate(timeField).toInstant();
+        Instant to = last.getDate(timeField).toInstant();
+        String fromId = first.get("_id").toString();
+        String toId = last.get("_id").toString();
+
+        Query query = new Query(Criteria.where("collection").is(collection.getCollection())
+                .and("toTime").gte(from)
+                .and("fromTime").lte(to));
+
+        // entries catalogued without ids overlap on time alone
+        return mongoTemplate.find(query, ArchiveSegmentEntity.class).stream()
+                .filter(entity -> entity.getToId() == null
+                        || compare(entity.getToTime(), entity.getToId(), from, fromId) >= 0)
+                .filter(entity -> entity.getFromId() == null
+                        || compare(entity.getFromTime(), entity.getFromId(), to, toId) <= 0)
+                .toList();
+    }
+
+    // Chunk and the overlapping segments' rows, one row per _id, in (time, _id) order
+    private List<Document> merge(List<Document> chunk, List<ArchiveSegmentEntity> overlapping, String timeField) {
+        Map<String, Document> rows = new LinkedHashMap<>();
+        for (ArchiveSegmentEntity entity : overlapping) {
+            byte[] body = archiveStore.get(entity.getId())
+                    .orElseThrow(() -> new PersistenceException("Archive segment '" + entity.getId() + "' is catalogued but missing from the store"));
+            for (Document document : SegmentCodec.decode(body)) {
+                rows.put(document.get("_id").toString(), document);
+            }
+        }
+        for (Document document : chunk) {
+            rows.put(document.get("_id").toString(), document);
+        }
+
+        List<Document> merged = new ArrayList<>(rows.values());
+        merged.sort(Comparator.<Document, Date>comparing(document -> document.getDate(timeField))
+                .thenComparing(document -> document.get("_id").toString()));
+        return merged;
+    }
+
+    // ObjectId hex strings sort like the ids themselves
+    private int compare(Instant time, String id, Instant otherTime, String otherId) {
+        int byTime = time.compareTo(otherTime);
+        return byTime != 0 ? byTime : id.compareTo(otherId);
+    }
+
+    private String month(Date time) {
+        return YearMonth.from(time.toInstant().atZone(ZoneOffset.UTC)).toString();
+    }
+}
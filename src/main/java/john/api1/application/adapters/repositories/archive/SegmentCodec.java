@@ -0,0 +1,54 @@
+package john.api1.application.adapters.repositories.archive;
+
+import john.api1.application.components.exception.PersistenceException;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Gzip NDJSON, one document per line in extended json so ObjectId and dates read back as the same types
+final class SegmentCodec {
+    private static final JsonWriterSettings JSON = JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build();
+
+    private SegmentCodec() {
+    }
+
+    static byte[] encode(List<Document> documents) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            for (Document document : documents) {
+                writer.write(document.toJson(JSON));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to encode archive segment: " + e.getMessage());
+        }
+        return bytes.toByteArray();
+    }
+
+    static List<Document> decode(byte[] body) {
+        List<Document> documents = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(body)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) documents.add(Document.parse(line));
+            }
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to decode archive segment: " + e.getMessage());
+        }
+        return documents;
+    }
+}
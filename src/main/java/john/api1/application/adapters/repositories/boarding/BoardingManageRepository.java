@@ -2,24 +2,35 @@ package john.api1.application.adapters.repositories.boarding;
 
 import john.api1.application.adapters.repositories.BoardingEntity;
 import john.api1.application.components.enums.boarding.BoardingStatus;
+import john.api1.application.components.enums.boarding.BoardingType;
 import john.api1.application.components.enums.boarding.PaymentStatus;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.ports.repositories.boarding.BoardingEndFill;
 import john.api1.application.ports.repositories.boarding.IBoardingCreateRepository;
 import john.api1.application.ports.repositories.boarding.IBoardingManagementRepository;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public class BoardingManageRepository implements IBoardingCreateRepository, IBoardingManagementRepository {
+    private static final long MILLIS_PER_HOUR = Duration.ofHours(1).toMillis();
     private final MongoTemplate mongoTemplate;
 
     @Autowired
@@ -36,18 +47,22 @@ public class BoardingManageRepository implements IBoardingCreateRepository, IBoa
         return mongoTemplate.save(entity).getId().toString();
     }
 
-    public void updateBoarding(BoardingDomain domain) {
-        if (!ObjectId.isValid(domain.getId()))
-            throw new PersistenceException("Invalid boarding id cannot convert to ObjectId");
-
-        ObjectId objectId = new ObjectId(domain.getId());
-        Query query = new Query(Criteria.where("_id").is(objectId));
-        boolean exists = mongoTemplate.exists(query, BoardingEntity.class);
+    // Only what the extension commit changes, effective end and durations move through extendEffectiveEnd
+    // A read-modify-write replace would put back an effective end or a status written in the meantime
+    @Override
+    public void updateAfterExtension(String boardingId, BoardingType boardingType, BoardingStatus status, PaymentStatus paymentStatus) {
+        validateObjectId(boardingId, "boardingId");
 
-        if (!exists) throw new PersistenceException("Boarding with id " + domain.getId() + " does not exist");
+        Query query = new Query(Criteria.where("_id").is(new ObjectId(boardingId))
+                .and("boardingStatus").ne(BoardingStatus.RELEASED.getBoardingStatus()));
+        Update update = new Update()
+                .set("boardingCategory", boardingType.getBoardingType())
+                .set("boardingStatus", status.getBoardingStatus())
+                .set("paymentStatus", paymentStatus.getPaymentStatus())
+                .set("updatedAt", Instant.now());
 
-        BoardingEntity entity = BoardingEntity.map(domain);
-        mongoTemplate.save(entity);
+        if (mongoTemplate.updateFirst(query, update, BoardingEntity.class).getMatchedCount() == 0)
+            throw new PersistenceException("Boarding with id " + boardingId + " does not exist or is already released");
     }
 
 
@@ -98,6 +113,90 @@ public class BoardingManageRepository implements IBoardingCreateRepository, IBoa
     }
 
 
+    @Override
+    public Optional<BoardingStatus> updateStatusUnlessReleased(String boardingId, BoardingStatus status) {
+        return updateUnlessReleased(boardingId, "boardingStatus", status.getBoardingStatus())
+                .map(entity -> BoardingStatus.fromStringOrDefault(entity.getBoardingStatus()));
+    }
+
+    @Override
+    public Optional<PaymentStatus> updatePaidStatusUnlessReleased(String boardingId, PaymentStatus status) {
+        return updateUnlessReleased(boardingId, "paymentStatus", status.getPaymentStatus())
+                .map(entity -> PaymentStatus.safeFromStringOrDefault(entity.getPaymentStatus()));
+    }
+
+    // One updateMulti filtered on the expected status stamps a per-run token, one find on the token reads back the ids it moved
+    // A boarding already in 'next', or moved by a concurrent caller, carries another token and is not reported again
+    @Override
+    public List<String> transitionStatus(Collection<String> boardingIds, BoardingStatus expected, BoardingStatus next) {
+        List<ObjectId> ids = boardingIds.stream()
+                .filter(ObjectId::isValid)
+                .map(ObjectId::new)
+                .toList();
+        if (ids.isEmpty()) return List.of();
+
+        String token = new ObjectId().toHexString();
+        Query query = new Query(Criteria.where("_id").in(ids)
+                .and("boardingStatus").is(expected.getBoardingStatus()));
+        Update update = new Update()
+                .set("boardingStatus", next.getBoardingStatus())
+                .set("transitionToken", token)
+                .set("updatedAt", Instant.now());
+
+        if (mongoTemplate.updateMulti(query, update, BoardingEntity.class).getModifiedCount() == 0) return List.of();
+
+        Query moved = new Query(Criteria.where("_id").in(ids).and("transitionToken").is(token));
+        moved.fields().include("_id");
+        return mongoTemplate.find(moved, BoardingEntity.class)
+                .stream()
+                .map(entity -> entity.getId().toString())
+                .toList();
+    }
+
+    // Single pipeline update, later stages see the new effectiveEnd
+    @Override
+    public boolean extendEffectiveEnd(String boardingId, long extendedHours) {
+        validateObjectId(boardingId, "boardingId");
+
+        Query query = new Query(Criteria.where("_id").is(new ObjectId(boardingId))
+                .and("effectiveEnd").exists(true));
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("effectiveEnd").toValue(ArithmeticOperators.valueOf("effectiveEnd").add(Duration.ofHours(extendedHours).toMillis()))
+                .set("durationHours").toValue(ArithmeticOperators.Trunc.truncValueOf(
+                        ArithmeticOperators.valueOf(ArithmeticOperators.valueOf("effectiveEnd").subtract("boardingStart")).divideBy(MILLIS_PER_HOUR)))
+                .set("durationDays").toValue(ArithmeticOperators.Trunc.truncValueOf(
+                        ArithmeticOperators.valueOf("durationHours").divideBy(24)))
+                .set("updatedAt").toValue(Instant.now());
+
+        return mongoTemplate.updateFirst(query, update, BoardingEntity.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public int saveEffectiveEnds(List<BoardingEndFill> fills) {
+        if (fills == null || fills.isEmpty()) return 0;
+
+        Instant now = Instant.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BoardingEntity.class);
+        for (BoardingEndFill fill : fills) {
+            BoardingDomain boarding = fill.boarding();
+            validateObjectId(boarding.getId(), "boardingId");
+
+            // effectiveEnd marks the boarding as migrated, boardingEnd guards against a concurrent move
+            Query query = new Query(Criteria.where("_id").is(new ObjectId(boarding.getId()))
+                    .and("effectiveEnd").exists(false)
+                    .and("boardingEnd").is(fill.storedEnd()));
+            Update update = new Update()
+                    .set("boardingEnd", boarding.getBoardingEnd())
+                    .set("effectiveEnd", boarding.getEffectiveEnd())
+                    .set("durationHours", boarding.getDurationHours())
+                    .set("durationDays", boarding.getDurationDays());
+            if (!boarding.getBoardingEnd().equals(fill.storedEnd())) update.set("bookedEndRestoredAt", now);
+            bulk.updateOne(query, update);
+        }
+
+        return bulk.execute().getModifiedCount();
+    }
+
     private void updateBoardingStatus(String boardingId, BoardingStatus status) {
         updateBoardingField(boardingId, "boardingStatus", status.getBoardingStatus());
     }
@@ -114,17 +213,31 @@ public class BoardingManageRepository implements IBoardingCreateRepository, IBoa
         mongoTemplate.updateFirst(query, update, BoardingEntity.class);
     }
 
+    // Returns the new document projected to the written field only
+    private Optional<BoardingEntity> updateUnlessReleased(String boardingId, String field, Object value) {
+        validateObjectId(boardingId, "boardingId");
+
+        Query query = new Query(Criteria.where("_id").is(new ObjectId(boardingId))
+                .and("boardingStatus").ne(BoardingStatus.RELEASED.getBoardingStatus()));
+        query.fields().include(field);
+        Update update = new Update()
+                .set(field, value)
+                .set("updatedAt", Instant.now());
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), BoardingEntity.class));
+    }
+
     @Override
     public void deleteById(String boardingId) {
         validateObjectId(boardingId, "boardingId");
 
         Query query = new Query(Criteria.where("_id").is(new ObjectId(boardingId)));
-        BoardingEntity boardingEntity = mongoTemplate.findOne(query, BoardingEntity.class);
+        query.fields().include("_id");
+        BoardingEntity boardingEntity = mongoTemplate.findAndRemove(query, BoardingEntity.class);
         if (boardingEntity == null) {
             throw new PersistenceException("Boarding entity with ID " + boardingId + " not found");
         }
-
-        mongoTemplate.remove(query, BoardingEntity.class);
     }
 
     private void validateObjectId(String id, String fieldName) {
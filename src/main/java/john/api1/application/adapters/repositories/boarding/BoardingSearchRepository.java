@@ -1,26 +1,38 @@
 package john.api1.application.adapters.repositories.boarding;
 
 import john.api1.application.adapters.repositories.BoardingEntity;
+import jakarta.annotation.Nullable;
+import john.api1.application.components.PageCursor;
 import john.api1.application.components.enums.boarding.BoardingStatus;
 import john.api1.application.components.enums.boarding.BoardingType;
 import john.api1.application.components.enums.boarding.PaymentStatus;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.boarding.BoardingDomain;
 import john.api1.application.ports.repositories.boarding.BoardingDurationCQRS;
+import john.api1.application.ports.repositories.boarding.BoardingPageRow;
 import john.api1.application.ports.repositories.boarding.IBoardingSearchRepository;
 import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class BoardingSearchRepository implements IBoardingSearchRepository {
+    private static final Logger log = LoggerFactory.getLogger(BoardingSearchRepository.class);
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "_id");
+    private static final int STREAM_BATCH_SIZE = 200;
     private final MongoTemplate mongoTemplate;
 
     @Autowired
@@ -38,6 +50,20 @@ public class BoardingSearchRepository implements IBoardingSearchRepository {
         return Optional.ofNullable(entity).map(this::toDomain);
     }
 
+    @Override
+    public List<BoardingDomain> searchByIds(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        List<ObjectId> objectIds = ids.stream()
+                .filter(ObjectId::isValid)
+                .map(ObjectId::new)
+                .toList();
+        if (objectIds.isEmpty()) return List.of();
+
+        Query query = new Query(Criteria.where("_id").in(objectIds));
+        return fetchBoardings(query);
+    }
+
     @Override
     public List<BoardingDomain> searchAllByOwnerId(String ownerId) {
         if (!ObjectId.isValid(ownerId)) {
@@ -77,6 +103,50 @@ public class BoardingSearchRepository implements IBoardingSearchRepository {
         return fetchBoardings(new Query());
     }
 
+    // Seek past the cursor instead of skip, cost stays flat on deep pages
+    // Uses the (createdAt, _id) compound index
+    @Override
+    public List<BoardingPageRow> searchPage(@Nullable PageCursor after, int limit) {
+        Query query = new Query().with(NEWEST_FIRST).limit(limit);
+
+        if (after != null) {
+            ObjectId afterId = new ObjectId(after.id());
+            // undated rows sort last, a dated cursor is followed by every one of them
+            query.addCriteria(after.createdAt() == null
+                    ? Criteria.where("createdAt").is(null).and("_id").lt(afterId)
+                    : new Criteria().orOperator(
+                    Criteria.where("createdAt").lt(after.createdAt()),
+                    Criteria.where("createdAt").is(after.createdAt()).and("_id").lt(afterId),
+                    Criteria.where("createdAt").is(null)
+            ));
+        }
+
+        return mongoTemplate.find(query, BoardingEntity.class)
+                .stream()
+                .map(entity -> new BoardingPageRow(
+                        new PageCursor(entity.getCreatedAt(), entity.getId().toString()),
+                        safeToDomain(entity)))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<BoardingDomain> streamAll() {
+        Query query = new Query().with(NEWEST_FIRST).cursorBatchSize(STREAM_BATCH_SIZE);
+
+        return mongoTemplate.stream(query, BoardingEntity.class)
+                .map(this::safeToDomain)
+                .filter(domain -> domain != null);
+    }
+
+    @Override
+    public Stream<BoardingDomain> streamActive() {
+        Query query = new Query(Criteria.where("active").is(true)).cursorBatchSize(STREAM_BATCH_SIZE);
+
+        return mongoTemplate.stream(query, BoardingEntity.class)
+                .map(this::safeToDomain)
+                .filter(domain -> domain != null);
+    }
+
     @Override
     public List<BoardingDomain> searchByStatus(BoardingStatus status) {
         Query query = new Query(Criteria.where("boardingStatus").is(status.getBoardingStatus()));
@@ -131,23 +201,60 @@ public class BoardingSearchRepository implements IBoardingSearchRepository {
                 BoardingType.fromStringOrError(entity.getBoardingCategory())));
     }
 
+    @Override
+    public List<BoardingDomain> searchEndingBetween(Instant from, Instant to) {
+        Query query = new Query(Criteria.where("effectiveEnd").gte(from).lt(to)
+                .and("active").is(true))
+                .with(Sort.by(Sort.Direction.ASC, "effectiveEnd"));
+        return fetchBoardings(query);
+    }
+
+    @Override
+    public List<BoardingDomain> searchBatch(@Nullable String afterId, int limit) {
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(limit);
+        if (afterId != null) {
+            if (!ObjectId.isValid(afterId))
+                throw new PersistenceException("Invalid boarding id cannot be converted to ObjectId.");
+            query.addCriteria(Criteria.where("_id").gt(new ObjectId(afterId)));
+        }
+        return fetchBoardings(query);
+    }
+
+    @Override
+    public List<BoardingDomain> searchMissingEffectiveEnd(@Nullable String afterId, int limit) {
+        Criteria criteria = Criteria.where("effectiveEnd").exists(false);
+        if (afterId != null) {
+            if (!ObjectId.isValid(afterId))
+                throw new PersistenceException("Invalid boarding id cannot be converted to ObjectId.");
+            criteria = criteria.and("_id").gt(new ObjectId(afterId));
+        }
+
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(limit);
+        return fetchBoardings(query);
+    }
+
 
     private List<BoardingDomain> fetchBoardings(Query query) {
         return mongoTemplate.find(query, BoardingEntity.class)
                 .stream()
-                .map(entity -> {
-                    try {
-                        return toDomain(entity);
-                    } catch (PersistenceException e) {
-                        // Optional: log which entity failed (e.g., ID)
-                        System.err.println("Failed to map boarding entity: " + (entity.getId() != null ? entity.getId() : "unknown ID"));
-                        return null;
-                    }
-                })
+                .map(this::safeToDomain)
                 .filter(domain -> domain != null)
                 .collect(Collectors.toList());
     }
 
+    private BoardingDomain safeToDomain(BoardingEntity entity) {
+        try {
+            return toDomain(entity);
+        } catch (PersistenceException e) {
+            log.warn("Failed to map boarding entity: {}. Error: {}", entity.getId() != null ? entity.getId() : "unknown ID", e.getMessage());
+            return null;
+        }
+    }
+
 
     private BoardingDomain toDomain(BoardingEntity entity) {
         return new BoardingDomain(
@@ -157,6 +264,9 @@ public class BoardingSearchRepository implements IBoardingSearchRepository {
                 BoardingType.fromStringOrDefault(entity.getBoardingCategory()),
                 entity.getBoardingStart(),
                 entity.getBoardingEnd(),
+                entity.getEffectiveEnd(),
+                entity.getDurationHours() != null ? entity.getDurationHours() : 0,
+                entity.getDurationDays() != null ? entity.getDurationDays() : 0,
                 BoardingStatus.fromStringOrDefault(entity.getBoardingStatus()),
                 PaymentStatus.fromStringOrDefault(entity.getPaymentStatus()),
                 entity.getNotes(),
@@ -0,0 +1,188 @@
+package john.api1.application.adapters.repositories.boarding;
+
+import jakarta.annotation.Nullable;
+import john.api1.application.adapters.repositories.BoardingViewEntity;
+import john.api1.application.adapters.repositories.ReadModelStateEntity;
+import john.api1.application.components.PageCursor;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.dto.mapper.boarding.BoardingDTO;
+import john.api1.application.ports.repositories.boarding.BoardingViewCQRS;
+import john.api1.application.ports.repositories.boarding.IBoardingViewRepository;
+import john.api1.application.ports.repositories.pet.PetCQRS;
+import john.api1.application.ports.repositories.wrapper.MediaEntityPreview;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class BoardingViewRepository implements IBoardingViewRepository {
+    private static final String VIEW_NAME = "boarding_view";
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "_id");
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public BoardingViewRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void upsert(BoardingViewCQRS view) {
+        mongoTemplate.save(toEntity(view));
+    }
+
+    @Override
+    public void upsertAll(List<BoardingViewCQRS> views) {
+        if (views == null || views.isEmpty()) return;
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BoardingViewEntity.class);
+        for (BoardingViewCQRS view : views) {
+            BoardingViewEntity entity = toEntity(view);
+            bulk.replaceOne(
+                    new Query(Criteria.where("_id").is(entity.getId())),
+                    entity,
+                    FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public void deleteById(String boardingId) {
+        validateObjectId(boardingId, "boardingId");
+        mongoTemplate.remove(new Query(Criteria.where("_id").is(new ObjectId(boardingId))), BoardingViewEntity.class);
+    }
+
+    @Override
+    public void updateOwnerFields(String ownerId, String ownerName, String ownerEmail, String ownerPhoneNumber, String ownerAddress) {
+        validateObjectId(ownerId, "ownerId");
+
+        Query query = new Query(Criteria.where("ownerId").is(new ObjectId(ownerId)));
+        Update update = new Update()
+                .set("boarding.ownerName", ownerName)
+                .set("boarding.ownerEmail", ownerEmail)
+                .set("boarding.ownerPhoneNumber", ownerPhoneNumber)
+                .set("boarding.ownerAddress", ownerAddress)
+                .set("refreshedAt", Instant.now());
+
+        mongoTemplate.updateMulti(query, update, BoardingViewEntity.class);
+    }
+
+    @Override
+    public void updatePetFields(PetCQRS pet, MediaEntityPreview photo) {
+        validateObjectId(pet.id(), "petId");
+
+        Query query = new Query(Criteria.where("petId").is(new ObjectId(pet.id())));
+        Update update = new Update()
+                .set("boarding.petName", pet.petName())
+                .set("boarding.petType", pet.animalType())
+                .set("boarding.petBreed", pet.breed())
+                .set("boarding.petSize", pet.size())
+                .set("boarding.age", pet.age())
+                .set("boarding.photoId", photo != null ? photo.id() : null)
+                .set("boarding.expiredAt", photo != null ? photo.expiredAt() : null)
+                .set("photoFileName", photo != null ? photo.fileName() : null)
+                .set("refreshedAt", Instant.now());
+
+        mongoTemplate.updateMulti(query, update, BoardingViewEntity.class);
+    }
+
+    @Override
+    public List<BoardingViewCQRS> findAll() {
+        return mongoTemplate.findAll(BoardingViewEntity.class)
+                .stream()
+                .map(this::toCQRS)
+                .toList();
+    }
+
+    @Override
+    public List<BoardingViewCQRS> findAllByOwnerId(String ownerId) {
+        if (!ObjectId.isValid(ownerId)) return List.of();
+
+        Query query = new Query(Criteria.where("ownerId").is(new ObjectId(ownerId)));
+        return mongoTemplate.find(query, BoardingViewEntity.class)
+                .stream()
+                .map(this::toCQRS)
+                .toList();
+    }
+
+    @Override
+    public List<BoardingViewCQRS> findPage(@Nullable PageCursor after, int limit) {
+        Query query = new Query().with(NEWEST_FIRST).limit(limit);
+
+        if (after != null) {
+            ObjectId afterId = new ObjectId(after.id());
+            // undated rows sort last, a dated cursor is followed by every one of them
+            query.addCriteria(after.createdAt() == null
+                    ? Criteria.where("createdAt").is(null).and("_id").lt(afterId)
+                    : new Criteria().orOperator(
+                    Criteria.where("createdAt").lt(after.createdAt()),
+                    Criteria.where("createdAt").is(after.createdAt()).and("_id").lt(afterId),
+                    Criteria.where("createdAt").is(null)
+            ));
+        }
+
+        return mongoTemplate.find(query, BoardingViewEntity.class)
+                .stream()
+                .map(this::toCQRS)
+                .toList();
+    }
+
+    @Override
+    public Optional<BoardingViewCQRS> findRecent() {
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .limit(1);
+
+        return Optional.ofNullable(mongoTemplate.findOne(query, BoardingViewEntity.class))
+                .map(this::toCQRS);
+    }
+
+    @Override
+    public boolean isBuilt() {
+        return mongoTemplate.exists(new Query(Criteria.where("_id").is(VIEW_NAME)), ReadModelStateEntity.class);
+    }
+
+    @Override
+    public void markBuilt() {
+        mongoTemplate.save(new ReadModelStateEntity(VIEW_NAME, Instant.now()));
+    }
+
+
+    private BoardingViewEntity toEntity(BoardingViewCQRS view) {
+        BoardingDTO boarding = view.boarding();
+        validateObjectId(boarding.id(), "boardingId");
+        validateObjectId(boarding.ownerId(), "ownerId");
+        validateObjectId(boarding.petId(), "petId");
+
+        return new BoardingViewEntity(
+                new ObjectId(boarding.id()),
+                new ObjectId(boarding.ownerId()),
+                new ObjectId(boarding.petId()),
+                boarding.createdAt(),
+                view.photoFileName(),
+                // presigned url expires, never persist it
+                boarding.withPhotoUrl(null),
+                Instant.now()
+        );
+    }
+
+    private BoardingViewCQRS toCQRS(BoardingViewEntity entity) {
+        return new BoardingViewCQRS(entity.getBoarding(), entity.getPhotoFileName());
+    }
+
+    private void validateObjectId(String id, String fieldName) {
+        if (id == null || !ObjectId.isValid(id)) {
+            throw new PersistenceException("Invalid " + fieldName + " ID type");
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package john.api1.application.adapters.repositories.boarding;
+
+import john.api1.application.adapters.repositories.KennelOccupancyEntity;
+import john.api1.application.adapters.repositories.KennelReservationEntity;
+import john.api1.application.components.enums.PetSize;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.ports.repositories.boarding.IKennelReservationRepository;
+import john.api1.application.ports.repositories.boarding.KennelReservationCQRS;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+public class KennelReservationRepository implements IKennelReservationRepository {
+    private static final int RESERVE_ATTEMPTS = 2;
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public KennelReservationRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // Conditional $inc per day, guarded by 'reserved < capacity'
+    // Days already taken are given back when a later day is full
+    @Override
+    public boolean tryReserve(PetSize size, List<LocalDate> days, int capacity) {
+        if (capacity <= 0) return false;
+
+        List<LocalDate> taken = new ArrayList<>(days.size());
+        for (LocalDate day : days) {
+            if (!reserveDay(size, day, capacity)) {
+                unreserve(size, taken);
+                return false;
+            }
+            taken.add(day);
+        }
+        return true;
+    }
+
+    @Override
+    public void forceReserve(PetSize size, List<LocalDate> days) {
+        if (days.isEmpty()) return;
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, KennelOccupancyEntity.class);
+        for (LocalDate day : days) {
+            bulk.upsert(
+                    new Query(Criteria.where("_id").is(key(size, day))),
+                    new Update()
+                            .inc("reserved", 1)
+                            .setOnInsert("size", size.name())
+                            .setOnInsert("day", day.toString()));
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public void unreserve(PetSize size, List<LocalDate> days) {
+        if (days.isEmpty()) return;
+
+        List<String> keys = days.stream().map(day -> key(size, day)).toList();
+        Query query = new Query(Criteria.where("_id").in(keys).and("reserved").gt(0));
+        mongoTemplate.updateMulti(query, new Update().inc("reserved", -1), KennelOccupancyEntity.class);
+    }
+
+    // One range per size class on _id, 'SIZE:yyyy-MM-dd' sorts by day within a size
+    @Override
+    public Map<PetSize, Map<LocalDate, Integer>> reservedBetween(LocalDate from, LocalDate to) {
+        Criteria[] ranges = Arrays.stream(PetSize.values())
+                .map(size -> Criteria.where("_id").gte(key(size, from)).lt(key(size, to)))
+                .toArray(Criteria[]::new);
+
+        Map<PetSize, Map<LocalDate, Integer>> reserved = new EnumMap<>(PetSize.class);
+        for (KennelOccupancyEntity counter : mongoTemplate.find(new Query(new Criteria().orOperator(ranges)), KennelOccupancyEntity.class)) {
+            reserved.computeIfAbsent(PetSize.valueOf(counter.getSize()), size -> new HashMap<>())
+                    .put(LocalDate.parse(counter.getDay()), counter.getReserved());
+        }
+        return reserved;
+    }
+
+    @Override
+    public boolean saveReservationIfAbsent(KennelReservationCQRS reservation) {
+        validateObjectId(reservation.boardingId());
+        try {
+            mongoTemplate.insert(new KennelReservationEntity(
+                    new ObjectId(reservation.boardingId()),
+                    reservation.size().name(),
+                    reservation.days().stream().map(LocalDate::toString).toList(),
+                    Instant.now()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    // $addToSet returning the old document, so concurrent callers never count a day twice
+    @Override
+    public List<LocalDate> addReservationDays(String boardingId, List<LocalDate> days) {
+        validateObjectId(boardingId);
+        if (days.isEmpty()) return List.of();
+
+        Query query = new Query(Criteria.where("_id").is(new ObjectId(boardingId)));
+        Update update = new Update().addToSet("days").each(days.stream().map(LocalDate::toString).toArray());
+
+        KennelReservationEntity previous = mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(false), KennelReservationEntity.class);
+        if (previous == null) return List.of();
+
+        Set<String> recorded = new HashSet<>(previous.getDays());
+        return days.stream()
+                .filter(day -> !recorded.contains(day.toString()))
+                .toList();
+    }
+
+    // $pullAll returning the old document, so concurrent callers never give a day back twice
+    @Override
+    public List<LocalDate> removeReservationDays(String boardingId, List<LocalDate> days) {
+        validateObjectId(boardingId);
+        if (days.isEmpty()) return List.of();
+
+        Query query = new Query(Criteria.where("_id").is(new ObjectId(boardingId)));
+        Update update = new Update().pullAll("days", days.stream().map(LocalDate::toString).toArray());
+
+        KennelReservationEntity previous = mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(false), KennelReservationEntity.class);
+        if (previous == null) return List.of();
+
+        Set<String> recorded = new HashSet<>(previous.getDays());
+        return days.stream()
+                .filter(day -> recorded.contains(day.toString()))
+                .toList();
+    }
+
+    @Override
+    public Optional<KennelReservationCQRS> findReservation(String boardingId) {
+        validateObjectId(boardingId);
+        Query query = new Query(Criteria.where("_id").is(new ObjectId(boardingId)));
+        return Optional.ofNullable(mongoTemplate.findOne(query, KennelReservationEntity.class))
+                .map(this::toCQRS);
+    }
+
+    @Override
+    public Optional<KennelReservationCQRS> removeReservation(String boardingId) {
+        validateObjectId(boardingId);
+        Query query = new Query(Criteria.where("_id").is(new ObjectId(boardingId)));
+        return Optional.ofNullable(mongoTemplate.findAndRemove(query, KennelReservationEntity.class))
+                .map(this::toCQRS);
+    }
+
+
+    // A full day fails the match, the upsert then collides on _id
+    // The first reservation of a day can also collide with a concurrent first one, the counter exists after
+    // that, so the collision is retried once and only a second one means full
+    private boolean reserveDay(PetSize size, LocalDate day, int capacity) {
+        Query query = new Query(Criteria.where("_id").is(key(size, day)).and("reserved").lt(capacity));
+        Update update = new Update()
+                .inc("reserved", 1)
+                .setOnInsert("size", size.name())
+                .setOnInsert("day", day.toString());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                mongoTemplate.upsert(query, update, KennelOccupancyEntity.class);
+                return true;
+            } catch (DuplicateKeyException e) {
+                if (attempt == RESERVE_ATTEMPTS) return false;
+            }
+        }
+    }
+
+    private String key(PetSize size, LocalDate day) {
+        return size.name() + ":" + day;
+    }
+
+    private KennelReservationCQRS toCQRS(KennelReservationEntity entity) {
+        return new KennelReservationCQRS(
+                entity.getId().toString(),
+                PetSize.valueOf(entity.getSize()),
+                entity.getDays().stream().map(LocalDate::parse).toList());
+    }
+
+    private void validateObjectId(String id) {
+        if (id == null || !ObjectId.isValid(id))
+            throw new PersistenceException("Invalid boarding id cannot be converted to ObjectId");
+    }
+}
@@ -39,40 +39,72 @@ public class PricingManageRepository implements IPricingManagementRepository {
                 pricing.isPrepaid(),
                 pricing.getRequestBreakdown(),
                 pricing.isActive(),
-                pricing.getDeactivatedAt()
+                pricing.getDeactivatedAt(),
+                pricing.getRequestTotalCents(),
+                pricing.getOverallTotalCents()
         );
 
         return Optional.ofNullable(mongoTemplate.save(pricingEntity).getId().toString());
     }
 
     @Override
-    public boolean updateBreakDownList(String boardingId, List<BoardingPricingDomain.RequestBreakdown> requestBreakdown) {
+    public boolean updateBreakDownList(String boardingId, List<BoardingPricingDomain.RequestBreakdown> requestBreakdown, long requestTotalCents, long overallTotalCents) {
         if (!ObjectId.isValid(boardingId))
             throw new PersistenceException("Invalid boarding ID format. Cannot be set as ObjectId.");
 
         if (requestBreakdown == null)
             throw new PersistenceException("Request breakdown list cannot be null.");
 
+        // Whole list replace, totals are written in the same update
+        Query query = new Query(Criteria.where("boardingId").is(new ObjectId(boardingId))
+                .and("isActive").is(true));
+        Update update = new Update()
+                .set("requestBreakdown", requestBreakdown)
+                .set("requestTotalCents", requestTotalCents)
+                .set("overallTotalCents", overallTotalCents);
 
-        // Fetch the existing PricingEntity using the boardingId
-        PricingEntity existingPricingEntity = mongoTemplate.findOne(
-                new Query(Criteria.where("boardingId")
-                        .is(new ObjectId(boardingId))),  // Corrected to ObjectId
-                PricingEntity.class
-        );
-
-        if (existingPricingEntity == null) {
-            throw new PersistenceException("Pricing entity not found for boardingId: " + boardingId);
+        UpdateResult result = mongoTemplate.updateFirst(query, update, PricingEntity.class);
+        if (result.getMatchedCount() == 0) {
+            throw new PersistenceException("Active pricing entity not found for boardingId: " + boardingId);
         }
 
-        if (!existingPricingEntity.isActive()) {
-            throw new PersistenceException("Cannot update an inactive pricing entity.");
-        }
+        return true;
+    }
 
-        existingPricingEntity.setRequestBreakdown(requestBreakdown);
-        mongoTemplate.save(existingPricingEntity);
+    @Override
+    public boolean appendBreakdown(String boardingId, BoardingPricingDomain.RequestBreakdown breakdown, long breakdownCents) {
+        if (!ObjectId.isValid(boardingId))
+            throw new PersistenceException("Invalid boarding ID format. Cannot be set as ObjectId.");
 
-        return true;
+        if (breakdown == null || breakdown.id() == null)
+            throw new PersistenceException("Request breakdown cannot be null.");
+
+        // $ne on the breakdown id keeps a retried commit from counting twice
+        Query query = new Query(Criteria.where("boardingId").is(new ObjectId(boardingId))
+                .and("isActive").is(true)
+                .and("requestTotalCents").exists(true)
+                .and("requestBreakdown.id").ne(breakdown.id()));
+        Update update = new Update()
+                .push("requestBreakdown", breakdown)
+                .inc("requestTotalCents", breakdownCents)
+                .inc("overallTotalCents", breakdownCents);
+
+        return mongoTemplate.updateFirst(query, update, PricingEntity.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public boolean initializeTotals(String boardingId, long requestTotalCents, long overallTotalCents) {
+        if (!ObjectId.isValid(boardingId))
+            throw new PersistenceException("Invalid boarding ID format. Cannot be set as ObjectId.");
+
+        // Guarded so a concurrent append is never overwritten
+        Query query = new Query(Criteria.where("boardingId").is(new ObjectId(boardingId))
+                .and("requestTotalCents").exists(false));
+        Update update = new Update()
+                .set("requestTotalCents", requestTotalCents)
+                .set("overallTotalCents", overallTotalCents);
+
+        return mongoTemplate.updateFirst(query, update, PricingEntity.class).getModifiedCount() > 0;
     }
 
     public void deactivatePricing(String boardingId) {
@@ -0,0 +1,76 @@
+package john.api1.application.adapters.repositories.boarding;
+
+import john.api1.application.adapters.repositories.PricingRateEntity;
+import john.api1.application.components.enums.PetSize;
+import john.api1.application.components.enums.SpeciesType;
+import john.api1.application.ports.repositories.boarding.IPricingRateRepository;
+import john.api1.application.ports.repositories.boarding.PricingRateCQRS;
+import john.api1.application.ports.repositories.boarding.PricingRateTableCQRS;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public class PricingRateRepository implements IPricingRateRepository {
+    private static final Sort LATEST = Sort.by(Sort.Direction.DESC, "version");
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public PricingRateRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<Long> findLatestVersion() {
+        Query query = new Query().with(LATEST).limit(1);
+        query.fields().include("version");
+
+        return Optional.ofNullable(mongoTemplate.findOne(query, PricingRateEntity.class))
+                .map(PricingRateEntity::getVersion);
+    }
+
+    @Override
+    public Optional<PricingRateTableCQRS> findLatest() {
+        Query query = new Query().with(LATEST).limit(1);
+
+        return Optional.ofNullable(mongoTemplate.findOne(query, PricingRateEntity.class))
+                .map(this::toCQRS);
+    }
+
+    @Override
+    public boolean saveVersion(PricingRateTableCQRS table) {
+        var rates = table.rates().stream()
+                .map(rate -> new PricingRateEntity.Rate(
+                        rate.species().name(),
+                        rate.size().name(),
+                        rate.boardingCents(),
+                        rate.basicGroomingCents(),
+                        rate.fullGroomingCents()))
+                .toList();
+
+        try {
+            mongoTemplate.insert(new PricingRateEntity(null, table.version(), rates, table.createdAt()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private PricingRateTableCQRS toCQRS(PricingRateEntity entity) {
+        var rates = entity.getRates().stream()
+                .map(rate -> new PricingRateCQRS(
+                        SpeciesType.fromStringToSpecies(rate.getSpecies()),
+                        PetSize.fromStringToSize(rate.getSize()),
+                        rate.getBoardingCents(),
+                        rate.getBasicGroomingCents(),
+                        rate.getFullGroomingCents()))
+                .toList();
+
+        return new PricingRateTableCQRS(entity.getVersion(), rates, entity.getCreatedAt());
+    }
+}
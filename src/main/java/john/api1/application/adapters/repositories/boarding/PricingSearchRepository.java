@@ -13,6 +13,7 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,19 +58,24 @@ public class PricingSearchRepository implements IPricingSearchRepository {
         }
 
         // Convert PricingEntity to BoardingPricingDomain
-        BoardingPricingDomain pricingDomain = new BoardingPricingDomain(
-                pricingEntity.getId().toString(),
-                pricingEntity.getBoardingId().toString(),
-                pricingEntity.getRatePerHour(),
-                BoardingType.fromStringOrDefault(pricingEntity.getBoardingType()),
-                pricingEntity.getBoardingDuration(),
-                pricingEntity.isPrepaid(),
-                pricingEntity.getRequestBreakdown(),
-                pricingEntity.isActive(),
-                pricingEntity.getDeactivatedAt()
-        );
+        return Optional.of(toDomain(pricingEntity));
+    }
 
-        return Optional.of(pricingDomain);
+    @Override
+    public List<BoardingPricingDomain> getBoardingPricingByBoardingIds(Collection<String> boardingIds) {
+        if (boardingIds == null || boardingIds.isEmpty()) return List.of();
+
+        List<ObjectId> ids = boardingIds.stream()
+                .filter(ObjectId::isValid)
+                .map(ObjectId::new)
+                .toList();
+        if (ids.isEmpty()) return List.of();
+
+        Query query = new Query(Criteria.where("boardingId").in(ids));
+        return mongoTemplate.find(query, PricingEntity.class)
+                .stream()
+                .map(this::toDomain)
+                .toList();
     }
 
     @Override
@@ -93,5 +99,20 @@ public class PricingSearchRepository implements IPricingSearchRepository {
         return Optional.of(pricing);
     }
 
+    private BoardingPricingDomain toDomain(PricingEntity pricingEntity) {
+        return new BoardingPricingDomain(
+                pricingEntity.getId().toString(),
+                pricingEntity.getBoardingId().toString(),
+                pricingEntity.getRatePerHour(),
+                BoardingType.fromStringOrDefault(pricingEntity.getBoardingType()),
+                pricingEntity.getBoardingDuration(),
+                pricingEntity.isPrepaid(),
+                pricingEntity.getRequestBreakdown(),
+                pricingEntity.isActive(),
+                pricingEntity.getDeactivatedAt(),
+                pricingEntity.getRequestTotalCents(),
+                pricingEntity.getOverallTotalCents()
+        );
+    }
 
 }
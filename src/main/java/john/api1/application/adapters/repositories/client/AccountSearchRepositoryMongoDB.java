@@ -1,31 +1,44 @@
 package john.api1.application.adapters.repositories.client;
 
+import jakarta.annotation.Nullable;
 import john.api1.application.adapters.repositories.ClientEntity;
+import john.api1.application.components.PageCursor;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.ClientAccountDomain;
 import john.api1.application.domain.models.ClientDomain;
 import john.api1.application.ports.repositories.owner.IAccountSearchRepository;
 import john.api1.application.ports.repositories.owner.IPetOwnerCQRSRepository;
 import john.api1.application.ports.repositories.owner.PetOwnerCQRS;
+import john.api1.application.ports.repositories.owner.PetOwnerDirectoryCQRS;
+import john.api1.application.ports.repositories.pet.PetCQRS;
+import john.api1.application.ports.repositories.wrapper.AccountKeys;
 import john.api1.application.ports.repositories.wrapper.ClientFullAccount;
 import john.api1.application.ports.repositories.wrapper.UsernameAndId;
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @Qualifier("MongoAccountSearchRepo")
 public class AccountSearchRepositoryMongoDB implements IAccountSearchRepository, IPetOwnerCQRSRepository {
+    private static final int STREAM_BATCH_SIZE = 500;
     private final MongoTemplate mongoTemplate;
 
     @Autowired
@@ -64,6 +77,43 @@ public class AccountSearchRepositoryMongoDB implements IAccountSearchRepository,
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<AccountKeys> getKeysByEmailOrPhoneNumber(String email, String phoneNumber) {
+        Query query = new Query(new Criteria().orOperator(
+                Criteria.where("email").is(email),
+                Criteria.where("phoneNumber").is(phoneNumber)));
+        query.fields().include("email", "phoneNumber");
+
+        return mongoTemplate.find(query, ClientEntity.class)
+                .stream()
+                .map(client -> new AccountKeys(null, client.getEmail(), client.getPhoneNumber()))
+                .toList();
+    }
+
+    @Override
+    public List<AccountKeys> getKeysByEmailsOrPhoneNumbers(Collection<String> emails, Collection<String> phoneNumbers) {
+        if (emails.isEmpty() && phoneNumbers.isEmpty()) return List.of();
+
+        Query query = new Query(new Criteria().orOperator(
+                Criteria.where("email").in(emails),
+                Criteria.where("phoneNumber").in(phoneNumbers)));
+        query.fields().include("email", "phoneNumber");
+
+        return mongoTemplate.find(query, ClientEntity.class)
+                .stream()
+                .map(client -> new AccountKeys(null, client.getEmail(), client.getPhoneNumber()))
+                .toList();
+    }
+
+    @Override
+    public Stream<AccountKeys> streamAccountKeys() {
+        Query query = new Query().cursorBatchSize(STREAM_BATCH_SIZE);
+        query.fields().include("email", "phoneNumber");
+
+        return mongoTemplate.stream(query, ClientEntity.class)
+                .map(client -> new AccountKeys(null, client.getEmail(), client.getPhoneNumber()));
+    }
+
     // ReadOnly
     @Override
     public Optional<UsernameAndId> getUsernameIdByEmail(String email) {
@@ -140,6 +190,23 @@ public class AccountSearchRepositoryMongoDB implements IAccountSearchRepository,
                 .map(this::mapToCQRS);
     }
 
+    @Override
+    public List<PetOwnerCQRS> getDetailsByIds(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        List<ObjectId> objectIds = ids.stream()
+                .filter(ObjectId::isValid)
+                .map(ObjectId::new)
+                .toList();
+        if (objectIds.isEmpty()) return List.of();
+
+        Query query = new Query(Criteria.where("_id").in(objectIds));
+        return mongoTemplate.find(query, ClientEntity.class)
+                .stream()
+                .map(this::mapToCQRS)
+                .toList();
+    }
+
     @Override
     public Optional<List<String>> getAllPets(String id) {
         if (!ObjectId.isValid(id)) throw new PersistenceException("Pet-owner id cannot be mapped to ObjectId");
@@ -184,6 +251,41 @@ public class AccountSearchRepositoryMongoDB implements IAccountSearchRepository,
                 .toList();
     }
 
+    // match + sort + limit run on the index first, $lookup then only joins the rows of this page
+    @Override
+    public List<PetOwnerDirectoryCQRS> getActivePageWithPets(@Nullable PageCursor after, int limit) {
+        Criteria criteria = Criteria.where("accountLock").is(false);
+        if (after != null) {
+            ObjectId afterId = new ObjectId(after.id());
+            // undated owners sort last, a dated cursor is followed by every one of them
+            criteria = after.createdAt() == null
+                    ? criteria.and("createAt").is(null).and("_id").lt(afterId)
+                    : criteria.orOperator(
+                    Criteria.where("createAt").lt(after.createdAt()),
+                    Criteria.where("createAt").is(after.createdAt()).and("_id").lt(afterId),
+                    Criteria.where("createAt").is(null));
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "createAt", "_id")),
+                Aggregation.limit(limit),
+                Aggregation.lookup("pets", "_id", "petOwnerId", "pets"),
+                Aggregation.addFields()
+                        .addField("currentlyBoarding")
+                        .withValue(ArrayOperators.Size.lengthOfArray(ArrayOperators.Filter.filter("pets")
+                                .as("pet")
+                                .by(ComparisonOperators.Eq.valueOf("pet.boarding").equalToValue(true))))
+                        .build()
+        );
+
+        return mongoTemplate.aggregate(aggregation, ClientEntity.class, Document.class)
+                .getMappedResults()
+                .stream()
+                .map(this::mapToDirectory)
+                .toList();
+    }
+
     @Override
     public Optional<PetOwnerCQRS> getRecentActive() {
         Query query = new Query();
@@ -220,6 +322,44 @@ public class AccountSearchRepositoryMongoDB implements IAccountSearchRepository,
     }
 
 
+    @Override
+    public Stream<PetOwnerCQRS> streamAll() {
+        Query query = new Query().cursorBatchSize(STREAM_BATCH_SIZE);
+        query.fields().include("clientName", "email", "phoneNumber", "streetAddress", "cityAddress", "stateAddress", "createAt");
+
+        return mongoTemplate.stream(query, ClientEntity.class)
+                .map(this::mapToCQRS);
+    }
+
+    private PetOwnerDirectoryCQRS mapToDirectory(Document row) {
+        Date createAt = row.getDate("createAt");
+        var owner = new PetOwnerCQRS(
+                row.getObjectId("_id").toHexString(),
+                row.getString("clientName"),
+                row.getString("email"),
+                row.getString("phoneNumber"),
+                row.getString("streetAddress"),
+                row.getString("cityAddress"),
+                row.getString("stateAddress"),
+                createAt != null ? createAt.toInstant() : null);
+
+        var pets = row.getList("pets", Document.class, List.of())
+                .stream()
+                .map(pet -> new PetCQRS(
+                        pet.getObjectId("_id").toHexString(),
+                        pet.getString("profilePictureUrl"),
+                        pet.getString("petName"),
+                        pet.getString("animalType"),
+                        pet.getString("breed"),
+                        pet.getString("size"),
+                        pet.getInteger("age", 0),
+                        pet.getString("specialDescription"),
+                        pet.getBoolean("boarding", false)))
+                .toList();
+
+        return new PetOwnerDirectoryCQRS(owner, pets, row.getInteger("currentlyBoarding", 0));
+    }
+
     private PetOwnerCQRS mapToCQRS(ClientEntity account) {
         return new PetOwnerCQRS(
                 account.getId().toString(),
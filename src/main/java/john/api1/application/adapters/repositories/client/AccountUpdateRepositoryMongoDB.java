@@ -2,6 +2,8 @@ package john.api1.application.adapters.repositories.client;
 
 import com.mongodb.client.result.UpdateResult;
 import john.api1.application.adapters.repositories.ClientEntity;
+import john.api1.application.components.TwoTierCache;
+import john.api1.application.components.enums.CacheRegion;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.ClientAccountDomain;
 import john.api1.application.ports.repositories.owner.IAccountUpdateRepository;
@@ -21,31 +23,33 @@ import java.time.Instant;
 @Qualifier("MongoAccountUpdateRepo")
 public class AccountUpdateRepositoryMongoDB implements IAccountUpdateRepository {
     private final MongoTemplate mongoTemplate;
+    private final TwoTierCache cache;
 
     @Autowired
-    public AccountUpdateRepositoryMongoDB(MongoTemplate mongoTemplate) {
+    public AccountUpdateRepositoryMongoDB(MongoTemplate mongoTemplate, TwoTierCache cache) {
         this.mongoTemplate = mongoTemplate;
+        this.cache = cache;
     }
 
     @Override
     public boolean updateEmail(String id, String newEmail) {
         Query query = new Query(Criteria.where("_id").is(new ObjectId(id)));
         Update update = new Update().set("email", newEmail).set("updateAt", Instant.now());
-        return updateField(query, update);
+        return updateField(id, query, update);
     }
 
     @Override
     public boolean updatePhoneNumber(String id, String newPhoneNumber) {
         Query query = new Query(Criteria.where("_id").is(new ObjectId(id)));
         Update update = new Update().set("phoneNumber", newPhoneNumber).set("updateAt", Instant.now());
-        return updateField(query, update);
+        return updateField(id, query, update);
     }
 
     @Override
     public boolean updatePassword(String id, String newPassword) {
         Query query = new Query(Criteria.where("_id").is(new ObjectId(id)));
         Update update = new Update().set("hashedPassword", newPassword).set("updateAt", Instant.now());
-        return updateField(query, update);
+        return updateField(id, query, update);
     }
 
     @Override
@@ -63,15 +67,17 @@ public class AccountUpdateRepositoryMongoDB implements IAccountUpdateRepository
                 .set("accountLock", accountDomain.isLocked())
                 .set("updateAt", accountDomain.getUpdatedAt());
 
-        if (!updateField(query, update)) {
+        if (!updateField(accountDomain.getId(), query, update)) {
             throw new PersistenceException("Account update failed for id: " + accountDomain.getId());
         }
 
     }
 
 
-    private boolean updateField(Query query, Update update) {
+    // Owner details carry email and phone number, cached lookups are dropped on every write
+    private boolean updateField(String id, Query query, Update update) {
         UpdateResult result = mongoTemplate.updateFirst(query, update, ClientEntity.class);
+        cache.invalidate(CacheRegion.OWNER, id);
         return result.getModifiedCount() > 0;
     }
 }
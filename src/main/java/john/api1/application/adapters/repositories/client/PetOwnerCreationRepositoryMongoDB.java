@@ -6,11 +6,19 @@ import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.ClientAccountDomain;
 import john.api1.application.domain.models.ClientDomain;
 import john.api1.application.ports.repositories.owner.IAccountCreateRepository;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Repository
 @Qualifier("MongoCreateRepo")
 public class PetOwnerCreationRepositoryMongoDB implements IAccountCreateRepository {
@@ -24,26 +32,58 @@ public class PetOwnerCreationRepositoryMongoDB implements IAccountCreateReposito
     @Override
     public String createNewClient(ClientAccountDomain newAccount, ClientDomain newClient) {
         try {
-            ClientEntity clientEntity = new ClientEntity(
-                    null,
-                    // account
-                    newAccount.getEmail(),
-                    newAccount.getPhoneNumber(),
-                    newAccount.isLocked(),
-                    newAccount.getHashedPassword(),
-                    // information
-                    newClient.getFullName(),
-                    newClient.getStreetAddress(),
-                    newClient.getCityAddress(),
-                    newClient.getStateAddress(),
-                    newClient.getEmergencyPhoneNumber(),
-                    newClient.getValidPetObjectIds(),
-                    newClient.getCreatedAt(),
-                    newClient.getUpdatedAt()
-            );
+            ClientEntity clientEntity = map(null, newAccount, newClient);
             return mongoTemplate.save(clientEntity).getId().toString();
         } catch (MongoException e) {
             throw new PersistenceException("MongoDB Database error: Failed to save client to database", e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<Integer, String> createNewClients(List<ClientAccountDomain> accounts, List<ClientDomain> clients) {
+        if (accounts.size() != clients.size())
+            throw new PersistenceException("Accounts and client information must be the same size");
+        if (accounts.isEmpty()) return Map.of();
+
+        List<ClientEntity> entities = new ArrayList<>(accounts.size());
+        for (int i = 0; i < accounts.size(); i++) {
+            String id = accounts.get(i).getId();
+            if (!ObjectId.isValid(id))
+                throw new PersistenceException("Invalid account id cannot be converted to ObjectId");
+            entities.add(map(new ObjectId(id), accounts.get(i), clients.get(i)));
+        }
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ClientEntity.class)
+                    .insert(entities)
+                    .execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> failed = new HashMap<>();
+            e.getErrors().forEach(error -> failed.put(error.getIndex(), error.getMessage()));
+            return failed;
+        } catch (MongoException e) {
+            throw new PersistenceException("MongoDB Database error: Failed to save clients to database", e);
+        }
+    }
+
+    private ClientEntity map(ObjectId id, ClientAccountDomain account, ClientDomain client) {
+        return new ClientEntity(
+                id,
+                // account
+                account.getEmail(),
+                account.getPhoneNumber(),
+                account.isLocked(),
+                account.getHashedPassword(),
+                // information
+                client.getFullName(),
+                client.getStreetAddress(),
+                client.getCityAddress(),
+                client.getStateAddress(),
+                client.getEmergencyPhoneNumber(),
+                client.getValidPetObjectIds(),
+                client.getCreatedAt(),
+                client.getUpdatedAt()
+        );
+    }
+}
@@ -2,6 +2,8 @@ package john.api1.application.adapters.repositories.client;
 
 import com.mongodb.client.result.UpdateResult;
 import john.api1.application.adapters.repositories.ClientEntity;
+import john.api1.application.components.TwoTierCache;
+import john.api1.application.components.enums.CacheRegion;
 import john.api1.application.ports.repositories.owner.IPetOwnerUpdateRepository;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,10 +18,12 @@ import java.time.Instant;
 @Repository
 public class PetOwnerUpdateRepositoryMongoDB implements IPetOwnerUpdateRepository {
     private final MongoTemplate mongoTemplate;
+    private final TwoTierCache cache;
 
     @Autowired
-    public PetOwnerUpdateRepositoryMongoDB(MongoTemplate mongoTemplate) {
+    public PetOwnerUpdateRepositoryMongoDB(MongoTemplate mongoTemplate, TwoTierCache cache) {
         this.mongoTemplate = mongoTemplate;
+        this.cache = cache;
     }
 
 
@@ -28,15 +32,13 @@ public class PetOwnerUpdateRepositoryMongoDB implements IPetOwnerUpdateRepositor
     public boolean addNewPet(String petOwnerId, String petId) {
         if (!checkIfValid(petOwnerId) || !checkIfValid(petId)) return false;
 
-        Query existsQuery = new Query(Criteria.where("_id").is(new ObjectId(petOwnerId)));
-        if (!mongoTemplate.exists(existsQuery, ClientEntity.class)) return false; // Ensure owner exists
-
+        // Missing owner shows up as a zero match count, no separate exists check
         Query query = new Query(Criteria.where("_id").is(new ObjectId(petOwnerId)));
         Update update = new Update()
                 .addToSet("animalIds", new ObjectId(petId))
                 .set("updateAt", Instant.now());
 
-        return updateField(query, update);
+        return updateField(petOwnerId, query, update);
     }
 
 
@@ -49,7 +51,7 @@ public class PetOwnerUpdateRepositoryMongoDB implements IPetOwnerUpdateRepositor
                 .pull("animalIds", new ObjectId(petId))
                 .set("updateAt", Instant.now());
 
-        return updateField(query, update);
+        return updateField(petOwnerId, query, update);
     }
 
 
@@ -63,7 +65,7 @@ public class PetOwnerUpdateRepositoryMongoDB implements IPetOwnerUpdateRepositor
                 .set("clientName", fullName)
                 .set("updateAt", Instant.now());
 
-        return updateField(query, update);
+        return updateField(petOwnerId, query, update);
     }
 
     @Override
@@ -75,7 +77,7 @@ public class PetOwnerUpdateRepositoryMongoDB implements IPetOwnerUpdateRepositor
                 .set("streetAddress", streetAddress)
                 .set("updateAt", Instant.now());
 
-        return updateField(query, update);
+        return updateField(petOwnerId, query, update);
     }
 
     @Override
@@ -87,7 +89,7 @@ public class PetOwnerUpdateRepositoryMongoDB implements IPetOwnerUpdateRepositor
                 .set("cityAddress", cityAddress)
                 .set("updateAt", Instant.now());
 
-        return updateField(query, update);
+        return updateField(petOwnerId, query, update);
     }
 
     @Override
@@ -99,7 +101,7 @@ public class PetOwnerUpdateRepositoryMongoDB implements IPetOwnerUpdateRepositor
                 .set("stateAddress", stateAddress)
                 .set("updateAt", Instant.now());
 
-        return updateField(query, update);
+        return updateField(petOwnerId, query, update);
     }
 
     @Override
@@ -111,7 +113,7 @@ public class PetOwnerUpdateRepositoryMongoDB implements IPetOwnerUpdateRepositor
                 .set("emergencyNumber", phoneNumber)
                 .set("updateAt", Instant.now());
 
-        return updateField(query, update);
+        return updateField(petOwnerId, query, update);
     }
 
     private boolean checkIfValid(String id) {
@@ -119,8 +121,10 @@ public class PetOwnerUpdateRepositoryMongoDB implements IPetOwnerUpdateRepositor
     }
 
 
-    private boolean updateField(Query query, Update update) {
+    // Cached owner lookups are dropped on every write
+    private boolean updateField(String petOwnerId, Query query, Update update) {
         UpdateResult result = mongoTemplate.updateFirst(query, update, ClientEntity.class);
+        cache.invalidate(CacheRegion.OWNER, petOwnerId);
         if (result.getMatchedCount() == 0) {
             System.out.println("No matching document found for update.");
             return false;
@@ -1,12 +1,16 @@
 package john.api1.application.adapters.repositories.history;
 
+import com.mongodb.ErrorCategory;
 import john.api1.application.adapters.repositories.ActivityLogEntity;
 import john.api1.application.domain.models.ActivityLogDomain;
 import john.api1.application.ports.repositories.history.IHistoryLogCreateRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -30,5 +34,23 @@ public class HistoryLogCreateRepository implements IHistoryLogCreateRepository {
         return Optional.empty();
     }
 
+    // Unordered with the domain ids, a retried batch only collides on the logs already written
+    @Override
+    public int createNewLogs(List<ActivityLogDomain> domains) {
+        if (domains.isEmpty()) return 0;
+
+        var entities = domains.stream()
+                .map(ActivityLogEntity::mapDomain)
+                .toList();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ActivityLogEntity.class)
+                    .insert(entities)
+                    .execute();
+        } catch (BulkOperationException e) {
+            if (e.getErrors().stream().anyMatch(error -> error.getCategory() != ErrorCategory.DUPLICATE_KEY)) throw e;
+        }
+        return entities.size();
+    }
+
 
 }
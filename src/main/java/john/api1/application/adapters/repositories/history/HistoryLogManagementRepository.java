@@ -6,13 +6,16 @@ import john.api1.application.domain.models.ActivityLogDomain;
 import john.api1.application.ports.repositories.history.IHistoryLogManageRepository;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 @Repository
 public class HistoryLogManagementRepository implements IHistoryLogManageRepository {
@@ -68,8 +71,26 @@ public class HistoryLogManagementRepository implements IHistoryLogManageReposito
         entity.setPet(domain.getPet());
         entity.setDescription(domain.getDescription());
         entity.setCreatedAt(domain.getTimestamp());
+        entity.setSnapshot(domain.getSnapshot());
 
         mongoTemplate.save(entity);
     }
 
+    // Only logs still without one, a rerun never overwrites a snapshot taken at write time
+    @Override
+    public int saveSnapshots(List<ActivityLogDomain> domains) {
+        if (domains == null || domains.isEmpty()) return 0;
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ActivityLogEntity.class);
+        for (ActivityLogDomain domain : domains) {
+            if (!ObjectId.isValid(domain.getId())) throw new PersistenceException("Invalid activity-log id cannot be converted to ObjectId");
+
+            Query query = new Query(Criteria.where("_id").is(new ObjectId(domain.getId()))
+                    .and("snapshot").exists(false));
+            bulk.updateOne(query, new Update().set("snapshot", domain.getSnapshot()));
+        }
+
+        return bulk.execute().getModifiedCount();
+    }
+
 }
@@ -1,23 +1,31 @@
 package john.api1.application.adapters.repositories.history;
 
+import jakarta.annotation.Nullable;
 import john.api1.application.adapters.repositories.ActivityLogEntity;
+import john.api1.application.components.PageCursor;
 import john.api1.application.components.enums.ActivityLogType;
-import john.api1.application.components.enums.boarding.RequestType;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.ActivityLogDomain;
+import john.api1.application.ports.repositories.history.HistoryLogRange;
 import john.api1.application.ports.repositories.history.IHistoryLogSearchRepository;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class HistoryLogSearchRepository implements IHistoryLogSearchRepository {
+    private static final int STREAM_BATCH_SIZE = 500;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "_id");
 
     private final MongoTemplate mongoTemplate;
 
@@ -81,19 +89,62 @@ public class HistoryLogSearchRepository implements IHistoryLogSearchRepository {
                 .collect(Collectors.toList());
     }
 
+    // Seek past the cursor instead of skip, cost stays flat on deep pages
+    // Typed ranges use (activityType, createdAt, _id), untyped ones (createdAt, _id)
+    @Override
+    public List<ActivityLogDomain> searchRange(HistoryLogRange range, @Nullable PageCursor after, int limit) {
+        Criteria criteria = rangeCriteria(range);
+        if (after != null) {
+            ObjectId afterId = new ObjectId(after.id());
+            criteria = criteria.orOperator(
+                    Criteria.where("createdAt").lt(after.createdAt()),
+                    Criteria.where("createdAt").is(after.createdAt()).and("_id").lt(afterId));
+        }
+
+        Query query = new Query(criteria).with(NEWEST_FIRST).limit(limit);
+        return mongoTemplate.find(query, ActivityLogEntity.class).stream()
+                .map(this::mapToDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<ActivityLogDomain> streamRange(HistoryLogRange range) {
+        Query query = new Query(rangeCriteria(range)).with(NEWEST_FIRST).cursorBatchSize(STREAM_BATCH_SIZE);
+
+        return mongoTemplate.stream(query, ActivityLogEntity.class)
+                .map(this::mapToDomain);
+    }
+
+    @Override
+    public List<ActivityLogDomain> searchMissingSnapshot(@Nullable String afterId, int limit) {
+        Criteria criteria = Criteria.where("snapshot").exists(false);
+        if (afterId != null) {
+            if (!ObjectId.isValid(afterId))
+                throw new PersistenceException("Invalid activity-id, cannot be converted to ObjectId");
+            criteria = criteria.and("_id").gt(new ObjectId(afterId));
+        }
+
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, ActivityLogEntity.class).stream()
+                .map(this::mapToDomain)
+                .collect(Collectors.toList());
+    }
+
+
+    private Criteria rangeCriteria(HistoryLogRange range) {
+        Criteria criteria = Criteria.where("createdAt").gte(range.from()).lt(range.to());
+        if (range.activityType() != null)
+            criteria = criteria.and("activityType").is(range.activityType().getActivityLogType());
+        if (range.requestType() != null)
+            criteria = criteria.and("requestType").is(range.requestType().getRequestType());
+
+        return criteria;
+    }
 
     private ActivityLogDomain mapToDomain(ActivityLogEntity entity) {
-        return new ActivityLogDomain(
-                entity.getId().toHexString(),
-                entity.getTypeId() != null ? entity.getTypeId().toHexString(): null,
-                ActivityLogType.fromString(entity.getActivityType()),
-                RequestType.fromString(entity.getRequestType()),
-                entity.getPerformedBy(),
-                entity.getPetOwner(),
-                entity.getPet(),
-                entity.getDescription(),
-                entity.getCreatedAt()
-        );
+        return ActivityLogEntity.toDomain(entity);
     }
 
 }
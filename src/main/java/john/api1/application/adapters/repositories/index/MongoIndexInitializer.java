@@ -0,0 +1,133 @@
+package john.api1.application.adapters.repositories.index;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import john.api1.common.config.MongoIndexCatalogue;
+import john.api1.common.config.MongoIndexCatalogue.CanonicalQuery;
+import john.api1.common.config.MongoIndexCatalogue.IndexSpec;
+import john.api1.common.config.MongoIndexCatalogue.VerifyMode;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// Creates the catalogue indexes and explains the canonical queries on startup
+// Runs before the warm-up listeners so they already hit the indexes
+@Component
+public class MongoIndexInitializer {
+    private static final Logger log = LoggerFactory.getLogger(MongoIndexInitializer.class);
+    // index already there under another name or with other options, keep the existing one
+    private static final Set<Integer> INDEX_CONFLICT_CODES = Set.of(85, 86);
+    private static final Set<String> SCAN_STAGES = Set.of("COLLSCAN", "SORT");
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoIndexCatalogue catalogue;
+    private final QueryMapper queryMapper;
+
+    @Autowired
+    public MongoIndexInitializer(MongoTemplate mongoTemplate, MongoIndexCatalogue catalogue) {
+        this.mongoTemplate = mongoTemplate;
+        this.catalogue = catalogue;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        ensureIndexes();
+        if (catalogue.getVerifyMode() != VerifyMode.OFF) verify();
+    }
+
+
+    private void ensureIndexes() {
+        for (IndexSpec spec : catalogue.getIndexes()) {
+            try {
+                mongoTemplate.indexOps(spec.entity()).ensureIndex(spec.index());
+            } catch (MongoCommandException e) {
+                if (!INDEX_CONFLICT_CODES.contains(e.getErrorCode())) failOrWarn(spec, e);
+                else log.warn("Index {} on {} conflicts with an existing index, keeping the existing one",
+                        spec.index().getIndexOptions().get("name"), collectionOf(spec.entity()));
+            } catch (MongoException e) {
+                failOrWarn(spec, e);
+            }
+        }
+        log.info("Index catalogue ensured {} index(es)", catalogue.getIndexes().size());
+    }
+
+    private void failOrWarn(IndexSpec spec, MongoException e) {
+        if (catalogue.getVerifyMode() == VerifyMode.FAIL) throw e;
+        log.warn("Failed to create index {} on {}. Error: {}",
+                spec.index().getIndexOptions().get("name"), collectionOf(spec.entity()), e.getMessage());
+    }
+
+    // Any COLLSCAN or blocking SORT in the winning plan is reported
+    private void verify() {
+        List<String> violations = new ArrayList<>();
+
+        for (CanonicalQuery canonical : catalogue.getQueries()) {
+            try {
+                var stages = scanStages(explain(canonical));
+                if (!stages.isEmpty())
+                    violations.add("'" + canonical.name() + "' on " + collectionOf(canonical.entity()) + " uses " + stages);
+            } catch (MongoException e) {
+                log.warn("Failed to explain '{}'. Error: {}", canonical.name(), e.getMessage());
+            }
+        }
+
+        if (violations.isEmpty()) {
+            log.info("Query plans verified for {} canonical query(ies)", catalogue.getQueries().size());
+            return;
+        }
+
+        violations.forEach(violation -> log.warn("Unindexed query plan: {}", violation));
+        if (catalogue.getVerifyMode() == VerifyMode.FAIL)
+            throw new IllegalStateException(violations.size() + " canonical query(ies) are not covered by an index: " + violations);
+    }
+
+    private Document explain(CanonicalQuery canonical) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(canonical.entity());
+        var query = canonical.query();
+
+        var find = mongoTemplate.getCollection(entity.getCollection())
+                .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), entity));
+        if (query.getLimit() > 0) find.limit(query.getLimit());
+
+        return find.explain();
+    }
+
+    private List<String> scanStages(Document explain) {
+        List<String> stages = new ArrayList<>();
+        Object planner = explain.get("queryPlanner");
+        if (planner instanceof Document document) collectStages(document.get("winningPlan"), stages);
+        return stages;
+    }
+
+    // Classic and SBE plans nest stages differently, walk everything
+    private void collectStages(Object node, List<String> stages) {
+        if (node instanceof Document document) {
+            Object stage = document.get("stage");
+            if (stage instanceof String name && SCAN_STAGES.contains(name) && !stages.contains(name))
+                stages.add(name);
+            document.values().forEach(value -> collectStages(value, stages));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectStages(value, stages));
+        }
+    }
+
+    private String collectionOf(Class<?> entity) {
+        return mongoTemplate.getCollectionName(entity);
+    }
+}
@@ -0,0 +1,42 @@
+package john.api1.application.adapters.repositories.logging;
+
+import jakarta.annotation.PreDestroy;
+import john.api1.application.components.LogSink;
+import john.api1.application.domain.models.EmailLogsDomain;
+import john.api1.application.ports.repositories.ILogEmailRepository;
+import john.api1.common.config.LogSinkConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// Single email logs go through the sink and are inserted in batches, batches from callers are written directly
+@Repository
+@Qualifier("BufferedEmailLogRepo")
+public class EmailLogBuffered implements ILogEmailRepository {
+    private final ILogEmailRepository delegate;
+    private final LogSink<EmailLogsDomain> sink;
+
+    @Autowired
+    public EmailLogBuffered(@Qualifier("MongoEmailLogRepo") ILogEmailRepository delegate,
+                            LogSinkConfig config) {
+        this.delegate = delegate;
+        this.sink = config.create("email_logs", config.getEmailSpill(), delegate::logEmails);
+    }
+
+    @Override
+    public void logEmail(EmailLogsDomain email) {
+        sink.offer(email);
+    }
+
+    @Override
+    public void logEmails(List<EmailLogsDomain> emails) {
+        delegate.logEmails(emails);
+    }
+
+    @PreDestroy
+    public void drain() {
+        sink.close();
+    }
+}
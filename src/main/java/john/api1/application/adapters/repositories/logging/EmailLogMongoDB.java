@@ -1,5 +1,6 @@
 package john.api1.application.adapters.repositories.logging;
 
+import com.mongodb.ErrorCategory;
 import john.api1.application.adapters.repositories.EmailLogsEntity;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.EmailLogsDomain;
@@ -7,9 +8,13 @@ import john.api1.application.ports.repositories.ILogEmailRepository;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 @Qualifier("MongoEmailLogRepo")
 public class EmailLogMongoDB implements ILogEmailRepository {
@@ -21,8 +26,25 @@ public class EmailLogMongoDB implements ILogEmailRepository {
     }
     @Override
     public void logEmail(EmailLogsDomain email) throws PersistenceException {
-        EmailLogsEntity emailLog = new EmailLogsEntity(
-                null,
+        mongoTemplate.save(map(email));
+    }
+
+    // Unordered with the domain ids, a retried batch only collides on the logs already written
+    @Override
+    public void logEmails(List<EmailLogsDomain> emails) throws PersistenceException {
+        if (emails.isEmpty()) return;
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmailLogsEntity.class)
+                    .insert(emails.stream().map(this::map).toList())
+                    .execute();
+        } catch (BulkOperationException e) {
+            if (e.getErrors().stream().anyMatch(error -> error.getCategory() != ErrorCategory.DUPLICATE_KEY)) throw e;
+        }
+    }
+
+    private EmailLogsEntity map(EmailLogsDomain email) {
+        return new EmailLogsEntity(
+                ObjectId.isValid(email.getId()) ? new ObjectId(email.getId()) : null,
                 ObjectId.isValid(email.getOwnerId()) ? new ObjectId(email.getOwnerId()) : null,
                 email.getRecipientEmail(),
                 email.getRecipientUsername(),
@@ -33,6 +55,5 @@ public class EmailLogMongoDB implements ILogEmailRepository {
                 email.getSendAt(),
                 email.getUpdatedAt()
         );
-        mongoTemplate.save(emailLog);
     }
 }
@@ -0,0 +1,42 @@
+package john.api1.application.adapters.repositories.logging;
+
+import jakarta.annotation.PreDestroy;
+import john.api1.application.components.LogSink;
+import john.api1.application.domain.models.SmsLogDomain;
+import john.api1.application.ports.repositories.ILogSmsRepository;
+import john.api1.common.config.LogSinkConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// Single sms logs go through the sink and are inserted in batches, batches from callers are written directly
+@Repository
+@Qualifier("BufferedSmsLogRepo")
+public class SmsLogBuffered implements ILogSmsRepository {
+    private final ILogSmsRepository delegate;
+    private final LogSink<SmsLogDomain> sink;
+
+    @Autowired
+    public SmsLogBuffered(@Qualifier("MongoSmsLogRepo") ILogSmsRepository delegate,
+                          LogSinkConfig config) {
+        this.delegate = delegate;
+        this.sink = config.create("sms_logs", config.getSmsSpill(), delegate::logSmsTexts);
+    }
+
+    @Override
+    public void logSmsText(SmsLogDomain sms) {
+        sink.offer(sms);
+    }
+
+    @Override
+    public void logSmsTexts(List<SmsLogDomain> smsLogs) {
+        delegate.logSmsTexts(smsLogs);
+    }
+
+    @PreDestroy
+    public void drain() {
+        sink.close();
+    }
+}
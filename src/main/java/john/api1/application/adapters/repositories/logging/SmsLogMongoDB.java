@@ -1,5 +1,6 @@
 package john.api1.application.adapters.repositories.logging;
 
+import com.mongodb.ErrorCategory;
 import john.api1.application.adapters.repositories.SmsLogEntity;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.SmsLogDomain;
@@ -7,9 +8,13 @@ import john.api1.application.ports.repositories.ILogSmsRepository;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 @Qualifier("MongoSmsLogRepo")
 public class SmsLogMongoDB implements ILogSmsRepository {
@@ -22,8 +27,25 @@ public class SmsLogMongoDB implements ILogSmsRepository {
 
     @Qualifier
     public void logSmsText(SmsLogDomain sms) throws PersistenceException {
-        SmsLogEntity logEntity = new SmsLogEntity(
-                null,
+        mongoTemplate.save(map(sms));
+    }
+
+    // Unordered with the domain ids, a retried batch only collides on the logs already written
+    @Override
+    public void logSmsTexts(List<SmsLogDomain> smsLogs) throws PersistenceException {
+        if (smsLogs.isEmpty()) return;
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SmsLogEntity.class)
+                    .insert(smsLogs.stream().map(this::map).toList())
+                    .execute();
+        } catch (BulkOperationException e) {
+            if (e.getErrors().stream().anyMatch(error -> error.getCategory() != ErrorCategory.DUPLICATE_KEY)) throw e;
+        }
+    }
+
+    private SmsLogEntity map(SmsLogDomain sms) {
+        return new SmsLogEntity(
+                ObjectId.isValid(sms.getId()) ? new ObjectId(sms.getId()) : null,
                 ObjectId.isValid(sms.getOwnerId()) ? new ObjectId(sms.getOwnerId()) : null,
                 sms.getUsername(),
                 sms.getPhoneNumber(),
@@ -34,7 +56,5 @@ public class SmsLogMongoDB implements ILogSmsRepository {
                 sms.getSendAt(),
                 sms.getUpdatedAt()
         );
-
-        mongoTemplate.save(logEntity);
     }
 }
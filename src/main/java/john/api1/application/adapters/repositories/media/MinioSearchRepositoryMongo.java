@@ -8,12 +8,17 @@ import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -95,6 +100,25 @@ public class MinioSearchRepositoryMongo implements IMediaSearchRepository {
                 .toList();
     }
 
+    @Override
+    public Map<String, List<MediaEntityPreview>> findByTypeIds(Collection<String> typeIds) {
+        if (typeIds == null || typeIds.isEmpty()) return Map.of();
+
+        List<ObjectId> ids = typeIds.stream()
+                .filter(ObjectId::isValid)
+                .map(ObjectId::new)
+                .toList();
+        if (ids.isEmpty()) return Map.of();
+
+        Query query = new Query(Criteria.where("typeId").in(ids));
+        Map<String, List<MediaEntityPreview>> result = new HashMap<>(ids.size());
+        for (MinioEntity entity : mongoTemplate.find(query, MinioEntity.class)) {
+            result.computeIfAbsent(entity.getTypeId().toString(), id -> new ArrayList<>())
+                    .add(MediaMapper.toMediaDomain(entity));
+        }
+        return result;
+    }
+
 
     @Override
     public Optional<MediaEntityPreview> findProfilePicByOwnerId(String ownerId) {
@@ -122,6 +146,35 @@ public class MinioSearchRepositoryMongo implements IMediaSearchRepository {
 
         return Optional.of(preview);
     }
+
+    @Override
+    public Map<String, MediaEntityPreview> findProfilePicsByOwnerIds(Collection<String> ownerIds) {
+        if (ownerIds == null || ownerIds.isEmpty()) return Map.of();
+
+        List<ObjectId> ids = ownerIds.stream()
+                .filter(ObjectId::isValid)
+                .map(ObjectId::new)
+                .toList();
+        if (ids.isEmpty()) return Map.of();
+
+        // Latest profile photo per owner in a single round trip
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("ownerId").in(ids)
+                        .and("bucketType").is(BucketType.PROFILE_PHOTO.getBucketType())),
+                Aggregation.sort(Sort.Direction.DESC, "uploadedAt"),
+                Aggregation.group("ownerId").first(Aggregation.ROOT).as("latest"),
+                Aggregation.replaceRoot("latest")
+        );
+
+        List<MinioEntity> entities = mongoTemplate.aggregate(aggregation, MinioEntity.class, MinioEntity.class)
+                .getMappedResults();
+
+        Map<String, MediaEntityPreview> result = new HashMap<>(entities.size());
+        for (MinioEntity entity : entities) {
+            result.put(entity.getOwnerId().toString(), MediaMapper.toMediaDomain(entity));
+        }
+        return result;
+    }
 }
 
 class MediaMapper {
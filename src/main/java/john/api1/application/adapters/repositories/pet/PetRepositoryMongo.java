@@ -1,13 +1,19 @@
 package john.api1.application.adapters.repositories.pet;
 
+import com.mongodb.MongoException;
 import com.mongodb.client.result.UpdateResult;
 import john.api1.application.adapters.repositories.PetEntity;
+import john.api1.application.components.TwoTierCache;
+import john.api1.application.components.enums.CacheRegion;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.PetDomain;
 import john.api1.application.ports.repositories.pet.*;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -15,17 +21,25 @@ import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
 @Repository
 public class PetRepositoryMongo implements IPetCreateRepository, IPetSearchRepository, IPetUpdateRepository, IPetCQRSRepository {
+    private static final int STREAM_BATCH_SIZE = 500;
     private final MongoTemplate mongoTemplate;
+    private final TwoTierCache cache;
 
     @Autowired
-    public PetRepositoryMongo(MongoTemplate mongoTemplate) {
+    public PetRepositoryMongo(MongoTemplate mongoTemplate, TwoTierCache cache) {
         this.mongoTemplate = mongoTemplate;
+        this.cache = cache;
     }
 
     //
@@ -56,6 +70,45 @@ public class PetRepositoryMongo implements IPetCreateRepository, IPetSearchRepos
         return Optional.ofNullable(savedPet.getId()).map(ObjectId::toString);
     }
 
+    @Override
+    public Map<Integer, String> createNewPets(List<PetDomain> pets) {
+        if (pets.isEmpty()) return Map.of();
+
+        List<PetEntity> entities = new ArrayList<>(pets.size());
+        for (PetDomain pet : pets) {
+            if (!ObjectId.isValid(pet.getId()) || !ObjectId.isValid(pet.getOwnerId()))
+                throw new DomainArgumentException("Invalid pet or owner ID format");
+
+            entities.add(new PetEntity(
+                    new ObjectId(pet.getId()),
+                    new ObjectId(pet.getOwnerId()),
+                    pet.getPetName(),
+                    pet.getAnimalType(),
+                    pet.getBreed(),
+                    pet.getSize(),
+                    pet.getAge(),
+                    pet.getSpecialDescription(),
+                    pet.getProfilePictureUrl(),
+                    pet.getCreatedAt(),
+                    pet.getUpdatedAt(),
+                    pet.isBoarding()
+            ));
+        }
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PetEntity.class)
+                    .insert(entities)
+                    .execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> failed = new HashMap<>();
+            e.getErrors().forEach(error -> failed.put(error.getIndex(), error.getMessage()));
+            return failed;
+        } catch (MongoException e) {
+            throw new PersistenceException("MongoDB Database error: Failed to save pets to database", e);
+        }
+    }
+
     //
     // SEARCH METHODS
     //
@@ -146,6 +199,19 @@ public class PetRepositoryMongo implements IPetCreateRepository, IPetSearchRepos
                 .toList();
     }
 
+    @Override
+    public Stream<PetCQRS> streamAllNameTypeBreed() {
+        Query query = new Query().cursorBatchSize(STREAM_BATCH_SIZE);
+        query.fields().include("petName", "animalType", "breed");
+
+        return mongoTemplate.stream(query, PetEntity.class)
+                .map(entity -> PetCQRS.mapNameTypeBreed(
+                        entity.getId().toString(),
+                        entity.getPetName(),
+                        entity.getAnimalType(),
+                        entity.getBreed()));
+    }
+
     private PetCQRS toPetCQRS(PetEntity entity) {
         return new PetCQRS(
                 entity.getId().toString(),
@@ -177,6 +243,7 @@ public class PetRepositoryMongo implements IPetCreateRepository, IPetSearchRepos
                 .set("updatedAt", Instant.now());
 
         UpdateResult result = mongoTemplate.updateFirst(query, update, PetEntity.class);
+        cache.invalidate(CacheRegion.PET, pet.getId());
 
         if (result.getMatchedCount() == 0) {
             throw new PersistenceException("Pet with ID " + pet.getId() + " not found.");
@@ -189,6 +256,7 @@ public class PetRepositoryMongo implements IPetCreateRepository, IPetSearchRepos
         Query query = new Query(Criteria.where("_id").is(new ObjectId(petId))); // Convert String to ObjectId
         Update update = new Update().set("petName", newPetName).set("updatedAt", Instant.now());
         UpdateResult result = mongoTemplate.updateFirst(query, update, PetEntity.class);
+        cache.invalidate(CacheRegion.PET, petId);
 
         if (result.getMatchedCount() == 0) {
             throw new PersistenceException("Pet with ID " + petId + " not found.");
@@ -204,6 +272,7 @@ public class PetRepositoryMongo implements IPetCreateRepository, IPetSearchRepos
                 .set("breed", breed)
                 .set("updatedAt", Instant.now());
         UpdateResult result = mongoTemplate.updateFirst(query, update, PetEntity.class);
+        cache.invalidate(CacheRegion.PET, petId);
 
         if (result.getMatchedCount() == 0) {
             throw new PersistenceException("Pet with ID " + petId + " not found.");
@@ -216,6 +285,7 @@ public class PetRepositoryMongo implements IPetCreateRepository, IPetSearchRepos
         Query query = new Query(Criteria.where("_id").is(new ObjectId(petId)));
         Update update = new Update().set("profilePictureUrl", profilePictureUrl).set("updatedAt", Instant.now());
         UpdateResult result = mongoTemplate.updateFirst(query, update, PetEntity.class);
+        cache.invalidate(CacheRegion.PET, petId);
 
         if (result.getMatchedCount() == 0) {
             throw new PersistenceException("Pet with ID " + petId + " not found.");
@@ -228,6 +298,7 @@ public class PetRepositoryMongo implements IPetCreateRepository, IPetSearchRepos
         Query query = new Query(Criteria.where("_id").is(new ObjectId(petId)));
         Update update = new Update().set("boarding", status).set("updatedAt", Instant.now());
         UpdateResult result = mongoTemplate.updateFirst(query, update, PetEntity.class);
+        cache.invalidate(CacheRegion.PET, petId);
 
         if (result.getMatchedCount() == 0) {
             throw new PersistenceException("Pet with ID " + petId + " not found.");
@@ -235,17 +306,20 @@ public class PetRepositoryMongo implements IPetCreateRepository, IPetSearchRepos
         return result.getModifiedCount() > 0;
     }
 
+    // One findAndModify, returns the updated document projected to the CQRS fields
     @Override
     public Optional<PetCQRS> updatePetStatusResponse(String petId, boolean status) {
         Query query = new Query(Criteria.where("_id").is(new ObjectId(petId)));
+        query.fields().include("profilePictureUrl", "petName", "animalType", "breed", "size", "age", "specialDescription", "boarding");
         Update update = new Update().set("boarding", status).set("updatedAt", Instant.now());
-        UpdateResult result = mongoTemplate.updateFirst(query, update, PetEntity.class);
+        PetEntity updated = mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), PetEntity.class);
+        cache.invalidate(CacheRegion.PET, petId);
 
-        if (result.getMatchedCount() == 0) {
+        if (updated == null) {
             throw new PersistenceException("Pet with ID " + petId + " not found.");
         }
 
-        return Optional.ofNullable(mongoTemplate.findOne(query, PetEntity.class))
+        return Optional.of(updated)
                 .map(entity -> new PetCQRS(
                         entity.getId().toString(),
                         entity.getProfilePictureUrl(),
@@ -286,6 +360,24 @@ public class PetRepositoryMongo implements IPetCreateRepository, IPetSearchRepos
     }
 
 
+    @Override
+    public List<PetCQRS> getPetDetailsByIds(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        List<ObjectId> objectIds = ids.stream()
+                .filter(ObjectId::isValid)
+                .map(ObjectId::new)
+                .toList();
+        if (objectIds.isEmpty()) return List.of();
+
+        Query query = new Query(Criteria.where("_id").in(objectIds));
+        return mongoTemplate.find(query, PetEntity.class)
+                .stream()
+                .map(this::toPetCQRS)
+                .toList();
+    }
+
+
     @Override
     public Optional<PetCQRS> getPetNameBreed(String id) {
         if (!ObjectId.isValid(id)) {
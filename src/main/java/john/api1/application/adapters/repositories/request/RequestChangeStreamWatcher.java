@@ -0,0 +1,96 @@
+package john.api1.application.adapters.repositories.request;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import jakarta.annotation.PreDestroy;
+import john.api1.application.adapters.repositories.RequestEntity;
+import john.api1.application.components.event.RequestChangedEvent;
+import john.api1.common.config.RequestInboxConfig;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+// Turns writes to the request collection from any node into RequestChangedEvent on this one
+// Only runs with request.inbox.change-stream=true, change streams need a replica set
+// Resumes after the last seen token, a lost token starts fresh and the inbox resync covers the gap
+@Component
+public class RequestChangeStreamWatcher {
+    private static final Logger log = LoggerFactory.getLogger(RequestChangeStreamWatcher.class);
+    private static final long RETRY_DELAY_MS = 5000;
+
+    private final RequestInboxConfig config;
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean running;
+    private volatile MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor;
+    private BsonDocument resumeToken;
+
+    @Autowired
+    public RequestChangeStreamWatcher(RequestInboxConfig config,
+                                      MongoTemplate mongoTemplate,
+                                      ApplicationEventPublisher eventPublisher) {
+        this.config = config;
+        this.mongoTemplate = mongoTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!config.isChangeStream()) return;
+
+        running = true;
+        Thread watcher = new Thread(this::watch, "RequestChangeStream");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        var open = cursor;
+        if (open != null) open.close();
+    }
+
+    private void watch() {
+        String collection = mongoTemplate.getCollectionName(RequestEntity.class);
+        while (running) {
+            try {
+                var stream = mongoTemplate.getCollection(collection).watch();
+                if (resumeToken != null) stream = stream.resumeAfter(resumeToken);
+
+                try (var open = stream.cursor()) {
+                    cursor = open;
+                    while (running && open.hasNext()) {
+                        var change = open.next();
+                        resumeToken = change.getResumeToken();
+
+                        var key = change.getDocumentKey();
+                        if (key == null || !key.isObjectId("_id")) continue;
+                        eventPublisher.publishEvent(new RequestChangedEvent(key.getObjectId("_id").getValue().toHexString(), true));
+                    }
+                }
+            } catch (MongoException | IllegalStateException e) {
+                if (!running) return;
+                log.warn("Request change stream interrupted, retrying in {} ms. Error: {}", RETRY_DELAY_MS, e.getMessage());
+                if (e instanceof MongoException mongo && mongo.getCode() == 286) resumeToken = null; // ChangeStreamHistoryLost
+                try {
+                    Thread.sleep(RETRY_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            } finally {
+                cursor = null;
+            }
+        }
+    }
+}
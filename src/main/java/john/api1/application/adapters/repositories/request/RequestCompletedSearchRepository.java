@@ -22,7 +22,9 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -48,6 +50,24 @@ public class RequestCompletedSearchRepository implements IRequestCompletedSearch
     }
 
 
+    @Override
+    public List<ExtensionDomain> getExtensionByBoardingIds(Collection<String> boardingIds) {
+        if (boardingIds == null || boardingIds.isEmpty()) return List.of();
+
+        List<ObjectId> ids = boardingIds.stream()
+                .filter(ObjectId::isValid)
+                .map(ObjectId::new)
+                .toList();
+        if (ids.isEmpty()) return List.of();
+
+        Query query = new Query(Criteria.where("boardingId").in(ids));
+        return mongoTemplate.find(query, ExtensionEntity.class)
+                .stream()
+                .map(this::convertToDomain)
+                .toList();
+    }
+
+
     // ID
     @Override
     public Optional<GroomingDomain> getGroomingByRequestId(String id) {
@@ -87,6 +107,30 @@ public class RequestCompletedSearchRepository implements IRequestCompletedSearch
         return Optional.ofNullable(videoEntity).map(this::map);
     }
 
+    @Override
+    public Map<String, PhotoRequestDomain> findPhotoRequestsByRequestIds(Collection<String> requestIds) {
+        List<ObjectId> ids = toObjectIds(requestIds);
+        if (ids.isEmpty()) return Map.of();
+
+        Query query = new Query(Criteria.where("requestId").in(ids));
+        return mongoTemplate.find(query, PhotoRequestEntity.class)
+                .stream()
+                .map(this::map)
+                .collect(Collectors.toMap(PhotoRequestDomain::requestId, photo -> photo, (first, second) -> first));
+    }
+
+    @Override
+    public Map<String, VideoRequestDomain> findVideoRequestsByRequestIds(Collection<String> requestIds) {
+        List<ObjectId> ids = toObjectIds(requestIds);
+        if (ids.isEmpty()) return Map.of();
+
+        Query query = new Query(Criteria.where("requestId").in(ids));
+        return mongoTemplate.find(query, VideoRequestEntity.class)
+                .stream()
+                .map(this::map)
+                .collect(Collectors.toMap(VideoRequestDomain::requestId, video -> video, (first, second) -> first));
+    }
+
 
     // CQRS
     @Override
@@ -171,6 +215,14 @@ public class RequestCompletedSearchRepository implements IRequestCompletedSearch
     }
 
 
+    private List<ObjectId> toObjectIds(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+        return ids.stream()
+                .filter(ObjectId::isValid)
+                .map(ObjectId::new)
+                .toList();
+    }
+
     private ExtensionDomain convertToDomain(ExtensionEntity entity) {
         return new ExtensionDomain(
                 entity.getId().toString(),
@@ -1,6 +1,8 @@
 package john.api1.application.adapters.repositories.request;
 
+import jakarta.annotation.Nullable;
 import john.api1.application.adapters.repositories.RequestEntity;
+import john.api1.application.components.PageCursor;
 import john.api1.application.components.enums.boarding.RequestStatus;
 import john.api1.application.components.enums.boarding.RequestType;
 import john.api1.application.components.exception.PersistenceException;
@@ -15,11 +17,18 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public class RequestSearchRepository implements IRequestSearchRepository {
+    private static final int STREAM_BATCH_SIZE = 200;
+    // _id never changes once written, updatedAt moves on every later edit and may be missing
+    private static final Sort NEWEST_MEDIA_FIRST = Sort.by(Sort.Direction.DESC, "_id");
+    private static final List<String> MEDIA_TYPES = List.of(
+            RequestType.PHOTO_REQUEST.getRequestType(), RequestType.VIDEO_REQUEST.getRequestType());
     private final MongoTemplate mongoTemplate;
 
     @Autowired
@@ -40,6 +49,23 @@ public class RequestSearchRepository implements IRequestSearchRepository {
 
     }
 
+    @Override
+    public List<RequestDomain> findByIds(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        List<ObjectId> objectIds = ids.stream()
+                .filter(ObjectId::isValid)
+                .map(ObjectId::new)
+                .toList();
+        if (objectIds.isEmpty()) return List.of();
+
+        Query query = new Query(Criteria.where("_id").in(objectIds));
+        return mongoTemplate.find(query, RequestEntity.class)
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
     @Override
     public List<RequestDomain> findByBoardingId(String boardingId) {
         if (!ObjectId.isValid(boardingId))
@@ -96,6 +122,16 @@ public class RequestSearchRepository implements IRequestSearchRepository {
                 .toList();
     }
 
+    @Override
+    public Stream<RequestDomain> streamByStatuses(Collection<RequestStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) return Stream.empty();
+
+        Query query = new Query(Criteria.where("requestStatus").in(statuses.stream().map(RequestStatus::getRequestStatus).toList()))
+                .cursorBatchSize(STREAM_BATCH_SIZE);
+        return mongoTemplate.stream(query, RequestEntity.class)
+                .map(this::toDomain);
+    }
+
     // pet history
     @Override
     public List<RequestDomain> findAllByPetId(String petId) {
@@ -137,6 +173,29 @@ public class RequestSearchRepository implements IRequestSearchRepository {
         ));
     }
 
+    @Override
+    public List<RequestCQRS> searchCompletedMedia(@Nullable String ownerId, @Nullable PageCursor after, int limit) {
+        Criteria criteria = Criteria.where("requestStatus").is(RequestStatus.COMPLETED.getRequestStatus())
+                .and("requestType").in(MEDIA_TYPES);
+        if (ownerId != null) criteria = criteria.and("ownerId").is(new ObjectId(ownerId));
+        if (after != null) criteria = criteria.and("_id").lt(new ObjectId(after.id()));
+
+        Query query = new Query(criteria).with(NEWEST_MEDIA_FIRST).limit(limit);
+        return mongoTemplate.find(query, RequestEntity.class)
+                .stream()
+                .map(entity -> new RequestCQRS(
+                        entity.getId().toString(),
+                        entity.getOwnerId().toString(),
+                        entity.getPetId().toString(),
+                        entity.getBoardingId() != null ? entity.getBoardingId().toString() : null,
+                        RequestType.fromString(entity.getRequestType()),
+                        entity.getDescription(),
+                        entity.getCreatedAt(),
+                        entity.getUpdatedAt(),
+                        entity.isActive()))
+                .toList();
+    }
+
 
     private RequestDomain toDomain(RequestEntity entity) {
         return new RequestDomain(
@@ -9,6 +9,7 @@ import john.api1.application.ports.repositories.request.IRequestUpdateRepository
 import john.api1.application.ports.repositories.request.RequestCQRS;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -20,6 +21,7 @@ import java.util.Optional;
 
 @Repository
 public class RequestUpdateRepository implements IRequestUpdateRepository {
+    private static final FindAndModifyOptions RETURN_NEW = FindAndModifyOptions.options().returnNew(true);
     private final MongoTemplate mongoTemplate;
 
     @Autowired
@@ -63,7 +65,7 @@ public class RequestUpdateRepository implements IRequestUpdateRepository {
         Query query = createQuery(id);
         Update update = createUpdate(status, rejectedDescription);
 
-        RequestEntity updatedEntity = mongoTemplate.findAndModify(query, update, RequestEntity.class);
+        RequestEntity updatedEntity = mongoTemplate.findAndModify(query, update, RETURN_NEW, RequestEntity.class);
         return Optional.ofNullable(updatedEntity).map(this::toDomain);
     }
 
@@ -71,9 +73,9 @@ public class RequestUpdateRepository implements IRequestUpdateRepository {
     public Optional<RequestCQRS> updateRequestStatusReturnId(String id, RequestStatus status) {
         validateId(id);
 
-        Query query = createQuery(id);
+        Query query = createIdsQuery(id);
         Update update = createUpdate(status, null);
-        RequestEntity updatedEntity = mongoTemplate.findAndModify(query, update, RequestEntity.class);
+        RequestEntity updatedEntity = mongoTemplate.findAndModify(query, update, RETURN_NEW, RequestEntity.class);
 
         if (updatedEntity == null)
             throw new PersistenceException("No documents were updated. The request may not exist or has already been updated.");
@@ -86,9 +88,9 @@ public class RequestUpdateRepository implements IRequestUpdateRepository {
     public Optional<RequestCQRS> updateRequestStatusAndActiveReturnId(String id, RequestStatus status, boolean active) {
         validateId(id);
 
-        Query query = createQuery(id);
+        Query query = createIdsQuery(id);
         Update update = createUpdate(status, null).set("active", active);
-        RequestEntity updatedEntity = mongoTemplate.findAndModify(query, update, RequestEntity.class);
+        RequestEntity updatedEntity = mongoTemplate.findAndModify(query, update, RETURN_NEW, RequestEntity.class);
 
         if (updatedEntity == null)
             throw new PersistenceException("No documents were updated. The request may not exist or has already been updated.");
@@ -100,9 +102,9 @@ public class RequestUpdateRepository implements IRequestUpdateRepository {
     @Override
     public Optional<RequestCQRS> updateToRejectReturnId(String id, RequestStatus status, String rejectedDescription) {
         validateId(id);
-        Query query = createQuery(id);
+        Query query = createIdsQuery(id);
         Update update = createUpdate(status, rejectedDescription);
-        RequestEntity updatedEntity = mongoTemplate.findAndModify(query, update, RequestEntity.class);
+        RequestEntity updatedEntity = mongoTemplate.findAndModify(query, update, RETURN_NEW, RequestEntity.class);
 
         if (updatedEntity == null)
             throw new PersistenceException("No documents were updated. The request may not exist or has already been updated.");
@@ -118,6 +120,13 @@ public class RequestUpdateRepository implements IRequestUpdateRepository {
         return new Query(Criteria.where("_id").is(new ObjectId(id)));
     }
 
+    // Only what toCQRS reads
+    private Query createIdsQuery(String id) {
+        Query query = createQuery(id);
+        query.fields().include("ownerId", "petId", "boardingId");
+        return query;
+    }
+
     private Update createUpdate(RequestStatus status, String responseMessage) {
         Update update = new Update()
                 .set("requestStatus", status.getRequestStatus())
@@ -12,10 +12,15 @@ import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignReques
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 @Service
 @Qualifier("DigitalOceanS3Adapter")
 public class DigitalOceanS3Adapter implements IMediaAdapter {
+    private static final Pattern RAW_ENDPOINT = Pattern.compile("^https://[^/]+");
     private final DigitalOceanS3Folder bucketMapper;
     private final S3Presigner preSigner;
 
@@ -43,9 +48,7 @@ public class DigitalOceanS3Adapter implements IMediaAdapter {
                         .signatureDuration(expiration)
                         .build();
                 String rawUrl = preSigner.presignGetObject(getRequest).url().toString();
-
-                // Replace the raw endpoint with the CDN endpoint
-                yield rawUrl.replaceFirst("^https://[^/]+", cdnEndpoint);
+                yield toCdn(rawUrl);
             }
             case "PUT" -> {
                 PutObjectPresignRequest putRequest = PutObjectPresignRequest.builder()
@@ -73,4 +76,28 @@ public class DigitalOceanS3Adapter implements IMediaAdapter {
     public String getUpdateUrl(BucketType bucketType, String objectName) {
         return generatePreSignedUrl(bucketType, objectName, "PUT");
     }
+
+    // Signing is local, folder and expiry are resolved once for the whole batch
+    @Override
+    public Map<String, String> getReadUrls(BucketType bucketType, Collection<String> objectNames) {
+        String folder = bucketMapper.getBucketName(bucketType);
+        Duration expiration = Duration.ofMinutes(bucketType.getMinuteExpire());
+
+        Map<String, String> urls = new LinkedHashMap<>(objectNames.size());
+        for (String objectName : objectNames) {
+            if (urls.containsKey(objectName)) continue;
+
+            GetObjectPresignRequest getRequest = GetObjectPresignRequest.builder()
+                    .getObjectRequest(r -> r.bucket(bucketName).key(folder + "/" + objectName))
+                    .signatureDuration(expiration)
+                    .build();
+            urls.put(objectName, toCdn(preSigner.presignGetObject(getRequest).url().toString()));
+        }
+        return urls;
+    }
+
+    // Replace the raw endpoint with the CDN endpoint
+    private String toCdn(String rawUrl) {
+        return RAW_ENDPOINT.matcher(rawUrl).replaceFirst(cdnEndpoint);
+    }
 }
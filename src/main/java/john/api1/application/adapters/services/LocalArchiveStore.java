@@ -0,0 +1,67 @@
+package john.api1.application.adapters.services;
+
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.ports.services.archive.IArchiveStore;
+import john.api1.common.config.ArchiveConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+// Archive segments on the local filesystem, stand-in for the bucket in development
+@Service
+@Qualifier("LocalArchiveStore")
+public class LocalArchiveStore implements IArchiveStore {
+    private final Path root;
+
+    @Autowired
+    public LocalArchiveStore(ArchiveConfig config) {
+        this.root = Path.of(config.getLocalDir()).toAbsolutePath().normalize();
+    }
+
+    // Temp file then rename, a crash never leaves half a segment under the real key
+    @Override
+    public void put(String key, byte[] body) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), "segment", ".tmp");
+            Files.write(temp, body);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to write archive segment " + key + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<byte[]> get(String key) {
+        try {
+            return Optional.of(Files.readAllBytes(resolve(key)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to read archive segment " + key + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to delete archive segment " + key + ": " + e.getMessage());
+        }
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) throw new PersistenceException("Invalid archive key: " + key);
+        return path;
+    }
+}
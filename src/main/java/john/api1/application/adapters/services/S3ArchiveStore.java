@@ -0,0 +1,68 @@
+package john.api1.application.adapters.services;
+
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.ports.services.archive.IArchiveStore;
+import john.api1.common.config.ArchiveConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.util.Optional;
+
+// Archive segments in the digital ocean bucket, under the archive prefix next to the media folders
+// Private objects, only the server reads them back
+@Service
+@Qualifier("S3ArchiveStore")
+public class S3ArchiveStore implements IArchiveStore {
+    private static final String CONTENT_TYPE = "application/gzip";
+
+    private final S3Client s3Client;
+    private final String prefix;
+
+    @Value("${digital-ocean.bucket.name}")
+    private String bucketName;
+
+    @Autowired
+    public S3ArchiveStore(S3Client s3Client, ArchiveConfig config) {
+        this.s3Client = s3Client;
+        this.prefix = config.getS3Prefix();
+    }
+
+    @Override
+    public void put(String key, byte[] body) {
+        try {
+            s3Client.putObject(r -> r.bucket(bucketName)
+                            .key(prefix + "/" + key)
+                            .contentType(CONTENT_TYPE),
+                    RequestBody.fromBytes(body));
+        } catch (SdkException e) {
+            throw new PersistenceException("Failed to write archive segment " + key + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<byte[]> get(String key) {
+        try {
+            return Optional.of(s3Client.getObjectAsBytes(r -> r.bucket(bucketName).key(prefix + "/" + key)).asByteArray());
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (SdkException e) {
+            throw new PersistenceException("Failed to read archive segment " + key + ": " + e.getMessage());
+        }
+    }
+
+    // S3 answers a delete of a missing key with success
+    @Override
+    public void delete(String key) {
+        try {
+            s3Client.deleteObject(r -> r.bucket(bucketName).key(prefix + "/" + key));
+        } catch (SdkException e) {
+            throw new PersistenceException("Failed to delete archive segment " + key + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package john.api1.application.components;
+
+import jakarta.annotation.PreDestroy;
+import john.api1.application.components.exception.PersistenceException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Runs independent lookups concurrently on virtual threads
+// Usage:
+//   try (var scope = fanOut.open(timeout)) {
+//       var owner = scope.fork(() -> ...);
+//       var pet = scope.fork(() -> ...);
+//       scope.join();
+//       owner.get(); pet.get();
+//   }
+// join() takes calls as they finish, the first failure or timeout cancels the rest and is rethrown
+// Forks run with the caller's request context, so RequestLoader memos are shared with them
+// Leaving the scope cancels anything still running
+@Component
+public class FanOut {
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public Scope open() {
+        return new Scope(executor, DEFAULT_TIMEOUT);
+    }
+
+    public Scope open(Duration timeout) {
+        return new Scope(executor, timeout);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+
+    public static final class Scope implements AutoCloseable {
+        private final CompletionService<Object> completion;
+        private final Instant deadline;
+        private final Map<Future<Object>, Call<?>> calls = new HashMap<>();
+        private boolean joined;
+
+        private Scope(ExecutorService executor, Duration timeout) {
+            this.completion = new ExecutorCompletionService<>(executor);
+            this.deadline = Instant.now().plus(timeout);
+        }
+
+        public <T> Call<T> fork(Supplier<T> task) {
+            return fork(task, null);
+        }
+
+        // Per-call timeout, capped by the scope timeout
+        public <T> Call<T> fork(Supplier<T> task, Duration timeout) {
+            if (joined) throw new IllegalStateException("Scope is already joined");
+
+            Instant callDeadline = deadline;
+            if (timeout != null && Instant.now().plus(timeout).isBefore(deadline))
+                callDeadline = Instant.now().plus(timeout);
+
+            Supplier<T> scoped = RequestLoader.carryScope(task);
+            Future<Object> future = completion.submit(scoped::get);
+            Call<T> call = new Call<>(future, callDeadline);
+            calls.put(future, call);
+            return call;
+        }
+
+        public void join() {
+            joined = true;
+            try {
+                for (int remaining = calls.size(); remaining > 0; remaining--) {
+                    next().collect();
+                }
+            } catch (RuntimeException e) {
+                cancelAll();
+                throw e;
+            }
+        }
+
+        // Waits no longer than the nearest deadline among the calls still running
+        private Call<?> next() {
+            Instant nearest = calls.values().stream()
+                    .filter(call -> !call.done)
+                    .map(call -> call.deadline)
+                    .min(Instant::compareTo)
+                    .orElse(deadline);
+            long remaining = Math.max(0, Duration.between(Instant.now(), nearest).toMillis());
+
+            try {
+                Future<Object> finished = completion.poll(remaining, TimeUnit.MILLISECONDS);
+                if (finished == null) throw new PersistenceException("Lookup timed out, try again later.");
+                return calls.get(finished);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PersistenceException("Lookup was interrupted.");
+            }
+        }
+
+        private void cancelAll() {
+            for (Future<Object> future : calls.keySet()) {
+                future.cancel(true);
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+    }
+
+
+    public static final class Call<T> {
+        private final Future<Object> future;
+        private final Instant deadline;
+        private T value;
+        private boolean done;
+
+        private Call(Future<Object> future, Instant deadline) {
+            this.future = future;
+            this.deadline = deadline;
+        }
+
+        public T get() {
+            if (!done) throw new IllegalStateException("Scope must be joined before reading results");
+            return value;
+        }
+
+        // Only called once the future has completed
+        @SuppressWarnings("unchecked")
+        private void collect() {
+            try {
+                value = (T) future.get();
+                done = true;
+            } catch (ExecutionException e) {
+                // keep the original exception type, callers already map PersistenceException etc.
+                if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+                throw new PersistenceException("Lookup failed: " + e.getCause().getMessage());
+            } catch (CancellationException e) {
+                throw new PersistenceException("Lookup was cancelled.");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PersistenceException("Lookup was interrupted.");
+            }
+        }
+    }
+}
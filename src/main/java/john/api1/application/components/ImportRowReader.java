@@ -0,0 +1,245 @@
+package john.api1.application.components;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.Nullable;
+import john.api1.application.components.enums.ImportFormat;
+import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.dto.request.ImportOwnerRDTO;
+import john.api1.application.dto.request.PetRDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+// Pulls owner rows out of an import body one at a time, nothing else of the file is kept
+// NDJSON: one owner per line, pets as an array
+// CSV: header row, owner columns plus optional pet columns (petName, animalType, breed, size, age, specialDescription)
+//      consecutive rows with the same email add pets to the same owner
+// A row that cannot be parsed comes back with an error, the next row is read as usual
+// Unreadable structure (missing columns, unterminated quote) throws DomainArgumentException
+public final class ImportRowReader implements Iterator<ImportRowReader.Row>, AutoCloseable {
+    public static final int MAX_PETS_PER_OWNER = 50;
+    private static final int MAX_FIELD_LENGTH = 4096;
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final List<String> REQUIRED_COLUMNS = List.of("email", "phoneNumber");
+
+    public record Row(int row, @Nullable ImportOwnerRDTO owner, @Nullable String error) {}
+
+    private record CsvRecord(int row, List<String> fields) {}
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectReader ownerReader;
+
+    private Map<String, Integer> header;
+    private int records;
+    private Row next;
+    private CsvRecord lookahead;
+
+    public ImportRowReader(InputStream body, ImportFormat format, ObjectMapper objectMapper) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        this.format = format;
+        this.ownerReader = objectMapper.readerFor(ImportOwnerRDTO.class);
+        if (format == ImportFormat.CSV) readHeader();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = format == ImportFormat.CSV ? nextCsvRow() : nextJsonRow();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Row next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        Row row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+
+    // NDJSON
+    private Row nextJsonRow() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) continue;
+            records++;
+            if (line.length() > MAX_LINE_LENGTH)
+                return new Row(records, null, "Line is longer than " + MAX_LINE_LENGTH + " characters");
+
+            try {
+                ImportOwnerRDTO owner = ownerReader.readValue(line);
+                if (owner.getPets() == null) owner.setPets(new ArrayList<>());
+                return new Row(records, owner, null);
+            } catch (JsonProcessingException e) {
+                return new Row(records, null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+
+    // CSV
+    private void readHeader() throws IOException {
+        CsvRecord first = readCsv();
+        if (first == null) throw new DomainArgumentException("CSV import is empty, a header row is required");
+
+        header = new HashMap<>();
+        List<String> names = first.fields();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).replace("\uFEFF", "").trim();
+            header.put(name, i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!header.containsKey(required))
+                throw new DomainArgumentException("CSV header is missing the '" + required + "' column");
+        }
+        records = 0;
+    }
+
+    private Row nextCsvRow() throws IOException {
+        CsvRecord first = lookahead != null ? lookahead : readCsv();
+        lookahead = null;
+        if (first == null) return null;
+        if (first.fields().size() != header.size())
+            return new Row(first.row(), null, "Expected " + header.size() + " columns, found " + first.fields().size());
+
+        ImportOwnerRDTO owner = new ImportOwnerRDTO(
+                field(first, "email"),
+                field(first, "phoneNumber"),
+                field(first, "fullName"),
+                field(first, "streetAddress"),
+                field(first, "cityAddress"),
+                field(first, "stateAddress"),
+                field(first, "emergencyPhoneNumber"),
+                new ArrayList<>());
+        String error = addPet(owner, first);
+
+        // Same owner continues on the following rows with one more pet each
+        CsvRecord more;
+        while ((more = readCsv()) != null) {
+            boolean sameOwner = more.fields().size() == header.size()
+                    && owner.getEmail() != null
+                    && owner.getEmail().equalsIgnoreCase(field(more, "email"));
+            if (!sameOwner) {
+                lookahead = more;
+                break;
+            }
+            String petError = addPet(owner, more);
+            if (error == null) error = petError;
+        }
+
+        return error == null ? new Row(first.row(), owner, null) : new Row(first.row(), null, error);
+    }
+
+    private String addPet(ImportOwnerRDTO owner, CsvRecord record) {
+        String petName = field(record, "petName");
+        if (petName == null) return null;
+        if (owner.getPets().size() >= MAX_PETS_PER_OWNER)
+            return "More than " + MAX_PETS_PER_OWNER + " pets for one owner";
+
+        int age = 0;
+        String rawAge = field(record, "age");
+        if (rawAge != null) {
+            try {
+                age = Integer.parseInt(rawAge);
+            } catch (NumberFormatException e) {
+                return "Invalid age '" + rawAge + "' on row " + record.row();
+            }
+        }
+
+        owner.getPets().add(new PetRDTO(
+                null,
+                petName,
+                field(record, "animalType"),
+                field(record, "breed"),
+                field(record, "size"),
+                age,
+                field(record, "specialDescription")));
+        return null;
+    }
+
+    // Trimmed, blank and missing columns are null
+    private String field(CsvRecord record, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= record.fields().size()) return null;
+
+        String value = record.fields().get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // RFC 4180: quoted fields may hold commas, line breaks and "" for a quote, blank lines are skipped
+    private CsvRecord readCsv() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            char ch = (char) c;
+            if (field.length() > MAX_FIELD_LENGTH)
+                throw new DomainArgumentException("CSV field longer than " + MAX_FIELD_LENGTH + " characters near row " + (records + 1) + ", check for an unterminated quote");
+
+            if (quoted) {
+                if (ch != '"') {
+                    field.append(ch);
+                    continue;
+                }
+                reader.mark(1);
+                int peek = reader.read();
+                if (peek == '"') {
+                    field.append('"');
+                } else {
+                    quoted = false;
+                    if (peek != -1) reader.reset();
+                }
+                continue;
+            }
+
+            switch (ch) {
+                case '"' -> quoted = true;
+                case ',' -> {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                }
+                case '\r' -> {
+                }
+                case '\n' -> {
+                    if (fields.isEmpty() && field.isEmpty()) continue;
+                    fields.add(field.toString());
+                    return new CsvRecord(++records, fields);
+                }
+                default -> field.append(ch);
+            }
+        }
+
+        if (quoted)
+            throw new DomainArgumentException("CSV ends inside a quoted field near row " + (records + 1));
+        if (fields.isEmpty() && field.isEmpty()) return null;
+
+        fields.add(field.toString());
+        return new CsvRecord(++records, fields);
+    }
+}
@@ -0,0 +1,187 @@
+package john.api1.application.components;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// Bounded buffer in front of a batch writer, one daemon flusher thread per sink
+// offer() is a CAS and a queue append, the flusher hands the writer up to batchSize items by size or by time
+// Full buffer (database slow or down) -> spill policy:
+//   CALLER_RUNS writes on the caller's thread, callers slow down to what the database takes
+//   DROP discards and counts
+// A failing batch is retried with backoff, then dropped and counted, the writer gets the same items on each attempt
+// close() stops the flusher and drains the rest within the drain timeout, later offers are written inline,
+// an offer racing close() re-checks after its append and writes inline if the drain missed it
+public class LogSink<T> implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(LogSink.class);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long DROP_LOG_EVERY = 1000;
+
+    public enum SpillPolicy {CALLER_RUNS, DROP}
+
+    private final String name;
+    private final Consumer<List<T>> writer;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushNanos;
+    private final Duration drainTimeout;
+    private final SpillPolicy spillPolicy;
+
+    private final Queue<T> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread flusher;
+    private volatile boolean closed;
+
+    public LogSink(String name, int capacity, int batchSize, Duration flushInterval, Duration drainTimeout,
+                   SpillPolicy spillPolicy, Consumer<List<T>> writer) {
+        if (batchSize < 1 || capacity < batchSize)
+            throw new IllegalArgumentException("Log sink '" + name + "' needs 1 <= batch size <= capacity");
+
+        this.name = name;
+        this.writer = writer;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushNanos = flushInterval.toNanos();
+        this.drainTimeout = drainTimeout;
+        this.spillPolicy = spillPolicy;
+
+        this.flusher = new Thread(this::run, "LogSink-" + name);
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public void offer(T item) {
+        if (closed) {
+            writeInline(item);
+            return;
+        }
+
+        int reserved = reserve();
+        if (reserved < 0) {
+            spill(item);
+            return;
+        }
+
+        buffer.add(item);
+        // close() may have drained between the check above and the add, take the item back if nobody else did
+        if (closed && buffer.remove(item)) {
+            size.decrementAndGet();
+            writeInline(item);
+            return;
+        }
+        if (reserved == batchSize) LockSupport.unpark(flusher);
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        LockSupport.unpark(flusher);
+
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        try {
+            flusher.join(Math.max(1, drainTimeout.toMillis()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // whatever the flusher left behind is written here, as long as the deadline allows
+        List<T> batch = new ArrayList<>(batchSize);
+        while (drainTo(batch) > 0) {
+            if (System.nanoTime() - deadline > 0) {
+                int left = batch.size() + size.get();
+                dropped.addAndGet(left);
+                log.error("Log sink '{}' drain timed out, {} log(s) dropped", name, left);
+                break;
+            }
+            write(batch);
+            batch.clear();
+        }
+
+        if (dropped.get() > 0) log.warn("Log sink '{}' closed, {} log(s) dropped in total", name, dropped.get());
+    }
+
+
+    private void run() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (!closed) {
+            if (size.get() < batchSize) LockSupport.parkNanos(this, flushNanos);
+            if (drainTo(batch) == 0) continue;
+
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    // New size, or -1 when the buffer is full
+    private int reserve() {
+        int current;
+        do {
+            current = size.get();
+            if (current >= capacity) return -1;
+        } while (!size.compareAndSet(current, current + 1));
+        return current + 1;
+    }
+
+    private int drainTo(List<T> batch) {
+        T item;
+        while (batch.size() < batchSize && (item = buffer.poll()) != null) {
+            batch.add(item);
+        }
+        size.addAndGet(-batch.size());
+        return batch.size();
+    }
+
+    private void write(List<T> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                writer.accept(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    dropped.addAndGet(batch.size());
+                    log.error("Log sink '{}' dropped {} log(s) after {} attempts. Error: {}", name, batch.size(), attempt, e.getMessage());
+                    return;
+                }
+                log.warn("Log sink '{}' failed to write {} log(s), retrying. Error: {}", name, batch.size(), e.getMessage());
+                LockSupport.parkNanos(RETRY_BACKOFF_NANOS * attempt);
+            }
+        }
+    }
+
+    private void spill(T item) {
+        if (spillPolicy == SpillPolicy.CALLER_RUNS) {
+            writeInline(item);
+            return;
+        }
+
+        long count = dropped.incrementAndGet();
+        if (count == 1 || count % DROP_LOG_EVERY == 0)
+            log.warn("Log sink '{}' is full, {} log(s) dropped so far", name, count);
+    }
+
+    private void writeInline(T item) {
+        try {
+            writer.accept(List.of(item));
+        } catch (RuntimeException e) {
+            dropped.incrementAndGet();
+            log.error("Log sink '{}' failed to write a log inline. Error: {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package john.api1.application.components;
+
+import jakarta.annotation.Nullable;
+import john.api1.application.components.exception.DomainArgumentException;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+// Keyset position on (createdAt, _id), exchanged with clients as an opaque token
+// createdAt is null for rows stored without one, newest first those sort after every dated row
+public record PageCursor(@Nullable Instant createdAt, String id) {
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        String raw = (createdAt != null ? String.valueOf(createdAt.toEpochMilli()) : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 2);
+            if (parts.length != 2 || !ObjectId.isValid(parts[1]))
+                throw new DomainArgumentException("Invalid page cursor");
+
+            Instant createdAt = parts[0].isEmpty() ? null : Instant.ofEpochMilli(Long.parseLong(parts[0]));
+            return new PageCursor(createdAt, parts[1]);
+        } catch (IllegalArgumentException e) {
+            throw new DomainArgumentException("Invalid page cursor");
+        }
+    }
+}
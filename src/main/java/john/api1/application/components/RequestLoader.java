@@ -0,0 +1,127 @@
+package john.api1.application.components;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// DataLoader style batching for id lookups, memo lives in the current HTTP request and dies with it
+// Usage:
+//   loader.prime("pet", petIds)                      queue ids, nothing is fetched yet
+//   loader.load("pet", petId, ids -> repo.byIds(ids)) fetches this id plus everything queued in one call
+// Every id is fetched at most once per request, misses are remembered as null
+// Outside a web request (schedulers, listeners, virtual threads) load goes straight to the batch function,
+// unless the work runs inside batched(), which gives it a memo of its own until it returns
+// FanOut forks carry the caller's memo, a batch is locked while it fetches so forks share one call
+@Component
+public class RequestLoader {
+    private static final String ATTRIBUTE_PREFIX = RequestLoader.class.getName() + ".";
+    private static final ThreadLocal<Map<String, Batch>> SCOPE = new ThreadLocal<>();
+
+    // No-op inside a web request or an enclosing batched()
+    public <T> T batched(Supplier<T> work) {
+        if (SCOPE.get() != null || RequestContextHolder.getRequestAttributes() != null) return work.get();
+
+        SCOPE.set(new ConcurrentHashMap<>());
+        try {
+            return work.get();
+        } finally {
+            SCOPE.remove();
+        }
+    }
+
+    // Wraps work for another thread so it sees the caller's memo, used by FanOut
+    static <T> Supplier<T> carryScope(Supplier<T> work) {
+        Map<String, Batch> scope = SCOPE.get();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (scope == null && attributes == null) return work;
+
+        return () -> {
+            SCOPE.set(scope);
+            RequestContextHolder.setRequestAttributes(attributes);
+            try {
+                return work.get();
+            } finally {
+                SCOPE.remove();
+                RequestContextHolder.resetRequestAttributes();
+            }
+        };
+    }
+
+    public void prime(String name, Collection<String> ids) {
+        Batch batch = current(name);
+        if (batch == null || ids == null) return;
+
+        synchronized (batch) {
+            for (String id : ids) {
+                if (id != null && !batch.memo.containsKey(id)) batch.pending.add(id);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T load(String name, String id, Function<Set<String>, Map<String, T>> fetch) {
+        if (id == null) return null;
+
+        Batch batch = current(name);
+        if (batch == null) return fetch.apply(Set.of(id)).get(id);
+
+        synchronized (batch) {
+            if (batch.memo.containsKey(id)) return (T) batch.memo.get(id);
+
+            // Drain the queue first so a failed fetch does not leave stale ids behind
+            batch.pending.add(id);
+            Set<String> ids = batch.pending;
+            batch.pending = new LinkedHashSet<>();
+
+            Map<String, T> found = fetch.apply(ids);
+            for (String key : ids) {
+                batch.memo.put(key, found.get(key));
+            }
+            return (T) batch.memo.get(id);
+        }
+    }
+
+    // Call after a write in the same request so the next load sees it
+    public void forget(String name, String id) {
+        Batch batch = current(name);
+        if (batch == null) return;
+
+        synchronized (batch) {
+            batch.memo.remove(id);
+        }
+    }
+
+    private Batch current(String name) {
+        Map<String, Batch> scope = SCOPE.get();
+        if (scope != null) return scope.computeIfAbsent(name, key -> new Batch());
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) return null;
+
+        // forks of one request may race to create the batch
+        String key = ATTRIBUTE_PREFIX + name;
+        synchronized (RequestLoader.class) {
+            Batch batch = (Batch) attributes.getAttribute(key, RequestAttributes.SCOPE_REQUEST);
+            if (batch == null) {
+                batch = new Batch();
+                attributes.setAttribute(key, batch, RequestAttributes.SCOPE_REQUEST);
+            }
+            return batch;
+        }
+    }
+
+
+    private static final class Batch {
+        private final Map<String, Object> memo = new HashMap<>();
+        private Set<String> pending = new LinkedHashSet<>();
+    }
+}
@@ -0,0 +1,248 @@
+package john.api1.application.components;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import john.api1.application.components.enums.CacheRegion;
+import john.api1.application.dto.mapper.CacheStatsDTO;
+import john.api1.common.config.CacheConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Read-through cache for near static CQRS lookups
+// Near tier: per node, bounded LRU with a short ttl
+// Redis tier: shared, one hash per entity, a field per lookup view
+// Invalidate bumps the entity's Redis generation, deletes its hash and broadcasts so every node drops its near entry
+// A loaded value only reaches Redis if the generation read before the load is still current,
+// so a slow load on one node cannot put back a value another node just invalidated
+// Usage:
+//   cache.get(CacheRegion.PET, petId, "name", String.class, () -> repository.getPetName(petId))
+//   cache.invalidate(CacheRegion.PET, petId)   after any write to the pet
+// Loader results are not cached when null or when the entity was invalidated during the load
+@Component
+public class TwoTierCache {
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCache.class);
+    private static final String NO_GENERATION = "0";
+
+    // KEYS: hash, generation / ARGV: expected generation, view, json, ttl seconds
+    // ttl only when the hash is new, later views keep the first expiry
+    private static final RedisScript<Long> PUT_IF_CURRENT = new DefaultRedisScript<>("""
+            local generation = redis.call('GET', KEYS[2]) or '0'
+            if generation ~= ARGV[1] then return 0 end
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+            if redis.call('TTL', KEYS[1]) == -1 then redis.call('EXPIRE', KEYS[1], ARGV[4]) end
+            return 1
+            """, Long.class);
+
+    // KEYS: hash, generation / ARGV: ttl seconds
+    private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>("""
+            local generation = redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return generation
+            """, Long.class);
+
+    private final CacheConfig config;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Map<CacheRegion, Region> regions = new EnumMap<>(CacheRegion.class);
+
+    @Autowired
+    public TwoTierCache(CacheConfig config,
+                        StringRedisTemplate redisTemplate,
+                        ObjectMapper objectMapper,
+                        RedisMessageListenerContainer cacheInvalidationListenerContainer) {
+        this.config = config;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.listenerContainer = cacheInvalidationListenerContainer;
+        for (CacheRegion region : CacheRegion.values()) {
+            regions.put(region, new Region(config.getNearMaxEntries()));
+        }
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int split = body.indexOf(':');
+            if (split <= 0) return;
+            try {
+                evictNear(CacheRegion.valueOf(body.substring(0, split)), body.substring(split + 1));
+            } catch (IllegalArgumentException e) {
+                log.debug("Ignored cache invalidation message '{}'", body);
+            }
+        }, new ChannelTopic(CacheConfig.INVALIDATION_CHANNEL));
+    }
+
+    public <T> T get(CacheRegion cacheRegion, String id, String view, Class<T> type, Supplier<T> loader) {
+        if (!config.isEnabled()) return loader.get();
+
+        Region region = regions.get(cacheRegion);
+        long now = System.currentTimeMillis();
+
+        Object near = region.near.get(id, view, now);
+        if (near != null) {
+            region.nearHits.increment();
+            return type.cast(near);
+        }
+
+        String key = cacheRegion.redisKey(id);
+        try {
+            Object json = redisTemplate.opsForHash().get(key, view);
+            if (json != null) {
+                T value = objectMapper.readValue(json.toString(), type);
+                region.redisHits.increment();
+                region.near.put(id, view, value, now + config.getNearTtl().toMillis());
+                return value;
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            region.redisErrors.increment();
+            log.debug("Redis cache read failed for '{}', loading from source. Error: {}", key, e.getMessage());
+        }
+
+        // Miss, load and fill both tiers unless invalidated meanwhile
+        long localGeneration = region.generation.get();
+        String generation = readGeneration(region, cacheRegion, id);
+        region.misses.increment();
+        T value = loader.get();
+        if (value == null || region.generation.get() != localGeneration) return value;
+
+        region.near.put(id, view, value, now + config.getNearTtl().toMillis());
+        if (generation == null) return value;
+        try {
+            redisTemplate.execute(PUT_IF_CURRENT, List.of(key, cacheRegion.generationKey(id)),
+                    generation, view, objectMapper.writeValueAsString(value), String.valueOf(config.getRedisTtl().toSeconds()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            region.redisErrors.increment();
+            log.debug("Redis cache write failed for '{}'. Error: {}", key, e.getMessage());
+        }
+        return value;
+    }
+
+    // Drops every view of the entity on all nodes
+    public void invalidate(CacheRegion cacheRegion, String id) {
+        if (id == null) return;
+
+        evictNear(cacheRegion, id);
+        regions.get(cacheRegion).invalidations.increment();
+        try {
+            redisTemplate.execute(INVALIDATE, List.of(cacheRegion.redisKey(id), cacheRegion.generationKey(id)),
+                    String.valueOf(config.getRedisTtl().toSeconds()));
+            redisTemplate.convertAndSend(CacheConfig.INVALIDATION_CHANNEL, cacheRegion.name() + ":" + id);
+        } catch (DataAccessException e) {
+            regions.get(cacheRegion).redisErrors.increment();
+            log.warn("Cache invalidation for '{}' did not reach Redis, entry expires by ttl. Error: {}", cacheRegion.redisKey(id), e.getMessage());
+        }
+    }
+
+    public List<CacheStatsDTO> stats() {
+        List<CacheStatsDTO> stats = new ArrayList<>(regions.size());
+        regions.forEach((cacheRegion, region) -> {
+            long nearHits = region.nearHits.sum();
+            long redisHits = region.redisHits.sum();
+            long misses = region.misses.sum();
+            long lookups = nearHits + redisHits + misses;
+            stats.add(new CacheStatsDTO(cacheRegion.name(), nearHits, redisHits, misses,
+                    region.invalidations.sum(), region.redisErrors.sum(), region.near.size(),
+                    lookups == 0 ? 0 : (double) (nearHits + redisHits) / lookups));
+        });
+        return stats;
+    }
+
+    // Null when Redis is unreachable, the loaded value then stays out of Redis
+    private String readGeneration(Region region, CacheRegion cacheRegion, String id) {
+        try {
+            String generation = redisTemplate.opsForValue().get(cacheRegion.generationKey(id));
+            return generation != null ? generation : NO_GENERATION;
+        } catch (DataAccessException e) {
+            region.redisErrors.increment();
+            return null;
+        }
+    }
+
+    private void evictNear(CacheRegion cacheRegion, String id) {
+        Region region = regions.get(cacheRegion);
+        region.generation.incrementAndGet();
+        region.near.remove(id);
+    }
+
+
+    private static final class Region {
+        final NearCache near;
+        final AtomicLong generation = new AtomicLong();
+        final LongAdder nearHits = new LongAdder();
+        final LongAdder redisHits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder invalidations = new LongAdder();
+        final LongAdder redisErrors = new LongAdder();
+
+        Region(int maxEntries) {
+            this.near = new NearCache(maxEntries);
+        }
+    }
+
+    // Access ordered map, the least recently used entity is evicted past the bound
+    private static final class NearCache {
+        private final LinkedHashMap<String, NearEntry> entries;
+
+        NearCache(int maxEntries) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, NearEntry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized Object get(String id, String view, long now) {
+            NearEntry entry = entries.get(id);
+            if (entry == null) return null;
+            if (entry.expiresAt < now) {
+                entries.remove(id);
+                return null;
+            }
+            return entry.views.get(view);
+        }
+
+        synchronized void put(String id, String view, Object value, long expiresAt) {
+            NearEntry entry = entries.get(id);
+            if (entry == null || entry.expiresAt < System.currentTimeMillis()) {
+                entry = new NearEntry(new HashMap<>(4), expiresAt);
+                entries.put(id, entry);
+            }
+            entry.views.put(view, value);
+        }
+
+        synchronized void remove(String id) {
+            entries.remove(id);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private record NearEntry(Map<String, Object> views, long expiresAt) {
+    }
+}
@@ -0,0 +1,11 @@
+package john.api1.application.components.enums;
+
+// Account identifiers tracked by the existence filter, one Redis bitmap each under 'bloom:account:<type>'
+public enum AccountKeyType {
+    CLIENT_EMAIL, CLIENT_PHONE, ADMIN_USERNAME, ADMIN_EMAIL;
+
+    public String redisKey(long bits, int hashes) {
+        // geometry is part of the key, resizing starts a fresh bitmap instead of reading a mismatched one
+        return "bloom:account:" + name().toLowerCase() + ":" + bits + ":" + hashes;
+    }
+}
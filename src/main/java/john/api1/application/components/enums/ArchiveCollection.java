@@ -0,0 +1,16 @@
+package john.api1.application.components.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Append-only log collections moved to archive segments, by the time field they grow along
+@AllArgsConstructor
+@Getter
+public enum ArchiveCollection {
+    HISTORY_LOG("history_log", "createdAt"),
+    EMAIL_LOGS("email_logs", "sendAt"),
+    SMS_LOGS("sms_logs", "sendAt");
+
+    private final String collection;
+    private final String timeField;
+}
@@ -0,0 +1,15 @@
+package john.api1.application.components.enums;
+
+// Cached CQRS lookups, one Redis hash per entity under 'cache:<region>:<id>'
+// and its invalidation counter under 'cache:<region>:<id>:gen'
+public enum CacheRegion {
+    PET, OWNER, PRICING;
+
+    public String redisKey(String id) {
+        return "cache:" + name().toLowerCase() + ":" + id;
+    }
+
+    public String generationKey(String id) {
+        return redisKey(id) + ":gen";
+    }
+}
@@ -0,0 +1,31 @@
+package john.api1.application.components.enums;
+
+import java.util.Locale;
+import java.util.Optional;
+
+// Bulk import body formats, picked from the request content type
+public enum ImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String contentType;
+
+    ImportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    // Parameters such as '; charset=UTF-8' are ignored
+    public static Optional<ImportFormat> fromContentType(String contentType) {
+        if (contentType == null) return Optional.empty();
+
+        String mediaType = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        for (ImportFormat format : values()) {
+            if (format.contentType.equals(mediaType)) return Optional.of(format);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,8 @@
+package john.api1.application.components.enums;
+
+// CREATED: owner saved (pets that failed are named in the message)
+// REJECTED: invalid or already registered, nothing saved
+// FAILED: valid but the database refused the insert
+public enum ImportRowStatus {
+    CREATED, REJECTED, FAILED
+}
@@ -23,7 +23,8 @@ public enum NotificationType {
     GROOMING_REQUEST_REJECTED("GROOMING_REQUEST_REJECTED", "Grooming Request Rejected"),
     // reminder
     ADDITIONAL_CHARGES("ADDITIONAL_CHARGES", "Additional Charges Added"),
-    PICKUP_REMINDER("PICKUP_REMINDER", "Boarding Pickup Reminder");
+    PICKUP_REMINDER("PICKUP_REMINDER", "Boarding Pickup Reminder"),
+    BOARDING_OVERDUE("BOARDING_OVERDUE", "Boarding Overdue");
 
     private final String notificationType;
     private final String notificationTypeDto;
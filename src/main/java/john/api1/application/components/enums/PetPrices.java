@@ -4,8 +4,6 @@ import john.api1.application.components.exception.DomainArgumentException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-import java.util.Arrays;
-
 @AllArgsConstructor
 @Getter
 public enum PetPrices {
@@ -24,6 +22,15 @@ public enum PetPrices {
     private final double fullGroomingPrice;
 
 
+    // Built-in price list, seeds the first stored rate version (see PricingRateTable)
+    private static final PetPrices[][] BY_SPECIES_AND_SIZE = new PetPrices[SpeciesType.values().length][PetSize.values().length];
+
+    static {
+        for (PetPrices price : values()) {
+            BY_SPECIES_AND_SIZE[price.species.ordinal()][price.size.ordinal()] = price;
+        }
+    }
+
     // Get Species and Size
     public static PetPrices fromSpeciesAndSize(SpeciesType species, PetSize size) {
         if ((species == SpeciesType.DOG && !size.isDogSize()) ||
@@ -31,10 +38,9 @@ public enum PetPrices {
             throw new DomainArgumentException("Invalid pet size for species: " + species + " " + size);
         }
 
-        return Arrays.stream(values())
-                .filter(p -> p.species == species && p.size == size)
-                .findFirst()
-                .orElseThrow(() -> new DomainArgumentException("No pricing found for: " + species + " " + size));
+        PetPrices price = BY_SPECIES_AND_SIZE[species.ordinal()][size.ordinal()];
+        if (price == null) throw new DomainArgumentException("No pricing found for: " + species + " " + size);
+        return price;
     }
 
 }
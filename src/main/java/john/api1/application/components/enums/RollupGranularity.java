@@ -0,0 +1,34 @@
+package john.api1.application.components.enums;
+
+import john.api1.application.components.exception.DomainArgumentException;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+// Rollup bucket size, period keys sort the same as time so _id ranges are time ranges
+public enum RollupGranularity {
+    DAY, MONTH;
+
+    public String period(LocalDate day) {
+        return switch (this) {
+            case DAY -> day.toString();             // yyyy-MM-dd
+            case MONTH -> YearMonth.from(day).toString(); // yyyy-MM
+        };
+    }
+
+    public LocalDate periodStart(LocalDate day) {
+        return this == MONTH ? day.withDayOfMonth(1) : day;
+    }
+
+    public String key(LocalDate day) {
+        return name() + ":" + period(day);
+    }
+
+    public static RollupGranularity fromString(String value) {
+        if (value == null || value.isBlank()) return DAY;
+        for (RollupGranularity granularity : values()) {
+            if (granularity.name().equalsIgnoreCase(value.trim())) return granularity;
+        }
+        throw new DomainArgumentException("Invalid granularity: '" + value + "'. Valid values are: 'DAY' or 'MONTH'");
+    }
+}
@@ -0,0 +1,6 @@
+package john.api1.application.components.enums;
+
+// Document kinds in the admin omnisearch index, declaration order breaks score ties
+public enum SearchHitType {
+    OWNER, PET, BOARDING
+}
@@ -0,0 +1,21 @@
+package john.api1.application.components.event;
+
+import jakarta.annotation.Nullable;
+import john.api1.application.components.enums.boarding.BoardingStatus;
+
+// Published after any write to a boarding, its pricing or its extensions
+// 'status' is set when the write changed the boarding status, 'endMoved' when it moved the effective end
+public record BoardingChangedEvent(String boardingId, @Nullable BoardingStatus status, boolean endMoved) {
+
+    public BoardingChangedEvent(String boardingId) {
+        this(boardingId, null, false);
+    }
+
+    public static BoardingChangedEvent statusChanged(String boardingId, BoardingStatus status) {
+        return new BoardingChangedEvent(boardingId, status, false);
+    }
+
+    public static BoardingChangedEvent endMoved(String boardingId) {
+        return new BoardingChangedEvent(boardingId, null, true);
+    }
+}
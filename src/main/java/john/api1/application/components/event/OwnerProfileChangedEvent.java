@@ -0,0 +1,5 @@
+package john.api1.application.components.event;
+
+// Published after pet owner profile fields change
+public record OwnerProfileChangedEvent(String ownerId) {
+}
@@ -0,0 +1,5 @@
+package john.api1.application.components.event;
+
+// Published after pet profile fields or profile photo change
+public record PetProfileChangedEvent(String petId) {
+}
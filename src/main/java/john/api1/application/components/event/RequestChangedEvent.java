@@ -0,0 +1,9 @@
+package john.api1.application.components.event;
+
+// Published after any write to a request's status, or when the change stream sees one from any node
+// fromChangeStream tells the two apart, with the change stream on the local publish is redundant
+public record RequestChangedEvent(String requestId, boolean fromChangeStream) {
+    public RequestChangedEvent(String requestId) {
+        this(requestId, false);
+    }
+}
@@ -4,6 +4,7 @@ import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.cores.boarding.BoardingExtensionDS;
 import john.api1.application.domain.cores.boarding.BoardingPricingDS;
 import john.api1.application.domain.models.ActivityLogDomain;
+import john.api1.application.domain.models.ActivityLogSnapshot;
 import john.api1.application.domain.models.boarding.BoardingDomain;
 import john.api1.application.dto.mapper.history.*;
 import john.api1.application.ports.repositories.boarding.PricingCQRS;
@@ -12,203 +13,184 @@ import john.api1.application.ports.repositories.pet.PetCQRS;
 import john.api1.application.ports.repositories.request.ExtensionCQRS;
 import john.api1.application.ports.repositories.request.GroomingCQRS;
 
-import java.time.Instant;
-
+// Write time: snapshot() copies the display fields out of the resolved context
+// Read time: transform() builds the DTO from the stored snapshot alone
 public class ActivityLogDS {
 
+    // Null when the context is missing something the log's type shows
+    public static ActivityLogSnapshot snapshot(ActivityLogDomain domain, ActivityLogDataContext context) {
+        if (context == null) return null;
+
+        return switch (domain.getActivityType()) {
+            case BOARDING_MANAGEMENT -> snapshotBoarding(context);
+            case PET_OWNER_MANAGEMENT -> snapshotRegisterOwner(context);
+            case PET_MANAGEMENT -> snapshotRegisterPet(domain, context);
+            case REQUEST_MANAGEMENT -> {
+                if (domain.getRequestType() == null) yield null;
+                yield switch (domain.getRequestType()) {
+                    case PHOTO_REQUEST, VIDEO_REQUEST -> snapshotRequestMedia(context);
+                    case BOARDING_EXTENSION -> snapshotRequestExtension(context);
+                    case GROOMING_SERVICE -> snapshotRequestGrooming(context);
+                    default -> null;
+                };
+            }
+        };
+    }
+
+    public static ActivityLogDTO transform(ActivityLogDomain domain) {
+        ActivityLogSnapshot snapshot = domain.getSnapshot();
+        if (snapshot == null) return null;
+
+        return switch (domain.getActivityType()) {
+            case BOARDING_MANAGEMENT -> transformBoarding(domain, snapshot);
+            case PET_OWNER_MANAGEMENT -> transformRegisterOwner(domain, snapshot);
+            case PET_MANAGEMENT -> transformRegisterPet(domain, snapshot);
+            case REQUEST_MANAGEMENT -> {
+                if (domain.getRequestType() == null) {
+                    throw new PersistenceException("Request type is null for request management log");
+                }
+                yield switch (domain.getRequestType()) {
+                    case PHOTO_REQUEST, VIDEO_REQUEST -> transformRequestMedia(domain, snapshot);
+                    case BOARDING_EXTENSION -> transformRequestExtension(domain, snapshot);
+                    case GROOMING_SERVICE -> transformRequestGrooming(domain, snapshot);
+                    default -> null;
+                };
+            }
+        };
+    }
+
+
     // Owner Register
-    public static ActivityLogOwnerRegisterDTO transformRegisterOwner(ActivityLogDomain domain, ActivityLogDataContext context) {
-        if (context.getOwner() != null) {
-            PetOwnerCQRS owner = context.getOwner();
-
-            String id = domain.getId();
-            String activityType = domain.getActivityType().getActivityLogTypeToDTO();
-            String description = domain.getDescription();
-            String performBy = domain.getPerformedBy();
-            Instant timestamp = domain.getTimestamp();
-
-            // owner
-            String ownerName = owner.ownerName();
-            String ownerEmail = owner.ownerEmail();
-            String ownerPhoneNumber = owner.ownerPhoneNumber();
-            String address = ClientCreationDS.mapAddress(owner);
-
-            return new ActivityLogOwnerRegisterDTO(
-                    id, activityType, description, performBy, timestamp,
-                    ownerName, ownerEmail, ownerPhoneNumber, address);
-        }
-        return null;
-    }
-
-    // Pet Register
-    public static ActivityLogPetRegisterDTO transformRegisterPet(ActivityLogDomain domain, ActivityLogDataContext context) {
-        if (context.getOwner() != null && context.getPet() != null) {
-            PetOwnerCQRS owner = context.getOwner();
-            PetCQRS pet = context.getPet();
-
-            String id = domain.getId();
-            String activityType = domain.getActivityType().getActivityLogTypeToDTO();
-            String description = domain.getDescription();
-            String performBy = domain.getPerformedBy();
-            Instant timestamp = domain.getTimestamp();
-
-            // Pet details
-            String petName = pet.petName();
-            String petType = pet.animalType();
-            String petBreed = pet.breed();
-            String petSize = pet.size();
-
-            // Owner
-            String ownerName = owner.ownerName();
-
-            return new ActivityLogPetRegisterDTO(
-                    id, activityType, description, performBy, timestamp,
-                    petName, petType, petBreed, petSize, ownerName);
-        }
-        return null;
+    private static ActivityLogSnapshot snapshotRegisterOwner(ActivityLogDataContext context) {
+        if (context.getOwner() == null) return null;
+        PetOwnerCQRS owner = context.getOwner();
+
+        return new ActivityLogSnapshot(
+                null, null, null, null,
+                owner.ownerName(), owner.ownerEmail(), owner.ownerPhoneNumber(), ClientCreationDS.mapAddress(owner),
+                null, null, null, null, null, null, null);
     }
 
-    // Boarding
-    public static ActivityLogBoardingDTO transformBoarding(ActivityLogDomain domain, ActivityLogDataContext context) {
-        if (context.getBoarding() != null && context.getPricing() != null && context.getPet() != null) {
-            BoardingDomain boarding = context.getBoarding();
-            PricingCQRS pricing = context.getPricing();
-            PetCQRS pet = context.getPet();
-
-            String id = domain.getId();
-            String activityType = domain.getActivityType().getActivityLogTypeToDTO();
-            String description = domain.getDescription();
-            String performBy = domain.getPerformedBy();
-            Instant timestamp = domain.getTimestamp();
-
-            // pet information
-            String petName = pet.petName();
-            String petType = pet.animalType();
-            String breed = pet.breed();
-            String size = pet.size();
-
-            // owner
-            String owner = domain.getPetOwner();
-
-            // boarding details
-            String boardingType = boarding.getBoardingType().getDurationType();
-            int duration = (int) boarding.determineDuration();
-            Double price = BoardingPricingDS.getBoardingTotal(pricing);
-            Instant start = boarding.getBoardingStart();
-            Instant end = boarding.getBoardingEnd();
-
-            return new ActivityLogBoardingDTO(
-                    id, activityType, description, performBy, timestamp,
-                    petName, petType, breed, size,
-                    owner,
-                    boardingType, duration, price, start, end);
-        }
-        return null;
+    private static ActivityLogOwnerRegisterDTO transformRegisterOwner(ActivityLogDomain domain, ActivityLogSnapshot snapshot) {
+        return new ActivityLogOwnerRegisterDTO(
+                domain.getId(), domain.getActivityType().getActivityLogTypeToDTO(), domain.getDescription(), domain.getPerformedBy(), domain.getTimestamp(),
+                snapshot.ownerName(), snapshot.ownerEmail(), snapshot.ownerPhoneNumber(), snapshot.address());
     }
 
-    // Media Request
-    public static ActivityLogRequestDTO transformRequestMedia(ActivityLogDomain domain, ActivityLogDataContext context) {
-        if (context.getPet() == null) throw new PersistenceException("PetCQRS in context object is null");
+    // Pet Register, owner name falls back to the one stored on the log
+    private static ActivityLogSnapshot snapshotRegisterPet(ActivityLogDomain domain, ActivityLogDataContext context) {
+        if (context.getPet() == null) return null;
         PetCQRS pet = context.getPet();
+        String ownerName = context.getOwner() != null ? context.getOwner().ownerName() : domain.getPetOwner();
 
-        String id = domain.getId();
-        String activityType = domain.getActivityType().getActivityLogTypeToDTO();
-        String requestType = domain.getRequestType() != null ? domain.getRequestType().getRequestType() : null;
-        String description = domain.getDescription();
-        String performBy = domain.getPerformedBy();
-        Instant timestamp = domain.getTimestamp();
+        return new ActivityLogSnapshot(
+                pet.petName(), pet.animalType(), pet.breed(), pet.size(),
+                ownerName, null, null, null,
+                null, null, null, null, null, null, null);
+    }
 
-        // pet information
-        String petName = pet.petName();
-        String petType = pet.animalType();
-        String breed = pet.breed();
-        String size = pet.size();
+    private static ActivityLogPetRegisterDTO transformRegisterPet(ActivityLogDomain domain, ActivityLogSnapshot snapshot) {
+        return new ActivityLogPetRegisterDTO(
+                domain.getId(), domain.getActivityType().getActivityLogTypeToDTO(), domain.getDescription(), domain.getPerformedBy(), domain.getTimestamp(),
+                snapshot.petName(), snapshot.petType(), snapshot.breed(), snapshot.size(),
+                snapshot.ownerName());
+    }
+
+    // Boarding
+    private static ActivityLogSnapshot snapshotBoarding(ActivityLogDataContext context) {
+        if (context.getBoarding() == null || context.getPricing() == null || context.getPet() == null) return null;
+        BoardingDomain boarding = context.getBoarding();
+        PricingCQRS pricing = context.getPricing();
+        PetCQRS pet = context.getPet();
 
-        // owner
-        String owner = domain.getPetOwner();
+        return new ActivityLogSnapshot(
+                pet.petName(), pet.animalType(), pet.breed(), pet.size(),
+                null, null, null, null,
+                boarding.getBoardingType().getDurationType(), boarding.determineDuration(), null, null,
+                BoardingPricingDS.getBoardingTotal(pricing), boarding.getBoardingStart(), boarding.getBoardingEnd());
+    }
 
+    private static ActivityLogBoardingDTO transformBoarding(ActivityLogDomain domain, ActivityLogSnapshot snapshot) {
+        int duration = snapshot.duration() != null ? snapshot.duration().intValue() : 0;
 
-        return new ActivityLogRequestDTO(
-                id, activityType, requestType, description, performBy, timestamp,
-                petName, petType, breed, size,
-                owner);
+        return new ActivityLogBoardingDTO(
+                domain.getId(), domain.getActivityType().getActivityLogTypeToDTO(), domain.getDescription(), domain.getPerformedBy(), domain.getTimestamp(),
+                snapshot.petName(), snapshot.petType(), snapshot.breed(), snapshot.size(),
+                domain.getPetOwner(),
+                snapshot.boardingType(), duration, snapshot.price(), snapshot.start(), snapshot.end());
+    }
+
+    // Media Request
+    private static ActivityLogSnapshot snapshotRequestMedia(ActivityLogDataContext context) {
+        if (context.getPet() == null) return null;
+        return petOnly(context.getPet());
+    }
 
+    private static ActivityLogRequestDTO transformRequestMedia(ActivityLogDomain domain, ActivityLogSnapshot snapshot) {
+        return new ActivityLogRequestDTO(
+                domain.getId(), domain.getActivityType().getActivityLogTypeToDTO(), requestType(domain), domain.getDescription(), domain.getPerformedBy(), domain.getTimestamp(),
+                snapshot.petName(), snapshot.petType(), snapshot.breed(), snapshot.size(),
+                domain.getPetOwner());
     }
 
     // Extension Request
-    public static ActivityLogExtensionRequestDTO transformRequestExtension(ActivityLogDomain domain, ActivityLogDataContext context) {
-        if (context.getBoarding() != null && context.getPricing() != null && context.getPet() != null && context.getExtension() != null) {
-            BoardingDomain boarding = context.getBoarding();
-            PricingCQRS pricing = context.getPricing();
-            PetCQRS pet = context.getPet();
-            ExtensionCQRS extension = context.getExtension();
-
-            String id = domain.getId();
-            String activityType = domain.getActivityType().getActivityLogTypeToDTO();
-            String requestType = domain.getRequestType() != null ? domain.getRequestType().getRequestType() : null;
-            String description = domain.getDescription();
-            String performBy = domain.getPerformedBy();
-            Instant timestamp = domain.getTimestamp();
-
-            // pet information
-            String petName = pet.petName();
-            String petType = pet.animalType();
-            String breed = pet.breed();
-            String size = pet.size();
-
-            // owner
-            String owner = domain.getPetOwner();
-
-            // extension details
-            long duration = BoardingExtensionDS.determineDuration(extension);
-            String durationType = extension.durationType().getDurationType();
-            Instant current = boarding.getBoardingStart();
-            Instant end = BoardingExtensionDS.calculateFinalBoardingEnd(boarding.getBoardingEnd(), extension);
-            Double price = BoardingPricingDS.getBoardingTotal(pricing);
-
-            return new ActivityLogExtensionRequestDTO(
-                    id, activityType, requestType, description, performBy, timestamp,
-                    petName, petType, breed, size,
-                    owner,
-                    duration, durationType, current, end, price);
-        }
-        return null;
+    private static ActivityLogSnapshot snapshotRequestExtension(ActivityLogDataContext context) {
+        if (context.getBoarding() == null || context.getPricing() == null || context.getPet() == null || context.getExtension() == null)
+            return null;
+        BoardingDomain boarding = context.getBoarding();
+        PricingCQRS pricing = context.getPricing();
+        PetCQRS pet = context.getPet();
+        ExtensionCQRS extension = context.getExtension();
+
+        return new ActivityLogSnapshot(
+                pet.petName(), pet.animalType(), pet.breed(), pet.size(),
+                null, null, null, null,
+                null, BoardingExtensionDS.determineDuration(extension), extension.durationType().getDurationType(), null,
+                BoardingPricingDS.getBoardingTotal(pricing),
+                boarding.getBoardingStart(),
+                BoardingExtensionDS.calculateFinalBoardingEnd(boarding.getBoardingEnd(), extension));
+    }
+
+    private static ActivityLogExtensionRequestDTO transformRequestExtension(ActivityLogDomain domain, ActivityLogSnapshot snapshot) {
+        long duration = snapshot.duration() != null ? snapshot.duration() : 0;
+
+        return new ActivityLogExtensionRequestDTO(
+                domain.getId(), domain.getActivityType().getActivityLogTypeToDTO(), requestType(domain), domain.getDescription(), domain.getPerformedBy(), domain.getTimestamp(),
+                snapshot.petName(), snapshot.petType(), snapshot.breed(), snapshot.size(),
+                domain.getPetOwner(),
+                duration, snapshot.durationType(), snapshot.start(), snapshot.end(), snapshot.price());
     }
 
     // Grooming request
-    public static ActivityLogGroomingRequestDTO transformRequestGrooming(ActivityLogDomain domain, ActivityLogDataContext context) {
-        if (context.getBoarding() != null && context.getPricing() != null && context.getPet() != null && context.getGrooming() != null) {
-            PetCQRS pet = context.getPet();
-            GroomingCQRS grooming = context.getGrooming();
-
-
-            String id = domain.getId();
-            String activityType = domain.getActivityType().getActivityLogTypeToDTO();
-            String requestType = domain.getRequestType() != null ? domain.getRequestType().getRequestType() : null;
-            String description = domain.getDescription();
-            String performBy = domain.getPerformedBy();
-            Instant timestamp = domain.getTimestamp();
-
-            // pet information
-            String petName = pet.petName();
-            String petType = pet.animalType();
-            String breed = pet.breed();
-            String size = pet.size();
-
-            // owner
-            String owner = domain.getPetOwner();
-
-            // grooming details
-            String groomingType = grooming.groomingType().getGroomingType();
-            Double price = grooming.price();
-
-            return new ActivityLogGroomingRequestDTO(
-                    id, activityType, requestType, description, performBy, timestamp,
-                    petName, petType, breed, size,
-                    owner,
-                    groomingType, price);
-        }
-
-        return null;
-    }
-}
\ No newline at end of file
+    private static ActivityLogSnapshot snapshotRequestGrooming(ActivityLogDataContext context) {
+        if (context.getPet() == null || context.getGrooming() == null) return null;
+        PetCQRS pet = context.getPet();
+        GroomingCQRS grooming = context.getGrooming();
+
+        return new ActivityLogSnapshot(
+                pet.petName(), pet.animalType(), pet.breed(), pet.size(),
+                null, null, null, null,
+                null, null, null, grooming.groomingType().getGroomingType(),
+                grooming.price(), null, null);
+    }
+
+    private static ActivityLogGroomingRequestDTO transformRequestGrooming(ActivityLogDomain domain, ActivityLogSnapshot snapshot) {
+        return new ActivityLogGroomingRequestDTO(
+                domain.getId(), domain.getActivityType().getActivityLogTypeToDTO(), requestType(domain), domain.getDescription(), domain.getPerformedBy(), domain.getTimestamp(),
+                snapshot.petName(), snapshot.petType(), snapshot.breed(), snapshot.size(),
+                domain.getPetOwner(),
+                snapshot.groomingType(), snapshot.price());
+    }
+
+
+    private static ActivityLogSnapshot petOnly(PetCQRS pet) {
+        return new ActivityLogSnapshot(
+                pet.petName(), pet.animalType(), pet.breed(), pet.size(),
+                null, null, null, null,
+                null, null, null, null, null, null, null);
+    }
+
+    private static String requestType(ActivityLogDomain domain) {
+        return domain.getRequestType() != null ? domain.getRequestType().getRequestType() : null;
+    }
+}
@@ -22,6 +22,7 @@ public class NotificationDescriptionDS {
             case EXTENSION_REQUEST_COMPLETED -> descriptionExtensionApproved(context);
             case ADDITIONAL_CHARGES -> descriptionAdditionalCharges(context);
             case PICKUP_REMINDER -> descriptionBoardingPickup(context);
+            case BOARDING_OVERDUE -> descriptionBoardingOverdue(context);
             case PHOTO_REQUEST_REJECTED,
                     VIDEO_REQUEST_REJECTED,
                     GROOMING_REQUEST_REJECTED,
@@ -70,6 +71,11 @@ public class NotificationDescriptionDS {
         return String.format("An additional charge of ₱%d has been added for %s's %s. Payment will be collected during pickup.", (int) charges, petName, request);
     }
 
+    private static String descriptionBoardingOverdue(NotificationContext context) {
+        String formattedTime = DATE_TIME_FORMAT.format(context.checkoutTime());
+        return String.format("%s's boarding ended on %s and is now overdue. Kindly pick up as soon as possible, additional charges may apply.", context.petName(), formattedTime);
+    }
+
     private static String descriptionBoardingPickup(NotificationContext context) {
         BoardingType boardingType = context.boardingType();
         String petName = context.petName();
@@ -0,0 +1,66 @@
+package john.api1.application.domain.cores.account;
+
+import john.api1.application.components.exception.DomainArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+// Bloom filter math, storage lives elsewhere (Redis bitmap)
+// Sizing: m = -n ln p / (ln 2)^2 bits, k = m / n ln 2 hashes
+// Offsets: double hashing h1 + i * h2, h1 is a 64 bit FNV-1a of the normalized value and h2 is remixed from h1,
+// so h2 adds no entropy, two values share every offset exactly when their h1 (and length) match
+public final class BloomFilterDS {
+    private static final double LN2 = Math.log(2);
+    private static final long MAX_BITS = 1L << 32;  // Redis bitmap limit (512 MB)
+
+    private BloomFilterDS() {
+    }
+
+    public static long optimalBits(long expected, double falsePositiveRate) {
+        if (expected < 1) throw new DomainArgumentException("Expected insertions must be at least 1");
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1)
+            throw new DomainArgumentException("False positive rate must be between 0 and 1");
+
+        long bits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (LN2 * LN2));
+        return Math.min(Math.max(bits, 64), MAX_BITS);
+    }
+
+    public static int optimalHashes(long expected, long bits) {
+        return Math.max(1, (int) Math.round((double) bits / expected * LN2));
+    }
+
+    // Emails and usernames compare case-insensitively here, a wider match only costs a false positive
+    public static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static long[] offsets(String value, long bits, int hashes) {
+        byte[] bytes = normalize(value).getBytes(StandardCharsets.UTF_8);
+        long h1 = fnv1a(bytes);
+        long h2 = mix(h1 ^ bytes.length) | 1;  // odd, so the stride never collapses to zero
+
+        long[] offsets = new long[hashes];
+        long combined = h1;
+        for (int i = 0; i < hashes; i++) {
+            offsets[i] = Math.floorMod(combined, bits);
+            combined += h2;
+        }
+        return offsets;
+    }
+
+    private static long fnv1a(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // SplitMix64 finalizer, spreads the low entropy bits of FNV across the word
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
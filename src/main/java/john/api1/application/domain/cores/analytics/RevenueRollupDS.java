@@ -0,0 +1,97 @@
+package john.api1.application.domain.cores.analytics;
+
+import jakarta.annotation.Nullable;
+import john.api1.application.components.enums.RollupGranularity;
+import john.api1.application.components.enums.boarding.RequestType;
+import john.api1.application.domain.cores.boarding.BoardingPricingDS;
+import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.domain.models.boarding.BoardingPricingDomain;
+import john.api1.application.ports.repositories.analytics.RevenueRollupCQRS;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+// Rollup deltas and bucket merging
+// A delta has no granularity or period, the repository applies it to the day and month bucket
+public class RevenueRollupDS {
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    public static String releaseKey(String boardingId) {
+        return "RELEASE:" + boardingId;
+    }
+
+    public static String requestKey(String requestId) {
+        return "REQUEST:" + requestId;
+    }
+
+    public static LocalDate day(Instant at) {
+        return LocalDate.ofInstant(at, ZONE);
+    }
+
+    // Released boarding, revenue of the stay itself whether prepaid or not
+    public static RevenueRollupCQRS releaseDelta(BoardingDomain boarding, @Nullable BoardingPricingDomain pricing, String species) {
+        long revenue = pricing != null ? BoardingPricingDS.getBoardingTotalCents(pricing) : 0;
+        Instant end = boarding.hasEffectiveEnd() ? boarding.getEffectiveEnd() : boarding.getBoardingEnd();
+
+        return new RevenueRollupCQRS(null, null,
+                revenue, 0, Map.of(), Map.of(),
+                occupancyNights(boarding.getBoardingStart(), end), 1,
+                Map.of(boarding.getBoardingType().name(), 1L),
+                Map.of(species != null && !species.isBlank() ? species.trim().toUpperCase() : "UNKNOWN", 1L));
+    }
+
+    // Committed request, one breakdown
+    public static RevenueRollupCQRS requestDelta(RequestType requestType, long cents) {
+        return new RevenueRollupCQRS(null, null,
+                0, cents,
+                Map.of(requestType.name(), cents),
+                Map.of(requestType.name(), 1L),
+                0, 0, Map.of(), Map.of());
+    }
+
+    // Breakdown names are request type values, anything older counts as custom
+    public static RequestType requestTypeOf(String requestName) {
+        try {
+            RequestType type = RequestType.fromString(requestName);
+            return type != null ? type : RequestType.CUSTOM_REQUEST;
+        } catch (IllegalArgumentException e) {
+            return RequestType.CUSTOM_REQUEST;
+        }
+    }
+
+    // Calendar nights between check-in day and check-out day, same day stays count zero
+    public static long occupancyNights(Instant start, Instant end) {
+        if (start == null || end == null || end.isBefore(start)) return 0;
+        return ChronoUnit.DAYS.between(day(start), day(end));
+    }
+
+    public static RevenueRollupCQRS empty(RollupGranularity granularity, LocalDate periodStart) {
+        return new RevenueRollupCQRS(granularity, periodStart, 0, 0, Map.of(), Map.of(), 0, 0, Map.of(), Map.of());
+    }
+
+    // Sum of two buckets, keeps the period of the first
+    public static RevenueRollupCQRS merge(RevenueRollupCQRS into, RevenueRollupCQRS add) {
+        return new RevenueRollupCQRS(into.granularity(), into.periodStart(),
+                into.boardingRevenueCents() + add.boardingRevenueCents(),
+                into.requestRevenueCents() + add.requestRevenueCents(),
+                mergeCounts(into.requestRevenueByType(), add.requestRevenueByType()),
+                mergeCounts(into.requestCountByType(), add.requestCountByType()),
+                into.occupancyNights() + add.occupancyNights(),
+                into.releasedCount() + add.releasedCount(),
+                mergeCounts(into.boardingTypeCounts(), add.boardingTypeCounts()),
+                mergeCounts(into.speciesCounts(), add.speciesCounts()));
+    }
+
+    private static Map<String, Long> mergeCounts(Map<String, Long> a, Map<String, Long> b) {
+        if (b == null || b.isEmpty()) return a != null ? a : Map.of();
+        if (a == null || a.isEmpty()) return b;
+
+        Map<String, Long> merged = new HashMap<>(a);
+        b.forEach((key, value) -> merged.merge(key, value, Long::sum));
+        return merged;
+    }
+}
@@ -1,7 +1,9 @@
 package john.api1.application.domain.cores.boarding;
 
+import jakarta.annotation.Nullable;
 import john.api1.application.components.enums.boarding.BoardingType;
 import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.domain.models.boarding.BoardingDomain;
 import john.api1.application.domain.models.request.ExtensionDomain;
 import john.api1.application.ports.repositories.request.ExtensionCQRS;
 
@@ -31,6 +33,46 @@ public class BoardingExtensionDS {
     }
 
 
+    // Effective end = booked boardingEnd + hours of every committed extension
+    // Commit, backfill and the not-yet-backfilled fallback all derive it from here
+    public static Instant calculateEffectiveEnd(Instant boardingEnd, List<ExtensionDomain> extensions) {
+        if (extensions == null || extensions.isEmpty()) return boardingEnd;
+
+        return calculateFinalBoardingEnd(boardingEnd, extensions.stream()
+                .filter(ExtensionDomain::isApproved)
+                .toList());
+    }
+
+    // Baseline commits moved boardingEnd by each approved extension's hours counted as days
+    // Booked end = stored boardingEnd minus that shift, for the extensions committed by the baseline
+    public static Instant restoreBookedEnd(Instant storedEnd, List<ExtensionDomain> legacyExtensions) {
+        if (legacyExtensions == null || legacyExtensions.isEmpty()) return storedEnd;
+
+        long shiftDays = legacyExtensions.stream()
+                .filter(ExtensionDomain::isApproved)
+                .mapToLong(ExtensionDomain::getExtendedHours)
+                .filter(hours -> hours > 0)
+                .sum();
+        return storedEnd.minus(Duration.ofDays(shiftDays));
+    }
+
+    // Boardings saved before effective end was stored still carry the baseline shift in boardingEnd
+    // Reads and the backfill take it off, then add the committed hours once
+    public static void resolveEffectiveEnd(BoardingDomain boarding, List<ExtensionDomain> extensions) {
+        resolveEffectiveEnd(boarding, extensions, null);
+    }
+
+    // excludedId: an extension committed after the change, it never moved boardingEnd and is added by the caller
+    public static void resolveEffectiveEnd(BoardingDomain boarding, List<ExtensionDomain> extensions, @Nullable String excludedId) {
+        if (boarding.hasEffectiveEnd()) return;
+
+        List<ExtensionDomain> legacy = extensions == null ? List.of() : extensions.stream()
+                .filter(extension -> excludedId == null || !excludedId.equals(extension.getId()))
+                .toList();
+        boarding.restoreBookedEnd(restoreBookedEnd(boarding.getBoardingEnd(), legacy));
+        boarding.recordEffectiveEnd(calculateEffectiveEnd(boarding.getBoardingEnd(), legacy));
+    }
+
     public static Instant calculateFinalBoardingEnd(Instant boardingEnd, ExtensionCQRS extensions) {
         if (extensions == null) return boardingEnd;
         return boardingEnd.plus(Duration.ofHours(extensions.extendedHours()));
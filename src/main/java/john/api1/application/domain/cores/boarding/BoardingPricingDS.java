@@ -1,41 +1,66 @@
 package john.api1.application.domain.cores.boarding;
 
-import john.api1.application.components.enums.boarding.BoardingType;
 import john.api1.application.domain.models.boarding.BoardingPricingDomain;
 import john.api1.application.ports.repositories.boarding.PricingCQRS;
 
-import java.util.Collections;
-import java.util.Optional;
+import java.util.List;
 
 // Pricing business logics
+// Totals are kept in cents, read from the stored running totals when the document has them
 public class BoardingPricingDS {
 
     // Boarding total
     public static double getBoardingTotal(BoardingPricingDomain domain) {
-        return domain.getRatePerHour() * domain.getBoardingDuration(); // Per-hour charge for daycare
+        return MoneyDS.toAmount(getBoardingTotalCents(domain));
     }
 
     public static double getBoardingTotal(PricingCQRS pricing) {
-        return pricing.rate() * pricing.duration(); // Per-hour charge for daycare
+        return MoneyDS.toAmount(MoneyDS.multiply(MoneyDS.toCents(pricing.rate()), pricing.duration())); // Per-hour charge for daycare
+    }
+
+    public static long getBoardingTotalCents(BoardingPricingDomain domain) {
+        return MoneyDS.multiply(MoneyDS.toCents(domain.getRatePerHour()), domain.getBoardingDuration()); // Per-hour charge for daycare
     }
 
     // Request total
     public static double getRequestTotal(BoardingPricingDomain domain) {
-        return Optional.ofNullable(domain.getRequestBreakdown())
-                .orElse(Collections.emptyList()) // Ensure it's never null
-                .stream()
-                .mapToDouble(BoardingPricingDomain.RequestBreakdown::total)
-                .sum();
+        return MoneyDS.toAmount(getRequestTotalCents(domain));
+    }
+
+    // Stored running total when present, summed only for documents without one
+    public static long getRequestTotalCents(BoardingPricingDomain domain) {
+        if (domain.hasStoredTotals()) return domain.getRequestTotalCents();
+        return sumRequestCents(domain.getRequestBreakdown());
+    }
+
+    // Indexed loop, no stream or boxing per call
+    public static long sumRequestCents(List<BoardingPricingDomain.RequestBreakdown> breakdown) {
+        if (breakdown == null) return 0;
+
+        long total = 0;
+        for (int i = 0, n = breakdown.size(); i < n; i++) {
+            total = Math.addExact(total, MoneyDS.toCents(breakdown.get(i).total()));
+        }
+        return total;
     }
 
     // Overall total (boarding + request)
     public static double getOverallTotal(BoardingPricingDomain domain) {
-        return getBoardingTotal(domain) + getRequestTotal(domain);
+        return MoneyDS.toAmount(getOverallTotalCents(domain));
+    }
+
+    public static long getOverallTotalCents(BoardingPricingDomain domain) {
+        if (domain.hasStoredTotals()) return domain.getOverallTotalCents();
+        return Math.addExact(getBoardingTotalCents(domain), getRequestTotalCents(domain));
     }
 
 
     // Final total (boarding? + request)
     public static double getFinalTotal(BoardingPricingDomain domain) {
-        return domain.isPrepaid() ? getRequestTotal(domain) : getOverallTotal(domain);
+        return MoneyDS.toAmount(getFinalTotalCents(domain));
+    }
+
+    public static long getFinalTotalCents(BoardingPricingDomain domain) {
+        return domain.isPrepaid() ? getRequestTotalCents(domain) : getOverallTotalCents(domain);
     }
 }
@@ -0,0 +1,42 @@
+package john.api1.application.domain.cores.boarding;
+
+import john.api1.application.components.exception.DomainArgumentException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+public class KennelCapacityDS {
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    // Calendar days a kennel is held, start day through end day
+    // An end exactly at midnight does not hold the next day
+    public static List<LocalDate> occupiedDays(Instant start, Instant end) {
+        if (start == null || end == null)
+            throw new DomainArgumentException("Start time or end time cannot be null");
+        if (end.isBefore(start))
+            throw new DomainArgumentException("Boarding end cannot be before start");
+
+        LocalDate first = LocalDate.ofInstant(start, ZONE);
+        LocalDate last = LocalDate.ofInstant(end, ZONE);
+        if (last.isAfter(first) && end.atZone(ZONE).toLocalTime().equals(LocalTime.MIDNIGHT))
+            last = last.minusDays(1);
+
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        return days;
+    }
+
+    public static LocalDate today() {
+        return LocalDate.now(ZONE);
+    }
+
+    public static Instant startOfDay(LocalDate day) {
+        return day.atStartOfDay(ZONE).toInstant();
+    }
+}
@@ -0,0 +1,26 @@
+package john.api1.application.domain.cores.boarding;
+
+import john.api1.application.components.exception.DomainArgumentException;
+
+// Money is kept in minor units (cents) as long, converted to amounts only at the edges
+public class MoneyDS {
+    private static final int CENTS_PER_UNIT = 100;
+
+    public static long toCents(double amount) {
+        if (Double.isNaN(amount) || Double.isInfinite(amount))
+            throw new DomainArgumentException("Amount must be a finite number.");
+        return Math.round(amount * CENTS_PER_UNIT);
+    }
+
+    public static double toAmount(long cents) {
+        return cents / (double) CENTS_PER_UNIT;
+    }
+
+    public static long multiply(long cents, long quantity) {
+        try {
+            return Math.multiplyExact(cents, quantity);
+        } catch (ArithmeticException e) {
+            throw new DomainArgumentException("Price is too large to compute.");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package john.api1.application.domain.cores.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Tokens and grams for the admin omnisearch index
+// Text fields: every token gets its prefixes, so typeahead matches as the admin types
+// Phone fields: digits only, every substring of 3+ digits so any fragment of the number matches
+// Weights: whole token 3, prefix 2, inner fragment 1, a document keeps the best weight per gram
+public final class SearchTokenDS {
+    public static final int EXACT = 3;
+    public static final int PREFIX = 2;
+    public static final int INFIX = 1;
+
+    public static final int MAX_GRAM = 24;  // a full ObjectId
+    public static final int MAX_QUERY_TOKENS = 5;
+    private static final int MIN_PHONE_FRAGMENT = 3;
+
+    private SearchTokenDS() {
+    }
+
+    // Lower cased, split on anything that is not a letter or digit
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) return tokens;
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean word = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (word && start < 0) start = i;
+            if (!word && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    public static List<String> queryTokens(String query) {
+        List<String> tokens = tokens(query);
+        if (tokens.size() > MAX_QUERY_TOKENS) tokens = new ArrayList<>(tokens.subList(0, MAX_QUERY_TOKENS));
+        tokens.replaceAll(token -> token.length() > MAX_GRAM ? token.substring(0, MAX_GRAM) : token);
+        return tokens;
+    }
+
+    public static void textGrams(String text, Map<String, Integer> into) {
+        for (String token : tokens(text)) {
+            int length = Math.min(token.length(), MAX_GRAM);
+            for (int end = 1; end < length; end++) {
+                into.merge(token.substring(0, end), PREFIX, Math::max);
+            }
+            into.merge(token.substring(0, length), token.length() <= MAX_GRAM ? EXACT : PREFIX, Math::max);
+        }
+    }
+
+    public static void phoneGrams(String phone, Map<String, Integer> into) {
+        if (phone == null) return;
+
+        String digits = phone.replaceAll("\\D", "");
+        if (digits.isEmpty() || digits.length() > MAX_GRAM) return;
+
+        for (int start = 0; start < digits.length(); start++) {
+            for (int end = start + 1; end <= digits.length(); end++) {
+                if (start > 0 && end - start < MIN_PHONE_FRAGMENT) continue;
+                int weight = start > 0 ? INFIX : end == digits.length() ? EXACT : PREFIX;
+                into.merge(digits.substring(start, end), weight, Math::max);
+            }
+        }
+    }
+}
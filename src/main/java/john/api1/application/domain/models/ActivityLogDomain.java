@@ -26,38 +26,40 @@ public class ActivityLogDomain {
     private String pet;
     private String description;
     private Instant timestamp;
+    @Nullable
+    private ActivityLogSnapshot snapshot;  // Null on logs written before snapshots, or when the context could not be resolved
 
     // Admin
     public static ActivityLogDomain create(ActivityLogType activityType, String petOwner, String pet, String description) {
-        return new ActivityLogDomain(null, null, activityType, null, "Admin", petOwner, pet, description, Instant.now());
+        return new ActivityLogDomain(new ObjectId().toHexString(), null, activityType, null, "Admin", petOwner, pet, description, Instant.now(), null);
     }
 
     public static ActivityLogDomain create(ActivityLogType activityType, String typeId, String petOwner, String pet, String description) {
         if (!ObjectId.isValid(typeId))
             throw new DomainArgumentException("Type id for activity log is invalid cannot be converted to ObjectId");
 
-        return new ActivityLogDomain(null, typeId, activityType, null, "Admin", petOwner, pet, description, Instant.now());
+        return new ActivityLogDomain(new ObjectId().toHexString(), typeId, activityType, null, "Admin", petOwner, pet, description, Instant.now(), null);
     }
 
     public static ActivityLogDomain create(String typeId, ActivityLogType activityType, String performedBy, String petOwner, String pet, String description) {
         if (!ObjectId.isValid(typeId))
             throw new DomainArgumentException("Type id for activity log is invalid cannot be converted to ObjectId");
 
-        return new ActivityLogDomain(null, typeId, activityType, null, performedBy, petOwner, pet, description, Instant.now());
+        return new ActivityLogDomain(new ObjectId().toHexString(), typeId, activityType, null, performedBy, petOwner, pet, description, Instant.now(), null);
     }
 
     public static ActivityLogDomain createForRequest(RequestDomain request, ActivityLogType activityType, String description, String petOwner, String pet) {
         if (!ObjectId.isValid(request.getId()))
             throw new DomainArgumentException("Request id for activity log is invalid cannot be converted to ObjectId");
 
-        return new ActivityLogDomain(null, request.getId(), activityType, request.getRequestType(), "Admin", petOwner, pet, description, Instant.now());
+        return new ActivityLogDomain(new ObjectId().toHexString(), request.getId(), activityType, request.getRequestType(), "Admin", petOwner, pet, description, Instant.now(), null);
     }
 
     public static ActivityLogDomain createForBoarding(BoardingDomain boarding, ActivityLogType activityType, String petOwner, String pet, String description) {
         if (!ObjectId.isValid(boarding.getId()))
             throw new DomainArgumentException("Boarding id for activity log is invalid cannot be converted to ObjectId");
 
-        return new ActivityLogDomain(null, boarding.getId(), activityType, null, "Admin", petOwner, pet, description, Instant.now());
+        return new ActivityLogDomain(new ObjectId().toHexString(), boarding.getId(), activityType, null, "Admin", petOwner, pet, description, Instant.now(), null);
     }
 
 
@@ -65,8 +67,9 @@ public class ActivityLogDomain {
         if (!ObjectId.isValid(id))
             throw new DomainArgumentException("Activity log id is invalid cannot be converted to ObjectId");
 
-        return new ActivityLogDomain(id, this.typeId, this.activityType, this.requestType, this.performedBy, this.petOwner, this.pet, this.description, this.timestamp);
+        return new ActivityLogDomain(id, this.typeId, this.activityType, this.requestType, this.performedBy, this.petOwner, this.pet, this.description, this.timestamp, this.snapshot);
+    }
+    public ActivityLogDomain withSnapshot(@Nullable ActivityLogSnapshot snapshot) {
+        return new ActivityLogDomain(this.id, this.typeId, this.activityType, this.requestType, this.performedBy, this.petOwner, this.pet, this.description, this.timestamp, snapshot);
     }
-
-
 }
@@ -0,0 +1,29 @@
+package john.api1.application.domain.models;
+
+import jakarta.annotation.Nullable;
+
+import java.time.Instant;
+
+// Display fields copied into the log when it is written, so reading history needs no other collection
+// Only the fields the log's type shows are filled, see ActivityLogDS.snapshot
+public record ActivityLogSnapshot(
+        // pet
+        @Nullable String petName,
+        @Nullable String petType,
+        @Nullable String breed,
+        @Nullable String size,
+        // owner
+        @Nullable String ownerName,
+        @Nullable String ownerEmail,
+        @Nullable String ownerPhoneNumber,
+        @Nullable String address,
+        // boarding, extension, grooming
+        @Nullable String boardingType,
+        @Nullable Long duration,
+        @Nullable String durationType,
+        @Nullable String groomingType,
+        @Nullable Double price,
+        @Nullable Instant start,
+        @Nullable Instant end
+) {
+}
@@ -6,6 +6,7 @@ import john.api1.application.components.exception.InvalidLogException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
 
 import java.time.Instant;
 
@@ -48,8 +49,9 @@ public class EmailLogsDomain {
             throw new InvalidLogException("Email body is missing");
         }
 
+        // id assigned here so a retried batch insert collides instead of duplicating
         return new EmailLogsDomain(
-                null,
+                new ObjectId().toHexString(),
                 ownerId,
                 recipientEmail,
                 recipientUsername,
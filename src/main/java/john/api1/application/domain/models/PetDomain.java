@@ -39,6 +39,17 @@ public class PetDomain {
         return new PetDomain(null, ownerId, petName, animalType, breed, size, age, specialDescription, profilePictureUrl, Instant.now(), Instant.now(), false);
     }
 
+    // Id assigned up front so the owner can reference the pet before either is inserted (bulk import)
+    public static PetDomain createWithId(String id, String ownerId, String petName, String animalType,
+                                         String breed, String size, int age, String specialDescription) {
+        validateNotEmpty(id, "Pet ID cannot be empty");
+        validateNotEmpty(ownerId, "Owner ID cannot be empty");
+        validateNotEmpty(petName, "Pet fileName cannot be empty");
+        validateNotEmpty(animalType, "Animal type cannot be empty");
+
+        return new PetDomain(id, ownerId, petName, animalType, breed, size, age, specialDescription, null, Instant.now(), Instant.now(), false);
+    }
+
     public static PetDomain updateFull(String id, String ownerId, String petName, String animalType,
                                        String breed, String size, int age, String specialDescription, String profilePictureUrl) {
         validateNotEmpty(id, "Pet ID cannot be empty");
@@ -6,6 +6,7 @@ import john.api1.application.components.exception.InvalidLogException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
 
 import java.time.Instant;
 
@@ -48,7 +49,8 @@ public class SmsLogDomain {
             throw new InvalidLogException("Text body is missing");
         }
 
-        return new SmsLogDomain(null,
+        // id assigned here so a retried batch insert collides instead of duplicating
+        return new SmsLogDomain(new ObjectId().toHexString(),
                 ownerId,
                 phoneNumber,
                 username,
@@ -22,7 +22,10 @@ public class BoardingDomain {
     private final String ownerId;
     private BoardingType boardingType;
     private Instant boardingStart;
-    private Instant boardingEnd; // final, cannot change, only in extension + aggregation
+    private Instant boardingEnd; // booked end, final, extensions are added on read or in effectiveEnd
+    private Instant effectiveEnd; // booked end plus committed extension hours, null until backfilled
+    private long durationHours;
+    private long durationDays;
     private BoardingStatus boardingStatus;
     private PaymentStatus paymentStatus;
     private final String notes;
@@ -35,7 +38,9 @@ public class BoardingDomain {
         if (!ObjectId.isValid(ownerId)) throw new DomainArgumentException("Invalid owner-id format");
 
         return new BoardingDomain(null, petId, ownerId,
-                boardingType, boardingStart, boardingEnd, BoardingStatus.BOARDING, paymentStatus, notes,
+                boardingType, boardingStart, boardingEnd,
+                boardingEnd, hoursBetween(boardingStart, boardingEnd), hoursBetween(boardingStart, boardingEnd) / 24,
+                BoardingStatus.BOARDING, paymentStatus, notes,
                 Instant.now(), Instant.now(),
                 true
         );
@@ -48,24 +53,48 @@ public class BoardingDomain {
     public BoardingDomain withId(String id) {
         return new BoardingDomain(
                 id, petId, ownerId, boardingType, boardingStart, boardingEnd,
-                boardingStatus, paymentStatus, notes, createdAt, updatedAt, active
+                effectiveEnd, durationHours, durationDays, boardingStatus, paymentStatus, notes, createdAt, updatedAt, active
         );
     }
 
-    public void extendBoarding(long extraDays) {
-        if (extraDays <= 0) throw new DomainArgumentException("Extension must be greater than zero days.");
+    // Booked end stays put, the extension only moves the effective end (see BoardingExtensionDS)
+    // Hours for both extension types, DAYS are stored as days * 24 when the request is made
+    // The stored effective end moves with extendEffectiveEnd, this copy only feeds daycareToLongDay
+    public void extendBoarding(long extendedHours) {
+        if (extendedHours <= 0) throw new DomainArgumentException("Extension must be greater than zero hours.");
 
-
-        this.boardingEnd = boardingEnd.plus(extraDays, ChronoUnit.DAYS);
+        if (effectiveEnd != null) recordEffectiveEnd(effectiveEnd.plus(Duration.ofHours(extendedHours)));
         this.paymentStatus = PaymentStatus.PENDING;
         this.updatedAt = Instant.now();
     }
 
+    public boolean hasEffectiveEnd() {
+        return effectiveEnd != null;
+    }
+
+    // Baseline extension commits moved boardingEnd, the migration puts the booked end back once
+    public void restoreBookedEnd(Instant bookedEnd) {
+        if (bookedEnd != null && bookedEnd.equals(boardingEnd)) return;
+        if (bookedEnd == null || !bookedEnd.isAfter(boardingStart))
+            throw new DomainArgumentException("Restored boarding end " + bookedEnd + " is not after the boarding start.");
+
+        this.boardingEnd = bookedEnd;
+    }
+
+    // Stored end and durations, kept in step so reads skip the extension lookup
+    public void recordEffectiveEnd(Instant effectiveEnd) {
+        if (effectiveEnd == null) throw new DomainArgumentException("Effective end time must not be null.");
+
+        this.effectiveEnd = effectiveEnd;
+        this.durationHours = hoursBetween(boardingStart, effectiveEnd);
+        this.durationDays = durationHours / 24;
+    }
+
     public void daycareToLongDay() {
         if (this.boardingStart == null || this.boardingEnd == null)
             throw new DomainArgumentException("Boarding start or end time is missing.");
 
-        Duration duration = Duration.between(this.boardingStart, this.boardingEnd);
+        Duration duration = Duration.between(this.boardingStart, effectiveEnd != null ? effectiveEnd : boardingEnd);
         if (this.boardingType == BoardingType.DAYCARE && duration.toHours() >= 24) {
             this.boardingType = BoardingType.LONG_STAY;
             this.updatedAt = Instant.now();
@@ -115,5 +144,9 @@ public class BoardingDomain {
         return duration;
     }
 
-
+    private static long hoursBetween(Instant start, Instant end) {
+        if (start == null || end == null)
+            throw new DomainArgumentException("Boarding start and end time must not be null.");
+        return Duration.between(start, end).toHours();
+    }
 }
@@ -2,6 +2,7 @@ package john.api1.application.domain.models.boarding;
 
 import john.api1.application.components.enums.boarding.BoardingType;
 import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.domain.cores.boarding.MoneyDS;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.bson.types.ObjectId;
@@ -21,6 +22,8 @@ public class BoardingPricingDomain {
     private List<RequestBreakdown> requestBreakdown; // List of additional service requests
     private boolean isActive; // Marks if this pricing is still relevant
     private Instant deactivatedAt; // Timestamp when pricing became inactive
+    private Long requestTotalCents; // Stored running totals, null when not stored yet
+    private Long overallTotalCents;
 
 
     // Create for new boarding (no request yet)
@@ -29,7 +32,8 @@ public class BoardingPricingDomain {
                                                   BoardingType boardingType,
                                                   long boardingDuration,
                                                   boolean isPrepaid) {
-        return new BoardingPricingDomain(null, boardingId, ratePerHour, boardingType, boardingDuration, isPrepaid, List.of(), true, null);
+        long boardingTotalCents = MoneyDS.multiply(MoneyDS.toCents(ratePerHour), boardingDuration);
+        return new BoardingPricingDomain(null, boardingId, ratePerHour, boardingType, boardingDuration, isPrepaid, List.of(), true, null, 0L, boardingTotalCents);
     }
 
     // Constructor for mapping DB records to domain objects
@@ -44,7 +48,11 @@ public class BoardingPricingDomain {
                                                 Instant deactivatedAt) {
         return new BoardingPricingDomain(id, boardingId, ratePerHour, boardingType, boardingDuration, isPrepaid,
                 requestBreakdown != null ? requestBreakdown : List.of(),
-                isActive, deactivatedAt);
+                isActive, deactivatedAt, null, null);
+    }
+
+    public boolean hasStoredTotals() {
+        return requestTotalCents != null && overallTotalCents != null;
     }
 
     public record RequestBreakdown(
@@ -0,0 +1,116 @@
+package john.api1.application.domain.models.boarding;
+
+import john.api1.application.components.enums.GroomingType;
+import john.api1.application.components.enums.PetPrices;
+import john.api1.application.components.enums.PetSize;
+import john.api1.application.components.enums.SpeciesType;
+import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.domain.cores.boarding.MoneyDS;
+import john.api1.application.ports.repositories.boarding.PricingRateCQRS;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Immutable [species][size] rate table in cents, lookups are two array reads
+// Built once per version and swapped as a whole, never mutated
+public final class PricingRateTable {
+    private static final long NO_RATE = -1;
+    private static final int SPECIES = SpeciesType.values().length;
+    private static final int SIZES = PetSize.values().length;
+
+    @Getter
+    private final long version;
+    @Getter
+    private final Instant createdAt;
+    private final long[][] boarding = new long[SPECIES][SIZES];
+    private final long[][] basicGrooming = new long[SPECIES][SIZES];
+    private final long[][] fullGrooming = new long[SPECIES][SIZES];
+
+    private PricingRateTable(long version, Instant createdAt, List<PricingRateCQRS> rates) {
+        this.version = version;
+        this.createdAt = createdAt;
+
+        for (int species = 0; species < SPECIES; species++) {
+            Arrays.fill(boarding[species], NO_RATE);
+            Arrays.fill(basicGrooming[species], NO_RATE);
+            Arrays.fill(fullGrooming[species], NO_RATE);
+        }
+
+        for (PricingRateCQRS rate : rates) {
+            validatePair(rate.species(), rate.size());
+            if (rate.boardingCents() < 0 || rate.basicGroomingCents() < 0 || rate.fullGroomingCents() < 0)
+                throw new DomainArgumentException("Rates cannot be negative: " + rate.species() + " " + rate.size());
+
+            int s = rate.species().ordinal();
+            int z = rate.size().ordinal();
+            if (boarding[s][z] != NO_RATE)
+                throw new DomainArgumentException("Duplicate rate for: " + rate.species() + " " + rate.size());
+
+            boarding[s][z] = rate.boardingCents();
+            basicGrooming[s][z] = rate.basicGroomingCents();
+            fullGrooming[s][z] = rate.fullGroomingCents();
+        }
+    }
+
+    public static PricingRateTable of(long version, Instant createdAt, List<PricingRateCQRS> rates) {
+        if (rates == null || rates.isEmpty()) throw new DomainArgumentException("Rate table cannot be empty.");
+        return new PricingRateTable(version, createdAt, rates);
+    }
+
+    // Seed from the built-in price list, used when no version is stored yet
+    public static PricingRateTable defaults(long version) {
+        return of(version, Instant.now(), defaultRates());
+    }
+
+    public static List<PricingRateCQRS> defaultRates() {
+        List<PricingRateCQRS> rates = new ArrayList<>();
+        for (PetPrices price : PetPrices.values()) {
+            rates.add(new PricingRateCQRS(price.getSpecies(), price.getSize(),
+                    MoneyDS.toCents(price.getBoardingPrice()),
+                    MoneyDS.toCents(price.getBasicGroomingPrice()),
+                    MoneyDS.toCents(price.getFullGroomingPrice())));
+        }
+        return rates;
+    }
+
+    public long boardingCents(SpeciesType species, PetSize size) {
+        return lookup(boarding, species, size);
+    }
+
+    public long groomingCents(SpeciesType species, PetSize size, GroomingType groomingType) {
+        return switch (groomingType) {
+            case BASIC_WASH -> lookup(basicGrooming, species, size);
+            case FULL_GROOMING -> lookup(fullGrooming, species, size);
+            default -> throw new DomainArgumentException("Invalid grooming type: " + groomingType);
+        };
+    }
+
+    public List<PricingRateCQRS> rates() {
+        List<PricingRateCQRS> rates = new ArrayList<>();
+        for (SpeciesType species : SpeciesType.values()) {
+            for (PetSize size : PetSize.values()) {
+                int s = species.ordinal();
+                int z = size.ordinal();
+                if (boarding[s][z] == NO_RATE) continue;
+                rates.add(new PricingRateCQRS(species, size, boarding[s][z], basicGrooming[s][z], fullGrooming[s][z]));
+            }
+        }
+        return rates;
+    }
+
+    private long lookup(long[][] table, SpeciesType species, PetSize size) {
+        validatePair(species, size);
+        long cents = table[species.ordinal()][size.ordinal()];
+        if (cents == NO_RATE) throw new DomainArgumentException("No pricing found for: " + species + " " + size);
+        return cents;
+    }
+
+    private static void validatePair(SpeciesType species, PetSize size) {
+        if (species == null || size == null) throw new DomainArgumentException("Species and size are required.");
+        if ((species == SpeciesType.DOG && !size.isDogSize()) || (species == SpeciesType.CAT && !size.isCatSize()))
+            throw new DomainArgumentException("Invalid pet size for species: " + species + " " + size);
+    }
+}
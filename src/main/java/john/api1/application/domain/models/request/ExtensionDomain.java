@@ -1,8 +1,8 @@
 package john.api1.application.domain.models.request;
 
-import john.api1.application.components.enums.PetPrices;
 import john.api1.application.components.enums.boarding.BoardingType;
 import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.domain.cores.boarding.MoneyDS;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -45,12 +45,16 @@ public class ExtensionDomain {
         return new ExtensionDomain(id, this.requestId, this.boardingId, this.additionalPrice, this.extendedHours, this.durationType, this.description, this.createdAt, this.updatedAt, this.approved);
     }
 
-    public void setAdditionalPrice(PetPrices petPrices, long extendedHours) {
+    // Total is quoted in cents by the pricing engine
+    public void setAdditionalPrice(long additionalPriceCents, long extendedHours) {
         if (extendedHours <= 0) {
             throw new IllegalArgumentException("Extended hours must be greater than zero.");
         }
+        if (additionalPriceCents < 0) {
+            throw new IllegalArgumentException("Additional price cannot be negative.");
+        }
 
-        this.additionalPrice = extendedHours * petPrices.getBoardingPrice();
+        this.additionalPrice = MoneyDS.toAmount(additionalPriceCents);
         this.extendedHours = extendedHours;
     }
 
@@ -1,8 +1,8 @@
 package john.api1.application.domain.models.request;
 
 import john.api1.application.components.enums.GroomingType;
-import john.api1.application.components.enums.PetPrices;
 import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.domain.cores.boarding.MoneyDS;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -49,12 +49,12 @@ public class GroomingDomain {
     }
 
 
-    public void setGroomingAndPrice(GroomingType groomingType, PetPrices petPrices) {
-        switch (groomingType) {
-            case BASIC_WASH -> this.groomingPrice = petPrices.getBasicGroomingPrice();
-            case FULL_GROOMING -> this.groomingPrice = petPrices.getFullGroomingPrice();
-            default -> throw new DomainArgumentException("Invalid grooming type: " + groomingType);
-        }
+    // Price is quoted in cents by the pricing engine
+    public void setGroomingAndPrice(GroomingType groomingType, long groomingPriceCents) {
+        if (groomingType == null) throw new DomainArgumentException("Grooming type is required.");
+        if (groomingPriceCents < 0) throw new DomainArgumentException("Grooming price cannot be negative.");
+
+        this.groomingPrice = MoneyDS.toAmount(groomingPriceCents);
         this.groomingType = groomingType;
         this.updatedAt = Instant.now();
     }
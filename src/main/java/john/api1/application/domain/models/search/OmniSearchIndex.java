@@ -0,0 +1,128 @@
+package john.api1.application.domain.models.search;
+
+import john.api1.application.components.enums.SearchHitType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index behind the admin omnisearch
+// Postings map a gram to the documents holding it, with the best weight the document has for it
+// Every query token must match (AND), score is the sum of the matched weights
+// Reads share a read lock, an upsert or remove only rewrites that one document's grams
+public class OmniSearchIndex {
+    private static final Comparator<Hit> RANK = Comparator.comparingInt(Hit::score)
+            .thenComparing(hit -> hit.entry().type(), Comparator.reverseOrder())
+            .thenComparing(hit -> hit.entry().title(), Comparator.nullsFirst(Comparator.reverseOrder()));
+
+    private final Map<String, Map<Key, Integer>> postings = new HashMap<>();
+    private final Map<Key, Indexed> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ref: the pet of a boarding, display only
+    public record Entry(SearchHitType type, String id, String title, String subtitle, String ref) {
+    }
+
+    public record Hit(Entry entry, int score) {
+    }
+
+    private record Key(SearchHitType type, String id) {
+    }
+
+    private record Indexed(Entry entry, Map<String, Integer> grams) {
+    }
+
+
+    public void upsert(Entry entry, Map<String, Integer> grams) {
+        Key key = new Key(entry.type(), entry.id());
+        lock.writeLock().lock();
+        try {
+            unlink(key);
+            documents.put(key, new Indexed(entry, Map.copyOf(grams)));
+            grams.forEach((gram, weight) -> postings.computeIfAbsent(gram, g -> new HashMap<>()).put(key, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(SearchHitType type, String id) {
+        lock.writeLock().lock();
+        try {
+            unlink(new Key(type, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Entry> find(SearchHitType type, String id) {
+        lock.readLock().lock();
+        try {
+            Indexed indexed = documents.get(new Key(type, id));
+            return Optional.ofNullable(indexed).map(Indexed::entry);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Walks the smallest posting list and probes the others, keeps the best 'limit' in a min-heap
+    public List<Hit> search(List<String> tokens, int limit) {
+        if (tokens.isEmpty() || limit <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            List<Map<Key, Integer>> lists = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Map<Key, Integer> posting = postings.get(token);
+                if (posting == null) return List.of();
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, RANK);
+            Map<Key, Integer> smallest = lists.get(0);
+            for (Map.Entry<Key, Integer> candidate : smallest.entrySet()) {
+                int score = candidate.getValue();
+                for (int i = 1; i < lists.size() && score > 0; i++) {
+                    Integer weight = lists.get(i).get(candidate.getKey());
+                    score = weight == null ? 0 : score + weight;
+                }
+                if (score == 0) continue;
+
+                best.offer(new Hit(documents.get(candidate.getKey()).entry(), score));
+                if (best.size() > limit) best.poll();
+            }
+
+            List<Hit> hits = new ArrayList<>(best);
+            hits.sort(RANK.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unlink(Key key) {
+        Indexed previous = documents.remove(key);
+        if (previous == null) return;
+
+        for (String gram : previous.grams().keySet()) {
+            Map<Key, Integer> posting = postings.get(gram);
+            if (posting == null) continue;
+            posting.remove(key);
+            if (posting.isEmpty()) postings.remove(gram);
+        }
+    }
+}
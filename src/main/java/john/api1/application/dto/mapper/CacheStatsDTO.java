@@ -0,0 +1,12 @@
+package john.api1.application.dto.mapper;
+
+public record CacheStatsDTO(String region,
+                            long nearHits,
+                            long redisHits,
+                            long misses,
+                            long invalidations,
+                            long redisErrors,
+                            int nearSize,
+                            double hitRatio // (near + redis hits) / lookups
+) {
+}
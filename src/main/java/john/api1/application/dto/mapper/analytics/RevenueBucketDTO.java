@@ -0,0 +1,39 @@
+package john.api1.application.dto.mapper.analytics;
+
+import john.api1.application.domain.cores.boarding.MoneyDS;
+import john.api1.application.ports.repositories.analytics.RevenueRollupCQRS;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+public record RevenueBucketDTO(String granularity, // DAY, MONTH or RANGE for a summary
+                               LocalDate periodStart,
+                               double boardingRevenue,
+                               double requestRevenue,
+                               double totalRevenue,
+                               Map<String, Double> requestRevenueByType,
+                               Map<String, Long> requestCountByType,
+                               long occupancyNights,
+                               long releasedCount,
+                               Map<String, Long> boardingTypeCounts,
+                               Map<String, Long> speciesCounts) {
+
+    public static RevenueBucketDTO map(RevenueRollupCQRS bucket) {
+        Map<String, Double> revenueByType = new HashMap<>();
+        bucket.requestRevenueByType().forEach((type, cents) -> revenueByType.put(type, MoneyDS.toAmount(cents)));
+
+        return new RevenueBucketDTO(
+                bucket.granularity() != null ? bucket.granularity().name() : "RANGE",
+                bucket.periodStart(),
+                MoneyDS.toAmount(bucket.boardingRevenueCents()),
+                MoneyDS.toAmount(bucket.requestRevenueCents()),
+                MoneyDS.toAmount(bucket.boardingRevenueCents() + bucket.requestRevenueCents()),
+                revenueByType,
+                bucket.requestCountByType(),
+                bucket.occupancyNights(),
+                bucket.releasedCount(),
+                bucket.boardingTypeCounts(),
+                bucket.speciesCounts());
+    }
+}
@@ -0,0 +1,9 @@
+package john.api1.application.dto.mapper.analytics;
+
+import java.time.LocalDate;
+
+public record RevenueSummaryDTO(LocalDate from,
+                                LocalDate to,
+                                int bucketsRead, // month buckets for whole months, day buckets for the edges
+                                RevenueBucketDTO totals) {
+}
@@ -46,4 +46,17 @@ public record BoardingDTO(
         // Created at
         Instant createdAt
 ) {
+
+    public BoardingDTO withPhotoUrl(String url) {
+        return new BoardingDTO(
+                id, petId, ownerId,
+                photoId, url, expiredAt,
+                petName, petType, petBreed, petSize, age,
+                ownerName, ownerEmail, ownerPhoneNumber, ownerAddress,
+                boardingStatus, boardingType, boardingStart, boardingEnd, extensionEnd, releasedAt,
+                durationDays, durationHours, notes,
+                boardingPrepaidStatus, rate, boardingPrice, requestBreakdown, total,
+                createdAt
+        );
+    }
 }
@@ -0,0 +1,10 @@
+package john.api1.application.dto.mapper.boarding;
+
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+// nextCursor is null on the last page
+public record BoardingPageDTO(List<BoardingDTO> boardings,
+                              @Nullable String nextCursor) {
+}
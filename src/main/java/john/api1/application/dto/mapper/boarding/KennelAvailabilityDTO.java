@@ -0,0 +1,10 @@
+package john.api1.application.dto.mapper.boarding;
+
+import john.api1.application.components.enums.PetSize;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public record KennelAvailabilityDTO(LocalDate day,
+                                    Map<PetSize, Integer> freeSlots) {
+}
@@ -0,0 +1,14 @@
+package john.api1.application.dto.mapper.boarding;
+
+// Side-effect-free price quote, amounts in cents plus the display total
+public record PriceQuoteDTO(
+        long rateVersion,
+        String species,
+        String size,
+        String item,           // BOARDING, EXTENSION, BASIC_WASH, FULL_GROOMING
+        long quantity,         // hours or days for boarding and extension, 1 for grooming
+        long unitPriceCents,
+        long totalCents,
+        double total
+) {
+}
@@ -0,0 +1,13 @@
+package john.api1.application.dto.mapper.boarding;
+
+import john.api1.application.ports.repositories.boarding.PricingRateCQRS;
+
+import java.time.Instant;
+import java.util.List;
+
+public record PricingRateDTO(
+        long version,
+        Instant createdAt,
+        List<PricingRateCQRS> rates
+) {
+}
@@ -0,0 +1,10 @@
+package john.api1.application.dto.mapper.history.media;
+
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+// nextCursor is null on the last page
+public record MediaHistoryPageDTO(List<MediaHistoryDTO> media,
+                                  @Nullable String nextCursor) {
+}
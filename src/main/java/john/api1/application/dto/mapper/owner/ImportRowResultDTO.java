@@ -0,0 +1,16 @@
+package john.api1.application.dto.mapper.owner;
+
+import jakarta.annotation.Nullable;
+import john.api1.application.components.enums.ImportRowStatus;
+
+import java.util.List;
+
+// Row is the 1-based data record of the file (CSV header not counted)
+public record ImportRowResultDTO(
+        int row,
+        ImportRowStatus status,
+        @Nullable String email,
+        @Nullable String ownerId,
+        List<String> petIds,
+        String message
+) {}
@@ -0,0 +1,10 @@
+package john.api1.application.dto.mapper.owner;
+
+public record ImportSummaryDTO(
+        int rows,
+        int created,
+        int rejected,
+        int failed,
+        int pets,
+        long elapsedMillis
+) {}
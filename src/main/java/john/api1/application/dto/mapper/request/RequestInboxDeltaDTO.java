@@ -0,0 +1,12 @@
+package john.api1.application.dto.mapper.request;
+
+import jakarta.annotation.Nullable;
+
+// UPSERT carries the full item, REMOVE only the id
+// Versions increase by one, a gap means deltas were dropped and the page should be fetched again
+public record RequestInboxDeltaDTO(long version,
+                                   Action action,
+                                   String requestId,
+                                   @Nullable RequestInboxItemDTO request) {
+    public enum Action {UPSERT, REMOVE}
+}
@@ -0,0 +1,17 @@
+package john.api1.application.dto.mapper.request;
+
+import java.time.Instant;
+
+public record RequestInboxItemDTO(
+        String requestId,
+        String ownerId,
+        String ownerName,
+        String petId,
+        String petName,
+        String boardingId,
+        String requestType,
+        String status,
+        String description,
+        Instant requestTime
+) {
+}
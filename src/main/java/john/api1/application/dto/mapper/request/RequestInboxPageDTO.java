@@ -0,0 +1,12 @@
+package john.api1.application.dto.mapper.request;
+
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+// nextCursor is null on the last page
+// version is the last delta applied, stream deltas above it on top of this page
+public record RequestInboxPageDTO(List<RequestInboxItemDTO> requests,
+                                  @Nullable String nextCursor,
+                                  long version) {
+}
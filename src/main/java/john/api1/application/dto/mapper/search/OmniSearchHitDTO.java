@@ -0,0 +1,10 @@
+package john.api1.application.dto.mapper.search;
+
+// Ids and display fields only, the client loads the full record on select
+public record OmniSearchHitDTO(String type,
+                               String id,
+                               String title,
+                               String subtitle,
+                               int score
+) {
+}
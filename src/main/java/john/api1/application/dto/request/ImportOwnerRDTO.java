@@ -0,0 +1,25 @@
+package john.api1.application.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// One owner of a bulk import, pets use the single registration fields (ownerId is ignored)
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportOwnerRDTO {
+    private String email;
+    private String phoneNumber;
+    private String fullName;
+    private String streetAddress;
+    private String cityAddress;
+    private String stateAddress;
+    private String emergencyPhoneNumber;
+    private List<PetRDTO> pets = new ArrayList<>();
+}
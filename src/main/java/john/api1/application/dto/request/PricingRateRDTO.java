@@ -0,0 +1,37 @@
+package john.api1.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Full rate table, published as a new version
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PricingRateRDTO {
+    @NotEmpty(message = "Rates cannot be empty")
+    @Valid
+    private List<Rate> rates;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Rate {
+        @NotBlank(message = "Species cannot be empty")
+        private String species;
+        @NotBlank(message = "Size cannot be empty")
+        private String size;
+        @PositiveOrZero(message = "Boarding rate cannot be negative")
+        private long boardingCents;
+        @PositiveOrZero(message = "Basic grooming rate cannot be negative")
+        private long basicGroomingCents;
+        @PositiveOrZero(message = "Full grooming rate cannot be negative")
+        private long fullGroomingCents;
+    }
+}
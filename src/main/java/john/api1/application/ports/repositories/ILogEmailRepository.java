@@ -3,6 +3,10 @@ package john.api1.application.ports.repositories;
 import john.api1.application.adapters.repositories.EmailLogsEntity;
 import john.api1.application.domain.models.EmailLogsDomain;
 
+import java.util.List;
+
 public interface ILogEmailRepository {
     void logEmail(EmailLogsDomain email);
+
+    void logEmails(List<EmailLogsDomain> emails);
 }
@@ -2,6 +2,10 @@ package john.api1.application.ports.repositories;
 
 import john.api1.application.domain.models.SmsLogDomain;
 
+import java.util.List;
+
 public interface ILogSmsRepository {
     void logSmsText(SmsLogDomain smsLogDomain);
+
+    void logSmsTexts(List<SmsLogDomain> smsLogs);
 }
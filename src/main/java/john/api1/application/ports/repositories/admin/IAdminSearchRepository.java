@@ -1,9 +1,11 @@
 package john.api1.application.ports.repositories.admin;
 
 import john.api1.application.domain.models.AdminDomain;
+import john.api1.application.ports.repositories.wrapper.AccountKeys;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IAdminSearchRepository {
     Optional<AdminDomain> searchById(String id);
@@ -13,4 +15,7 @@ public interface IAdminSearchRepository {
     Optional<AdminDomain> searchByEmail(String username);
 
     List<AdminDomain> searchAllActive();
+
+    // Cursor backed, callers must close the stream
+    Stream<AccountKeys> streamAccountKeys();
 }
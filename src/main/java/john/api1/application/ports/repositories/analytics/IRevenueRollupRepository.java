@@ -0,0 +1,21 @@
+package john.api1.application.ports.repositories.analytics;
+
+import john.api1.application.components.enums.RollupGranularity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+public interface IRevenueRollupRepository {
+    // Records the source key, then $inc the day and month bucket of the given day
+    // False when the source key was already recorded
+    boolean increment(String sourceKey, LocalDate day, RevenueRollupCQRS delta);
+
+    // Buckets with period start in [from, to], _id range scan
+    List<RevenueRollupCQRS> findRange(RollupGranularity granularity, LocalDate from, LocalDate to);
+
+    // Rebuild, swaps in a fully written set of buckets
+    // Sources recorded since 'rebuildStart' and not in 'rebuiltSources' are replayed into it before the swap
+    void replaceAll(List<RevenueRollupCQRS> buckets, Set<String> rebuiltSources, Instant rebuildStart);
+}
@@ -0,0 +1,22 @@
+package john.api1.application.ports.repositories.analytics;
+
+import john.api1.application.components.enums.RollupGranularity;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+// One rollup bucket, also used as the delta applied to a bucket
+// Money in cents, map keys are enum names
+public record RevenueRollupCQRS(
+        RollupGranularity granularity,
+        LocalDate periodStart,
+        long boardingRevenueCents,
+        long requestRevenueCents,
+        Map<String, Long> requestRevenueByType,
+        Map<String, Long> requestCountByType,
+        long occupancyNights,
+        long releasedCount,
+        Map<String, Long> boardingTypeCounts,
+        Map<String, Long> speciesCounts
+) {
+}
@@ -0,0 +1,16 @@
+package john.api1.application.ports.repositories.archive;
+
+import john.api1.application.components.enums.ArchiveCollection;
+
+import java.time.Instant;
+
+// One compressed NDJSON object holding documents of one collection and one month
+// [from, to] are the oldest and newest time field values inside
+public record ArchiveSegment(String key,
+                             ArchiveCollection collection,
+                             String month,
+                             Instant from,
+                             Instant to,
+                             int count,
+                             long bytes) {
+}
@@ -0,0 +1,16 @@
+package john.api1.application.ports.repositories.archive;
+
+import john.api1.application.components.enums.ArchiveCollection;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface ILogArchiveRepository {
+    // Oldest documents before the cutoff, at most chunkSize and all from one month, become one segment
+    // Written to the store and the catalogue before they are deleted, empty when nothing is left to move
+    Optional<ArchiveSegment> moveChunk(ArchiveCollection collection, Instant cutoff, int chunkSize);
+
+    // Segments overlapping [from, to), newest first
+    List<ArchiveSegment> searchSegments(ArchiveCollection collection, Instant from, Instant to);
+}
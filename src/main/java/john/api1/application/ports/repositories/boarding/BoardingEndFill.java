@@ -0,0 +1,13 @@
+package john.api1.application.ports.repositories.boarding;
+
+import john.api1.application.domain.models.boarding.BoardingDomain;
+
+import java.time.Instant;
+
+// Effective end computed for a boarding read with storedEnd as its boardingEnd
+// The write only lands while the document still has that boardingEnd and no effective end
+public record BoardingEndFill(
+        BoardingDomain boarding,
+        Instant storedEnd
+) {
+}
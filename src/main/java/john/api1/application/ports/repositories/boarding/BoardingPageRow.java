@@ -0,0 +1,13 @@
+package john.api1.application.ports.repositories.boarding;
+
+import jakarta.annotation.Nullable;
+import john.api1.application.components.PageCursor;
+import john.api1.application.domain.models.boarding.BoardingDomain;
+
+// One raw page row. Boarding is null when the stored row cannot be mapped,
+// the position is still kept so paging does not stop on a broken row.
+public record BoardingPageRow(
+        PageCursor position,
+        @Nullable BoardingDomain boarding
+) {
+}
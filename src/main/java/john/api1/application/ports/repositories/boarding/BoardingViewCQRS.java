@@ -0,0 +1,11 @@
+package john.api1.application.ports.repositories.boarding;
+
+import jakarta.annotation.Nullable;
+import john.api1.application.dto.mapper.boarding.BoardingDTO;
+
+// Materialized boarding row. Photo url is presigned on read from the stored file name.
+public record BoardingViewCQRS(
+        BoardingDTO boarding,
+        @Nullable String photoFileName
+) {
+}
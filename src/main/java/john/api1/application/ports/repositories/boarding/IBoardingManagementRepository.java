@@ -1,10 +1,17 @@
 package john.api1.application.ports.repositories.boarding;
 
+import john.api1.application.components.enums.boarding.BoardingStatus;
+import john.api1.application.components.enums.boarding.BoardingType;
 import john.api1.application.components.enums.boarding.PaymentStatus;
 import john.api1.application.domain.models.boarding.BoardingDomain;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface IBoardingManagementRepository {
-    void updateBoarding(BoardingDomain domain);
+    // Targeted $set of type, status, payment and updatedAt, never effective end or durations
+    void updateAfterExtension(String boardingId, BoardingType boardingType, BoardingStatus status, PaymentStatus paymentStatus);
     void updateBoardingAfterRelease(BoardingDomain boarding);
     void updatePaidStatus(String boardingId, PaymentStatus status);
 
@@ -15,5 +22,19 @@ public interface IBoardingManagementRepository {
 
     void markAsActive(String boardingId);
 
+    // Single round trip guarded on not released, returns the stored value, empty when missing or released
+    Optional<BoardingStatus> updateStatusUnlessReleased(String boardingId, BoardingStatus status);
+    Optional<PaymentStatus> updatePaidStatusUnlessReleased(String boardingId, PaymentStatus status);
+
+    // One guarded updateMulti for the whole set, returns only the ids this call moved
+    List<String> transitionStatus(Collection<String> boardingIds, BoardingStatus expected, BoardingStatus next);
+
+    // Atomically moves the stored effective end and durations, false when the boarding is not backfilled yet
+    boolean extendEffectiveEnd(String boardingId, long extendedHours);
+
+    // Bulk write of restored booked ends and computed effective ends
+    // Skips boardings filled or moved in the meantime, so a rerun never shifts an end twice
+    int saveEffectiveEnds(List<BoardingEndFill> fills);
+
     void deleteById(String boardingId);
 }
@@ -1,14 +1,22 @@
 package john.api1.application.ports.repositories.boarding;
 
+import jakarta.annotation.Nullable;
+import john.api1.application.components.PageCursor;
 import john.api1.application.components.enums.boarding.BoardingStatus;
 import john.api1.application.domain.models.boarding.BoardingDomain;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IBoardingSearchRepository {
     Optional<BoardingDomain> searchById(String id);
 
+    // Single $in, invalid ids are skipped
+    List<BoardingDomain> searchByIds(Collection<String> ids);
+
     List<BoardingDomain> searchAllByOwnerId(String ownerId);
 
     List<BoardingDomain> searchAllByPetId(String petId);
@@ -17,6 +25,16 @@ public interface IBoardingSearchRepository {
 
     List<BoardingDomain> searchAll();
 
+    // Keyset page on (createdAt, _id) newest first, null cursor for first page
+    // One row per stored boarding, unmappable ones included with a null boarding
+    List<BoardingPageRow> searchPage(@Nullable PageCursor after, int limit);
+
+    // Cursor-backed stream newest first, caller must close
+    Stream<BoardingDomain> streamAll();
+
+    // Cursor-backed stream of active boardings, caller must close
+    Stream<BoardingDomain> streamActive();
+
     Optional<BoardingDomain> searchRecent();
 
     // Dynamic
@@ -27,4 +45,13 @@ public interface IBoardingSearchRepository {
 
     // Time
     Optional<BoardingDurationCQRS> checkBoardingTime(String id);
+
+    // Active boardings whose stored effective end falls in [from, to), uses the effectiveEnd index
+    List<BoardingDomain> searchEndingBetween(Instant from, Instant to);
+
+    // Rebuild batch of all boardings, in _id order after the given id
+    List<BoardingDomain> searchBatch(@Nullable String afterId, int limit);
+
+    // Backfill batch of boardings without a stored effective end, in _id order after the given id
+    List<BoardingDomain> searchMissingEffectiveEnd(@Nullable String afterId, int limit);
 }
@@ -0,0 +1,37 @@
+package john.api1.application.ports.repositories.boarding;
+
+import jakarta.annotation.Nullable;
+import john.api1.application.components.PageCursor;
+import john.api1.application.ports.repositories.pet.PetCQRS;
+import john.api1.application.ports.repositories.wrapper.MediaEntityPreview;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface IBoardingViewRepository {
+    void upsert(BoardingViewCQRS view);
+
+    void upsertAll(List<BoardingViewCQRS> views);
+
+    void deleteById(String boardingId);
+
+    // Denormalized field refresh
+    void updateOwnerFields(String ownerId, String ownerName, String ownerEmail, String ownerPhoneNumber, String ownerAddress);
+
+    void updatePetFields(PetCQRS pet, MediaEntityPreview photo);
+
+    // Read
+    List<BoardingViewCQRS> findAll();
+
+    List<BoardingViewCQRS> findAllByOwnerId(String ownerId);
+
+    // Keyset page on (createdAt, _id) newest first, same order as the boarding collection
+    List<BoardingViewCQRS> findPage(@Nullable PageCursor after, int limit);
+
+    Optional<BoardingViewCQRS> findRecent();
+
+    // Set by a completed rebuild, rows upserted by events alone do not make the view complete
+    boolean isBuilt();
+
+    void markBuilt();
+}
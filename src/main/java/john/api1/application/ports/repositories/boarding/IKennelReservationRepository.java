@@ -0,0 +1,34 @@
+package john.api1.application.ports.repositories.boarding;
+
+import john.api1.application.components.enums.PetSize;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface IKennelReservationRepository {
+    // Counters, all or nothing, false if any day is full
+    boolean tryReserve(PetSize size, List<LocalDate> days, int capacity);
+
+    // Counters, unconditional, only for backfilling boardings already in the kennel
+    void forceReserve(PetSize size, List<LocalDate> days);
+
+    void unreserve(PetSize size, List<LocalDate> days);
+
+    // Counters, reserved kennels per size class per day in [from, to), days without a counter are absent
+    Map<PetSize, Map<LocalDate, Integer>> reservedBetween(LocalDate from, LocalDate to);
+
+    // Per boarding record
+    boolean saveReservationIfAbsent(KennelReservationCQRS reservation);
+
+    // Returns the days that were not recorded yet
+    List<LocalDate> addReservationDays(String boardingId, List<LocalDate> days);
+
+    // Returns the days that were recorded and are now removed
+    List<LocalDate> removeReservationDays(String boardingId, List<LocalDate> days);
+
+    Optional<KennelReservationCQRS> findReservation(String boardingId);
+
+    Optional<KennelReservationCQRS> removeReservation(String boardingId);
+}
@@ -8,7 +8,13 @@ import java.util.Optional;
 public interface IPricingManagementRepository {
     Optional<String> save(BoardingPricingDomain pricing);
 
-    boolean updateBreakDownList(String boardingId, List<BoardingPricingDomain.RequestBreakdown> requestBreakdown);
+    boolean updateBreakDownList(String boardingId, List<BoardingPricingDomain.RequestBreakdown> requestBreakdown, long requestTotalCents, long overallTotalCents);
+
+    // Single $push + $inc, false when pricing is missing, inactive, without stored totals or already holds the breakdown
+    boolean appendBreakdown(String boardingId, BoardingPricingDomain.RequestBreakdown breakdown, long breakdownCents);
+
+    // One time seed of running totals on documents written before they existed
+    boolean initializeTotals(String boardingId, long requestTotalCents, long overallTotalCents);
 
     void deactivatePricing(String boardingId);
 
@@ -0,0 +1,13 @@
+package john.api1.application.ports.repositories.boarding;
+
+import java.util.Optional;
+
+public interface IPricingRateRepository {
+    // Cheap poll, only the version field is read
+    Optional<Long> findLatestVersion();
+
+    Optional<PricingRateTableCQRS> findLatest();
+
+    // False when the version was taken by a concurrent publish
+    boolean saveVersion(PricingRateTableCQRS table);
+}
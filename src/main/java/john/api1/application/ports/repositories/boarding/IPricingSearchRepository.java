@@ -2,6 +2,7 @@ package john.api1.application.ports.repositories.boarding;
 
 import john.api1.application.domain.models.boarding.BoardingPricingDomain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +10,9 @@ public interface IPricingSearchRepository {
     List<BoardingPricingDomain.RequestBreakdown> getRequestBreakdown(String boardingId);
     Optional<BoardingPricingDomain> getBoardingPricing(String boardingId);
 
+    // Bulk
+    List<BoardingPricingDomain> getBoardingPricingByBoardingIds(Collection<String> boardingIds);
+
     // CQRS
     Optional<PricingCQRS> getBoardingPricingCqrs(String boardingId);
 
@@ -0,0 +1,11 @@
+package john.api1.application.ports.repositories.boarding;
+
+import john.api1.application.components.enums.PetSize;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record KennelReservationCQRS(String boardingId,
+                                    PetSize size,
+                                    List<LocalDate> days) {
+}
@@ -0,0 +1,14 @@
+package john.api1.application.ports.repositories.boarding;
+
+import john.api1.application.components.enums.PetSize;
+import john.api1.application.components.enums.SpeciesType;
+
+// Rates in cents for one species and size
+public record PricingRateCQRS(
+        SpeciesType species,
+        PetSize size,
+        long boardingCents,
+        long basicGroomingCents,
+        long fullGroomingCents
+) {
+}
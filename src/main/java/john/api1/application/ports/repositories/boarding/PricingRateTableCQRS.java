@@ -0,0 +1,11 @@
+package john.api1.application.ports.repositories.boarding;
+
+import java.time.Instant;
+import java.util.List;
+
+public record PricingRateTableCQRS(
+        long version,
+        List<PricingRateCQRS> rates,
+        Instant createdAt
+) {
+}
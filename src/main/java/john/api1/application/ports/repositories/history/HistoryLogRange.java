@@ -0,0 +1,14 @@
+package john.api1.application.ports.repositories.history;
+
+import jakarta.annotation.Nullable;
+import john.api1.application.components.enums.ActivityLogType;
+import john.api1.application.components.enums.boarding.RequestType;
+
+import java.time.Instant;
+
+// Half-open [from, to) on createdAt, type filters are optional
+public record HistoryLogRange(Instant from,
+                              Instant to,
+                              @Nullable ActivityLogType activityType,
+                              @Nullable RequestType requestType) {
+}
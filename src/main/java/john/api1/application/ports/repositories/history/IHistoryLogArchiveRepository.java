@@ -0,0 +1,16 @@
+package john.api1.application.ports.repositories.history;
+
+import jakarta.annotation.Nullable;
+import john.api1.application.components.PageCursor;
+import john.api1.application.domain.models.ActivityLogDomain;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+// history_log documents already moved to archive segments, same ordering and cursor as the live collection
+public interface IHistoryLogArchiveRepository {
+    List<ActivityLogDomain> searchRange(HistoryLogRange range, @Nullable PageCursor after, int limit);
+
+    // Segment by segment, newest segment first
+    Stream<ActivityLogDomain> streamRange(HistoryLogRange range);
+}
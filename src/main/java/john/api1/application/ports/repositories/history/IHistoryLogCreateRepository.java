@@ -2,8 +2,12 @@ package john.api1.application.ports.repositories.history;
 
 import john.api1.application.domain.models.ActivityLogDomain;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface IHistoryLogCreateRepository {
     Optional<String> createNewLog(ActivityLogDomain domain);
+
+    // One insertMany, returns the number inserted
+    int createNewLogs(List<ActivityLogDomain> domains);
 }
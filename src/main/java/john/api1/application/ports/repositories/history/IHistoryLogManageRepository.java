@@ -3,10 +3,14 @@ package john.api1.application.ports.repositories.history;
 import john.api1.application.domain.models.ActivityLogDomain;
 
 import java.time.Instant;
+import java.util.List;
 
 public interface IHistoryLogManageRepository {
     void deleteByDate(Instant date);
     void deleteById(String id);
     // ???
     void updateFull(ActivityLogDomain domain);
+
+    // One bulk write, sets only the snapshot field, returns matched count
+    int saveSnapshots(List<ActivityLogDomain> domains);
 }
@@ -1,12 +1,14 @@
 package john.api1.application.ports.repositories.history;
 
-import john.api1.application.adapters.repositories.ActivityLogEntity;
+import jakarta.annotation.Nullable;
+import john.api1.application.components.PageCursor;
 import john.api1.application.components.enums.ActivityLogType;
 import john.api1.application.domain.models.ActivityLogDomain;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IHistoryLogSearchRepository {
     Optional<ActivityLogDomain> searchById(String id);
@@ -14,4 +16,13 @@ public interface IHistoryLogSearchRepository {
     List<ActivityLogDomain> searchAll();
     List<ActivityLogDomain> searchByDate(Instant date);
     List<ActivityLogDomain> searchByActivityType(ActivityLogType type);
+
+    // Newest first, keyset paged on (createdAt, _id)
+    List<ActivityLogDomain> searchRange(HistoryLogRange range, @Nullable PageCursor after, int limit);
+
+    // Cursor-backed stream newest first, caller must close
+    Stream<ActivityLogDomain> streamRange(HistoryLogRange range);
+
+    // _id order, for the snapshot backfill
+    List<ActivityLogDomain> searchMissingSnapshot(@Nullable String afterId, int limit);
 }
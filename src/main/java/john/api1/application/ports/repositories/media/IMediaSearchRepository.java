@@ -4,7 +4,9 @@ import john.api1.application.components.enums.BucketType;
 import john.api1.application.ports.repositories.wrapper.MediaEntityPreview;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -25,7 +27,13 @@ public interface IMediaSearchRepository {
     // 📌 RequestMediaRDTO-Based Filtering: Find media linked to a specific request (e.g., service request, booking request).
     List<MediaEntityPreview> findByTypeId(String typeId);
 
+    // Single $in on typeId, keyed by type id (request id)
+    Map<String, List<MediaEntityPreview>> findByTypeIds(Collection<String> typeIds);
+
     // Profile photo only
     Optional<MediaEntityPreview> findProfilePicByOwnerId(String ownerId);
 
+    // Latest profile photo per owner, keyed by owner id
+    Map<String, MediaEntityPreview> findProfilePicsByOwnerIds(Collection<String> ownerIds);
+
 }
@@ -3,6 +3,13 @@ package john.api1.application.ports.repositories.owner;
 import john.api1.application.domain.models.ClientAccountDomain;
 import john.api1.application.domain.models.ClientDomain;
 
+import java.util.List;
+import java.util.Map;
+
 public interface IAccountCreateRepository {
     String createNewClient(ClientAccountDomain newAccount, ClientDomain newClient);
+
+    // Unordered bulk insert, accounts carry pre-assigned ids
+    // Returns the index and reason of every pair that was not inserted
+    Map<Integer, String> createNewClients(List<ClientAccountDomain> accounts, List<ClientDomain> clients);
 }
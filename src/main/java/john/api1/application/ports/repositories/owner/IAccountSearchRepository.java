@@ -1,11 +1,14 @@
 package john.api1.application.ports.repositories.owner;
 
 import john.api1.application.domain.models.ClientAccountDomain;
+import john.api1.application.ports.repositories.wrapper.AccountKeys;
 import john.api1.application.ports.repositories.wrapper.ClientFullAccount;
 import john.api1.application.ports.repositories.wrapper.UsernameAndId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IAccountSearchRepository {
     Optional<ClientAccountDomain> getAccountById(String id);
@@ -16,6 +19,15 @@ public interface IAccountSearchRepository {
 
     List<ClientAccountDomain> getAllAccount();
 
+    // One $or query for the uniqueness check
+    List<AccountKeys> getKeysByEmailOrPhoneNumber(String email, String phoneNumber);
+
+    // Batch form for imports, one $in per identifier inside a single $or
+    List<AccountKeys> getKeysByEmailsOrPhoneNumbers(Collection<String> emails, Collection<String> phoneNumbers);
+
+    // Cursor backed, callers must close the stream
+    Stream<AccountKeys> streamAccountKeys();
+
     // ReadOnly
     Optional<UsernameAndId> getUsernameIdByEmail(String email);
 
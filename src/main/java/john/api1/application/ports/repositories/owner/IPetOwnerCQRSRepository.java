@@ -1,11 +1,17 @@
 package john.api1.application.ports.repositories.owner;
 
 
+import jakarta.annotation.Nullable;
+import john.api1.application.components.PageCursor;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IPetOwnerCQRSRepository {
     Optional<PetOwnerCQRS> getDetails(String id);
+    List<PetOwnerCQRS> getDetailsByIds(Collection<String> ids);
     Optional<List<String>> getAllPets(String id);
     Optional<String> checkPetIfExist(String owner, String pet);
 
@@ -13,8 +19,14 @@ public interface IPetOwnerCQRSRepository {
 
     // List
     List<PetOwnerCQRS> getAllActive();
+
+    // Active owners newest first with their pets, one aggregation per page, null cursor for first page
+    List<PetOwnerDirectoryCQRS> getActivePageWithPets(@Nullable PageCursor after, int limit);
     Optional<PetOwnerCQRS> getRecentActive();
 
     List<PetOwnerCQRS> getAllPending();
     Optional<PetOwnerCQRS> getRecentPending();
+
+    // Cursor-backed, every owner, caller must close
+    Stream<PetOwnerCQRS> streamAll();
 }
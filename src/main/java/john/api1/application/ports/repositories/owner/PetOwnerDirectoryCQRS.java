@@ -0,0 +1,13 @@
+package john.api1.application.ports.repositories.owner;
+
+import john.api1.application.ports.repositories.pet.PetCQRS;
+
+import java.util.List;
+
+// One row of the owner directory, pets and boarding count come from the same aggregation
+public record PetOwnerDirectoryCQRS(
+        PetOwnerCQRS owner,
+        List<PetCQRS> pets,
+        int currentlyBoarding
+) {
+}
@@ -1,15 +1,21 @@
 package john.api1.application.ports.repositories.pet;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IPetCQRSRepository {
     Optional<PetCQRS> getPetDetails(String id);
+    List<PetCQRS> getPetDetailsByIds(Collection<String> ids);
     Optional<PetCQRS> getPetNameBreed(String id);
     Optional<PetCQRS> getPetNameBreedSize(String id);
     Optional<String> getPetName(String id);
 
     List<PetCQRS> getAllByOwner(String ownerId);
 
+    // Cursor-backed, name, type and breed only, caller must close
+    Stream<PetCQRS> streamAllNameTypeBreed();
+
 }
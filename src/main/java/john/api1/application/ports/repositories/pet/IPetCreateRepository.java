@@ -2,8 +2,14 @@ package john.api1.application.ports.repositories.pet;
 
 import john.api1.application.domain.models.PetDomain;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface IPetCreateRepository {
     Optional<String> createNewPet(PetDomain pet);
+
+    // Unordered bulk insert, pets carry pre-assigned ids
+    // Returns the index and reason of every pet that was not inserted
+    Map<Integer, String> createNewPets(List<PetDomain> pets);
 }
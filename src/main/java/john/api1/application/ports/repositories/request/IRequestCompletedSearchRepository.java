@@ -5,12 +5,16 @@ import john.api1.application.domain.models.request.GroomingDomain;
 import john.api1.application.domain.models.request.PhotoRequestDomain;
 import john.api1.application.domain.models.request.VideoRequestDomain;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface IRequestCompletedSearchRepository {
     List<ExtensionDomain> getExtensionByCurrentBoarding(String boardingId);
 
+    List<ExtensionDomain> getExtensionByBoardingIds(Collection<String> boardingIds);
+
     // ID
 
     Optional<GroomingDomain> getGroomingByRequestId(String id);
@@ -21,6 +25,11 @@ public interface IRequestCompletedSearchRepository {
 
     Optional<VideoRequestDomain> findVideoRequestByRequestId(String id);
 
+    // Single $in each, keyed by request id, invalid ids are skipped
+    Map<String, PhotoRequestDomain> findPhotoRequestsByRequestIds(Collection<String> requestIds);
+
+    Map<String, VideoRequestDomain> findVideoRequestsByRequestIds(Collection<String> requestIds);
+
 
     // CQRS
     Optional<GroomingCQRS> getGroomingByRequestIdCqrs(String id);
@@ -1,14 +1,21 @@
 package john.api1.application.ports.repositories.request;
 
+import jakarta.annotation.Nullable;
+import john.api1.application.components.PageCursor;
 import john.api1.application.components.enums.boarding.RequestStatus;
 import john.api1.application.domain.models.request.RequestDomain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IRequestSearchRepository {
     Optional<RequestDomain> findById(String id);
 
+    // Single $in, invalid ids are skipped
+    List<RequestDomain> findByIds(Collection<String> ids);
+
     List<RequestDomain> findByBoardingId(String boardingId);
 
     List<RequestDomain> findAllByStatus(RequestStatus status);
@@ -20,9 +27,15 @@ public interface IRequestSearchRepository {
 
     List<RequestDomain> findAllInactive();
 
+    // Cursor backed, caller closes
+    Stream<RequestDomain> streamByStatuses(Collection<RequestStatus> statuses);
+
     // pet history
     List<RequestDomain> findAllByPetId(String petId);
 
     // CQRS
     Optional<RequestCQRS> findRecentMediaRequest();
+
+    // Completed photo/video requests, newest request first, keyset on _id (the cursor's time is ignored)
+    List<RequestCQRS> searchCompletedMedia(@Nullable String ownerId, @Nullable PageCursor after, int limit);
 }
@@ -0,0 +1,6 @@
+package john.api1.application.ports.repositories.wrapper;
+
+import jakarta.annotation.Nullable;
+
+// Login and uniqueness identifiers of an account, nothing else is projected
+public record AccountKeys(@Nullable String username, @Nullable String email, @Nullable String phoneNumber) {}
@@ -0,0 +1,18 @@
+package john.api1.application.ports.services;
+
+import john.api1.application.components.enums.AccountKeyType;
+
+// Probabilistic pre-check in front of account lookups
+// false: the value was never registered, the database lookup can be skipped
+// true: maybe registered, confirm against the database
+public interface IAccountExistenceFilter {
+    record Probe(AccountKeyType type, String value) {}
+
+    boolean mightContainAny(Probe... probes);
+
+    default boolean mightContain(AccountKeyType type, String value) {
+        return mightContainAny(new Probe(type, value));
+    }
+
+    void add(Probe... probes);
+}
@@ -6,14 +6,22 @@ import john.api1.application.dto.mapper.boarding.BoardingCreatedDTO;
 import john.api1.application.dto.mapper.boarding.BoardingDTO;
 import john.api1.application.ports.repositories.owner.PetOwnerCQRS;
 import john.api1.application.ports.repositories.pet.PetCQRS;
+import john.api1.application.ports.repositories.wrapper.MediaIdUrlExpire;
 
 import java.time.Instant;
 
 public interface IBoardingAggregation {
     BoardingCreatedDTO boardingCreatedAggregation(BoardingDomain boarding, BoardingPricingDomain pricing, PetOwnerCQRS owner, PetCQRS pet, Instant created);
 
+    BoardingCreatedDTO boardingCreatedAggregation(BoardingDomain boarding, BoardingPricingDomain pricing, PetOwnerCQRS owner, PetCQRS pet, MediaIdUrlExpire photo, Instant created);
+
     BoardingDTO boardingReleasedAggregation(BoardingDomain boarding, BoardingPricingDomain pricing, PetOwnerCQRS owner, PetCQRS pet, long durationDays, long durationHours, Instant extensionTime, Instant releasedAt);
 
+    BoardingDTO boardingReleasedAggregation(BoardingDomain boarding, BoardingPricingDomain pricing, PetOwnerCQRS owner, PetCQRS pet, MediaIdUrlExpire photo, long durationDays, long durationHours, Instant extensionTime, Instant releasedAt);
+
     BoardingDTO boardingAggregation(BoardingDomain boarding, BoardingPricingDomain pricing, PetOwnerCQRS owner, PetCQRS pet, long durationDays, long durationHours, Instant extensionTime);
 
+    // Pre-resolved photo, used by bulk and concurrent aggregation
+    BoardingDTO boardingAggregation(BoardingDomain boarding, BoardingPricingDomain pricing, PetOwnerCQRS owner, PetCQRS pet, MediaIdUrlExpire photo, long durationDays, long durationHours, Instant extensionTime);
+
 }
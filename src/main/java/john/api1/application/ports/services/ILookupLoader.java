@@ -0,0 +1,38 @@
+package john.api1.application.ports.services;
+
+import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.domain.models.request.RequestDomain;
+import john.api1.application.ports.repositories.owner.PetOwnerCQRS;
+import john.api1.application.ports.repositories.pet.PetCQRS;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// Request scoped, memoized by id, primed ids are fetched together on the next lookup
+public interface ILookupLoader {
+    Optional<PetCQRS> pet(String petId);
+
+    Optional<PetOwnerCQRS> owner(String ownerId);
+
+    Optional<RequestDomain> request(String requestId);
+
+    Optional<BoardingDomain> boarding(String boardingId);
+
+    // Queue ids ahead of a loop
+    void primePets(Collection<String> petIds);
+
+    void primeOwners(Collection<String> ownerIds);
+
+    void primeRequests(Collection<String> requestIds);
+
+    void primeBoardings(Collection<String> boardingIds);
+
+    // After a write in the same request
+    void forgetRequest(String requestId);
+
+    void forgetBoarding(String boardingId);
+
+    // Same batching for work outside a web request, memo is dropped when the work returns
+    <T> T batched(Supplier<T> work);
+}
@@ -3,12 +3,15 @@ package john.api1.application.ports.services;
 import john.api1.application.components.DomainResponse;
 import john.api1.application.ports.repositories.owner.PetOwnerCQRS;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface IPetOwnerSearch {
     PetOwnerCQRS getPetOwnerBoardingDetails(String id);
     Optional<PetOwnerCQRS> getPetOwnerDetails(String id);
+    Map<String, PetOwnerCQRS> getPetOwnerBoardingDetailsByIds(Collection<String> ids); // keyed by owner id
 
     List<String> getPetOwnerPets(String id);
 
@@ -1,13 +1,17 @@
 package john.api1.application.ports.services;
 
+import jakarta.annotation.Nullable;
 import john.api1.application.components.DomainResponse;
 import john.api1.application.dto.mapper.owner.PetOwnerDTO;
+import john.api1.application.dto.mapper.owner.PetOwnerPageDTO;
 import john.api1.application.dto.mapper.owner.PetOwnerPendingDTO;
 
 import java.util.List;
 
 public interface IPetOwnerSearchAggregation {
     DomainResponse<List<PetOwnerDTO>> searchAllActive();
+    // Keyset paging, cursor is the opaque token from the previous page
+    DomainResponse<PetOwnerPageDTO> activeOwnerPage(@Nullable String cursor, int limit);
     DomainResponse<List<PetOwnerPendingDTO>> searchAllPending();
     DomainResponse<PetOwnerDTO> searchRecent();
     DomainResponse<PetOwnerPendingDTO> searchRecentPending();
@@ -0,0 +1,14 @@
+package john.api1.application.ports.services.admin;
+
+import john.api1.application.components.DomainResponse;
+import john.api1.application.dto.mapper.search.OmniSearchHitDTO;
+
+import java.util.List;
+
+public interface IAdminOmniSearch {
+    // Typeahead over owners, pets and active boardings, ranked best first
+    DomainResponse<List<OmniSearchHitDTO>> search(String query, int limit);
+
+    // Rebuild from Mongo cursors, returns the number of indexed documents
+    DomainResponse<Integer> rebuild();
+}
@@ -0,0 +1,15 @@
+package john.api1.application.ports.services.admin;
+
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.enums.ImportFormat;
+import john.api1.application.dto.mapper.owner.ImportRowResultDTO;
+import john.api1.application.dto.mapper.owner.ImportSummaryDTO;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface IOwnerBulkImport {
+    // Results are handed to the consumer chunk by chunk in file order
+    // The summary is returned on error too, rows before the failure stay imported
+    DomainResponse<ImportSummaryDTO> importOwners(InputStream body, ImportFormat format, Consumer<ImportRowResultDTO> onRow);
+}
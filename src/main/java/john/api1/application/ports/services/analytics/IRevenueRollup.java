@@ -0,0 +1,28 @@
+package john.api1.application.ports.services.analytics;
+
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.enums.RollupGranularity;
+import john.api1.application.components.enums.boarding.RequestType;
+import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.domain.models.boarding.BoardingPricingDomain;
+import john.api1.application.dto.mapper.analytics.RevenueBucketDTO;
+import john.api1.application.dto.mapper.analytics.RevenueSummaryDTO;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IRevenueRollup {
+    // Write side, counted once per boarding or request
+    void recordRelease(BoardingDomain boarding, BoardingPricingDomain pricing, String species, Instant releasedAt);
+
+    void recordRequest(String requestId, RequestType requestType, double amount, Instant committedAt);
+
+    // Read side, cost follows the number of buckets in range
+    DomainResponse<RevenueSummaryDTO> summary(LocalDate from, LocalDate to);
+
+    DomainResponse<List<RevenueBucketDTO>> series(LocalDate from, LocalDate to, RollupGranularity granularity);
+
+    // Recompute every bucket from boardings and pricing breakdowns
+    DomainResponse<Long> rebuild();
+}
@@ -0,0 +1,14 @@
+package john.api1.application.ports.services.archive;
+
+import java.util.Optional;
+
+// Object storage for archive segments, keys look like 'history_log/2025-01/<first id>-<last id>.ndjson.gz'
+public interface IArchiveStore {
+    // Overwrites, a repeated move of the same chunk lands on the same key
+    void put(String key, byte[] body);
+
+    Optional<byte[]> get(String key);
+
+    // A missing key is not an error, a repeated delete after a crash is a no-op
+    void delete(String key);
+}
@@ -0,0 +1,8 @@
+package john.api1.application.ports.services.archive;
+
+import john.api1.application.components.DomainResponse;
+
+public interface ILogArchive {
+    // Moves everything older than the horizon, returns the number of documents archived
+    DomainResponse<Long> archive();
+}
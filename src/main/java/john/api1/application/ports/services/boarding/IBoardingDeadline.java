@@ -0,0 +1,8 @@
+package john.api1.application.ports.services.boarding;
+
+public interface IBoardingDeadline {
+    // Re-reads one boarding and replaces its pending deadline
+    void rearm(String boardingId);
+
+    void disarm(String boardingId);
+}
@@ -0,0 +1,18 @@
+package john.api1.application.ports.services.boarding;
+
+import john.api1.application.components.DomainResponse;
+
+import java.time.Instant;
+
+public interface IBoardingEffectiveEnd {
+    // Stored effective end before the given extension is committed, a boarding not migrated yet is migrated without it
+    Instant currentEnd(String boardingId, String extensionId);
+
+    // Extension commit, atomic on the boarding document, hours for both HOURS and DAYS extensions
+    // Call before the extension is saved as approved, a boarding not migrated yet is migrated without it first
+    void extend(String boardingId, String extensionId, long extendedHours);
+
+    // Resumable migration of boardings saved before effective end was stored
+    // Restores the booked boardingEnd the baseline moved, then stores the effective end, once per boarding
+    DomainResponse<Long> backfill();
+}
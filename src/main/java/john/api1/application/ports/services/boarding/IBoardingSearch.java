@@ -1,12 +1,15 @@
 package john.api1.application.ports.services.boarding;
 
+import jakarta.annotation.Nullable;
 import john.api1.application.components.DomainResponse;
 import john.api1.application.components.enums.boarding.BoardingStatus;
 import john.api1.application.domain.models.boarding.BoardingDomain;
 import john.api1.application.dto.mapper.boarding.BoardingDTO;
+import john.api1.application.dto.mapper.boarding.BoardingPageDTO;
 import john.api1.application.ports.repositories.boarding.BoardingDurationCQRS;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IBoardingSearch {
     DomainResponse<Void> isBoardingActive(String boardingId);
@@ -21,8 +24,17 @@ public interface IBoardingSearch {
 
     DomainResponse<List<BoardingDTO>> allBoarding();
 
+    // Keyset paging, cursor is the opaque token from the previous page
+    DomainResponse<BoardingPageDTO> boardingPage(@Nullable String cursor, int limit);
+
+    // Pushes every boarding to the consumer chunk by chunk, newest first
+    void streamAllBoarding(Consumer<BoardingDTO> consumer);
+
     DomainResponse<BoardingDTO> recentBoarding();
 
+    // Active boardings with effective end today, indexed range on the stored effective end
+    DomainResponse<List<BoardingDTO>> endingToday();
+
 
 
     // Optional/Unsafe
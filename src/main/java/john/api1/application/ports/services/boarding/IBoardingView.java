@@ -0,0 +1,30 @@
+package john.api1.application.ports.services.boarding;
+
+import jakarta.annotation.Nullable;
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.PageCursor;
+import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.dto.mapper.boarding.BoardingDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface IBoardingView {
+    // Materialized reads
+    List<BoardingDTO> findAll();
+
+    List<BoardingDTO> findAllByOwnerId(String ownerId);
+
+    List<BoardingDTO> findPage(@Nullable PageCursor after, int limit);
+
+    Optional<BoardingDTO> findRecent();
+
+    // False until a rebuild has completed once, readers fall back to live aggregation until then
+    boolean isBuilt();
+
+    // Live bulk aggregation, nothing persisted
+    List<BoardingDTO> aggregate(List<BoardingDomain> boardings);
+
+    // Backfill
+    DomainResponse<Long> rebuild();
+}
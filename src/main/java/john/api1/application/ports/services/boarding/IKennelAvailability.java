@@ -0,0 +1,30 @@
+package john.api1.application.ports.services.boarding;
+
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.enums.PetSize;
+import john.api1.application.dto.mapper.boarding.KennelAvailabilityDTO;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IKennelAvailability {
+    // Admission, holds a kennel for every day before the boarding is saved
+    DomainResponse<Void> reserve(PetSize size, Instant start, Instant end);
+
+    // Gives back a hold whose boarding failed to save
+    void cancel(PetSize size, Instant start, Instant end);
+
+    // Ties a hold to the saved boarding
+    void attach(String boardingId, PetSize size, Instant start, Instant end);
+
+    // Extension admission, holds the days up to the extended end that the boarding does not hold yet
+    // Returns the newly held days, error when a kennel is not free for one of them
+    DomainResponse<List<LocalDate>> reserveExtension(String boardingId, Instant start, Instant extendedEnd);
+
+    // Gives back an extension hold whose commit failed
+    void cancelExtension(String boardingId, List<LocalDate> days);
+
+    // Free kennels per size class for today and the next days
+    DomainResponse<List<KennelAvailabilityDTO>> freeSlots(int days);
+}
@@ -0,0 +1,24 @@
+package john.api1.application.ports.services.boarding;
+
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.enums.GroomingType;
+import john.api1.application.components.enums.PetSize;
+import john.api1.application.components.enums.SpeciesType;
+import john.api1.application.components.enums.boarding.BoardingType;
+import john.api1.application.dto.mapper.boarding.PriceQuoteDTO;
+import john.api1.application.dto.mapper.boarding.PricingRateDTO;
+import john.api1.application.dto.request.PricingRateRDTO;
+
+public interface IPricingEngine {
+    // Quotes, read the current in-memory table only
+    PriceQuoteDTO quoteBoarding(SpeciesType species, PetSize size, BoardingType boardingType, long duration);
+
+    PriceQuoteDTO quoteExtension(SpeciesType species, PetSize size, long extendedHours);
+
+    PriceQuoteDTO quoteGrooming(SpeciesType species, PetSize size, GroomingType groomingType);
+
+    PricingRateDTO currentRates();
+
+    // Stores a new version and swaps it in
+    DomainResponse<PricingRateDTO> publishRates(PricingRateRDTO rates);
+}
@@ -4,7 +4,9 @@ import john.api1.application.components.DomainResponse;
 import john.api1.application.domain.models.boarding.BoardingPricingDomain;
 import john.api1.application.ports.repositories.boarding.PricingCQRS;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface IPricingManagement {
@@ -23,6 +25,8 @@ public interface IPricingManagement {
     // Readonly
     DomainResponse<BoardingPricingDomain> getPricingDetails(String boardingId);
 
+    Map<String, BoardingPricingDomain> getPricingDetailsByBoardingIds(Collection<String> boardingIds); // keyed by boarding id
+
     List<BoardingPricingDomain.RequestBreakdown> getBreakdown(String boardingId);
 
     Optional<PricingCQRS> getBoardingPricingCqrs(String boardingId);
@@ -0,0 +1,19 @@
+package john.api1.application.ports.services.history;
+
+import john.api1.application.components.DomainResponse;
+import john.api1.application.domain.models.ActivityLogDomain;
+
+import java.util.List;
+
+public interface IActivityLogSnapshot {
+    // Resolves each log's display context and returns it with the snapshot attached
+    // Logs whose context cannot be resolved come back without one
+    List<ActivityLogDomain> capture(List<ActivityLogDomain> logs);
+
+    default ActivityLogDomain capture(ActivityLogDomain log) {
+        return capture(List.of(log)).get(0);
+    }
+
+    // Resumable backfill of logs written before snapshots were stored
+    DomainResponse<Long> backfill();
+}
@@ -2,8 +2,15 @@ package john.api1.application.ports.services.history;
 
 import john.api1.application.domain.models.boarding.BoardingDomain;
 import john.api1.application.domain.models.request.RequestDomain;
+import john.api1.application.ports.repositories.wrapper.UsernameAndId;
 
+import java.util.List;
+
+// Single logs are queued, not written: they reach Mongo after the caller returns, outside its transaction,
+// and a failed write is dropped and counted by the log sink instead of thrown
 public interface IHistoryLogCreate {
+    record RegisteredPet(String petId, String petOwner, String pet) {}
+
     void createActivityLogCompletedRequest(RequestDomain request, String petOwner, String pet);
     void createActivityLogBoarding(BoardingDomain request, String petOwner, String pet);
 
@@ -14,6 +21,9 @@ public interface IHistoryLogCreate {
 
     void createActivityLogPetRegister(String petId, String petOwner, String pet);
 
+    // Bulk import, same entries as the single registrations written in one insert, failures are thrown
+    void createActivityLogRegisterBatch(List<UsernameAndId> owners, List<RegisteredPet> pets);
+
 }
 
 
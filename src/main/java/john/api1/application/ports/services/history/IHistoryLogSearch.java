@@ -1,12 +1,16 @@
 package john.api1.application.ports.services.history;
 
-import john.api1.application.adapters.repositories.ActivityLogEntity;
+import jakarta.annotation.Nullable;
+import john.api1.application.components.DomainResponse;
 import john.api1.application.components.enums.ActivityLogType;
 import john.api1.application.dto.mapper.history.ActivityLogDTO;
+import john.api1.application.dto.mapper.history.ActivityLogPageDTO;
+import john.api1.application.ports.repositories.history.HistoryLogRange;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface IHistoryLogSearch {
     Optional<ActivityLogDTO> getRecentLog();
@@ -15,9 +19,13 @@ public interface IHistoryLogSearch {
 
     Optional<ActivityLogDTO> searchById(String id);
 
-    Optional<List<ActivityLogDTO>> getByDate(Instant time);
+    // Missing 'from' is the start of today, missing 'to' is now
+    DomainResponse<HistoryLogRange> range(@Nullable Instant from, @Nullable Instant to,
+                                          @Nullable String activityType, @Nullable String requestType);
 
-    Optional<List<ActivityLogDTO>> getByBetweenDate(Instant start, Instant end);
+    DomainResponse<ActivityLogPageDTO> searchRange(HistoryLogRange range, @Nullable String cursor, int limit);
+
+    void streamRange(HistoryLogRange range, Consumer<ActivityLogDTO> consumer);
 
     List<ActivityLogDTO> searchByActivityType(ActivityLogType type);
 
@@ -1,12 +1,15 @@
 package john.api1.application.ports.services.history;
 
+import jakarta.annotation.Nullable;
+import john.api1.application.components.DomainResponse;
 import john.api1.application.dto.mapper.history.media.MediaHistoryDTO;
+import john.api1.application.dto.mapper.history.media.MediaHistoryPageDTO;
 
-import java.util.List;
 import java.util.Optional;
 
 public interface IHistoryMediaSearch {
     Optional<MediaHistoryDTO> getRecentHistoryMedia();
 
-    List<MediaHistoryDTO> getAllHistoryMedia();
+    // Completed photo/video requests newest first, all owners when ownerId is null
+    DomainResponse<MediaHistoryPageDTO> getAllHistoryMedia(@Nullable String ownerId, @Nullable String cursor, int limit);
 }
@@ -2,6 +2,10 @@ package john.api1.application.ports.services.media;
 
 import john.api1.application.components.enums.BucketType;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public interface IMediaAdapter {
     String getUploadUrl(BucketType bucketName, String objectName);
 
@@ -9,5 +13,12 @@ public interface IMediaAdapter {
 
     String getUpdateUrl(BucketType bucketName, String objectName);
 
+    // Read urls for a whole page of objects in one bucket, keyed by object name
+    default Map<String, String> getReadUrls(BucketType bucketName, Collection<String> objectNames) {
+        Map<String, String> urls = new LinkedHashMap<>(objectNames.size());
+        objectNames.forEach(objectName -> urls.computeIfAbsent(objectName, name -> getReadUrl(bucketName, name)));
+        return urls;
+    }
+
 
 }
@@ -6,7 +6,9 @@ import john.api1.application.ports.repositories.wrapper.MediaIdUrlExpire;
 import john.api1.application.ports.repositories.wrapper.MediaPreview;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface IMediaSearch {
@@ -30,4 +32,7 @@ public interface IMediaSearch {
 
     // Optional
     Optional<List<MediaPreview>> findByRequestId(String typeId);
+
+    // One query and one presign pass per bucket for a whole page of requests, keyed by request id
+    Map<String, List<MediaPreview>> findByRequestIds(Collection<String> requestIds);
 }
@@ -1,9 +1,17 @@
 package john.api1.application.ports.services.notification;
 
 import john.api1.application.components.DomainResponse;
+import john.api1.application.components.enums.NotificationType;
+import john.api1.application.components.enums.boarding.BoardingType;
 import john.api1.application.dto.mapper.NotificationDTO;
 import john.api1.application.dto.request.NotificationRDTO;
 
+import java.time.Instant;
+
 public interface INotificationCreate {
     DomainResponse<NotificationDTO> createNotification(NotificationRDTO notification);
+
+    // System generated boarding reminders, no request attached
+    DomainResponse<NotificationDTO> createBoardingNotification(String ownerId, String petId, NotificationType notificationType,
+                                                               BoardingType boardingType, Instant checkoutTime);
 }
@@ -2,11 +2,14 @@ package john.api1.application.ports.services.pet;
 
 import john.api1.application.ports.repositories.pet.PetCQRS;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface IPetSearch {
     // Unsafe. Direct throw exception
     PetCQRS getPetBoardingDetails(String petId);
+    Map<String, PetCQRS> getPetBoardingDetailsByIds(Collection<String> petIds); // keyed by pet id
     PetCQRS getPetNameBreedSize(String petId);
     String getPetName(String petId);
 
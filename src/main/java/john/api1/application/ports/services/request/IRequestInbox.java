@@ -0,0 +1,22 @@
+package john.api1.application.ports.services.request;
+
+import jakarta.annotation.Nullable;
+import john.api1.application.components.DomainResponse;
+import john.api1.application.dto.mapper.request.RequestInboxDeltaDTO;
+import john.api1.application.dto.mapper.request.RequestInboxPageDTO;
+
+import java.util.function.Consumer;
+
+// Pending and in-progress requests held in memory, oldest first
+public interface IRequestInbox {
+    // Keyset paged, pass back 'nextCursor' to get the following page, status null for both
+    DomainResponse<RequestInboxPageDTO> page(@Nullable String cursor, int limit, @Nullable String status);
+
+    long version();
+
+    // Deltas arrive in version order from a bounded queue of the listener's own
+    // A listener that throws or falls a full queue behind is dropped and onDropped runs
+    void subscribe(Consumer<RequestInboxDeltaDTO> listener, Runnable onDropped);
+
+    void unsubscribe(Consumer<RequestInboxDeltaDTO> listener);
+}
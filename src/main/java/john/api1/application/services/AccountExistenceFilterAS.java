@@ -0,0 +1,264 @@
+package john.api1.application.services;
+
+import com.mongodb.MongoException;
+import john.api1.application.components.enums.AccountKeyType;
+import john.api1.application.domain.cores.account.BloomFilterDS;
+import john.api1.application.ports.repositories.admin.IAdminSearchRepository;
+import john.api1.application.ports.repositories.owner.IAccountSearchRepository;
+import john.api1.application.ports.repositories.wrapper.AccountKeys;
+import john.api1.application.ports.services.IAccountExistenceFilter;
+import john.api1.common.config.AccountFilterConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Bloom filter on plain Redis bitmaps (SETBIT/GETBIT), shared by every node, no Redis module needed
+// Seeded from client_accounts and admin_account when the ready marker is missing (first start, Redis flushed, resized)
+// Fails open: disabled, not seeded yet, Redis errors or unreplayed adds on this node all answer 'maybe'
+// A failed add also drops the shared ready marker, so every node answers 'maybe' until the reseed covers it
+// Each drop bumps a generation, a seed only marks ready if no node dropped the marker since it started reading
+// Never removes bits, a changed or deleted identifier only leaves a false positive behind
+@Service
+public class AccountExistenceFilterAS implements IAccountExistenceFilter {
+    private static final Logger log = LoggerFactory.getLogger(AccountExistenceFilterAS.class);
+    private static final int SEED_PIPELINE_SIZE = 1000;
+    private static final String NO_GENERATION = "0";
+
+    // KEYS: ready, generation
+    private static final RedisScript<Long> DROP_READY = new DefaultRedisScript<>("""
+            local generation = redis.call('INCR', KEYS[2])
+            redis.call('DEL', KEYS[1])
+            return generation
+            """, Long.class);
+
+    // KEYS: ready, generation / ARGV: generation read when the seed started
+    private static final RedisScript<Long> MARK_READY = new DefaultRedisScript<>("""
+            local generation = redis.call('GET', KEYS[2]) or '0'
+            if generation ~= ARGV[1] then return 0 end
+            redis.call('SET', KEYS[1], '1')
+            return 1
+            """, Long.class);
+
+    private final AccountFilterConfig config;
+    private final StringRedisTemplate redisTemplate;
+    private final IAccountSearchRepository clientSearch;
+    private final IAdminSearchRepository adminSearch;
+
+    private final long bits;
+    private final int hashes;
+    private final byte[] readyKey;
+    private final List<String> markerKeys;
+    private final Map<AccountKeyType, byte[]> bitmapKeys = new EnumMap<>(AccountKeyType.class);
+
+    // Adds that did not reach Redis, this node answers 'maybe' until they are replayed
+    private final Queue<Probe> pending = new ConcurrentLinkedQueue<>();
+    // Ready marker still to drop after a failed add, retried by maintenance while Redis is unreachable
+    private final AtomicBoolean markerStale = new AtomicBoolean(false);
+    private final AtomicBoolean seeding = new AtomicBoolean(false);
+
+    @Autowired
+    public AccountExistenceFilterAS(AccountFilterConfig config,
+                                    StringRedisTemplate redisTemplate,
+                                    @Qualifier("MongoAccountSearchRepo") IAccountSearchRepository clientSearch,
+                                    IAdminSearchRepository adminSearch) {
+        this.config = config;
+        this.redisTemplate = redisTemplate;
+        this.clientSearch = clientSearch;
+        this.adminSearch = adminSearch;
+
+        this.bits = BloomFilterDS.optimalBits(config.getExpectedInsertions(), config.getFalsePositiveRate());
+        this.hashes = BloomFilterDS.optimalHashes(config.getExpectedInsertions(), bits);
+        String ready = "bloom:account:ready:" + bits + ":" + hashes;
+        this.readyKey = ready.getBytes(StandardCharsets.UTF_8);
+        this.markerKeys = List.of(ready, "bloom:account:generation:" + bits + ":" + hashes);
+        for (AccountKeyType type : AccountKeyType.values()) {
+            bitmapKeys.put(type, type.redisKey(bits, hashes).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    // One pipelined round trip: ready marker plus every bit of every probe
+    @Override
+    public boolean mightContainAny(Probe... probes) {
+        if (!config.isEnabled() || !pending.isEmpty() || probes.length == 0) return true;
+
+        try {
+            List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.keyCommands().exists(readyKey);
+                for (Probe probe : probes) {
+                    for (long offset : BloomFilterDS.offsets(probe.value(), bits, hashes)) {
+                        connection.stringCommands().getBit(bitmapKeys.get(probe.type()), offset);
+                    }
+                }
+                return null;
+            });
+
+            if (!Boolean.TRUE.equals(replies.get(0))) return true;
+
+            int reply = 1;
+            for (int p = 0; p < probes.length; p++) {
+                boolean all = true;
+                for (int h = 0; h < hashes; h++) {
+                    all &= Boolean.TRUE.equals(replies.get(reply++));
+                }
+                if (all) return true;
+            }
+            return false;
+        } catch (DataAccessException e) {
+            log.debug("Account filter check failed, falling back to the database. Error: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    // Call before the account is persisted, a crash in between only leaves a false positive
+    @Override
+    public void add(Probe... probes) {
+        if (!config.isEnabled()) return;
+
+        List<Probe> batch = Arrays.stream(probes)
+                .filter(probe -> probe.value() != null && !probe.value().isBlank())
+                .toList();
+        try {
+            write(batch);
+        } catch (DataAccessException e) {
+            pending.addAll(batch);
+            log.warn("Account filter add did not reach Redis, queued {} value(s) for replay. Error: {}", batch.size(), e.getMessage());
+            try {
+                dropReadyMarker();
+            } catch (DataAccessException ignored) {
+                // maintenance retries it
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        maintain();
+    }
+
+    // Drops the marker a failed add left stale, replays failed adds, reseeds when the ready marker is gone
+    @Scheduled(fixedDelayString = "${account.filter.maintain-ms:60000}", initialDelayString = "${account.filter.maintain-ms:60000}")
+    public void maintain() {
+        if (!config.isEnabled()) return;
+
+        try {
+            if (markerStale.get()) dropReadyMarker();
+
+            List<Probe> replay = new ArrayList<>();
+            for (Probe probe; (probe = pending.poll()) != null; ) replay.add(probe);
+            try {
+                write(replay);
+            } catch (DataAccessException e) {
+                pending.addAll(replay);
+                throw e;
+            }
+
+            // Read before the ready check, so a drop after it is seen by the seed
+            String generation = generation();
+            Boolean ready = redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.keyCommands().exists(readyKey));
+            if (!Boolean.TRUE.equals(ready)) seed(generation);
+        } catch (DataAccessException e) {
+            log.warn("Account filter maintenance failed, lookups fall back to the database. Error: {}", e.getMessage());
+        }
+    }
+
+    // Idempotent, live adds keep landing in the same bitmaps while this runs
+    private void seed(String generation) {
+        if (!seeding.compareAndSet(false, true)) return;
+
+        long start = System.currentTimeMillis();
+        long accounts = 0;
+        List<Probe> batch = new ArrayList<>(SEED_PIPELINE_SIZE);
+        try (var clients = clientSearch.streamAccountKeys();
+             var admins = adminSearch.streamAccountKeys()) {
+
+            for (AccountKeys client : (Iterable<AccountKeys>) clients::iterator) {
+                batch.add(new Probe(AccountKeyType.CLIENT_EMAIL, client.email()));
+                batch.add(new Probe(AccountKeyType.CLIENT_PHONE, client.phoneNumber()));
+                accounts++;
+                if (batch.size() >= SEED_PIPELINE_SIZE) flush(batch);
+            }
+            for (AccountKeys admin : (Iterable<AccountKeys>) admins::iterator) {
+                batch.add(new Probe(AccountKeyType.ADMIN_USERNAME, admin.username()));
+                batch.add(new Probe(AccountKeyType.ADMIN_EMAIL, admin.email()));
+                accounts++;
+                if (batch.size() >= SEED_PIPELINE_SIZE) flush(batch);
+            }
+            flush(batch);
+
+            Long marked = redisTemplate.execute(MARK_READY, markerKeys, generation);
+            if (!Long.valueOf(1).equals(marked)) {
+                log.info("Account filter seed overlapped a marker drop, reseeding on next maintenance");
+                return;
+            }
+            log.info("Account filter seeded with {} account(s) in {} ms, {} bits and {} hashes per type",
+                    accounts, System.currentTimeMillis() - start, bits, hashes);
+        } catch (MongoException e) {
+            log.warn("Account filter seed failed to read accounts, retrying on next maintenance. Error: {}", e.getMessage());
+        } finally {
+            seeding.set(false);
+        }
+    }
+
+    // Every node fails open once the marker is gone, the next maintenance on any node reseeds from the accounts
+    // Cleared first, so an add failing meanwhile leaves it set for another drop
+    private void dropReadyMarker() {
+        markerStale.set(false);
+        try {
+            redisTemplate.execute(DROP_READY, markerKeys);
+        } catch (DataAccessException e) {
+            markerStale.set(true);
+            throw e;
+        }
+        log.info("Account filter ready marker dropped after a failed add, reseeding on next maintenance");
+    }
+
+    private String generation() {
+        String generation = redisTemplate.opsForValue().get(markerKeys.get(1));
+        return generation != null ? generation : NO_GENERATION;
+    }
+
+    private void flush(List<Probe> batch) {
+        write(batch);
+        batch.clear();
+    }
+
+    private void write(List<Probe> probes) {
+        if (probes.isEmpty()) return;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Probe probe : probes) {
+                if (probe.value() == null || probe.value().isBlank()) continue;
+                setBits(connection, probe);
+            }
+            return null;
+        });
+    }
+
+    private void setBits(RedisConnection connection, Probe probe) {
+        byte[] key = bitmapKeys.get(probe.type());
+        for (long offset : BloomFilterDS.offsets(probe.value(), bits, hashes)) {
+            connection.stringCommands().setBit(key, offset, true);
+        }
+    }
+}
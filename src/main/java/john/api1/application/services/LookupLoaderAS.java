@@ -0,0 +1,107 @@
+package john.api1.application.services;
+
+import john.api1.application.components.RequestLoader;
+import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.domain.models.request.RequestDomain;
+import john.api1.application.ports.repositories.boarding.IBoardingSearchRepository;
+import john.api1.application.ports.repositories.owner.PetOwnerCQRS;
+import john.api1.application.ports.repositories.pet.PetCQRS;
+import john.api1.application.ports.repositories.request.IRequestSearchRepository;
+import john.api1.application.ports.services.ILookupLoader;
+import john.api1.application.ports.services.IPetOwnerSearch;
+import john.api1.application.ports.services.pet.IPetSearch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// One $in per port for every id queued since the last fetch, see RequestLoader
+@Service
+public class LookupLoaderAS implements ILookupLoader {
+    private static final String PET = "pet";
+    private static final String OWNER = "owner";
+    private static final String REQUEST = "request";
+    private static final String BOARDING = "boarding";
+
+    private final RequestLoader loader;
+    private final IPetSearch petSearch;
+    private final IPetOwnerSearch ownerSearch;
+    private final IRequestSearchRepository requestSearch;
+    private final IBoardingSearchRepository boardingSearch;
+
+    @Autowired
+    public LookupLoaderAS(RequestLoader loader,
+                          IPetSearch petSearch,
+                          IPetOwnerSearch ownerSearch,
+                          IRequestSearchRepository requestSearch,
+                          IBoardingSearchRepository boardingSearch) {
+        this.loader = loader;
+        this.petSearch = petSearch;
+        this.ownerSearch = ownerSearch;
+        this.requestSearch = requestSearch;
+        this.boardingSearch = boardingSearch;
+    }
+
+    @Override
+    public Optional<PetCQRS> pet(String petId) {
+        return Optional.ofNullable(loader.load(PET, petId, petSearch::getPetBoardingDetailsByIds));
+    }
+
+    @Override
+    public Optional<PetOwnerCQRS> owner(String ownerId) {
+        return Optional.ofNullable(loader.load(OWNER, ownerId, ownerSearch::getPetOwnerBoardingDetailsByIds));
+    }
+
+    @Override
+    public Optional<RequestDomain> request(String requestId) {
+        return Optional.ofNullable(loader.load(REQUEST, requestId, ids -> requestSearch.findByIds(ids)
+                .stream()
+                .collect(Collectors.toMap(RequestDomain::getId, Function.identity(), (a, b) -> a))));
+    }
+
+    @Override
+    public Optional<BoardingDomain> boarding(String boardingId) {
+        return Optional.ofNullable(loader.load(BOARDING, boardingId, ids -> boardingSearch.searchByIds(ids)
+                .stream()
+                .collect(Collectors.toMap(BoardingDomain::getId, Function.identity(), (a, b) -> a))));
+    }
+
+    @Override
+    public void primePets(Collection<String> petIds) {
+        loader.prime(PET, petIds);
+    }
+
+    @Override
+    public void primeOwners(Collection<String> ownerIds) {
+        loader.prime(OWNER, ownerIds);
+    }
+
+    @Override
+    public void primeRequests(Collection<String> requestIds) {
+        loader.prime(REQUEST, requestIds);
+    }
+
+    @Override
+    public void primeBoardings(Collection<String> boardingIds) {
+        loader.prime(BOARDING, boardingIds);
+    }
+
+    @Override
+    public void forgetRequest(String requestId) {
+        loader.forget(REQUEST, requestId);
+    }
+
+    @Override
+    public void forgetBoarding(String boardingId) {
+        loader.forget(BOARDING, boardingId);
+    }
+
+    @Override
+    public <T> T batched(Supplier<T> work) {
+        return loader.batched(work);
+    }
+}
@@ -2,6 +2,7 @@ package john.api1.application.services.admin;
 
 import john.api1.application.components.DomainResponse;
 import john.api1.application.components.PasswordManagement;
+import john.api1.application.components.enums.AccountKeyType;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.AdminDomain;
@@ -9,6 +10,8 @@ import john.api1.application.dto.mapper.AdminDTO;
 import john.api1.application.dto.request.admin.AdminCreateRDTO;
 import john.api1.application.ports.repositories.admin.IAdminCreateRepository;
 import john.api1.application.ports.repositories.admin.IAdminSearchRepository;
+import john.api1.application.ports.services.IAccountExistenceFilter;
+import john.api1.application.ports.services.IAccountExistenceFilter.Probe;
 import john.api1.application.ports.services.admin.IAdminCreate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -18,15 +21,18 @@ public class AdminCreateNewAS implements IAdminCreate {
     private final IAdminCreateRepository createRepository;
     private final IAdminSearchRepository searchRepository;
     private final PasswordManagement passwordManagement;
+    private final IAccountExistenceFilter accountFilter;
 
 
     @Autowired
     public AdminCreateNewAS(IAdminCreateRepository createRepository,
                             IAdminSearchRepository searchRepository,
-                            PasswordManagement passwordManagement) {
+                            PasswordManagement passwordManagement,
+                            IAccountExistenceFilter accountFilter) {
         this.createRepository = createRepository;
         this.searchRepository = searchRepository;
         this.passwordManagement = passwordManagement;
+        this.accountFilter = accountFilter;
     }
 
     public DomainResponse<AdminDTO> registerNewAdmin(AdminCreateRDTO request) {
@@ -34,15 +40,20 @@ public class AdminCreateNewAS implements IAdminCreate {
             if (!AdminDomain.isValidEmail(request.getEmail()))
                 throw new DomainArgumentException("Invalid email format");
 
-            if (searchRepository.searchByUsername(request.getUsername()).isPresent())
+            if (accountFilter.mightContain(AccountKeyType.ADMIN_USERNAME, request.getUsername())
+                    && searchRepository.searchByUsername(request.getUsername()).isPresent())
                 throw new PersistenceException("Username is already in use!");
 
-            if (searchRepository.searchByEmail(request.getEmail()).isPresent())
+            if (accountFilter.mightContain(AccountKeyType.ADMIN_EMAIL, request.getEmail())
+                    && searchRepository.searchByEmail(request.getEmail()).isPresent())
                 throw new PersistenceException("Email is already in use!");
 
             var account = AdminDomain.create(request.getUsername(), request.getEmail());
             account.setPassword(request.getPassword(), passwordManagement);
 
+            accountFilter.add(
+                    new Probe(AccountKeyType.ADMIN_USERNAME, account.getUsername()),
+                    new Probe(AccountKeyType.ADMIN_EMAIL, account.getEmail()));
             var save = createRepository.create(account);
             if (save.isEmpty()) {
                 throw new PersistenceException("Admin registration failed");
@@ -5,6 +5,7 @@ import john.api1.application.async.AsyncEmailService;
 import john.api1.application.components.DomainResponse;
 import john.api1.application.components.PasswordManagement;
 import john.api1.application.components.VerificationGenerator;
+import john.api1.application.components.enums.AccountKeyType;
 import john.api1.application.components.enums.EmailType;
 import john.api1.application.components.enums.VerificationType;
 import john.api1.application.components.exception.DomainArgumentException;
@@ -14,6 +15,7 @@ import john.api1.application.domain.models.VerificationDomain;
 import john.api1.application.dto.mapper.AdminDTO;
 import john.api1.application.dto.request.admin.AdminLoginRDTO;
 import john.api1.application.ports.repositories.IVerificationRepository;
+import john.api1.application.ports.services.IAccountExistenceFilter;
 import john.api1.application.ports.services.admin.IAdminLogin;
 import john.api1.application.ports.services.admin.IAdminManage;
 import john.api1.application.ports.services.admin.IAdminSearch;
@@ -32,23 +34,30 @@ public class AdminLoginAS implements IAdminLogin {
     private final PasswordManagement passwordManagement;
     private final AsyncEmailService emailService;
     private final IVerificationRepository verification;
+    private final IAccountExistenceFilter accountFilter;
 
     @Autowired
     public AdminLoginAS(IAdminSearch adminSearch,
                         IAdminManage adminManage,
                         PasswordManagement passwordManagement,
                         AsyncEmailService emailService,
-                        IVerificationRepository verificationSave) {
+                        IVerificationRepository verificationSave,
+                        IAccountExistenceFilter accountFilter) {
         this.adminSearch = adminSearch;
         this.adminManage = adminManage;
         this.passwordManagement = passwordManagement;
         this.emailService = emailService;
         this.verification = verificationSave;
+        this.accountFilter = accountFilter;
     }
 
     @Override
     public DomainResponse<AdminDTO> login(AdminLoginRDTO request) {
         try {
+            // Never registered, skip the database (same answer as a database miss)
+            if (!accountFilter.mightContain(AccountKeyType.ADMIN_USERNAME, request.getUsername()))
+                return DomainResponse.error("Invalid username or password password");
+
             var login = adminSearch.searchUsername(request.getUsername());
             if (login.isEmpty()) throw new PersistenceException("Invalid username or password password");
 
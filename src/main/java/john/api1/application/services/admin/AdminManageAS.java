@@ -2,11 +2,14 @@ package john.api1.application.services.admin;
 
 import john.api1.application.components.DomainResponse;
 import john.api1.application.components.PasswordManagement;
+import john.api1.application.components.enums.AccountKeyType;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.AdminDomain;
 import john.api1.application.ports.repositories.admin.IAdminManageRepository;
 import john.api1.application.ports.repositories.admin.IAdminSearchRepository;
+import john.api1.application.ports.services.IAccountExistenceFilter;
+import john.api1.application.ports.services.IAccountExistenceFilter.Probe;
 import john.api1.application.ports.services.admin.IAdminManage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -16,15 +19,18 @@ public class AdminManageAS implements IAdminManage {
     private final IAdminManageRepository manageRepository;
     private final IAdminSearchRepository searchRepository;
     private final PasswordManagement passwordManagement;
+    private final IAccountExistenceFilter accountFilter;
 
 
     @Autowired
     public AdminManageAS(IAdminManageRepository manageRepository,
                          IAdminSearchRepository searchRepository,
-                         PasswordManagement passwordManagement) {
+                         PasswordManagement passwordManagement,
+                         IAccountExistenceFilter accountFilter) {
         this.manageRepository = manageRepository;
         this.searchRepository = searchRepository;
         this.passwordManagement = passwordManagement;
+        this.accountFilter = accountFilter;
     }
 
     @Override
@@ -36,6 +42,7 @@ public class AdminManageAS implements IAdminManage {
             AdminDomain domain = account.get();
             domain = domain.changeUsername(username);
 
+            accountFilter.add(new Probe(AccountKeyType.ADMIN_USERNAME, domain.getUsername()));
             manageRepository.updateAdmin(domain);
             return DomainResponse.success("Successfully update admin username");
 
@@ -55,6 +62,7 @@ public class AdminManageAS implements IAdminManage {
             AdminDomain domain = account.get();
             domain = domain.changeEmail(email);
 
+            accountFilter.add(new Probe(AccountKeyType.ADMIN_EMAIL, domain.getEmail()));
             manageRepository.updateAdmin(domain);
             return DomainResponse.success("Successfully update admin email");
 
@@ -0,0 +1,209 @@
+package john.api1.application.services.admin;
+
+import com.mongodb.MongoException;
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.enums.SearchHitType;
+import john.api1.application.components.event.BoardingChangedEvent;
+import john.api1.application.components.event.OwnerProfileChangedEvent;
+import john.api1.application.components.event.PetProfileChangedEvent;
+import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.domain.cores.search.SearchTokenDS;
+import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.domain.models.search.OmniSearchIndex;
+import john.api1.application.dto.mapper.search.OmniSearchHitDTO;
+import john.api1.application.ports.repositories.boarding.IBoardingSearchRepository;
+import john.api1.application.ports.repositories.owner.IPetOwnerCQRSRepository;
+import john.api1.application.ports.repositories.owner.PetOwnerCQRS;
+import john.api1.application.ports.repositories.pet.IPetCQRSRepository;
+import john.api1.application.ports.repositories.pet.PetCQRS;
+import john.api1.application.ports.services.admin.IAdminOmniSearch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Admin front desk search, owners by name/email/phone, pets by name/breed, active boardings by id
+// Built at startup from streamed cursors into a fresh index that is swapped in whole
+// Write-side events refresh one document; events seen during a rebuild are replayed after the swap
+@Service
+public class AdminOmniSearchAS implements IAdminOmniSearch {
+    private static final Logger log = LoggerFactory.getLogger(AdminOmniSearchAS.class);
+    private static final int MAX_LIMIT = 50;
+
+    private final IPetOwnerCQRSRepository ownerRepository;
+    private final IPetCQRSRepository petRepository;
+    private final IBoardingSearchRepository boardingRepository;
+
+    private volatile OmniSearchIndex index = new OmniSearchIndex();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Queue<Change> missed = new ConcurrentLinkedQueue<>();
+
+    private record Change(SearchHitType type, String id) {
+    }
+
+    @Autowired
+    public AdminOmniSearchAS(IPetOwnerCQRSRepository ownerRepository,
+                             IPetCQRSRepository petRepository,
+                             IBoardingSearchRepository boardingRepository) {
+        this.ownerRepository = ownerRepository;
+        this.petRepository = petRepository;
+        this.boardingRepository = boardingRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        var built = rebuild();
+        if (!built.isSuccess()) log.warn("Omnisearch index not built at startup: {}", built.getMessage());
+    }
+
+    @Override
+    public DomainResponse<List<OmniSearchHitDTO>> search(String query, int limit) {
+        List<String> tokens = SearchTokenDS.queryTokens(query);
+        if (tokens.isEmpty()) return DomainResponse.error("Search query must contain a letter or digit.");
+
+        OmniSearchIndex current = index;
+        var hits = current.search(tokens, Math.max(1, Math.min(limit, MAX_LIMIT)))
+                .stream()
+                .map(hit -> toDTO(current, hit))
+                .toList();
+        return DomainResponse.success(hits, hits.size() + " result(s) found.");
+    }
+
+    @Override
+    public DomainResponse<Integer> rebuild() {
+        if (!rebuilding.compareAndSet(false, true))
+            return DomainResponse.error("Omnisearch index is already rebuilding.");
+
+        try {
+            OmniSearchIndex fresh = new OmniSearchIndex();
+            try (var owners = ownerRepository.streamAll()) {
+                owners.forEach(owner -> indexOwner(fresh, owner));
+            }
+            try (var pets = petRepository.streamAllNameTypeBreed()) {
+                pets.forEach(pet -> indexPet(fresh, pet));
+            }
+            try (var boardings = boardingRepository.streamActive()) {
+                boardings.forEach(boarding -> indexBoarding(fresh, boarding));
+            }
+
+            index = fresh;
+            rebuilding.set(false);
+            replayMissed();
+
+            log.info("Omnisearch index built with {} document(s)", fresh.size());
+            return DomainResponse.success(fresh.size(), "Omnisearch index rebuilt with " + fresh.size() + " document(s).");
+        } catch (PersistenceException | MongoException | DataAccessException e) {
+            rebuilding.set(false);
+            missed.clear();
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
+
+
+    // Write-side events
+    @EventListener
+    public void onOwnerProfileChanged(OwnerProfileChangedEvent event) {
+        refresh(new Change(SearchHitType.OWNER, event.ownerId()));
+    }
+
+    @EventListener
+    public void onPetProfileChanged(PetProfileChangedEvent event) {
+        refresh(new Change(SearchHitType.PET, event.petId()));
+    }
+
+    @EventListener
+    public void onBoardingChanged(BoardingChangedEvent event) {
+        refresh(new Change(SearchHitType.BOARDING, event.boardingId()));
+    }
+
+    private void refresh(Change change) {
+        if (rebuilding.get()) missed.add(change);
+        try {
+            apply(index, change);
+        } catch (PersistenceException | DomainArgumentException | MongoException | DataAccessException e) {
+            log.warn("Failed to refresh omnisearch {} {}. Error: {}", change.type(), change.id(), e.getMessage());
+        }
+    }
+
+    private void replayMissed() {
+        Change change;
+        while ((change = missed.poll()) != null) {
+            refresh(change);
+        }
+    }
+
+    private void apply(OmniSearchIndex target, Change change) {
+        switch (change.type()) {
+            case OWNER -> ownerRepository.getDetails(change.id()).ifPresentOrElse(
+                    owner -> indexOwner(target, owner),
+                    () -> target.remove(SearchHitType.OWNER, change.id()));
+            case PET -> petRepository.getPetNameBreed(change.id()).ifPresentOrElse(
+                    pet -> indexPet(target, pet),
+                    () -> target.remove(SearchHitType.PET, change.id()));
+            case BOARDING -> boardingRepository.searchById(change.id())
+                    .filter(BoardingDomain::isActive)
+                    .ifPresentOrElse(
+                            boarding -> indexBoarding(target, boarding),
+                            () -> target.remove(SearchHitType.BOARDING, change.id()));
+        }
+    }
+
+
+    // Documents
+    private void indexOwner(OmniSearchIndex target, PetOwnerCQRS owner) {
+        Map<String, Integer> grams = new HashMap<>();
+        SearchTokenDS.textGrams(owner.ownerName(), grams);
+        SearchTokenDS.textGrams(owner.ownerEmail(), grams);
+        SearchTokenDS.phoneGrams(owner.ownerPhoneNumber(), grams);
+
+        target.upsert(new OmniSearchIndex.Entry(SearchHitType.OWNER, owner.id(), owner.ownerName(),
+                join(owner.ownerEmail(), owner.ownerPhoneNumber()), null), grams);
+    }
+
+    private void indexPet(OmniSearchIndex target, PetCQRS pet) {
+        Map<String, Integer> grams = new HashMap<>();
+        SearchTokenDS.textGrams(pet.petName(), grams);
+        SearchTokenDS.textGrams(pet.breed(), grams);
+
+        target.upsert(new OmniSearchIndex.Entry(SearchHitType.PET, pet.id(), pet.petName(),
+                join(pet.breed(), pet.animalType()), null), grams);
+    }
+
+    private void indexBoarding(OmniSearchIndex target, BoardingDomain boarding) {
+        Map<String, Integer> grams = new HashMap<>();
+        SearchTokenDS.textGrams(boarding.getId(), grams);
+
+        target.upsert(new OmniSearchIndex.Entry(SearchHitType.BOARDING, boarding.getId(), null,
+                join(boarding.getBoardingType().getDurationType(), boarding.getBoardingStatus().getBoardingStatus()),
+                boarding.getPetId()), grams);
+    }
+
+    // Boarding titles follow the pet document so a rename shows up without touching the boarding
+    private OmniSearchHitDTO toDTO(OmniSearchIndex current, OmniSearchIndex.Hit hit) {
+        var entry = hit.entry();
+        String title = entry.title();
+        if (entry.type() == SearchHitType.BOARDING) {
+            title = current.find(SearchHitType.PET, entry.ref())
+                    .map(pet -> pet.title() + "'s boarding")
+                    .orElse("Boarding");
+        }
+        return new OmniSearchHitDTO(entry.type().name(), entry.id(), title, entry.subtitle(), hit.score());
+    }
+
+    private static String join(String first, String second) {
+        if (first == null || first.isBlank()) return second;
+        if (second == null || second.isBlank()) return first;
+        return first + " · " + second;
+    }
+}
@@ -0,0 +1,448 @@
+package john.api1.application.services.admin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoException;
+import john.api1.application.adapters.services.email.body.RegistrationEmailData;
+import john.api1.application.async.AsyncEmailService;
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.ImportRowReader;
+import john.api1.application.components.PasswordCreation;
+import john.api1.application.components.PasswordManagement;
+import john.api1.application.components.SmsTextContent;
+import john.api1.application.components.enums.AccountKeyType;
+import john.api1.application.components.enums.EmailType;
+import john.api1.application.components.enums.ImportFormat;
+import john.api1.application.components.enums.ImportRowStatus;
+import john.api1.application.components.enums.SmsType;
+import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.components.exception.InvalidLogException;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.components.exception.PersistenceHistoryException;
+import john.api1.application.components.record.SmsRegisterContent;
+import john.api1.application.domain.models.ClientAccountDomain;
+import john.api1.application.domain.models.ClientDomain;
+import john.api1.application.domain.models.EmailLogsDomain;
+import john.api1.application.domain.models.PetDomain;
+import john.api1.application.domain.models.SmsLogDomain;
+import john.api1.application.dto.mapper.EmailResponseDTO;
+import john.api1.application.dto.mapper.owner.ImportRowResultDTO;
+import john.api1.application.dto.mapper.owner.ImportSummaryDTO;
+import john.api1.application.dto.request.ImportOwnerRDTO;
+import john.api1.application.dto.request.PetRDTO;
+import john.api1.application.ports.repositories.ILogEmailRepository;
+import john.api1.application.ports.repositories.ILogSmsRepository;
+import john.api1.application.ports.repositories.owner.IAccountCreateRepository;
+import john.api1.application.ports.repositories.owner.IAccountSearchRepository;
+import john.api1.application.ports.repositories.owner.IPetOwnerUpdateRepository;
+import john.api1.application.ports.repositories.pet.IPetCreateRepository;
+import john.api1.application.ports.repositories.wrapper.AccountKeys;
+import john.api1.application.ports.repositories.wrapper.UsernameAndId;
+import john.api1.application.ports.services.IAccountExistenceFilter;
+import john.api1.application.ports.services.IAccountExistenceFilter.Probe;
+import john.api1.application.ports.services.admin.IAdminOmniSearch;
+import john.api1.application.ports.services.admin.IOwnerBulkImport;
+import john.api1.application.ports.services.history.IHistoryLogCreate;
+import john.api1.application.ports.services.history.IHistoryLogCreate.RegisteredPet;
+import john.api1.common.config.ImportConfig;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+// Bulk version of admin owner registration plus pet registration
+// Per chunk: validate, one $in query for taken emails and phones, bcrypt on the bounded pool,
+// unordered bulk insert of owners then pets (ids assigned up front), one insert each for history, sms and email logs
+// Welcome emails go out per chunk with a fixed number in flight, a chunk waits for the previous chunk's emails,
+// so at most two chunks of raw passwords are held
+// The omnisearch index is rebuilt once at the end on its own executor instead of one refresh event per row
+@Service
+public class OwnerBulkImportAS implements IOwnerBulkImport {
+    private static final Logger log = LoggerFactory.getLogger(OwnerBulkImportAS.class);
+    private static final int EMAIL_CONCURRENCY = 4;
+    private static final Duration EMAIL_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ImportConfig config;
+    private final ObjectMapper objectMapper;
+    private final PasswordCreation passwordCreation;
+    private final PasswordManagement passwordManagement;
+    private final Executor hashExecutor;
+    private final Executor rebuildExecutor;
+    private final IAccountSearchRepository searchRepository;
+    private final IAccountCreateRepository createRepository;
+    private final IPetCreateRepository petCreate;
+    private final IPetOwnerUpdateRepository ownerUpdate;
+    private final IAccountExistenceFilter accountFilter;
+    private final IHistoryLogCreate historyLog;
+    private final ILogEmailRepository logEmailRepository;
+    private final ILogSmsRepository logSmsRepository;
+    private final AsyncEmailService emailService;
+    private final IAdminOmniSearch omniSearch;
+
+    @Autowired
+    public OwnerBulkImportAS(ImportConfig config,
+                             ObjectMapper objectMapper,
+                             PasswordCreation passwordCreation,
+                             PasswordManagement passwordManagement,
+                             @Qualifier("passwordHashExecutor") Executor hashExecutor,
+                             @Qualifier("omniSearchRebuildExecutor") Executor rebuildExecutor,
+                             @Qualifier("MongoAccountSearchRepo") IAccountSearchRepository searchRepository,
+                             @Qualifier("MongoCreateRepo") IAccountCreateRepository createRepository,
+                             IPetCreateRepository petCreate,
+                             IPetOwnerUpdateRepository ownerUpdate,
+                             IAccountExistenceFilter accountFilter,
+                             IHistoryLogCreate historyLog,
+                             @Qualifier("MongoEmailLogRepo") ILogEmailRepository logEmailRepository,
+                             @Qualifier("MongoSmsLogRepo") ILogSmsRepository logSmsRepository,
+                             AsyncEmailService emailService,
+                             IAdminOmniSearch omniSearch) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.passwordCreation = passwordCreation;
+        this.passwordManagement = passwordManagement;
+        this.hashExecutor = hashExecutor;
+        this.rebuildExecutor = rebuildExecutor;
+        this.searchRepository = searchRepository;
+        this.createRepository = createRepository;
+        this.petCreate = petCreate;
+        this.ownerUpdate = ownerUpdate;
+        this.accountFilter = accountFilter;
+        this.historyLog = historyLog;
+        this.logEmailRepository = logEmailRepository;
+        this.logSmsRepository = logSmsRepository;
+        this.emailService = emailService;
+        this.omniSearch = omniSearch;
+    }
+
+    @Override
+    public DomainResponse<ImportSummaryDTO> importOwners(InputStream body, ImportFormat format, Consumer<ImportRowResultDTO> onRow) {
+        long start = System.currentTimeMillis();
+        Tally tally = new Tally();
+
+        Welcomes welcomes = new Welcomes();
+
+        try (var reader = new ImportRowReader(body, format, objectMapper)) {
+            List<Entry> chunk = new ArrayList<>(config.getChunkSize());
+            while (reader.hasNext()) {
+                chunk.add(new Entry(reader.next()));
+                if (chunk.size() == config.getChunkSize()) {
+                    importChunk(chunk, onRow, tally, welcomes);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, onRow, tally, welcomes);
+
+            return DomainResponse.success(tally.summary(start),
+                    "Import finished, " + tally.created + " of " + tally.rows + " owner(s) created.");
+
+        } catch (IOException | UncheckedIOException e) {
+            return DomainResponse.error(tally.summary(start), "Import stopped after row " + tally.rows + ", the file could not be read.");
+        } catch (DomainArgumentException e) {
+            return DomainResponse.error(tally.summary(start), e.getMessage());
+        } catch (PersistenceException | MongoException | DataAccessException e) {
+            log.error("Owner import stopped after row {}: {}", tally.rows, e.getMessage(), e);
+            return DomainResponse.error(tally.summary(start), "Import stopped after row " + tally.rows + ", something wrong with the database.");
+        } finally {
+            welcomes.await();
+            if (tally.created > 0) rebuildExecutor.execute(omniSearch::rebuild);
+        }
+    }
+
+    private void importChunk(List<Entry> chunk, Consumer<ImportRowResultDTO> onRow, Tally tally, Welcomes welcomes) {
+        if (chunk.isEmpty()) return;
+
+        // Field checks and repeats inside the chunk, earlier chunks are already in the database
+        Set<String> emails = new HashSet<>();
+        Set<String> phones = new HashSet<>();
+        for (Entry entry : chunk) {
+            if (entry.error == null) entry.error = validate(entry.owner);
+            if (entry.error == null && !emails.add(entry.owner.getEmail())) entry.error = "Email is repeated in the file";
+            if (entry.error == null && !phones.add(entry.owner.getPhoneNumber())) entry.error = "Phone-number is repeated in the file";
+            if (entry.error != null) entry.status = ImportRowStatus.REJECTED;
+        }
+
+        List<Entry> accepted = rejectTaken(chunk);
+        if (!accepted.isEmpty()) save(accepted, tally, welcomes);
+
+        for (Entry entry : chunk) {
+            tally.count(entry);
+            onRow.accept(entry.toDTO());
+        }
+    }
+
+    // Same messages as the single registration
+    private List<Entry> rejectTaken(List<Entry> chunk) {
+        List<Entry> candidates = chunk.stream().filter(entry -> entry.status == null).toList();
+        if (candidates.isEmpty()) return candidates;
+
+        Set<String> takenEmails = new HashSet<>();
+        Set<String> takenPhones = new HashSet<>();
+        for (AccountKeys taken : searchRepository.getKeysByEmailsOrPhoneNumbers(
+                candidates.stream().map(entry -> entry.owner.getEmail()).toList(),
+                candidates.stream().map(entry -> entry.owner.getPhoneNumber()).toList())) {
+            takenEmails.add(taken.email());
+            takenPhones.add(taken.phoneNumber());
+        }
+
+        List<Entry> accepted = new ArrayList<>(candidates.size());
+        for (Entry entry : candidates) {
+            if (takenEmails.contains(entry.owner.getEmail())) entry.reject("Email is already used");
+            else if (takenPhones.contains(entry.owner.getPhoneNumber())) entry.reject("Phone-number is already used");
+            else accepted.add(entry);
+        }
+        return accepted;
+    }
+
+    private void save(List<Entry> accepted, Tally tally, Welcomes welcomes) {
+        // Bcrypt dominates, spread over the pool and wait for the whole chunk
+        List<CompletableFuture<String>> hashes = new ArrayList<>(accepted.size());
+        for (Entry entry : accepted) {
+            entry.rawPassword = passwordCreation.randomPassword();
+            String raw = entry.rawPassword;
+            hashes.add(CompletableFuture.supplyAsync(() -> passwordManagement.hash(raw), hashExecutor));
+        }
+
+        // A failed hash fails its row only, indexes below follow 'hashed'
+        List<Entry> hashed = new ArrayList<>(accepted.size());
+        List<String> passwords = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            try {
+                passwords.add(hashes.get(i).join());
+                hashed.add(accepted.get(i));
+            } catch (CompletionException e) {
+                Entry entry = accepted.get(i);
+                entry.status = ImportRowStatus.FAILED;
+                entry.error = "Password could not be created";
+                entry.rawPassword = null;
+                log.warn("Password hashing failed for imported row {}: {}", entry.row, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            }
+        }
+        if (hashed.isEmpty()) return;
+
+        List<ClientAccountDomain> accounts = new ArrayList<>(hashed.size());
+        List<ClientDomain> clients = new ArrayList<>(hashed.size());
+        List<Probe> probes = new ArrayList<>(hashed.size() * 2);
+        for (int i = 0; i < hashed.size(); i++) {
+            Entry entry = hashed.get(i);
+            ImportOwnerRDTO owner = entry.owner;
+            entry.ownerId = new ObjectId().toHexString();
+            for (int p = 0; p < owner.getPets().size(); p++) entry.petIds.add(new ObjectId().toHexString());
+
+            accounts.add(new ClientAccountDomain(entry.ownerId, owner.getEmail(), owner.getPhoneNumber(), passwords.get(i), false));
+            clients.add(new ClientDomain(entry.ownerId, owner.getFullName(), entry.petIds, owner.getStreetAddress(),
+                    owner.getCityAddress(), owner.getStateAddress(), owner.getEmergencyPhoneNumber()));
+            probes.add(new Probe(AccountKeyType.CLIENT_EMAIL, owner.getEmail()));
+            probes.add(new Probe(AccountKeyType.CLIENT_PHONE, owner.getPhoneNumber()));
+        }
+
+        accountFilter.add(probes.toArray(Probe[]::new));
+        Map<Integer, String> failedOwners = createRepository.createNewClients(accounts, clients);
+        failedOwners.forEach((index, reason) -> hashed.get(index).fail(reason));
+
+        List<Entry> created = hashed.stream().filter(entry -> entry.status == null).toList();
+        savePets(created);
+        created.forEach(entry -> entry.status = ImportRowStatus.CREATED);
+
+        writeLogs(created);
+        List<Welcome> batch = new ArrayList<>(created.size());
+        for (Entry entry : created) {
+            batch.add(new Welcome(entry.ownerId, entry.owner.getFullName(), entry.owner.getEmail(),
+                    new RegistrationEmailData(entry.owner.getEmail(), entry.owner.getPhoneNumber(), entry.rawPassword).format()));
+            entry.rawPassword = null;
+        }
+        welcomes.send(batch);
+    }
+
+    // Owners already reference their pet ids, a pet that did not insert is pulled back out
+    private void savePets(List<Entry> created) {
+        List<PetDomain> pets = new ArrayList<>();
+        List<Entry> petOwners = new ArrayList<>();
+        for (Entry entry : created) {
+            List<PetRDTO> rows = entry.owner.getPets();
+            for (int p = 0; p < rows.size(); p++) {
+                PetRDTO pet = rows.get(p);
+                pets.add(PetDomain.createWithId(entry.petIds.get(p), entry.ownerId, pet.getPetName(), pet.getAnimalType(),
+                        pet.getBreed(), pet.getSize(), pet.getAge(), pet.getSpecialDescription()));
+                petOwners.add(entry);
+            }
+        }
+
+        Map<Integer, String> failedPets = petCreate.createNewPets(pets);
+        failedPets.forEach((index, reason) -> {
+            Entry entry = petOwners.get(index);
+            PetDomain pet = pets.get(index);
+            ownerUpdate.removePet(entry.ownerId, pet.getId());
+            entry.petIds.remove(pet.getId());
+            entry.message = (entry.message == null ? "" : entry.message + " ") + "Pet '" + pet.getPetName() + "' was not saved.";
+            log.warn("Imported pet '{}' of owner {} failed to save: {}", pet.getPetName(), entry.ownerId, reason);
+        });
+    }
+
+    // Best effort like the single registration, a failed log never fails the row
+    private void writeLogs(List<Entry> created) {
+        if (created.isEmpty()) return;
+
+        List<UsernameAndId> owners = new ArrayList<>(created.size());
+        List<RegisteredPet> pets = new ArrayList<>();
+        List<SmsLogDomain> smsLogs = new ArrayList<>(created.size());
+        List<EmailLogsDomain> emailLogs = new ArrayList<>(created.size());
+        for (Entry entry : created) {
+            ImportOwnerRDTO owner = entry.owner;
+            owners.add(new UsernameAndId(owner.getFullName(), entry.ownerId));
+            for (int p = 0; p < owner.getPets().size(); p++) {
+                String petId = p < entry.petIds.size() ? entry.petIds.get(p) : null;
+                if (petId != null) pets.add(new RegisteredPet(petId, owner.getFullName(), owner.getPets().get(p).getPetName()));
+            }
+
+            String smsBody = SmsTextContent.registerMessage(
+                    new SmsRegisterContent(owner.getFullName(), owner.getEmail(), owner.getPhoneNumber(), entry.rawPassword));
+            smsLogs.add(SmsLogDomain.createNewLog(entry.ownerId, owner.getPhoneNumber(), owner.getFullName(), SmsType.REGISTER, smsBody));
+            emailLogs.add(EmailLogsDomain.createNewLog(entry.ownerId, owner.getEmail(), owner.getFullName(), EmailType.REGISTERED,
+                    new RegistrationEmailData(owner.getEmail(), owner.getPhoneNumber(), entry.rawPassword).format()));
+        }
+
+        try {
+            historyLog.createActivityLogRegisterBatch(owners, pets);
+        } catch (PersistenceHistoryException | PersistenceException | MongoException e) {
+            log.warn("Activity logs for {} imported owner(s) failed to save: {}", owners.size(), e.getMessage());
+        }
+        try {
+            logSmsRepository.logSmsTexts(smsLogs);
+            logEmailRepository.logEmails(emailLogs);
+        } catch (InvalidLogException | PersistenceException | MongoException e) {
+            log.warn("Sms and email logs for {} imported owner(s) failed to save: {}", owners.size(), e.getMessage());
+        }
+    }
+
+    private Mono<EmailResponseDTO> sendWelcome(Welcome welcome) {
+        return emailService.sendEmailAsync(EmailType.REGISTERED, welcome.fullName(), welcome.email(), welcome.body())
+                .timeout(EMAIL_TIMEOUT)
+                .onErrorResume(error -> {
+                    log.error("Error sending email to {}: {}", welcome.email(), error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private String validate(ImportOwnerRDTO owner) {
+        if (owner.getEmail() == null || !ClientAccountDomain.isValidEmail(owner.getEmail()))
+            return "Invalid email format";
+        if (owner.getPhoneNumber() == null || !ClientAccountDomain.isValidPhoneNumber(owner.getPhoneNumber()))
+            return "Invalid phone-number format or length";
+        if (owner.getFullName() == null || owner.getFullName().isBlank())
+            return "Full name cannot be empty";
+        if (owner.getEmergencyPhoneNumber() != null && !owner.getEmergencyPhoneNumber().isBlank()
+                && !ClientDomain.isValidPhoneNumber(owner.getEmergencyPhoneNumber()))
+            return "Invalid emergency phone-number format or length";
+        if (owner.getPets().size() > ImportRowReader.MAX_PETS_PER_OWNER)
+            return "More than " + ImportRowReader.MAX_PETS_PER_OWNER + " pets for one owner";
+
+        for (PetRDTO pet : owner.getPets()) {
+            if (pet.getPetName() == null || pet.getPetName().isBlank()) return "Pet's name cannot be empty";
+            if (pet.getAnimalType() == null || pet.getAnimalType().isBlank()) return "Pet's type cannot be empty";
+            if (pet.getAge() < 0) return "Age must be a non-negative number";
+        }
+        return null;
+    }
+
+
+    private record Welcome(String ownerId, String fullName, String email, String body) {}
+
+    // One chunk of welcome emails in flight while the next chunk imports
+    private final class Welcomes {
+        private Mono<Void> inFlight = Mono.empty();
+
+        private void send(List<Welcome> batch) {
+            await();
+            if (batch.isEmpty()) return;
+            inFlight = Flux.fromIterable(batch)
+                    .flatMap(OwnerBulkImportAS.this::sendWelcome, EMAIL_CONCURRENCY)
+                    .then()
+                    .cache();
+            inFlight.subscribe();
+        }
+
+        private void await() {
+            inFlight.block();
+            inFlight = Mono.empty();
+        }
+    }
+
+    private static final class Entry {
+        private final int row;
+        private final ImportOwnerRDTO owner;
+        private final List<String> petIds = new ArrayList<>();
+        private ImportRowStatus status;
+        private String error;
+        private String message;
+        private String ownerId;
+        private String rawPassword;
+
+        private Entry(ImportRowReader.Row row) {
+            this.row = row.row();
+            this.owner = row.owner();
+            this.error = row.error();
+        }
+
+        private void reject(String reason) {
+            status = ImportRowStatus.REJECTED;
+            error = reason;
+        }
+
+        private void fail(String reason) {
+            status = ImportRowStatus.FAILED;
+            error = "Database refused the owner: " + reason;
+            ownerId = null;
+            petIds.clear();
+        }
+
+        private ImportRowResultDTO toDTO() {
+            String email = owner != null ? owner.getEmail() : null;
+            String text = status == ImportRowStatus.CREATED
+                    ? (message == null ? "Created." : "Created. " + message)
+                    : error;
+            return new ImportRowResultDTO(row, status, email, ownerId, List.copyOf(petIds), text);
+        }
+    }
+
+    private static final class Tally {
+        private int rows;
+        private int created;
+        private int rejected;
+        private int failed;
+        private int pets;
+
+        private void count(Entry entry) {
+            rows++;
+            switch (entry.status) {
+                case CREATED -> {
+                    created++;
+                    pets += entry.petIds.size();
+                }
+                case REJECTED -> rejected++;
+                case FAILED -> failed++;
+            }
+        }
+
+        private ImportSummaryDTO summary(long start) {
+            return new ImportSummaryDTO(rows, created, rejected, failed, pets, System.currentTimeMillis() - start);
+        }
+    }
+}
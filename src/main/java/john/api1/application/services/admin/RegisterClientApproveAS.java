@@ -1,6 +1,7 @@
 package john.api1.application.services.admin;
 
 import john.api1.application.components.DomainResponse;
+import john.api1.application.components.event.OwnerProfileChangedEvent;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.ClientAccountDomain;
@@ -9,18 +10,22 @@ import john.api1.application.ports.repositories.owner.IAccountUpdateRepository;
 import john.api1.application.ports.services.IRegisterClientApprove;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
 public class RegisterClientApproveAS implements IRegisterClientApprove {
     private final IAccountSearchRepository ownerSearch;
     private final IAccountUpdateRepository ownerUpdate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public RegisterClientApproveAS(IAccountSearchRepository ownerSearch,
-                                   IAccountUpdateRepository ownerUpdate) {
+                                   IAccountUpdateRepository ownerUpdate,
+                                   ApplicationEventPublisher eventPublisher) {
         this.ownerSearch = ownerSearch;
         this.ownerUpdate = ownerUpdate;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -35,6 +40,7 @@ public class RegisterClientApproveAS implements IRegisterClientApprove {
             ClientAccountDomain account = search.get();
             account = account.approveAccount();
             ownerUpdate.updateAccount(account);
+            eventPublisher.publishEvent(new OwnerProfileChangedEvent(id));
             return DomainResponse.success("Successfully approve pending pet owner account!");
         } catch (DomainArgumentException | PersistenceException e) {
             return DomainResponse.error(e.getMessage());
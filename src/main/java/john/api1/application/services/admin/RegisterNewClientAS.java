@@ -5,12 +5,13 @@ import john.api1.application.adapters.services.email.body.RegistrationEmailData;
 import john.api1.application.async.AsyncEmailService;
 import john.api1.application.components.DomainResponse;
 import john.api1.application.components.SmsTextContent;
+import john.api1.application.components.enums.AccountKeyType;
 import john.api1.application.components.enums.EmailType;
 import john.api1.application.components.enums.SmsType;
+import john.api1.application.components.event.OwnerProfileChangedEvent;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.EmailSendingException;
 import john.api1.application.components.exception.PersistenceException;
-import john.api1.application.components.exception.PersistenceHistoryException;
 import john.api1.application.components.record.SmsRegisterContent;
 import john.api1.application.domain.cores.ClientCreationDS;
 import john.api1.application.domain.models.ClientAccountDomain;
@@ -22,6 +23,8 @@ import john.api1.application.ports.repositories.ILogEmailRepository;
 import john.api1.application.ports.repositories.ILogSmsRepository;
 import john.api1.application.ports.repositories.owner.IAccountCreateRepository;
 import john.api1.application.ports.repositories.owner.IAccountSearchRepository;
+import john.api1.application.ports.services.IAccountExistenceFilter;
+import john.api1.application.ports.services.IAccountExistenceFilter.Probe;
 import john.api1.application.ports.services.IRegisterNewClient;
 import john.api1.application.ports.services.history.IHistoryLogCreate;
 import john.api1.application.services.response.RegisterResponse;
@@ -29,10 +32,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 
 @Service
 @Qualifier("RegisterNewClientAS")
@@ -46,15 +49,19 @@ public class RegisterNewClientAS implements IRegisterNewClient<RegisterRDTO, Reg
     private final ILogEmailRepository logEmailRepository;
     private final ILogSmsRepository logSmsRepository;
     private final IHistoryLogCreate historyLog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IAccountExistenceFilter accountFilter;
 
     @Autowired
     public RegisterNewClientAS(ClientCreationDS clientCreation,
                                AsyncEmailService emailService,
                                @Qualifier("MongoAccountSearchRepo") IAccountSearchRepository searchRepository,
                                @Qualifier("MongoCreateRepo") IAccountCreateRepository createRepository,
-                               @Qualifier("MongoEmailLogRepo") ILogEmailRepository logEmailRepository,
-                               @Qualifier("MongoSmsLogRepo") ILogSmsRepository logSmsRepository,
-                               IHistoryLogCreate historyLog) {
+                               @Qualifier("BufferedEmailLogRepo") ILogEmailRepository logEmailRepository,
+                               @Qualifier("BufferedSmsLogRepo") ILogSmsRepository logSmsRepository,
+                               IHistoryLogCreate historyLog,
+                               ApplicationEventPublisher eventPublisher,
+                               IAccountExistenceFilter accountFilter) {
         this.clientCreation = clientCreation;
         this.emailService = emailService;
         this.searchRepository = searchRepository;
@@ -62,6 +69,8 @@ public class RegisterNewClientAS implements IRegisterNewClient<RegisterRDTO, Reg
         this.logEmailRepository = logEmailRepository;
         this.logSmsRepository = logSmsRepository;
         this.historyLog = historyLog;
+        this.eventPublisher = eventPublisher;
+        this.accountFilter = accountFilter;
     }
 
     // Create account credential first
@@ -88,7 +97,11 @@ public class RegisterNewClientAS implements IRegisterNewClient<RegisterRDTO, Reg
                     request.getCityAddress(),
                     request.getStateAddress(),
                     request.getEmergencyPhoneNumber());
+            accountFilter.add(
+                    new Probe(AccountKeyType.CLIENT_EMAIL, account.getEmail()),
+                    new Probe(AccountKeyType.CLIENT_PHONE, account.getPhoneNumber()));
             String registeredId = createRepository.createNewClient(account, information);
+            eventPublisher.publishEvent(new OwnerProfileChangedEvent(registeredId));
 
             // Email mechanism
             EmailDetails emailBody = new RegistrationEmailData(account.getEmail(), account.getPhoneNumber(), rawPassword);
@@ -101,12 +114,7 @@ public class RegisterNewClientAS implements IRegisterNewClient<RegisterRDTO, Reg
             String message = String.format("New pet owner '%s' has been successfully registered.", request.getFullName());
 
             // History log
-            try {
-                historyLog.createActivityLogOwnerRegister(registeredId, information.getFullName());
-                log.info("Activity log created for new registered owner '{}'", information.getFullName());
-            } catch (PersistenceHistoryException e) {
-                log.warn("Activity log for new owner registration failed to save in class 'RegisterNewClientAS'");
-            }
+            historyLog.createActivityLogOwnerRegister(registeredId, information.getFullName());
 
             return DomainResponse.success(
                     new RegisterResponse(
@@ -127,7 +135,7 @@ public class RegisterNewClientAS implements IRegisterNewClient<RegisterRDTO, Reg
     private void logAndSendEmail(String ownerId, String email, String fullName, String body) {
         EmailLogsDomain emailLog = EmailLogsDomain.createNewLog(ownerId, email, fullName, EmailType.REGISTERED, body);
 
-        CompletableFuture.runAsync(() -> logEmailRepository.logEmail(emailLog));
+        logEmailRepository.logEmail(emailLog);
         emailService.sendEmailAsync(EmailType.REGISTERED, fullName, email, body)
                 .doOnError(error ->
                         log.error("Error sending email to {}: {}", email, error.getMessage()))
@@ -141,9 +149,17 @@ public class RegisterNewClientAS implements IRegisterNewClient<RegisterRDTO, Reg
     }
 
 
+    // Filter miss on both skips the database, otherwise one $or query confirms
     private Optional<String> validateRequest(RegisterRDTO request) {
-        boolean emailExists = searchRepository.getAccountByEmail(request.getEmail()).isPresent();
-        boolean phoneExists = searchRepository.getAccountByPhoneNumber(request.getPhoneNumber()).isPresent();
+        String email = request.getEmail();
+        String phoneNumber = request.getPhoneNumber();
+        if (!accountFilter.mightContainAny(
+                new Probe(AccountKeyType.CLIENT_EMAIL, email),
+                new Probe(AccountKeyType.CLIENT_PHONE, phoneNumber))) return Optional.empty();
+
+        var taken = searchRepository.getKeysByEmailOrPhoneNumber(email, phoneNumber);
+        boolean emailExists = taken.stream().anyMatch(account -> email.equals(account.email()));
+        boolean phoneExists = taken.stream().anyMatch(account -> phoneNumber.equals(account.phoneNumber()));
 
         return emailExists ? Optional.of("Email is already used") :
                 phoneExists ? Optional.of("Phone-number is already used") :
@@ -8,6 +8,7 @@ import john.api1.application.dto.mapper.boarding.BoardingDTO;
 import john.api1.application.dto.mapper.boarding.RequestBreakdownDTO;
 import john.api1.application.ports.repositories.owner.PetOwnerCQRS;
 import john.api1.application.ports.repositories.pet.PetCQRS;
+import john.api1.application.ports.repositories.wrapper.MediaIdUrlExpire;
 import john.api1.application.ports.services.IBoardingAggregation;
 import john.api1.application.ports.services.media.IMediaSearch;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,14 +28,19 @@ public class AggregationBoarding implements IBoardingAggregation {
     @Override
     public BoardingCreatedDTO boardingCreatedAggregation(BoardingDomain boarding, BoardingPricingDomain pricing, PetOwnerCQRS owner, PetCQRS pet, Instant created) {
         var photoUrl = mediaSearch.findProfilePicByOwnerId(boarding.getPetId());
+        return boardingCreatedAggregation(boarding, pricing, owner, pet, photoUrl.orElse(null), created);
+    }
+
+    @Override
+    public BoardingCreatedDTO boardingCreatedAggregation(BoardingDomain boarding, BoardingPricingDomain pricing, PetOwnerCQRS owner, PetCQRS pet, MediaIdUrlExpire photo, Instant created) {
         String photoId = null;
         String mediaUrl = null;
         Instant expireAt = null;
 
-        if (photoUrl.isPresent()) {
-            photoId = photoUrl.get().id();
-            mediaUrl = photoUrl.get().mediaUrl();
-            expireAt = photoUrl.get().expireAt();
+        if (photo != null) {
+            photoId = photo.id();
+            mediaUrl = photo.mediaUrl();
+            expireAt = photo.expireAt();
         }
         return new BoardingCreatedDTO(
                 // id
@@ -61,14 +67,18 @@ public class AggregationBoarding implements IBoardingAggregation {
 
     public BoardingDTO boardingReleasedAggregation(BoardingDomain boarding, BoardingPricingDomain pricing, PetOwnerCQRS owner, PetCQRS pet, long durationDays, long durationHours, Instant extensionTime, Instant releasedAt) {
         var photoUrl = mediaSearch.findProfilePicByOwnerId(boarding.getPetId());
+        return boardingReleasedAggregation(boarding, pricing, owner, pet, photoUrl.orElse(null), durationDays, durationHours, extensionTime, releasedAt);
+    }
+
+    public BoardingDTO boardingReleasedAggregation(BoardingDomain boarding, BoardingPricingDomain pricing, PetOwnerCQRS owner, PetCQRS pet, MediaIdUrlExpire photo, long durationDays, long durationHours, Instant extensionTime, Instant releasedAt) {
         String photoId = null;
         String mediaUrl = null;
         Instant expireAt = null;
 
-        if (photoUrl.isPresent()) {
-            photoId = photoUrl.get().id();
-            mediaUrl = photoUrl.get().mediaUrl();
-            expireAt = photoUrl.get().expireAt();
+        if (photo != null) {
+            photoId = photo.id();
+            mediaUrl = photo.mediaUrl();
+            expireAt = photo.expireAt();
         }
         return new BoardingDTO(
                 // id
@@ -95,16 +105,20 @@ public class AggregationBoarding implements IBoardingAggregation {
 
     public BoardingDTO boardingAggregation(BoardingDomain boarding, BoardingPricingDomain pricing, PetOwnerCQRS owner, PetCQRS pet, long durationDays, long durationHours, Instant extensionTime) {
         var photoUrl = mediaSearch.findProfilePicByOwnerId(boarding.getPetId());
+        return boardingAggregation(boarding, pricing, owner, pet, photoUrl.orElse(null), durationDays, durationHours, extensionTime);
+    }
+
+    public BoardingDTO boardingAggregation(BoardingDomain boarding, BoardingPricingDomain pricing, PetOwnerCQRS owner, PetCQRS pet, MediaIdUrlExpire photo, long durationDays, long durationHours, Instant extensionTime) {
         String photoId = null;
         String mediaUrl = null;
         Instant expireAt = null;
 
         Instant extension = null;
 
-        if (photoUrl.isPresent()) {
-            photoId = photoUrl.get().id();
-            mediaUrl = photoUrl.get().mediaUrl();
-            expireAt = photoUrl.get().expireAt();
+        if (photo != null) {
+            photoId = photo.id();
+            mediaUrl = photo.mediaUrl();
+            expireAt = photo.expireAt();
         }
 
         if(extensionTime != null) {
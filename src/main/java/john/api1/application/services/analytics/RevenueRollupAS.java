@@ -0,0 +1,226 @@
+package john.api1.application.services.analytics;
+
+import com.mongodb.MongoException;
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.enums.RollupGranularity;
+import john.api1.application.components.enums.boarding.BoardingStatus;
+import john.api1.application.components.enums.boarding.RequestType;
+import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.domain.cores.analytics.RevenueRollupDS;
+import john.api1.application.domain.cores.boarding.MoneyDS;
+import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.domain.models.boarding.BoardingPricingDomain;
+import john.api1.application.dto.mapper.analytics.RevenueBucketDTO;
+import john.api1.application.dto.mapper.analytics.RevenueSummaryDTO;
+import john.api1.application.ports.repositories.analytics.IRevenueRollupRepository;
+import john.api1.application.ports.repositories.analytics.RevenueRollupCQRS;
+import john.api1.application.ports.repositories.boarding.IBoardingSearchRepository;
+import john.api1.application.ports.repositories.pet.PetCQRS;
+import john.api1.application.ports.services.analytics.IRevenueRollup;
+import john.api1.application.ports.services.boarding.IPricingManagement;
+import john.api1.application.ports.services.pet.IPetSearch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Pre-aggregated 'revenue_rollups', one day and one month bucket per period
+// Write side: release and request commit record their source id once, then $inc their buckets
+// Read side: any range is a few _id range scans over buckets, never over boardings or pricing
+@Service
+public class RevenueRollupAS implements IRevenueRollup {
+    private static final Logger log = LoggerFactory.getLogger(RevenueRollupAS.class);
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final long MAX_DAY_SERIES = 366;
+
+    private final IRevenueRollupRepository rollupRepository;
+    private final IBoardingSearchRepository boardingSearch;
+    private final IPricingManagement pricingManagement;
+    private final IPetSearch petSearch;
+
+    @Autowired
+    public RevenueRollupAS(IRevenueRollupRepository rollupRepository,
+                           IBoardingSearchRepository boardingSearch,
+                           IPricingManagement pricingManagement,
+                           IPetSearch petSearch) {
+        this.rollupRepository = rollupRepository;
+        this.boardingSearch = boardingSearch;
+        this.pricingManagement = pricingManagement;
+        this.petSearch = petSearch;
+    }
+
+    // Never fails the caller, a missed bucket is repaired by rebuild
+    @Override
+    public void recordRelease(BoardingDomain boarding, BoardingPricingDomain pricing, String species, Instant releasedAt) {
+        try {
+            rollupRepository.increment(RevenueRollupDS.releaseKey(boarding.getId()),
+                    RevenueRollupDS.day(releasedAt), RevenueRollupDS.releaseDelta(boarding, pricing, species));
+        } catch (PersistenceException | DomainArgumentException | MongoException | DataAccessException e) {
+            log.warn("Revenue rollup for released boarding '{}' failed, rebuild to repair. Error: {}", boarding.getId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void recordRequest(String requestId, RequestType requestType, double amount, Instant committedAt) {
+        try {
+            rollupRepository.increment(RevenueRollupDS.requestKey(requestId),
+                    RevenueRollupDS.day(committedAt), RevenueRollupDS.requestDelta(requestType, MoneyDS.toCents(amount)));
+        } catch (PersistenceException | DomainArgumentException | MongoException | DataAccessException e) {
+            log.warn("Revenue rollup for request '{}' failed, rebuild to repair. Error: {}", requestId, e.getMessage());
+        }
+    }
+
+    // Whole months from month buckets, partial months at either edge from day buckets
+    @Override
+    public DomainResponse<RevenueSummaryDTO> summary(LocalDate from, LocalDate to) {
+        try {
+            validateRange(from, to);
+
+            List<RevenueRollupCQRS> buckets = new ArrayList<>();
+            LocalDate cursor = from;
+
+            // Leading partial month
+            LocalDate firstMonthEnd = YearMonth.from(from).atEndOfMonth();
+            if (from.getDayOfMonth() != 1 || to.isBefore(firstMonthEnd)) {
+                LocalDate headEnd = to.isBefore(firstMonthEnd) ? to : firstMonthEnd;
+                buckets.addAll(rollupRepository.findRange(RollupGranularity.DAY, from, headEnd));
+                cursor = headEnd.plusDays(1);
+            }
+
+            // Whole months
+            YearMonth lastWholeMonth = to.equals(YearMonth.from(to).atEndOfMonth()) ? YearMonth.from(to) : YearMonth.from(to).minusMonths(1);
+            if (!cursor.isAfter(to) && !YearMonth.from(cursor).isAfter(lastWholeMonth)) {
+                buckets.addAll(rollupRepository.findRange(RollupGranularity.MONTH, cursor, lastWholeMonth.atDay(1)));
+                cursor = lastWholeMonth.atEndOfMonth().plusDays(1);
+            }
+
+            // Trailing partial month
+            if (!cursor.isAfter(to)) {
+                buckets.addAll(rollupRepository.findRange(RollupGranularity.DAY, cursor, to));
+            }
+
+            RevenueRollupCQRS totals = RevenueRollupDS.empty(null, from);
+            for (RevenueRollupCQRS bucket : buckets) {
+                totals = RevenueRollupDS.merge(totals, bucket);
+            }
+
+            var dto = new RevenueSummaryDTO(from, to, buckets.size(), RevenueBucketDTO.map(totals));
+            return DomainResponse.success(dto);
+
+        } catch (PersistenceException | DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
+
+    // Stored buckets only, periods without activity are left out
+    @Override
+    public DomainResponse<List<RevenueBucketDTO>> series(LocalDate from, LocalDate to, RollupGranularity granularity) {
+        try {
+            validateRange(from, to);
+            if (granularity == RollupGranularity.DAY && ChronoUnit.DAYS.between(from, to) >= MAX_DAY_SERIES)
+                throw new DomainArgumentException("Daily series is limited to " + MAX_DAY_SERIES + " days, use MONTH for longer ranges.");
+
+            var buckets = rollupRepository.findRange(granularity, granularity.periodStart(from), granularity.periodStart(to))
+                    .stream()
+                    .map(RevenueBucketDTO::map)
+                    .toList();
+            return DomainResponse.success(buckets);
+
+        } catch (PersistenceException | DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
+
+    // Request revenue from every pricing breakdown, boarding revenue from released boardings
+    // Release day of older boardings is their last update
+    // Boardings are walked in _id chunks, events recorded live after the start are replayed before the swap
+    @Override
+    public DomainResponse<Long> rebuild() {
+        try {
+            Instant started = Instant.now();
+            Map<String, RevenueRollupCQRS> buckets = new HashMap<>();
+            Set<String> sources = new HashSet<>();
+            long boardingCount = 0;
+            String afterId = null;
+
+            while (true) {
+                var batch = boardingSearch.searchBatch(afterId, REBUILD_BATCH_SIZE);
+                if (batch.isEmpty()) break;
+
+                var pricing = pricingManagement.getPricingDetailsByBoardingIds(batch.stream().map(BoardingDomain::getId).toList());
+                var pets = petSearch.getPetBoardingDetailsByIds(batch.stream()
+                        .filter(b -> b.getBoardingStatus() == BoardingStatus.RELEASED)
+                        .map(BoardingDomain::getPetId)
+                        .toList());
+
+                for (BoardingDomain boarding : batch) {
+                    var price = pricing.get(boarding.getId());
+                    if (price != null && price.getRequestBreakdown() != null) {
+                        for (var breakdown : price.getRequestBreakdown()) {
+                            var delta = RevenueRollupDS.requestDelta(
+                                    RevenueRollupDS.requestTypeOf(breakdown.requestName()),
+                                    MoneyDS.toCents(breakdown.total()));
+                            add(buckets, sources, RevenueRollupDS.day(breakdown.createdAt()), delta,
+                                    RevenueRollupDS.requestKey(breakdown.id().toHexString()));
+                        }
+                    }
+
+                    if (boarding.getBoardingStatus() == BoardingStatus.RELEASED) {
+                        PetCQRS pet = pets.get(boarding.getPetId());
+                        var delta = RevenueRollupDS.releaseDelta(boarding, price, pet != null ? pet.animalType() : null);
+                        add(buckets, sources, RevenueRollupDS.day(boarding.getUpdatedAt()), delta,
+                                RevenueRollupDS.releaseKey(boarding.getId()));
+                    }
+                }
+
+                boardingCount += batch.size();
+                afterId = batch.get(batch.size() - 1).getId();
+                if (batch.size() < REBUILD_BATCH_SIZE) break;
+            }
+
+            rollupRepository.replaceAll(new ArrayList<>(buckets.values()), sources, started);
+
+            long count = buckets.size();
+            log.info("Revenue rollups rebuilt with {} bucket(s) from {} boarding(s)", count, boardingCount);
+            return DomainResponse.success(count, "Revenue rollups rebuilt with " + count + " bucket(s).");
+
+        } catch (PersistenceException | DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException | DataAccessException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
+
+
+    private void add(Map<String, RevenueRollupCQRS> buckets, Set<String> sources,
+                     LocalDate day, RevenueRollupCQRS delta, String sourceKey) {
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            buckets.merge(granularity.key(day),
+                    RevenueRollupDS.merge(RevenueRollupDS.empty(granularity, granularity.periodStart(day)), delta),
+                    RevenueRollupDS::merge);
+        }
+        sources.add(sourceKey);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) throw new DomainArgumentException("Both 'from' and 'to' dates are required.");
+        if (to.isBefore(from)) throw new DomainArgumentException("'to' date cannot be before 'from' date.");
+    }
+}
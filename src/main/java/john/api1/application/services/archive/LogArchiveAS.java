@@ -0,0 +1,81 @@
+package john.api1.application.services.archive;
+
+import com.mongodb.MongoException;
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.enums.ArchiveCollection;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.ports.repositories.archive.ILogArchiveRepository;
+import john.api1.application.ports.services.archive.ILogArchive;
+import john.api1.common.config.ArchiveConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+// Moves history_log, email_logs and sms_logs documents older than the horizon into monthly segments
+// Chunk by chunk with a pause in between, a run stops at max-run and the next one picks up the rest
+// One run at a time per node, concurrent nodes write the same keys and delete the same ids
+@Service
+public class LogArchiveAS implements ILogArchive {
+    private static final Logger log = LoggerFactory.getLogger(LogArchiveAS.class);
+
+    private final ArchiveConfig config;
+    private final ILogArchiveRepository archiveRepository;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Autowired
+    public LogArchiveAS(ArchiveConfig config,
+                        ILogArchiveRepository archiveRepository) {
+        this.config = config;
+        this.archiveRepository = archiveRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${archive.run-ms:86400000}", initialDelayString = "${archive.run-ms:86400000}")
+    public void scheduledArchive() {
+        if (!config.isEnabled()) return;
+
+        var result = archive();
+        if (!result.isSuccess()) log.warn("Scheduled log archive failed: {}", result.getMessage());
+    }
+
+    @Override
+    public DomainResponse<Long> archive() {
+        if (!running.compareAndSet(false, true)) return DomainResponse.error("Log archive is already running.");
+
+        try {
+            Instant cutoff = Instant.now().minus(config.getHorizon());
+            long deadline = System.nanoTime() + config.getMaxRun().toNanos();
+            long moved = 0;
+
+            for (ArchiveCollection collection : ArchiveCollection.values()) {
+                while (System.nanoTime() - deadline < 0) {
+                    var segment = archiveRepository.moveChunk(collection, cutoff, config.getChunkSize());
+                    if (segment.isEmpty()) break;
+
+                    moved += segment.get().count();
+                    log.info("Archived {} {} document(s) into {}", segment.get().count(), collection.getCollection(), segment.get().key());
+                    LockSupport.parkNanos(config.getPause().toNanos());
+                }
+            }
+
+            boolean finished = System.nanoTime() - deadline < 0;
+            String message = "Archived " + moved + " document(s) older than " + cutoff + "."
+                    + (finished ? "" : " Stopped at max run, the next run continues.");
+            log.info(message);
+            return DomainResponse.success(moved, message);
+
+        } catch (PersistenceException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException | DataAccessException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -2,29 +2,36 @@ package john.api1.application.services.boarding;
 
 import com.mongodb.MongoException;
 import john.api1.application.components.DomainResponse;
-import john.api1.application.components.enums.PetPrices;
+import john.api1.application.components.FanOut;
 import john.api1.application.components.enums.PetSize;
 import john.api1.application.components.enums.SpeciesType;
 import john.api1.application.components.enums.boarding.BoardingStatus;
 import john.api1.application.components.enums.boarding.BoardingType;
 import john.api1.application.components.enums.boarding.PaymentStatus;
+import john.api1.application.components.event.BoardingChangedEvent;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
-import john.api1.application.components.exception.PersistenceHistoryException;
+import john.api1.application.domain.cores.boarding.MoneyDS;
 import john.api1.application.domain.models.boarding.BoardingDomain;
 import john.api1.application.domain.models.boarding.BoardingPricingDomain;
 import john.api1.application.dto.mapper.boarding.BoardingCreatedDTO;
 import john.api1.application.dto.request.BoardingRDTO;
 import john.api1.application.ports.repositories.boarding.IBoardingCreateRepository;
 import john.api1.application.ports.repositories.boarding.IPricingManagementRepository;
+import john.api1.application.ports.repositories.owner.PetOwnerCQRS;
 import john.api1.application.ports.repositories.pet.PetCQRS;
+import john.api1.application.ports.repositories.wrapper.MediaIdUrlExpire;
 import john.api1.application.ports.services.IBoardingAggregation;
 import john.api1.application.ports.services.IPetOwnerSearch;
 import john.api1.application.ports.services.boarding.IBoardingCreate;
+import john.api1.application.ports.services.boarding.IKennelAvailability;
+import john.api1.application.ports.services.boarding.IPricingEngine;
 import john.api1.application.ports.services.history.IHistoryLogCreate;
+import john.api1.application.ports.services.media.IMediaSearch;
 import john.api1.application.ports.services.pet.IPetSearch;
 import john.api1.application.ports.services.pet.IPetUpdate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -40,6 +47,11 @@ public class BoardingCreateAS implements IBoardingCreate {
     private final IPetOwnerSearch petOwner;
     private final IHistoryLogCreate historyLog;
     private final IBoardingAggregation aggregation;
+    private final IKennelAvailability kennel;
+    private final IMediaSearch mediaSearch;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FanOut fanOut;
+    private final IPricingEngine pricingEngine;
 
 
     @Autowired
@@ -49,7 +61,12 @@ public class BoardingCreateAS implements IBoardingCreate {
                             IPetUpdate petUpdate,
                             IPetOwnerSearch petOwner,
                             IHistoryLogCreate historyLog,
-                            IBoardingAggregation aggregation) {
+                            IBoardingAggregation aggregation,
+                            IKennelAvailability kennel,
+                            IMediaSearch mediaSearch,
+                            ApplicationEventPublisher eventPublisher,
+                            FanOut fanOut,
+                            IPricingEngine pricingEngine) {
         this.createRepository = createRepository;
         this.pricingManagement = pricingManagement;
         this.pet = pet;
@@ -57,12 +74,18 @@ public class BoardingCreateAS implements IBoardingCreate {
         this.petOwner = petOwner;
         this.historyLog = historyLog;
         this.aggregation = aggregation;
+        this.kennel = kennel;
+        this.mediaSearch = mediaSearch;
+        this.eventPublisher = eventPublisher;
+        this.fanOut = fanOut;
+        this.pricingEngine = pricingEngine;
     }
 
     // Validates if boarding time is appropriate
     // Check pet if currently boarding
     // Get pet and owner data for aggregation
     // Create boarding domain object
+    // Reserve kennel for pet size class, released again if saving fails
     // Create pricing domain object
     // Update pet boarding status
     // Save to DB
@@ -80,18 +103,43 @@ public class BoardingCreateAS implements IBoardingCreate {
             // Validation
             if (startAt.isAfter(endAt)) return DomainResponse.error("Boarding start date cannot be after end date");
 
-            // Check pet and owner for extra validation
-            var petExist = petOwner.safeVerifyPetOwnership(ownerId, petId);
-            if (!petExist.isSuccess()) return DomainResponse.error(petExist.getMessage());
+            // Check pet and owner for extra validation, lookups run concurrently
+            DomainResponse<String> petExist;
+            PetCQRS petDetails;
+            PetOwnerCQRS owner;
+            MediaIdUrlExpire photo;
+            try (var scope = fanOut.open()) {
+                var petExistCall = scope.fork(() -> petOwner.safeVerifyPetOwnership(ownerId, petId));
+                var petCall = scope.fork(() -> pet.getPetBoardingDetails(petId));
+                var ownerCall = scope.fork(() -> petOwner.getPetOwnerBoardingDetails(ownerId));
+                var photoCall = scope.fork(() -> mediaSearch.findProfilePicByOwnerId(petId));
+                scope.join();
+
+                petExist = petExistCall.get();
+                petDetails = petCall.get();
+                owner = ownerCall.get();
+                photo = photoCall.get().orElse(null);
+            }
 
-            var petDetails = pet.getPetBoardingDetails(petId);
+            if (!petExist.isSuccess()) return DomainResponse.error(petExist.getMessage());
             if (petDetails.boarding()) return DomainResponse.error("Pet is currently boarding");
 
-            var owner = petOwner.getPetOwnerBoardingDetails(ownerId);
-
             // Boarding creation and to DB
             BoardingDomain boarding = createBoarding(boardingRequest, boardingType, paymentStatus, startAt, endAt);
-            String boardingId = createRepository.saveBoarding(boarding);
+
+            // Kennel admission
+            PetSize size = PetSize.fromStringToSize(petDetails.size());
+            var reserved = kennel.reserve(size, startAt, endAt);
+            if (!reserved.isSuccess()) return DomainResponse.error(reserved.getMessage());
+
+            String boardingId;
+            try {
+                boardingId = createRepository.saveBoarding(boarding);
+            } catch (RuntimeException e) {
+                kennel.cancel(size, startAt, endAt);
+                throw e;
+            }
+            kennel.attach(boardingId, size, startAt, endAt);
             boarding = boarding.withId(boardingId);
             // update pet boarding as active
             petUpdate.updatePetStatus(petId, BoardingStatus.BOARDING);
@@ -99,17 +147,13 @@ public class BoardingCreateAS implements IBoardingCreate {
             // Pricing breakdown creation
             BoardingPricingDomain pricing = calculatePricing(boardingId, petDetails, boardingType, boarding.getBoardingDuration(), paymentStatus);
             pricingManagement.save(pricing);
+            eventPublisher.publishEvent(new BoardingChangedEvent(boardingId));
 
             // Returns aggregated dto response
-            var dto = aggregation.boardingCreatedAggregation(boarding, pricing, owner, petDetails, boarding.getCreatedAt());
+            var dto = aggregation.boardingCreatedAggregation(boarding, pricing, owner, petDetails, photo, boarding.getCreatedAt());
 
             // History log
-            try {
-                historyLog.createActivityLogBoarding(boarding, owner.ownerName(), petDetails.petName());
-                log.info("Activity log created for boarding pet '{}'", petDetails.petName());
-            } catch (PersistenceHistoryException e) {
-                log.warn("Activity log for boarding pet failed to save in class 'BoardingCreateAS'");
-            }
+            historyLog.createActivityLogBoarding(boarding, owner.ownerName(), petDetails.petName());
 
 
             return DomainResponse.success(dto, "Pet '" + petDetails.petName() + "' successfully boarded");
@@ -143,13 +187,15 @@ public class BoardingCreateAS implements IBoardingCreate {
                                                    BoardingType boardingType,
                                                    long time,
                                                    PaymentStatus paymentStatus) {
-        PetPrices rate = PetPrices.fromSpeciesAndSize(
+        var quote = pricingEngine.quoteBoarding(
                 SpeciesType.fromStringToSpecies(pet.animalType()),
-                PetSize.fromStringToSize(pet.size()));
+                PetSize.fromStringToSize(pet.size()),
+                boardingType,
+                time);
 
         return BoardingPricingDomain.createNew(
                 boardingId,
-                rate.getBoardingPrice(),
+                MoneyDS.toAmount(quote.unitPriceCents()),
                 boardingType,
                 time,
                 paymentStatus.equals(PaymentStatus.PAID)
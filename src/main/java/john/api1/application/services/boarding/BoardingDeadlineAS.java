@@ -0,0 +1,254 @@
+package john.api1.application.services.boarding;
+
+import com.mongodb.MongoException;
+import john.api1.application.components.enums.NotificationType;
+import john.api1.application.components.enums.boarding.BoardingStatus;
+import john.api1.application.components.enums.boarding.BoardingType;
+import john.api1.application.components.event.BoardingChangedEvent;
+import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.domain.cores.boarding.BoardingExtensionDS;
+import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.domain.models.request.ExtensionDomain;
+import john.api1.application.ports.repositories.boarding.IBoardingManagementRepository;
+import john.api1.application.ports.repositories.boarding.IBoardingSearchRepository;
+import john.api1.application.ports.repositories.request.IRequestCompletedSearchRepository;
+import john.api1.application.ports.services.boarding.IBoardingDeadline;
+import john.api1.application.ports.services.notification.INotificationCreate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.stream.Collectors;
+
+// Boarding lifecycle by deadline
+// BOARDING -> DONE_BOARDING at the effective end (extensions included)
+// DONE_BOARDING -> OVERDUE once the pickup grace period has passed
+// Deadlines sit in a priority queue, a single timer wakes up for the earliest one
+// Due boardings are flipped in bulk, owners are notified, and each flip re-arms through BoardingChangedEvent
+@Service
+public class BoardingDeadlineAS implements IBoardingDeadline {
+    private static final Logger log = LoggerFactory.getLogger(BoardingDeadlineAS.class);
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final IBoardingSearchRepository boardingSearch;
+    private final IBoardingManagementRepository boardingManagement;
+    private final IRequestCompletedSearchRepository requestSearch;
+    private final INotificationCreate notificationCreate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskScheduler taskScheduler;
+    private final Duration overdueGrace;
+
+    // Stale queue entries are skipped when 'armed' no longer points at them
+    private final PriorityQueue<Deadline> queue = new PriorityQueue<>(Comparator.comparing(Deadline::dueAt));
+    private final Map<String, Deadline> armed = new HashMap<>();
+    private ScheduledFuture<?> wakeUp;
+    private Instant wakeUpAt;
+
+    private record Deadline(String boardingId,
+                            String ownerId,
+                            String petId,
+                            BoardingType boardingType,
+                            Instant effectiveEnd,
+                            Instant dueAt,
+                            BoardingStatus expected,
+                            BoardingStatus next) {
+    }
+
+    @Autowired
+    public BoardingDeadlineAS(// repositories
+                              IBoardingSearchRepository boardingSearch,
+                              IBoardingManagementRepository boardingManagement,
+                              IRequestCompletedSearchRepository requestSearch,
+                              // services
+                              INotificationCreate notificationCreate,
+                              ApplicationEventPublisher eventPublisher,
+                              TaskScheduler taskScheduler,
+                              @Value("${boarding.overdue.grace-minutes:60}") long overdueGraceMinutes) {
+        this.boardingSearch = boardingSearch;
+        this.boardingManagement = boardingManagement;
+        this.requestSearch = requestSearch;
+        this.notificationCreate = notificationCreate;
+        this.eventPublisher = eventPublisher;
+        this.taskScheduler = taskScheduler;
+        this.overdueGrace = Duration.ofMinutes(overdueGraceMinutes);
+    }
+
+    @Override
+    public void rearm(String boardingId) {
+        try {
+            var boarding = boardingSearch.searchById(boardingId);
+            if (boarding.isEmpty()) {
+                disarm(boardingId);
+                return;
+            }
+
+            var extensions = boarding.get().hasEffectiveEnd() ? List.<ExtensionDomain>of()
+                    : requestSearch.getExtensionByBoardingIds(List.of(boardingId));
+            var deadline = deadlineFor(boarding.get(), extensions);
+            if (deadline == null) disarm(boardingId);
+            else arm(deadline);
+
+        } catch (PersistenceException | DomainArgumentException | MongoException | DataAccessException e) {
+            log.warn("Failed to re-arm boarding deadline. ID :{}. Error: {}", boardingId, e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void disarm(String boardingId) {
+        armed.remove(boardingId);
+    }
+
+    // Create, extension commit, manual status change, release and our own flips all land here
+    @EventListener
+    public void onBoardingChanged(BoardingChangedEvent event) {
+        rearm(event.boardingId());
+    }
+
+    // One status query per state on startup, never a periodic scan
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<BoardingDomain> boardings = new ArrayList<>(boardingSearch.searchByStatus(BoardingStatus.BOARDING));
+            boardings.addAll(boardingSearch.searchByStatus(BoardingStatus.DONE_BOARDING));
+            if (boardings.isEmpty()) return;
+
+            // extensions only for boardings not backfilled yet
+            Set<String> legacyIds = boardings.stream()
+                    .filter(boarding -> !boarding.hasEffectiveEnd())
+                    .map(BoardingDomain::getId)
+                    .collect(Collectors.toSet());
+            Map<String, List<ExtensionDomain>> extensionMap = requestSearch.getExtensionByBoardingIds(legacyIds)
+                    .stream()
+                    .collect(Collectors.groupingBy(ExtensionDomain::getBoardingId));
+
+            for (BoardingDomain boarding : boardings) {
+                var deadline = deadlineFor(boarding, extensionMap.get(boarding.getId()));
+                if (deadline != null) arm(deadline);
+            }
+
+            log.info("Boarding deadlines armed for {} boarding(s)", boardings.size());
+        } catch (PersistenceException | DomainArgumentException | MongoException | DataAccessException e) {
+            log.warn("Failed to warm boarding deadlines. Error: {}", e.getMessage());
+        }
+    }
+
+
+    private void fire() {
+        List<Deadline> due = drainDue(Instant.now());
+
+        Map<BoardingStatus, List<Deadline>> byNext = due.stream()
+                .collect(Collectors.groupingBy(Deadline::next));
+
+        byNext.forEach((next, deadlines) -> {
+            try {
+                flip(deadlines, next);
+            } catch (PersistenceException | MongoException | DataAccessException e) {
+                log.warn("Failed to flip {} boarding(s) to {}. Retrying. Error: {}", deadlines.size(), next, e.getMessage());
+                deadlines.forEach(deadline -> arm(withDueAt(deadline, Instant.now().plus(RETRY_DELAY))));
+            }
+        });
+
+        scheduleNext();
+    }
+
+    private void flip(List<Deadline> deadlines, BoardingStatus next) {
+        BoardingStatus expected = deadlines.get(0).expected();
+        Map<String, Deadline> byId = deadlines.stream()
+                .collect(Collectors.toMap(Deadline::boardingId, deadline -> deadline, (a, b) -> b));
+
+        // guarded by expected status, boardings changed by hand in the meantime are left alone
+        var flipped = new HashSet<>(boardingManagement.transitionStatus(byId.keySet(), expected, next));
+        log.info("{} boarding(s) moved from {} to {}", flipped.size(), expected, next);
+
+        NotificationType notificationType = next == BoardingStatus.OVERDUE
+                ? NotificationType.BOARDING_OVERDUE
+                : NotificationType.PICKUP_REMINDER;
+
+        for (String boardingId : flipped) {
+            var deadline = byId.get(boardingId);
+            var notified = notificationCreate.createBoardingNotification(
+                    deadline.ownerId(), deadline.petId(), notificationType, deadline.boardingType(), deadline.effectiveEnd());
+            if (!notified.isSuccess())
+                log.warn("Failed to notify owner for boarding. ID :{}. Error: {}", boardingId, notified.getMessage());
+
+            eventPublisher.publishEvent(BoardingChangedEvent.statusChanged(boardingId, next));
+        }
+    }
+
+    private Deadline deadlineFor(BoardingDomain boarding, List<ExtensionDomain> extensions) {
+        BoardingExtensionDS.resolveEffectiveEnd(boarding, extensions);
+        Instant effectiveEnd = boarding.getEffectiveEnd();
+
+        return switch (boarding.getBoardingStatus()) {
+            case BOARDING -> new Deadline(boarding.getId(), boarding.getOwnerId(), boarding.getPetId(),
+                    boarding.getBoardingType(), effectiveEnd, effectiveEnd,
+                    BoardingStatus.BOARDING, BoardingStatus.DONE_BOARDING);
+            case DONE_BOARDING -> new Deadline(boarding.getId(), boarding.getOwnerId(), boarding.getPetId(),
+                    boarding.getBoardingType(), effectiveEnd, effectiveEnd.plus(overdueGrace),
+                    BoardingStatus.DONE_BOARDING, BoardingStatus.OVERDUE);
+            case OVERDUE, RELEASED -> null;
+        };
+    }
+
+    private Deadline withDueAt(Deadline deadline, Instant dueAt) {
+        return new Deadline(deadline.boardingId(), deadline.ownerId(), deadline.petId(), deadline.boardingType(),
+                deadline.effectiveEnd(), dueAt, deadline.expected(), deadline.next());
+    }
+
+
+    // Queue, all access synchronized on 'this'
+    private synchronized void arm(Deadline deadline) {
+        armed.put(deadline.boardingId(), deadline);
+        queue.add(deadline);
+        if (wakeUpAt == null || deadline.dueAt().isBefore(wakeUpAt)) scheduleNext();
+    }
+
+    private synchronized List<Deadline> drainDue(Instant now) {
+        wakeUp = null;
+        wakeUpAt = null;
+
+        List<Deadline> due = new ArrayList<>();
+        while (!queue.isEmpty() && !queue.peek().dueAt().isAfter(now)) {
+            Deadline deadline = queue.poll();
+            if (armed.get(deadline.boardingId()) != deadline) continue;
+
+            armed.remove(deadline.boardingId());
+            due.add(deadline);
+        }
+        return due;
+    }
+
+    private synchronized void scheduleNext() {
+        // drop stale heads so the timer never wakes up for nothing
+        while (!queue.isEmpty() && armed.get(queue.peek().boardingId()) != queue.peek()) {
+            queue.poll();
+        }
+        if (queue.isEmpty()) return;
+
+        Instant head = queue.peek().dueAt();
+        if (wakeUpAt != null && !head.isBefore(wakeUpAt)) return;
+
+        if (wakeUp != null) wakeUp.cancel(false);
+        wakeUpAt = head;
+        wakeUp = taskScheduler.schedule(this::fire, head);
+    }
+}
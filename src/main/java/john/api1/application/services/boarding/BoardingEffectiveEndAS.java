@@ -0,0 +1,127 @@
+package john.api1.application.services.boarding;
+
+import com.mongodb.MongoException;
+import jakarta.annotation.Nullable;
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.event.BoardingChangedEvent;
+import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.domain.cores.boarding.BoardingExtensionDS;
+import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.domain.models.request.ExtensionDomain;
+import john.api1.application.ports.repositories.boarding.BoardingEndFill;
+import john.api1.application.ports.repositories.boarding.IBoardingManagementRepository;
+import john.api1.application.ports.repositories.boarding.IBoardingSearchRepository;
+import john.api1.application.ports.repositories.request.IRequestCompletedSearchRepository;
+import john.api1.application.ports.services.boarding.IBoardingEffectiveEnd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Stored effective end and durations on the boarding document, booked end plus committed extension hours
+// Extension commits move them with one pipeline update, the booked boardingEnd is left as is
+// Backfill is also the migration: baseline commits moved boardingEnd by each extension's hours as days,
+// one guarded write per boarding puts the booked end back and stores the effective end, effectiveEnd marks it done
+// It walks boardings without the field in _id order, a stopped run just picks up the rest
+@Service
+public class BoardingEffectiveEndAS implements IBoardingEffectiveEnd {
+    private static final Logger log = LoggerFactory.getLogger(BoardingEffectiveEndAS.class);
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final IBoardingSearchRepository boardingSearch;
+    private final IBoardingManagementRepository boardingManagement;
+    private final IRequestCompletedSearchRepository requestSearch;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public BoardingEffectiveEndAS(IBoardingSearchRepository boardingSearch,
+                                  IBoardingManagementRepository boardingManagement,
+                                  IRequestCompletedSearchRepository requestSearch,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.boardingSearch = boardingSearch;
+        this.boardingManagement = boardingManagement;
+        this.requestSearch = requestSearch;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // Not migrated yet, migrate from the earlier extensions first
+    @Override
+    public Instant currentEnd(String boardingId, String extensionId) {
+        var boarding = boardingSearch.searchById(boardingId)
+                .orElseThrow(() -> new PersistenceException("Boarding with id " + boardingId + " does not exist"));
+        if (boarding.hasEffectiveEnd()) return boarding.getEffectiveEnd();
+
+        fill(List.of(boarding), extensionId);
+        return boardingSearch.searchById(boardingId)
+                .filter(BoardingDomain::hasEffectiveEnd)
+                .map(BoardingDomain::getEffectiveEnd)
+                .orElseThrow(() -> new PersistenceException("Effective end for boarding " + boardingId + " could not be migrated"));
+    }
+
+    // Not migrated yet, migrate from the earlier extensions, then add this one
+    @Override
+    public void extend(String boardingId, String extensionId, long extendedHours) {
+        if (!boardingManagement.extendEffectiveEnd(boardingId, extendedHours)) {
+            currentEnd(boardingId, extensionId);
+            if (!boardingManagement.extendEffectiveEnd(boardingId, extendedHours))
+                throw new PersistenceException("Effective end for boarding " + boardingId + " could not be migrated");
+        }
+        eventPublisher.publishEvent(BoardingChangedEvent.endMoved(boardingId));
+    }
+
+    @Override
+    public DomainResponse<Long> backfill() {
+        try {
+            long count = 0;
+            String afterId = null;
+
+            while (true) {
+                var batch = boardingSearch.searchMissingEffectiveEnd(afterId, BACKFILL_BATCH_SIZE);
+                if (batch.isEmpty()) break;
+
+                count += fill(batch, null);
+                afterId = batch.get(batch.size() - 1).getId();
+                if (batch.size() < BACKFILL_BATCH_SIZE) break;
+            }
+
+            log.info("Effective end backfilled for {} boarding(s)", count);
+            return DomainResponse.success(count, "Effective end backfilled for " + count + " boarding(s).");
+
+        } catch (PersistenceException | DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
+
+
+    // One extension query per batch, one bulk write per batch
+    private int fill(List<BoardingDomain> boardings, @Nullable String excludedExtensionId) {
+        Set<String> boardingIds = boardings.stream().map(BoardingDomain::getId).collect(Collectors.toSet());
+        Map<String, List<ExtensionDomain>> extensionMap = requestSearch.getExtensionByBoardingIds(boardingIds)
+                .stream()
+                .collect(Collectors.groupingBy(ExtensionDomain::getBoardingId));
+
+        List<BoardingEndFill> filled = new ArrayList<>(boardings.size());
+        for (BoardingDomain boarding : boardings) {
+            try {
+                Instant storedEnd = boarding.getBoardingEnd();
+                BoardingExtensionDS.resolveEffectiveEnd(boarding, extensionMap.get(boarding.getId()), excludedExtensionId);
+                filled.add(new BoardingEndFill(boarding, storedEnd));
+            } catch (DomainArgumentException e) {
+                log.warn("Failed to compute effective end for boarding. ID :{}. Error: {}", boarding.getId(), e.getMessage());
+            }
+        }
+
+        return boardingManagement.saveEffectiveEnds(filled);
+    }
+}
@@ -2,30 +2,40 @@ package john.api1.application.services.boarding;
 
 import com.mongodb.MongoException;
 import john.api1.application.components.DomainResponse;
+import john.api1.application.components.FanOut;
 import john.api1.application.components.enums.boarding.BoardingStatus;
 import john.api1.application.components.enums.boarding.PaymentStatus;
+import john.api1.application.components.event.BoardingChangedEvent;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
-import john.api1.application.components.exception.PersistenceHistoryException;
 import john.api1.application.domain.cores.boarding.BoardingExtensionDS;
 import john.api1.application.domain.cores.boarding.BoardingManagementDS;
 import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.domain.models.boarding.BoardingPricingDomain;
+import john.api1.application.domain.models.request.ExtensionDomain;
 import john.api1.application.dto.mapper.boarding.BoardingDTO;
 import john.api1.application.dto.request.BoardingStatusRDTO;
 import john.api1.application.dto.request.PaymentStatusDTO;
 import john.api1.application.ports.repositories.boarding.IBoardingManagementRepository;
 import john.api1.application.ports.repositories.boarding.IBoardingSearchRepository;
+import john.api1.application.ports.repositories.owner.PetOwnerCQRS;
+import john.api1.application.ports.repositories.pet.PetCQRS;
 import john.api1.application.ports.repositories.request.IRequestCompletedSearchRepository;
+import john.api1.application.ports.repositories.wrapper.MediaIdUrlExpire;
 import john.api1.application.ports.services.IBoardingAggregation;
 import john.api1.application.ports.services.IPetOwnerSearch;
+import john.api1.application.ports.services.analytics.IRevenueRollup;
 import john.api1.application.ports.services.boarding.IBoardingManagement;
 import john.api1.application.ports.services.boarding.IPricingManagement;
 import john.api1.application.ports.services.history.IHistoryLogCreate;
+import john.api1.application.ports.services.media.IMediaSearch;
 import john.api1.application.ports.services.pet.IPetUpdate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.List;
 
 // THIS APPLICATION SERVICE IS FOR UPDATING CURRENT BOARDING
 @Service
@@ -40,6 +50,10 @@ public class BoardingManagementAS implements IBoardingManagement {
     private final IPetOwnerSearch ownerSearch;
     private final IHistoryLogCreate historyLog;
     private final IBoardingAggregation aggregation;
+    private final IMediaSearch mediaSearch;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FanOut fanOut;
+    private final IRevenueRollup revenueRollup;
 
 
     @Autowired
@@ -52,7 +66,11 @@ public class BoardingManagementAS implements IBoardingManagement {
                                 IPetUpdate petUpdate,
                                 IPetOwnerSearch ownerSearch,
                                 IHistoryLogCreate historyLog,
-                                IBoardingAggregation aggregation) {
+                                IBoardingAggregation aggregation,
+                                IMediaSearch mediaSearch,
+                                ApplicationEventPublisher eventPublisher,
+                                FanOut fanOut,
+                                IRevenueRollup revenueRollup) {
         this.boardingSearch = boardingSearch;
         this.boardingManagement = boardingManagement;
         this.requestManagement = requestManagement;
@@ -61,6 +79,10 @@ public class BoardingManagementAS implements IBoardingManagement {
         this.ownerSearch = ownerSearch;
         this.historyLog = historyLog;
         this.aggregation = aggregation;
+        this.mediaSearch = mediaSearch;
+        this.eventPublisher = eventPublisher;
+        this.fanOut = fanOut;
+        this.revenueRollup = revenueRollup;
     }
 
     // Validate current boarding status
@@ -103,37 +125,53 @@ public class BoardingManagementAS implements IBoardingManagement {
 
             boardingManagement.updateBoardingAfterRelease(boarding);
             pricingManagement.deactivatePricing(boardingId);
+            eventPublisher.publishEvent(BoardingChangedEvent.statusChanged(boardingId, BoardingStatus.RELEASED));
 
-            // update pet current status
-            var petUpdated = petUpdate.updatePetStatusWithResponse(boarding.getPetId(), BoardingStatus.RELEASED);
+            // update pet current status first, a write is never forked where a failing read could interrupt it
+            DomainResponse<PetCQRS> petUpdated = petUpdate.updatePetStatusWithResponse(boarding.getPetId(), BoardingStatus.RELEASED);
             if (!petUpdated.isSuccess()) {
                 return DomainResponse.error(petUpdated.getMessage());
             }
 
-            // Fetch related data (optimize batch-fetch if possible)
-            var ownerDetail = ownerSearch.getPetOwnerBoardingDetails(boarding.getOwnerId());
-            var boardingPrice = pricingManagement.getPricingDetails(boarding.getId());
-            var extensions = requestManagement.getExtensionByCurrentBoarding(boarding.getId());
-            Instant extendedTotalTime = BoardingExtensionDS.calculateFinalBoardingEnd(boarding.getBoardingEnd(), extensions);
+            // fetch related data concurrently
+            PetOwnerCQRS ownerDetail;
+            DomainResponse<BoardingPricingDomain> boardingPrice;
+            List<ExtensionDomain> extensions;
+            MediaIdUrlExpire photo;
+            try (var scope = fanOut.open()) {
+                var ownerCall = scope.fork(() -> ownerSearch.getPetOwnerBoardingDetails(boarding.getOwnerId()));
+                var pricingCall = scope.fork(() -> pricingManagement.getPricingDetails(boarding.getId()));
+                var extensionCall = boarding.hasEffectiveEnd() ? null
+                        : scope.fork(() -> requestManagement.getExtensionByCurrentBoarding(boarding.getId()));
+                var photoCall = scope.fork(() -> mediaSearch.findProfilePicByOwnerId(boarding.getPetId()));
+                scope.join();
+
+                ownerDetail = ownerCall.get();
+                boardingPrice = pricingCall.get();
+                extensions = extensionCall != null ? extensionCall.get() : List.of();
+                photo = photoCall.get().orElse(null);
+            }
+
+            // Stored effective end, extensions only for boardings not backfilled yet
+            BoardingExtensionDS.resolveEffectiveEnd(boarding, extensions);
+            Instant extendedTotalTime = boarding.getEffectiveEnd();
 
             // Duration
-            var hours = BoardingManagementDS.calculateBoardingDurationHours(boarding.getBoardingStart(), extendedTotalTime);
-            var days = BoardingManagementDS.calculateBoardingDurationDays(boarding.getBoardingStart(), extendedTotalTime);
+            var hours = boarding.getDurationHours();
+            var days = boarding.getDurationDays();
 
             // DTO
             Instant now = Instant.now();
             String message = String.format(
                     "%s's pet '%s' is successfully released from boarding at %s"
                     , ownerDetail.ownerName(), petUpdated.getData().petName(), now);
-            var dto = aggregation.boardingReleasedAggregation(boarding, boardingPrice.getData(), ownerDetail, petUpdated.getData(), days, hours, extendedTotalTime, now);
+            var dto = aggregation.boardingReleasedAggregation(boarding, boardingPrice.getData(), ownerDetail, petUpdated.getData(), photo, days, hours, extendedTotalTime, now);
+
+            // Revenue rollup
+            revenueRollup.recordRelease(boarding, boardingPrice.getData(), petUpdated.getData().animalType(), now);
 
             // History log
-            try {
-                historyLog.createActivityLogBoarding(boarding, ownerDetail.ownerName(), petUpdated.getData().petName());
-                log.info("Activity log created for boarding release for pet '{}'", petUpdated.getData().petName());
-            } catch (PersistenceHistoryException e) {
-                log.warn("Activity log for boarding release failed to save in class 'BoardingManagementAS'");
-            }
+            historyLog.createActivityLogBoarding(boarding, ownerDetail.ownerName(), petUpdated.getData().petName());
 
             return DomainResponse.success(dto, message);
         } catch (PersistenceException | DomainArgumentException e) {
@@ -145,17 +183,12 @@ public class BoardingManagementAS implements IBoardingManagement {
     @Override
     public DomainResponse<Void> updatePaidStatus(PaymentStatusDTO paymentStatus) {
         try {
-            // Check boarding status
-            var boardingStatusOpt = boardingSearch.checkBoardingCurrentStatus(paymentStatus.getId());
-            if (boardingStatusOpt.isEmpty()) {
-                return DomainResponse.error("Boarding status cannot be found");
-            }
-
-            if (boardingStatusOpt.get().equals(BoardingStatus.RELEASED)) {
-                return DomainResponse.error("Boarding is already released. It cannot be updated!");
-            }
+            // Guarded write, the status is only read back to explain a miss
             var status = PaymentStatus.safeFromStringOrDefault(paymentStatus.getStatus());
-            boardingManagement.updatePaidStatus(paymentStatus.getId(), status);
+            var updated = boardingManagement.updatePaidStatusUnlessReleased(paymentStatus.getId(), status);
+            if (updated.isEmpty()) return notUpdated(paymentStatus.getId());
+
+            eventPublisher.publishEvent(new BoardingChangedEvent(paymentStatus.getId()));
 
             return DomainResponse.success("Successfully updated payment status to '" + status.getPaymentStatus() + "'");
         } catch (PersistenceException | DomainArgumentException e) {
@@ -169,23 +202,12 @@ public class BoardingManagementAS implements IBoardingManagement {
     @Override
     public DomainResponse<Void> updateBoardingStatus(BoardingStatusRDTO boardingStatus) {
         try {
-            // Check boarding status
-            var boardingStatusOpt = boardingSearch.checkBoardingCurrentStatus(boardingStatus.getId());
-            if (boardingStatusOpt.isEmpty()) {
-                return DomainResponse.error("Boarding status cannot be found");
-            }
-
-            if (boardingStatusOpt.get().equals(BoardingStatus.RELEASED)) {
-                return DomainResponse.error("Boarding is already released. It cannot be updated!");
-            }
-
+            // Guarded write, the status is only read back to explain a miss
             var status = BoardingStatus.safeFromStringOrDefault(boardingStatus.getStatus());
-            switch (status) {
-                case BOARDING -> boardingManagement.markAsActive(boardingStatus.getId());
-                case DONE_BOARDING -> boardingManagement.markAsDoneBoarding(boardingStatus.getId());
-                case OVERDUE -> boardingManagement.markAsOverdue(boardingStatus.getId());
-                case RELEASED -> boardingManagement.markAsRelease(boardingStatus.getId());
-            }
+            var updated = boardingManagement.updateStatusUnlessReleased(boardingStatus.getId(), status);
+            if (updated.isEmpty()) return notUpdated(boardingStatus.getId());
+
+            eventPublisher.publishEvent(BoardingChangedEvent.statusChanged(boardingStatus.getId(), updated.get()));
 
             return DomainResponse.success("Successfully update boarding status to '" + status.getBoardingStatus() + "'");
         } catch (PersistenceException | DomainArgumentException e) {
@@ -194,4 +216,10 @@ public class BoardingManagementAS implements IBoardingManagement {
             return DomainResponse.error("There was an issue with the database. Please try again.");
         }
     }
+
+    private DomainResponse<Void> notUpdated(String boardingId) {
+        return boardingSearch.checkBoardingCurrentStatus(boardingId).isEmpty()
+                ? DomainResponse.error("Boarding status cannot be found")
+                : DomainResponse.error("Boarding is already released. It cannot be updated!");
+    }
 }
@@ -1,21 +1,28 @@
 package john.api1.application.services.boarding;
 
 import com.mongodb.MongoException;
+import jakarta.annotation.Nullable;
 import john.api1.application.components.DomainResponse;
+import john.api1.application.components.FanOut;
+import john.api1.application.components.PageCursor;
 import john.api1.application.components.enums.boarding.BoardingStatus;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.cores.boarding.BoardingExtensionDS;
-import john.api1.application.domain.cores.boarding.BoardingManagementDS;
+import john.api1.application.domain.cores.boarding.KennelCapacityDS;
 import john.api1.application.domain.models.boarding.BoardingDomain;
 import john.api1.application.dto.mapper.boarding.BoardingDTO;
+import john.api1.application.dto.mapper.boarding.BoardingPageDTO;
 import john.api1.application.ports.repositories.boarding.BoardingDurationCQRS;
+import john.api1.application.ports.repositories.boarding.BoardingPageRow;
 import john.api1.application.ports.repositories.boarding.IBoardingSearchRepository;
 import john.api1.application.ports.repositories.request.IRequestCompletedSearchRepository;
 import john.api1.application.ports.services.IBoardingAggregation;
 import john.api1.application.ports.services.IPetOwnerSearch;
 import john.api1.application.ports.services.boarding.IBoardingSearch;
+import john.api1.application.ports.services.boarding.IBoardingView;
 import john.api1.application.ports.services.boarding.IPricingManagement;
+import john.api1.application.ports.services.media.IMediaSearch;
 import john.api1.application.ports.services.pet.IPetSearch;
 import org.bson.types.ObjectId;
 import org.slf4j.Logger;
@@ -24,19 +31,27 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 public class BoardingSearchAS implements IBoardingSearch {
     private static final Logger logger = LoggerFactory.getLogger(BoardingSearchAS.class);
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int STREAM_CHUNK_SIZE = 200;
     private final IBoardingSearchRepository searchRepository;
     private final IPricingManagement pricingSearch;
     private final IPetOwnerSearch ownerSearch;
     private final IPetSearch petSearch;
     private final IRequestCompletedSearchRepository requestSearch;
     private final IBoardingAggregation aggregation;
+    private final IBoardingView boardingView;
+    private final IMediaSearch mediaSearch;
+    private final FanOut fanOut;
 
     @Autowired
     public BoardingSearchAS(IBoardingSearchRepository searchRepository,
@@ -44,13 +59,19 @@ public class BoardingSearchAS implements IBoardingSearch {
                             IPetOwnerSearch ownerSearch,
                             IPetSearch petSearch,
                             IRequestCompletedSearchRepository requestSearch,
-                            IBoardingAggregation aggregation) {
+                            IBoardingAggregation aggregation,
+                            IBoardingView boardingView,
+                            IMediaSearch mediaSearch,
+                            FanOut fanOut) {
         this.searchRepository = searchRepository;
         this.pricingSearch = pricingSearch;
         this.ownerSearch = ownerSearch;
         this.petSearch = petSearch;
         this.requestSearch = requestSearch;
         this.aggregation = aggregation;
+        this.boardingView = boardingView;
+        this.mediaSearch = mediaSearch;
+        this.fanOut = fanOut;
     }
 
 
@@ -95,12 +116,15 @@ public class BoardingSearchAS implements IBoardingSearch {
     public DomainResponse<List<BoardingDTO>> findAllByOwnerId(String ownerId) {
         try {
             validateId(ownerId, "owner");
-            var boarding = searchRepository.searchAllByOwnerId(ownerId);
+            List<BoardingDTO> dto;
 
-            if (boarding.isEmpty()) {
-                return DomainResponse.error("No boardings found for this owner.");
+            // view not built yet, fall back to live aggregation
+            if (boardingView.isBuilt()) {
+                dto = boardingView.findAllByOwnerId(ownerId);
+            } else {
+                dto = boardingView.aggregate(searchRepository.searchAllByOwnerId(ownerId));
             }
-            var dto = aggregation(boarding);
+            if (dto.isEmpty()) return DomainResponse.error("No boardings found for this owner.");
 
             return DomainResponse.success(dto, "Boardings were successfully retrieved.");
 
@@ -132,13 +156,56 @@ public class BoardingSearchAS implements IBoardingSearch {
     @Override
     public DomainResponse<List<BoardingDTO>> allBoarding() {
         try {
-            var boarding = searchRepository.searchAll();
+            List<BoardingDTO> dto;
+
+            // view not built yet, fall back to live aggregation one page at a time
+            if (boardingView.isBuilt()) {
+                dto = boardingView.findAll();
+            } else {
+                dto = new ArrayList<>();
+                PageCursor after = null;
+
+                while (true) {
+                    var rows = searchRepository.searchPage(after, MAX_PAGE_SIZE);
+                    if (rows.isEmpty()) break;
+
+                    dto.addAll(boardingView.aggregate(mappedBoardings(rows)));
+                    after = rows.get(rows.size() - 1).position();
+                    if (rows.size() < MAX_PAGE_SIZE) break;
+                }
+            }
+            if (dto.isEmpty()) return DomainResponse.error("No boarding found.");
+            return DomainResponse.success(dto, " All boarding successfully retrieved.");
+
+        } catch (PersistenceException | DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
+
+
+    @Override
+    public DomainResponse<BoardingPageDTO> boardingPage(@Nullable String cursor, int limit) {
+        try {
+            if (limit < 1 || limit > MAX_PAGE_SIZE)
+                return DomainResponse.error("Page limit must be between 1 and " + MAX_PAGE_SIZE + ".");
 
-            if (boarding.isEmpty())
-                return DomainResponse.error("No boarding found.");
+            PageCursor after = (cursor == null || cursor.isBlank()) ? null : PageCursor.decode(cursor);
 
-            var dto = aggregation(boarding);
-            return DomainResponse.success(dto, " All boarding successfully retrieved.");
+            // served from the view once built, live aggregation until then
+            if (boardingView.isBuilt()) return viewPage(after, limit);
+
+            // one extra row tells if there is a next page
+            var rows = searchRepository.searchPage(after, limit + 1);
+            boolean hasNext = rows.size() > limit;
+            if (hasNext) rows = rows.subList(0, limit);
+
+            // cursor follows the raw rows, unmappable ones are dropped only from the page body
+            String nextCursor = hasNext ? rows.get(rows.size() - 1).position().encode() : null;
+
+            var dto = boardingView.aggregate(mappedBoardings(rows));
+            return DomainResponse.success(new BoardingPageDTO(dto, nextCursor), "Boarding page successfully retrieved.");
 
         } catch (PersistenceException | DomainArgumentException e) {
             return DomainResponse.error(e.getMessage());
@@ -147,11 +214,56 @@ public class BoardingSearchAS implements IBoardingSearch {
         }
     }
 
+    private DomainResponse<BoardingPageDTO> viewPage(@Nullable PageCursor after, int limit) {
+        var dto = boardingView.findPage(after, limit + 1);
+        boolean hasNext = dto.size() > limit;
+        if (hasNext) dto = dto.subList(0, limit);
+
+        String nextCursor = null;
+        if (hasNext) {
+            var last = dto.get(dto.size() - 1);
+            nextCursor = new PageCursor(last.createdAt(), last.id()).encode();
+        }
+        return DomainResponse.success(new BoardingPageDTO(dto, nextCursor), "Boarding page successfully retrieved.");
+    }
+
+    private static List<BoardingDomain> mappedBoardings(List<BoardingPageRow> rows) {
+        return rows.stream()
+                .map(BoardingPageRow::boarding)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // Heap stays at one chunk regardless of collection size
+    @Override
+    public void streamAllBoarding(Consumer<BoardingDTO> consumer) {
+        try (var stream = searchRepository.streamAll()) {
+            List<BoardingDomain> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+            var iterator = stream.iterator();
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == STREAM_CHUNK_SIZE) {
+                    boardingView.aggregate(chunk).forEach(consumer);
+                    chunk.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) boardingView.aggregate(chunk).forEach(consumer);
+        }
+    }
+
 
     @Override
     public DomainResponse<BoardingDTO> recentBoarding() {
 
         try {
+            if (boardingView.isBuilt()) {
+                var recent = boardingView.findRecent();
+                if (recent.isPresent())
+                    return DomainResponse.success(recent.get(), " Recent boarding successfully retrieved.");
+            }
+
             var boarding = searchRepository.searchRecent();
 
             if (boarding.isEmpty()) return DomainResponse.error("No boarding found.");
@@ -168,6 +280,24 @@ public class BoardingSearchAS implements IBoardingSearch {
         }
     }
 
+    @Override
+    public DomainResponse<List<BoardingDTO>> endingToday() {
+        try {
+            LocalDate today = KennelCapacityDS.today();
+            var boarding = searchRepository.searchEndingBetween(
+                    KennelCapacityDS.startOfDay(today), KennelCapacityDS.startOfDay(today.plusDays(1)));
+
+            if (boarding.isEmpty()) return DomainResponse.error("No boarding ending today.");
+
+            return DomainResponse.success(boardingView.aggregate(boarding), "Boardings ending today successfully retrieved.");
+
+        } catch (PersistenceException | DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
+
 
     @Override
     public BoardingDurationCQRS checkBoardingTime(String id) {
@@ -188,61 +318,30 @@ public class BoardingSearchAS implements IBoardingSearch {
     }
 
 
-    private List<BoardingDTO> aggregation(List<BoardingDomain> boardings) {
-        List<BoardingDTO> result = new ArrayList<>(boardings.size());
-
-        for (BoardingDomain boarding : boardings) {
-            try {
-                var pricingResult = pricingSearch.getPricingDetails(boarding.getId());
-                var pricing = pricingResult != null ? pricingResult.getData() : null;
-
-                var owner = ownerSearch.getPetOwnerBoardingDetails(boarding.getOwnerId());
-                var pet = petSearch.getPetBoardingDetails(boarding.getPetId());
-
-                // Base end time before extensions
-                Instant endTime = boarding.getBoardingEnd();
-                long hours = BoardingManagementDS.calculateBoardingDurationHours(boarding.getBoardingStart(), endTime);
-                long days = BoardingManagementDS.calculateBoardingDurationDays(boarding.getBoardingStart(), endTime);
-
-                var extensions = requestSearch.getExtensionByCurrentBoarding(boarding.getId());
-                if (extensions != null && !extensions.isEmpty()) {
-                    endTime = BoardingExtensionDS.calculateFinalBoardingEnd(endTime, extensions);
-                    hours = BoardingManagementDS.calculateBoardingDurationHours(boarding.getBoardingStart(), endTime);
-                    days = BoardingManagementDS.calculateBoardingDurationDays(boarding.getBoardingStart(), endTime);
-                }
-
-                result.add(aggregation.boardingAggregation(boarding, pricing, owner, pet, days, hours, endTime));
-
-            } catch (PersistenceException | IllegalArgumentException e) {
-                logger.warn("Failed to aggregate boarding while searching. ID :{}. Error: {}", boarding.getId(), e.getMessage());
-            }
-        }
-
-        return result;
-    }
-
-
     private Optional<BoardingDTO> aggregation(BoardingDomain boarding) {
-        try {
-            var pricingResult = pricingSearch.getPricingDetails(boarding.getId());
+        // Independent lookups run concurrently
+        try (var scope = fanOut.open()) {
+            var pricingCall = scope.fork(() -> pricingSearch.getPricingDetails(boarding.getId()));
+            var ownerCall = scope.fork(() -> ownerSearch.getPetOwnerBoardingDetails(boarding.getOwnerId()));
+            var petCall = scope.fork(() -> petSearch.getPetBoardingDetails(boarding.getPetId()));
+            // Stored effective end skips the extension query
+            var extensionCall = boarding.hasEffectiveEnd() ? null
+                    : scope.fork(() -> requestSearch.getExtensionByCurrentBoarding(boarding.getId()));
+            var photoCall = scope.fork(() -> mediaSearch.findProfilePicByOwnerId(boarding.getPetId()));
+            scope.join();
+
+            var pricingResult = pricingCall.get();
             var pricing = pricingResult != null ? pricingResult.getData() : null;
 
-            var owner = ownerSearch.getPetOwnerBoardingDetails(boarding.getOwnerId());
-            var pet = petSearch.getPetBoardingDetails(boarding.getPetId());
-
-            // Base end time before extensions
-            Instant endTime = boarding.getBoardingEnd();
-            long hours = BoardingManagementDS.calculateBoardingDurationHours(boarding.getBoardingStart(), endTime);
-            long days = BoardingManagementDS.calculateBoardingDurationDays(boarding.getBoardingStart(), endTime);
+            var owner = ownerCall.get();
+            var pet = petCall.get();
 
-            var extensions = requestSearch.getExtensionByCurrentBoarding(boarding.getId());
-            if (extensions != null && !extensions.isEmpty()) {
-                endTime = BoardingExtensionDS.calculateFinalBoardingEnd(endTime, extensions);
-                hours = BoardingManagementDS.calculateBoardingDurationHours(boarding.getBoardingStart(), endTime);
-                days = BoardingManagementDS.calculateBoardingDurationDays(boarding.getBoardingStart(), endTime);
-            }
+            if (extensionCall != null) BoardingExtensionDS.resolveEffectiveEnd(boarding, extensionCall.get());
+            Instant endTime = boarding.getEffectiveEnd();
+            long hours = boarding.getDurationHours();
+            long days = boarding.getDurationDays();
 
-            return Optional.ofNullable(aggregation.boardingAggregation(boarding, pricing, owner, pet, days, hours, endTime));
+            return Optional.ofNullable(aggregation.boardingAggregation(boarding, pricing, owner, pet, photoCall.get().orElse(null), days, hours, endTime));
 
         } catch (PersistenceException | IllegalArgumentException e) {
             logger.warn("Failed to aggregate boarding while searching. ID :{}. Error: {}", boarding.getId(), e.getMessage());
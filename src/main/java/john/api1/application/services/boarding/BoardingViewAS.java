@@ -0,0 +1,274 @@
+package john.api1.application.services.boarding;
+
+import com.mongodb.MongoException;
+import jakarta.annotation.Nullable;
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.PageCursor;
+import john.api1.application.components.enums.BucketType;
+import john.api1.application.components.event.BoardingChangedEvent;
+import john.api1.application.components.event.OwnerProfileChangedEvent;
+import john.api1.application.components.event.PetProfileChangedEvent;
+import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.domain.cores.boarding.BoardingExtensionDS;
+import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.domain.models.boarding.BoardingPricingDomain;
+import john.api1.application.domain.models.request.ExtensionDomain;
+import john.api1.application.dto.mapper.boarding.BoardingDTO;
+import john.api1.application.ports.repositories.boarding.BoardingViewCQRS;
+import john.api1.application.ports.repositories.boarding.IBoardingSearchRepository;
+import john.api1.application.ports.repositories.boarding.IBoardingViewRepository;
+import john.api1.application.ports.repositories.media.IMediaSearchRepository;
+import john.api1.application.ports.repositories.owner.PetOwnerCQRS;
+import john.api1.application.ports.repositories.pet.PetCQRS;
+import john.api1.application.ports.repositories.request.IRequestCompletedSearchRepository;
+import john.api1.application.ports.repositories.wrapper.MediaEntityPreview;
+import john.api1.application.ports.repositories.wrapper.MediaIdUrlExpire;
+import john.api1.application.ports.services.IBoardingAggregation;
+import john.api1.application.ports.services.IPetOwnerSearch;
+import john.api1.application.ports.services.boarding.IBoardingView;
+import john.api1.application.ports.services.boarding.IPricingManagement;
+import john.api1.application.ports.services.media.IMediaAdapter;
+import john.api1.application.ports.services.pet.IPetSearch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Materialized 'boarding_view' read model.
+// Write side publishes events, this service upserts the affected rows.
+// Read side is a single indexed query, photo url is presigned on read.
+@Service
+public class BoardingViewAS implements IBoardingView {
+    private static final Logger log = LoggerFactory.getLogger(BoardingViewAS.class);
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final IBoardingViewRepository viewRepository;
+    private final IBoardingSearchRepository boardingSearch;
+    private final IRequestCompletedSearchRepository requestSearch;
+    private final IMediaSearchRepository mediaSearch;
+    private final IPricingManagement pricingSearch;
+    private final IPetOwnerSearch ownerSearch;
+    private final IPetSearch petSearch;
+    private final IMediaAdapter mediaAdapter;
+    private final IBoardingAggregation aggregation;
+    private volatile boolean built;
+
+    @Autowired
+    public BoardingViewAS(// repositories
+                          IBoardingViewRepository viewRepository,
+                          IBoardingSearchRepository boardingSearch,
+                          IRequestCompletedSearchRepository requestSearch,
+                          IMediaSearchRepository mediaSearch,
+                          // services
+                          IPricingManagement pricingSearch,
+                          IPetOwnerSearch ownerSearch,
+                          IPetSearch petSearch,
+                          @Qualifier("DigitalOceanS3Adapter") IMediaAdapter mediaAdapter,
+                          IBoardingAggregation aggregation) {
+        this.viewRepository = viewRepository;
+        this.boardingSearch = boardingSearch;
+        this.requestSearch = requestSearch;
+        this.mediaSearch = mediaSearch;
+        this.pricingSearch = pricingSearch;
+        this.ownerSearch = ownerSearch;
+        this.petSearch = petSearch;
+        this.mediaAdapter = mediaAdapter;
+        this.aggregation = aggregation;
+    }
+
+    // Read
+    @Override
+    public List<BoardingDTO> findAll() {
+        return viewRepository.findAll()
+                .stream()
+                .map(this::presign)
+                .toList();
+    }
+
+    @Override
+    public List<BoardingDTO> findAllByOwnerId(String ownerId) {
+        return viewRepository.findAllByOwnerId(ownerId)
+                .stream()
+                .map(this::presign)
+                .toList();
+    }
+
+    @Override
+    public List<BoardingDTO> findPage(@Nullable PageCursor after, int limit) {
+        return viewRepository.findPage(after, limit)
+                .stream()
+                .map(this::presign)
+                .toList();
+    }
+
+    @Override
+    public Optional<BoardingDTO> findRecent() {
+        return viewRepository.findRecent().map(this::presign);
+    }
+
+    @Override
+    public List<BoardingDTO> aggregate(List<BoardingDomain> boardings) {
+        return buildViews(boardings)
+                .stream()
+                .map(this::presign)
+                .toList();
+    }
+
+    // Once built, events keep the view current, the marker is never cleared
+    @Override
+    public boolean isBuilt() {
+        if (built) return true;
+        built = viewRepository.isBuilt();
+        return built;
+    }
+
+    // Backfill whole view in _id ordered batches, the marker is written only after the last one
+    // A stopped run leaves the marker unset, readers keep falling back and the next run starts over
+    @Override
+    public DomainResponse<Long> rebuild() {
+        try {
+            long count = 0;
+            String afterId = null;
+
+            while (true) {
+                var batch = boardingSearch.searchBatch(afterId, REBUILD_BATCH_SIZE);
+                if (batch.isEmpty()) break;
+
+                var views = buildViews(batch);
+                viewRepository.upsertAll(views);
+                count += views.size();
+                afterId = batch.get(batch.size() - 1).getId();
+                if (batch.size() < REBUILD_BATCH_SIZE) break;
+            }
+
+            viewRepository.markBuilt();
+            built = true;
+            log.info("Boarding view rebuilt with {} boarding(s)", count);
+            return DomainResponse.success(count, "Boarding view rebuilt with " + count + " boarding(s).");
+
+        } catch (PersistenceException | DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
+
+
+    // Write-side events
+    @EventListener
+    public void onBoardingChanged(BoardingChangedEvent event) {
+        try {
+            var boarding = boardingSearch.searchById(event.boardingId());
+            if (boarding.isEmpty()) {
+                viewRepository.deleteById(event.boardingId());
+                return;
+            }
+
+            buildViews(List.of(boarding.get())).forEach(viewRepository::upsert);
+        } catch (PersistenceException | DomainArgumentException | MongoException e) {
+            log.warn("Failed to refresh boarding view. ID :{}. Error: {}", event.boardingId(), e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onPetProfileChanged(PetProfileChangedEvent event) {
+        try {
+            var pet = petSearch.getPetBoardingDetails(event.petId());
+            var photo = mediaSearch.findProfilePicByOwnerId(event.petId());
+            viewRepository.updatePetFields(pet, photo.orElse(null));
+        } catch (PersistenceException | DomainArgumentException | MongoException e) {
+            log.warn("Failed to refresh boarding view for pet. ID :{}. Error: {}", event.petId(), e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onOwnerProfileChanged(OwnerProfileChangedEvent event) {
+        try {
+            var owner = ownerSearch.getPetOwnerBoardingDetails(event.ownerId());
+            viewRepository.updateOwnerFields(
+                    owner.id(),
+                    owner.ownerName(),
+                    owner.ownerEmail(),
+                    owner.ownerPhoneNumber(),
+                    String.join(", ", owner.streetAddress(), owner.cityAddress(), owner.stateAddress()));
+        } catch (PersistenceException | DomainArgumentException | MongoException e) {
+            log.warn("Failed to refresh boarding view for owner. ID :{}. Error: {}", event.ownerId(), e.getMessage());
+        }
+    }
+
+
+    // Bulk aggregation
+    // Collect distinct boarding, owner and pet ids
+    // Prefetch pricing, owners, pets, extensions and profile photos with one $in query each
+    // Assemble rows from in-memory maps
+    private List<BoardingViewCQRS> buildViews(List<BoardingDomain> boardings) {
+        Set<String> boardingIds = new HashSet<>(boardings.size());
+        Set<String> ownerIds = new HashSet<>();
+        Set<String> petIds = new HashSet<>();
+        for (BoardingDomain boarding : boardings) {
+            boardingIds.add(boarding.getId());
+            ownerIds.add(boarding.getOwnerId());
+            petIds.add(boarding.getPetId());
+        }
+
+        Map<String, BoardingPricingDomain> pricingMap = pricingSearch.getPricingDetailsByBoardingIds(boardingIds);
+        Map<String, PetOwnerCQRS> ownerMap = ownerSearch.getPetOwnerBoardingDetailsByIds(ownerIds);
+        Map<String, PetCQRS> petMap = petSearch.getPetBoardingDetailsByIds(petIds);
+        // extensions only for boardings not backfilled yet
+        Set<String> legacyIds = boardings.stream()
+                .filter(boarding -> !boarding.hasEffectiveEnd())
+                .map(BoardingDomain::getId)
+                .collect(Collectors.toSet());
+        Map<String, List<ExtensionDomain>> extensionMap = requestSearch.getExtensionByBoardingIds(legacyIds)
+                .stream()
+                .collect(Collectors.groupingBy(ExtensionDomain::getBoardingId));
+        // profile photos are stored with the pet id as owner
+        Map<String, MediaEntityPreview> photoMap = mediaSearch.findProfilePicsByOwnerIds(petIds);
+
+        List<BoardingViewCQRS> result = new ArrayList<>(boardings.size());
+
+        for (BoardingDomain boarding : boardings) {
+            try {
+                var pricing = pricingMap.get(boarding.getId());
+                var owner = ownerMap.get(boarding.getOwnerId());
+                var pet = petMap.get(boarding.getPetId());
+
+                if (pricing == null || owner == null || pet == null)
+                    throw new PersistenceException("Missing pricing, owner or pet for boarding");
+
+                BoardingExtensionDS.resolveEffectiveEnd(boarding, extensionMap.get(boarding.getId()));
+                Instant endTime = boarding.getEffectiveEnd();
+                long hours = boarding.getDurationHours();
+                long days = boarding.getDurationDays();
+
+                var photo = photoMap.get(boarding.getPetId());
+                var photoRef = photo != null ? new MediaIdUrlExpire(photo.id(), null, photo.expiredAt()) : null;
+
+                var dto = aggregation.boardingAggregation(boarding, pricing, owner, pet, photoRef, days, hours, endTime);
+                result.add(new BoardingViewCQRS(dto, photo != null ? photo.fileName() : null));
+
+            } catch (PersistenceException | IllegalArgumentException e) {
+                log.warn("Failed to aggregate boarding while searching. ID :{}. Error: {}", boarding.getId(), e.getMessage());
+            }
+        }
+
+        return result;
+    }
+
+    private BoardingDTO presign(BoardingViewCQRS view) {
+        if (view.photoFileName() == null) return view.boarding();
+        return view.boarding().withPhotoUrl(mediaAdapter.getReadUrl(BucketType.PROFILE_PHOTO, view.photoFileName()));
+    }
+}
@@ -0,0 +1,300 @@
+package john.api1.application.services.boarding;
+
+import com.mongodb.MongoException;
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.enums.PetSize;
+import john.api1.application.components.enums.boarding.BoardingStatus;
+import john.api1.application.components.event.BoardingChangedEvent;
+import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.domain.cores.boarding.BoardingExtensionDS;
+import john.api1.application.domain.cores.boarding.KennelCapacityDS;
+import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.domain.models.request.ExtensionDomain;
+import john.api1.application.dto.mapper.boarding.KennelAvailabilityDTO;
+import john.api1.application.ports.repositories.boarding.IBoardingSearchRepository;
+import john.api1.application.ports.repositories.boarding.IKennelReservationRepository;
+import john.api1.application.ports.repositories.boarding.KennelReservationCQRS;
+import john.api1.application.ports.repositories.pet.PetCQRS;
+import john.api1.application.ports.repositories.request.IRequestCompletedSearchRepository;
+import john.api1.application.ports.services.boarding.IKennelAvailability;
+import john.api1.application.ports.services.pet.IPetSearch;
+import john.api1.common.config.KennelCapacityConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Kennel capacity per size class
+// Admission and availability both go through the per-day counters in Mongo, they are shared by every node
+// Each boarding records the days it holds, so a release gives back exactly those
+// Extensions are admitted against capacity before they are committed
+@Service
+public class KennelAvailabilityAS implements IKennelAvailability {
+    private static final Logger log = LoggerFactory.getLogger(KennelAvailabilityAS.class);
+    private static final int MAX_DAYS = 90;
+    private static final List<BoardingStatus> HOLDING_STATUSES =
+            List.of(BoardingStatus.BOARDING, BoardingStatus.DONE_BOARDING, BoardingStatus.OVERDUE);
+
+    private final IKennelReservationRepository reservationRepository;
+    private final IBoardingSearchRepository boardingSearch;
+    private final IRequestCompletedSearchRepository requestSearch;
+    private final IPetSearch petSearch;
+    private final KennelCapacityConfig capacity;
+
+    @Autowired
+    public KennelAvailabilityAS(// repositories
+                                IKennelReservationRepository reservationRepository,
+                                IBoardingSearchRepository boardingSearch,
+                                IRequestCompletedSearchRepository requestSearch,
+                                // services
+                                IPetSearch petSearch,
+                                KennelCapacityConfig capacity) {
+        this.reservationRepository = reservationRepository;
+        this.boardingSearch = boardingSearch;
+        this.requestSearch = requestSearch;
+        this.petSearch = petSearch;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public DomainResponse<Void> reserve(PetSize size, Instant start, Instant end) {
+        try {
+            var days = KennelCapacityDS.occupiedDays(start, end);
+            if (!reservationRepository.tryReserve(size, days, capacity.capacityOf(size)))
+                return DomainResponse.error("No " + size.name().toLowerCase() + " kennel available for the selected dates.");
+
+            return DomainResponse.success("Kennel reserved for " + days.size() + " day(s).");
+
+        } catch (PersistenceException | DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
+
+    @Override
+    public void cancel(PetSize size, Instant start, Instant end) {
+        try {
+            reservationRepository.unreserve(size, KennelCapacityDS.occupiedDays(start, end));
+        } catch (PersistenceException | DomainArgumentException | MongoException e) {
+            log.warn("Failed to cancel kennel hold for size {}. Error: {}", size, e.getMessage());
+        }
+    }
+
+    @Override
+    public void attach(String boardingId, PetSize size, Instant start, Instant end) {
+        try {
+            var days = KennelCapacityDS.occupiedDays(start, end);
+            if (!reservationRepository.saveReservationIfAbsent(new KennelReservationCQRS(boardingId, size, days)))
+                log.warn("Kennel reservation already recorded for boarding. ID :{}", boardingId);
+        } catch (PersistenceException | DomainArgumentException | MongoException e) {
+            log.warn("Failed to attach kennel reservation. ID :{}. Error: {}", boardingId, e.getMessage());
+        }
+    }
+
+    @Override
+    public DomainResponse<List<LocalDate>> reserveExtension(String boardingId, Instant start, Instant extendedEnd) {
+        try {
+            var reservation = reservationRepository.findReservation(boardingId);
+            PetSize size = reservation.isPresent() ? reservation.get().size() : petSizeOf(boardingId);
+            var missing = missingDays(reservation, KennelCapacityDS.occupiedDays(start, extendedEnd));
+
+            var held = hold(boardingId, size, missing, reservation.isPresent());
+            if (held == null)
+                return DomainResponse.error("No " + size.name().toLowerCase() + " kennel available for the extended dates.");
+
+            return DomainResponse.success(held, "Kennel reserved for " + held.size() + " extra day(s).");
+
+        } catch (PersistenceException | DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
+
+    @Override
+    public void cancelExtension(String boardingId, List<LocalDate> days) {
+        try {
+            var reservation = reservationRepository.findReservation(boardingId);
+            if (reservation.isEmpty()) return;
+
+            var removed = reservationRepository.removeReservationDays(boardingId, days);
+            reservationRepository.unreserve(reservation.get().size(), removed);
+        } catch (PersistenceException | DomainArgumentException | MongoException e) {
+            log.warn("Failed to cancel kennel extension hold. ID :{}. Error: {}", boardingId, e.getMessage());
+        }
+    }
+
+    // One range read of the shared counters
+    @Override
+    public DomainResponse<List<KennelAvailabilityDTO>> freeSlots(int days) {
+        if (days < 1 || days > MAX_DAYS)
+            return DomainResponse.error("Days must be between 1 and " + MAX_DAYS + ".");
+
+        try {
+            LocalDate today = KennelCapacityDS.today();
+            var reserved = reservationRepository.reservedBetween(today, today.plusDays(days));
+            List<KennelAvailabilityDTO> result = new ArrayList<>(days);
+
+            for (int i = 0; i < days; i++) {
+                LocalDate day = today.plusDays(i);
+                Map<PetSize, Integer> free = new EnumMap<>(PetSize.class);
+                for (PetSize size : PetSize.values()) {
+                    int used = reserved.getOrDefault(size, Map.of()).getOrDefault(day, 0);
+                    free.put(size, Math.max(0, capacity.capacityOf(size) - used));
+                }
+                result.add(new KennelAvailabilityDTO(day, free));
+            }
+
+            return DomainResponse.success(result, "Kennel availability successfully retrieved.");
+
+        } catch (MongoException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
+
+
+    // Boardings saved before reservations existed are backfilled into the counters once
+    // They are already in the kennel, so their days are counted without the capacity guard
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<BoardingDomain> boardings = new ArrayList<>();
+            for (BoardingStatus status : HOLDING_STATUSES) {
+                boardings.addAll(boardingSearch.searchByStatus(status));
+            }
+            if (boardings.isEmpty()) return;
+
+            // extensions only for boardings not backfilled yet
+            Set<String> legacyIds = new HashSet<>();
+            Set<String> petIds = new HashSet<>();
+            for (BoardingDomain boarding : boardings) {
+                if (!boarding.hasEffectiveEnd()) legacyIds.add(boarding.getId());
+                petIds.add(boarding.getPetId());
+            }
+
+            Map<String, PetCQRS> petMap = petSearch.getPetBoardingDetailsByIds(petIds);
+            Map<String, List<ExtensionDomain>> extensionMap = requestSearch.getExtensionByBoardingIds(legacyIds)
+                    .stream()
+                    .collect(Collectors.groupingBy(ExtensionDomain::getBoardingId));
+
+            int backfilled = 0;
+            for (BoardingDomain boarding : boardings) {
+                try {
+                    var pet = petMap.get(boarding.getPetId());
+                    if (pet == null) continue;
+
+                    PetSize size = PetSize.fromStringToSize(pet.size());
+                    var days = heldDays(boarding, extensionMap.get(boarding.getId()));
+
+                    if (reservationRepository.saveReservationIfAbsent(new KennelReservationCQRS(boarding.getId(), size, days))) {
+                        reservationRepository.forceReserve(size, days);
+                        backfilled++;
+                    }
+                } catch (PersistenceException | DomainArgumentException e) {
+                    log.warn("Failed to backfill kennel reservation. ID :{}. Error: {}", boarding.getId(), e.getMessage());
+                }
+            }
+
+            log.info("Kennel reservations backfilled for {} boarding(s)", backfilled);
+        } catch (PersistenceException | DomainArgumentException | MongoException e) {
+            log.warn("Failed to backfill kennel reservations. Error: {}", e.getMessage());
+        }
+    }
+
+    // Only a release or a moved effective end changes the held days, every other change is ignored
+    // Extensions were admitted by reserveExtension, this only catches days still missing, under the capacity guard
+    @EventListener
+    public void onBoardingChanged(BoardingChangedEvent event) {
+        if (event.status() != BoardingStatus.RELEASED && !event.endMoved()) return;
+
+        String boardingId = event.boardingId();
+        try {
+            if (event.status() == BoardingStatus.RELEASED) {
+                release(boardingId);
+                return;
+            }
+
+            var boarding = boardingSearch.searchById(boardingId);
+            if (boarding.isEmpty() || boarding.get().getBoardingStatus() == BoardingStatus.RELEASED) {
+                release(boardingId);
+                return;
+            }
+
+            var extensions = boarding.get().hasEffectiveEnd() ? List.<ExtensionDomain>of()
+                    : requestSearch.getExtensionByBoardingIds(List.of(boardingId));
+            var reservation = reservationRepository.findReservation(boardingId);
+            var missing = missingDays(reservation, heldDays(boarding.get(), extensions));
+            if (missing.isEmpty()) return;
+
+            PetSize size = reservation.isPresent()
+                    ? reservation.get().size()
+                    : PetSize.fromStringToSize(petSearch.getPetBoardingDetails(boarding.get().getPetId()).size());
+            if (hold(boardingId, size, missing, reservation.isPresent()) == null)
+                log.warn("No {} kennel free for {} day(s) of boarding. ID :{}", size, missing.size(), boardingId);
+
+        } catch (PersistenceException | DomainArgumentException | MongoException e) {
+            log.warn("Failed to refresh kennel reservation. ID :{}. Error: {}", boardingId, e.getMessage());
+        }
+    }
+
+
+    // Counters first under the capacity guard, then the boarding record
+    // Days a concurrent caller recorded first are given back, null when a day is full
+    private List<LocalDate> hold(String boardingId, PetSize size, List<LocalDate> missing, boolean recorded) {
+        if (missing.isEmpty()) return List.of();
+        if (!reservationRepository.tryReserve(size, missing, capacity.capacityOf(size))) return null;
+
+        if (!recorded) {
+            if (reservationRepository.saveReservationIfAbsent(new KennelReservationCQRS(boardingId, size, missing)))
+                return missing;
+            // lost the race to record a first reservation, add to it instead
+        }
+
+        var added = reservationRepository.addReservationDays(boardingId, missing);
+        if (added.size() < missing.size()) {
+            Set<LocalDate> kept = new HashSet<>(added);
+            reservationRepository.unreserve(size, missing.stream().filter(day -> !kept.contains(day)).toList());
+        }
+        return added;
+    }
+
+    private List<LocalDate> missingDays(Optional<KennelReservationCQRS> reservation, List<LocalDate> days) {
+        if (reservation.isEmpty()) return days;
+
+        Set<LocalDate> held = new HashSet<>(reservation.get().days());
+        return days.stream()
+                .filter(day -> !held.contains(day))
+                .toList();
+    }
+
+    private PetSize petSizeOf(String boardingId) {
+        var boarding = boardingSearch.searchById(boardingId)
+                .orElseThrow(() -> new PersistenceException("Boarding with id " + boardingId + " does not exist"));
+        return PetSize.fromStringToSize(petSearch.getPetBoardingDetails(boarding.getPetId()).size());
+    }
+
+    private void release(String boardingId) {
+        reservationRepository.removeReservation(boardingId)
+                .ifPresent(reservation -> reservationRepository.unreserve(reservation.size(), reservation.days()));
+    }
+
+    private List<LocalDate> heldDays(BoardingDomain boarding, List<ExtensionDomain> extensions) {
+        BoardingExtensionDS.resolveEffectiveEnd(boarding, extensions);
+        return KennelCapacityDS.occupiedDays(boarding.getBoardingStart(), boarding.getEffectiveEnd());
+    }
+}
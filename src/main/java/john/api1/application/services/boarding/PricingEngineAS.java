@@ -0,0 +1,160 @@
+package john.api1.application.services.boarding;
+
+import com.mongodb.MongoException;
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.enums.GroomingType;
+import john.api1.application.components.enums.PetSize;
+import john.api1.application.components.enums.SpeciesType;
+import john.api1.application.components.enums.boarding.BoardingType;
+import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.domain.cores.boarding.MoneyDS;
+import john.api1.application.domain.models.boarding.PricingRateTable;
+import john.api1.application.dto.mapper.boarding.PriceQuoteDTO;
+import john.api1.application.dto.mapper.boarding.PricingRateDTO;
+import john.api1.application.dto.request.PricingRateRDTO;
+import john.api1.application.ports.repositories.boarding.IPricingRateRepository;
+import john.api1.application.ports.repositories.boarding.PricingRateCQRS;
+import john.api1.application.ports.repositories.boarding.PricingRateTableCQRS;
+import john.api1.application.ports.services.boarding.IPricingEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Rates live in the versioned 'pricing_rates' collection
+// The current version is held as one immutable table and replaced atomically
+// Other instances pick up a new version on the next poll, no redeploy
+@Service
+public class PricingEngineAS implements IPricingEngine {
+    private static final Logger log = LoggerFactory.getLogger(PricingEngineAS.class);
+    private static final int PUBLISH_ATTEMPTS = 3;
+
+    private final IPricingRateRepository rateRepository;
+    // built-in prices until the stored version is loaded
+    private final AtomicReference<PricingRateTable> table = new AtomicReference<>(PricingRateTable.defaults(0));
+
+    @Autowired
+    public PricingEngineAS(IPricingRateRepository rateRepository) {
+        this.rateRepository = rateRepository;
+    }
+
+    @Override
+    public PriceQuoteDTO quoteBoarding(SpeciesType species, PetSize size, BoardingType boardingType, long duration) {
+        if (duration < 0) throw new DomainArgumentException("Boarding duration cannot be negative.");
+
+        var current = table.get();
+        return quote(current, species, size, boardingType.getBoardingType(), duration, current.boardingCents(species, size));
+    }
+
+    @Override
+    public PriceQuoteDTO quoteExtension(SpeciesType species, PetSize size, long extendedHours) {
+        if (extendedHours <= 0) throw new DomainArgumentException("Extended hours must be greater than zero.");
+
+        var current = table.get();
+        return quote(current, species, size, "EXTENSION", extendedHours, current.boardingCents(species, size));
+    }
+
+    @Override
+    public PriceQuoteDTO quoteGrooming(SpeciesType species, PetSize size, GroomingType groomingType) {
+        var current = table.get();
+        return quote(current, species, size, groomingType.getGroomingType(), 1, current.groomingCents(species, size, groomingType));
+    }
+
+    @Override
+    public PricingRateDTO currentRates() {
+        var current = table.get();
+        return new PricingRateDTO(current.getVersion(), current.getCreatedAt(), current.rates());
+    }
+
+    // Version number is claimed by the unique index, a lost race retries on the next number
+    @Override
+    public DomainResponse<PricingRateDTO> publishRates(PricingRateRDTO request) {
+        try {
+            List<PricingRateCQRS> rates = request.getRates().stream()
+                    .map(rate -> new PricingRateCQRS(
+                            SpeciesType.fromStringToSpecies(rate.getSpecies()),
+                            PetSize.fromStringToSize(rate.getSize()),
+                            rate.getBoardingCents(),
+                            rate.getBasicGroomingCents(),
+                            rate.getFullGroomingCents()))
+                    .toList();
+
+            for (int attempt = 0; attempt < PUBLISH_ATTEMPTS; attempt++) {
+                long version = rateRepository.findLatestVersion().orElse(0L) + 1;
+                var next = PricingRateTable.of(version, Instant.now(), rates);
+
+                if (rateRepository.saveVersion(new PricingRateTableCQRS(version, next.rates(), next.getCreatedAt()))) {
+                    swap(next);
+                    log.info("Pricing rates published as version {}", version);
+                    return DomainResponse.success(currentRates(), "Pricing rates published as version " + version + ".");
+                }
+            }
+            return DomainResponse.error("Pricing rates were changed at the same time, try again.");
+
+        } catch (PersistenceException | DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
+
+
+    // Seed version 1 from the built-in prices when the collection is empty
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            var latest = rateRepository.findLatest();
+            if (latest.isEmpty()) {
+                var seed = PricingRateTable.defaults(1);
+                rateRepository.saveVersion(new PricingRateTableCQRS(1, seed.rates(), seed.getCreatedAt()));
+                latest = rateRepository.findLatest();
+            }
+
+            latest.ifPresent(this::swap);
+            log.info("Pricing rates loaded at version {}", table.get().getVersion());
+        } catch (PersistenceException | DomainArgumentException | MongoException | DataAccessException e) {
+            log.warn("Failed to load pricing rates, using version {}. Error: {}", table.get().getVersion(), e.getMessage());
+        }
+    }
+
+    // Version-only poll, the table is read only when a newer version exists
+    @Scheduled(fixedDelayString = "${pricing.rates.refresh-ms:60000}", initialDelayString = "${pricing.rates.refresh-ms:60000}")
+    public void refresh() {
+        try {
+            var latestVersion = rateRepository.findLatestVersion();
+            if (latestVersion.isEmpty() || latestVersion.get() <= table.get().getVersion()) return;
+
+            rateRepository.findLatest().ifPresent(this::swap);
+        } catch (PersistenceException | DomainArgumentException | MongoException | DataAccessException e) {
+            log.warn("Failed to refresh pricing rates. Error: {}", e.getMessage());
+        }
+    }
+
+
+    private void swap(PricingRateTableCQRS stored) {
+        swap(PricingRateTable.of(stored.version(), stored.createdAt(), stored.rates()));
+    }
+
+    // Never move back to an older version
+    private void swap(PricingRateTable next) {
+        var previous = table.getAndAccumulate(next, (current, candidate) ->
+                candidate.getVersion() > current.getVersion() ? candidate : current);
+        if (previous.getVersion() < next.getVersion())
+            log.info("Pricing rates swapped from version {} to {}", previous.getVersion(), next.getVersion());
+    }
+
+    private PriceQuoteDTO quote(PricingRateTable current, SpeciesType species, PetSize size, String item, long quantity, long unitCents) {
+        long totalCents = MoneyDS.multiply(unitCents, quantity);
+        return new PriceQuoteDTO(current.getVersion(), species.name(), size.name(), item,
+                quantity, unitCents, totalCents, MoneyDS.toAmount(totalCents));
+    }
+}
@@ -2,8 +2,13 @@ package john.api1.application.services.boarding;
 
 import com.mongodb.MongoException;
 import john.api1.application.components.DomainResponse;
+import john.api1.application.components.TwoTierCache;
+import john.api1.application.components.enums.CacheRegion;
+import john.api1.application.components.event.BoardingChangedEvent;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.domain.cores.boarding.BoardingPricingDS;
+import john.api1.application.domain.cores.boarding.MoneyDS;
 import john.api1.application.domain.models.boarding.BoardingPricingDomain;
 import john.api1.application.ports.repositories.boarding.IPricingManagementRepository;
 import john.api1.application.ports.repositories.boarding.IPricingSearchRepository;
@@ -12,12 +17,17 @@ import john.api1.application.ports.services.boarding.IPricingManagement;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Qualifier("PricingManagementAS")
@@ -25,12 +35,18 @@ import java.util.Optional;
 public class PricingManagementAS implements IPricingManagement {
     private final IPricingManagementRepository pricingManagement;
     private final IPricingSearchRepository pricingSearch;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TwoTierCache cache;
 
     @Autowired
     public PricingManagementAS(IPricingManagementRepository pricingManagement,
-                               IPricingSearchRepository pricingSearch) {
+                               IPricingSearchRepository pricingSearch,
+                               ApplicationEventPublisher eventPublisher,
+                               TwoTierCache cache) {
         this.pricingManagement = pricingManagement;
         this.pricingSearch = pricingSearch;
+        this.eventPublisher = eventPublisher;
+        this.cache = cache;
     }
 
     public DomainResponse<Void> updateRequestBreakdown(String boardingId, BoardingPricingDomain.RequestBreakdown breakdowns) {
@@ -40,15 +56,8 @@ public class PricingManagementAS implements IPricingManagement {
                 throw new PersistenceException("Invalid boarding ID format. It cannot be an ObjectId.");
             }
 
-            var boarding = pricingSearch.getRequestBreakdown(boardingId);
-            if (boarding.isEmpty()) return DomainResponse.error("Boarding price breakdown cannot be found");
-
-            // add new list to existing
-            boarding.add(breakdowns);
-
-            boolean success = pricingManagement.updateBreakDownList(boardingId, boarding);
-            if (success) return DomainResponse.success("Successfully update price breakdown");
-            else return DomainResponse.error("Failed to update price breakdown");
+            appendBreakdown(boardingId, breakdowns);
+            return DomainResponse.success("Successfully update price breakdown");
 
         } catch (DomainArgumentException | PersistenceException e) {
             return DomainResponse.error(e.getMessage());
@@ -82,13 +91,7 @@ public class PricingManagementAS implements IPricingManagement {
             System.out.println("PricingManagementAS.unwrappedUpdateRequestBreakdown(String boardingId, Breakdown)::Triggered here!");
             throw new PersistenceException("Invalid boarding ID format. It cannot be an ObjectId.");
         }
-        var breakdownListOpt = pricingSearch.getRequestBreakdown(boardingId);
-        if (breakdownListOpt.isEmpty()) throw new PersistenceException("Boarding price breakdown cannot be found");
-
-        // add new list to existing
-        breakdownListOpt.add(breakdowns);
-        boolean success = pricingManagement.updateBreakDownList(boardingId, breakdownListOpt);
-        if (!success) throw new PersistenceException("Failed to update price breakdown");
+        appendBreakdown(boardingId, breakdowns);
     }
 
     public void unwrappedUpdateRequestBreakdown(String boardingId, List<BoardingPricingDomain.RequestBreakdown> breakdowns) {
@@ -97,8 +100,44 @@ public class PricingManagementAS implements IPricingManagement {
             throw new PersistenceException("Invalid boarding ID format. It cannot be an ObjectId.");
         }
 
-        boolean success = pricingManagement.updateBreakDownList(boardingId, breakdowns);
+        var pricing = pricingSearch.getBoardingPricing(boardingId)
+                .orElseThrow(() -> new PersistenceException("Boarding price breakdown cannot be found"));
+
+        // Totals recomputed once for the replaced list
+        long requestTotalCents = BoardingPricingDS.sumRequestCents(breakdowns);
+        long overallTotalCents = Math.addExact(BoardingPricingDS.getBoardingTotalCents(pricing), requestTotalCents);
+
+        boolean success = pricingManagement.updateBreakDownList(boardingId, breakdowns, requestTotalCents, overallTotalCents);
         if (!success) throw new PersistenceException("Failed to update price breakdown");
+        eventPublisher.publishEvent(new BoardingChangedEvent(boardingId));
+    }
+
+    // One round trip: $push the breakdown and $inc the stored totals
+    // Falls back to a read only when the append matched nothing, to tell why
+    // Documents without stored totals get them seeded once, then the append is retried
+    private void appendBreakdown(String boardingId, BoardingPricingDomain.RequestBreakdown breakdown) {
+        long breakdownCents = MoneyDS.toCents(breakdown.total());
+        if (pricingManagement.appendBreakdown(boardingId, breakdown, breakdownCents)) {
+            eventPublisher.publishEvent(new BoardingChangedEvent(boardingId));
+            return;
+        }
+
+        var pricing = pricingSearch.getBoardingPricing(boardingId)
+                .orElseThrow(() -> new PersistenceException("Boarding price breakdown cannot be found"));
+        if (!pricing.isActive()) throw new PersistenceException("Cannot update an inactive pricing entity.");
+
+        // Already appended by an earlier attempt
+        if (pricing.getRequestBreakdown() != null && pricing.getRequestBreakdown().stream().anyMatch(b -> breakdown.id().equals(b.id()))) return;
+
+        if (!pricing.hasStoredTotals()) {
+            long requestTotalCents = BoardingPricingDS.sumRequestCents(pricing.getRequestBreakdown());
+            long overallTotalCents = Math.addExact(BoardingPricingDS.getBoardingTotalCents(pricing), requestTotalCents);
+            pricingManagement.initializeTotals(boardingId, requestTotalCents, overallTotalCents);
+        }
+
+        if (!pricingManagement.appendBreakdown(boardingId, breakdown, breakdownCents))
+            throw new PersistenceException("Failed to update price breakdown");
+        eventPublisher.publishEvent(new BoardingChangedEvent(boardingId));
     }
 
 
@@ -120,6 +159,12 @@ public class PricingManagementAS implements IPricingManagement {
         }
     }
 
+    public Map<String, BoardingPricingDomain> getPricingDetailsByBoardingIds(Collection<String> boardingIds) {
+        return pricingSearch.getBoardingPricingByBoardingIds(boardingIds)
+                .stream()
+                .collect(Collectors.toMap(BoardingPricingDomain::getBoardingId, Function.identity(), (a, b) -> a));
+    }
+
     public List<BoardingPricingDomain.RequestBreakdown> getBreakdown(String boardingId) {
         if (!ObjectId.isValid(boardingId)) {
             System.out.println("PricingManagementAS.getBreakdown(String boardingId)::Triggered here!");
@@ -137,9 +182,11 @@ public class PricingManagementAS implements IPricingManagement {
             System.out.println("PricingManagementAS.getBoardingPricingCqrs(String boardingId)::Triggered here!");
             throw new PersistenceException("Invalid boarding ID format. It cannot be an ObjectId.");
         }
-        var pricing = pricingSearch.getBoardingPricingCqrs(boardingId);
-        if (pricing.isEmpty()) throw new PersistenceException("Pricing cannot be found!");
-        return pricing;
+        // Rate, type and duration are fixed once the pricing is created
+        var pricing = cache.get(CacheRegion.PRICING, boardingId, "cqrs", PricingCQRS.class,
+                () -> pricingSearch.getBoardingPricingCqrs(boardingId).orElse(null));
+        if (pricing == null) throw new PersistenceException("Pricing cannot be found!");
+        return Optional.of(pricing);
     }
 
 }
@@ -0,0 +1,180 @@
+package john.api1.application.services.history;
+
+import com.mongodb.MongoException;
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.enums.ActivityLogType;
+import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.domain.cores.ActivityLogDS;
+import john.api1.application.domain.cores.ActivityLogDataContext;
+import john.api1.application.domain.models.ActivityLogDomain;
+import john.api1.application.ports.repositories.history.IHistoryLogManageRepository;
+import john.api1.application.ports.repositories.history.IHistoryLogSearchRepository;
+import john.api1.application.ports.services.ILookupLoader;
+import john.api1.application.ports.services.boarding.IPricingManagement;
+import john.api1.application.ports.services.history.IActivityLogSnapshot;
+import john.api1.application.ports.services.request.IRequestSearch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Resolves what a log displays (pet, owner, boarding, pricing, extension, grooming) once, when it is written
+// Reading history then needs the history_log collection only
+// Backfill walks logs without a snapshot in _id order, a stopped run just picks up the rest
+@Service
+public class ActivityLogSnapshotAS implements IActivityLogSnapshot {
+    private static final Logger log = LoggerFactory.getLogger(ActivityLogSnapshotAS.class);
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final IHistoryLogSearchRepository searchRepository;
+    private final IHistoryLogManageRepository manageRepository;
+    private final IRequestSearch requestSearch;
+    private final IPricingManagement pricingSearch;
+    private final ILookupLoader lookup;
+
+    @Autowired
+    public ActivityLogSnapshotAS(IHistoryLogSearchRepository searchRepository,
+                                 IHistoryLogManageRepository manageRepository,
+                                 IRequestSearch requestSearch,
+                                 IPricingManagement pricingSearch,
+                                 ILookupLoader lookup) {
+        this.searchRepository = searchRepository;
+        this.manageRepository = manageRepository;
+        this.requestSearch = requestSearch;
+        this.pricingSearch = pricingSearch;
+        this.lookup = lookup;
+    }
+
+    // Also batched when called from the log sink flusher or the backfill, outside any web request
+    @Override
+    public List<ActivityLogDomain> capture(List<ActivityLogDomain> logs) {
+        if (logs.isEmpty()) return logs;
+
+        return lookup.batched(() -> {
+            primeLookups(logs);
+
+            List<ActivityLogDomain> captured = new ArrayList<>(logs.size());
+            for (ActivityLogDomain activity : logs) {
+                captured.add(activity.withSnapshot(ActivityLogDS.snapshot(activity, buildDataContext(activity))));
+            }
+            return captured;
+        });
+    }
+
+    @Override
+    public DomainResponse<Long> backfill() {
+        try {
+            long count = 0;
+            String afterId = null;
+
+            while (true) {
+                var batch = searchRepository.searchMissingSnapshot(afterId, BACKFILL_BATCH_SIZE);
+                if (batch.isEmpty()) break;
+
+                var resolved = capture(batch).stream()
+                        .filter(activity -> activity.getSnapshot() != null)
+                        .toList();
+                count += manageRepository.saveSnapshots(resolved);
+                afterId = batch.get(batch.size() - 1).getId();
+                if (batch.size() < BACKFILL_BATCH_SIZE) break;
+            }
+
+            log.info("Activity log snapshot backfilled for {} log(s)", count);
+            return DomainResponse.success(count, "Activity log snapshot backfilled for " + count + " log(s).");
+
+        } catch (PersistenceException | DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
+
+
+    // Queue every id the batch needs so each port is hit with one $in instead of once per log line
+    // Boardings and requests are resolved first, their pets are then queued with the rest
+    private void primeLookups(List<ActivityLogDomain> activities) {
+        Map<ActivityLogType, List<String>> ids = activities.stream()
+                .filter(activity -> activity.getActivityType() != null && activity.getTypeId() != null)
+                .collect(Collectors.groupingBy(ActivityLogDomain::getActivityType,
+                        Collectors.mapping(ActivityLogDomain::getTypeId, Collectors.toList())));
+
+        List<String> boardingIds = ids.getOrDefault(ActivityLogType.BOARDING_MANAGEMENT, List.of());
+        List<String> requestIds = ids.getOrDefault(ActivityLogType.REQUEST_MANAGEMENT, List.of());
+        lookup.primeOwners(ids.getOrDefault(ActivityLogType.PET_OWNER_MANAGEMENT, List.of()));
+        lookup.primeBoardings(boardingIds);
+        lookup.primeRequests(requestIds);
+
+        List<String> petIds = new ArrayList<>(ids.getOrDefault(ActivityLogType.PET_MANAGEMENT, List.of()));
+        boardingIds.forEach(id -> lookup.boarding(id).ifPresent(boarding -> petIds.add(boarding.getPetId())));
+        requestIds.forEach(id -> lookup.request(id).ifPresent(request -> {
+            petIds.add(request.getPetId());
+            if (request.getBoardingId() != null) lookup.primeBoardings(List.of(request.getBoardingId()));
+        }));
+        lookup.primePets(petIds);
+    }
+
+    // Pet logs take the owner name already stored on the log
+    private ActivityLogDataContext buildDataContext(ActivityLogDomain activity) {
+        if (activity.getActivityType() == null || activity.getTypeId() == null) return null;
+
+        try {
+            switch (activity.getActivityType()) {
+                case BOARDING_MANAGEMENT -> {
+                    var boarding = lookup.boarding(activity.getTypeId()).orElse(null);
+                    if (boarding == null) return null;
+
+                    return new ActivityLogDataContext.Builder()
+                            .boarding(boarding)
+                            .pricing(pricingSearch.getBoardingPricingCqrs(boarding.getId()).orElse(null))
+                            .pet(lookup.pet(boarding.getPetId()).orElse(null))
+                            .build();
+                }
+
+                case PET_OWNER_MANAGEMENT -> {
+                    return new ActivityLogDataContext.Builder()
+                            .owner(lookup.owner(activity.getTypeId()).orElse(null))
+                            .build();
+                }
+
+                case PET_MANAGEMENT -> {
+                    return new ActivityLogDataContext.Builder()
+                            .pet(lookup.pet(activity.getTypeId()).orElse(null))
+                            .build();
+                }
+
+                case REQUEST_MANAGEMENT -> {
+                    var request = lookup.request(activity.getTypeId()).orElse(null);
+                    if (request == null) return null;
+
+                    var context = new ActivityLogDataContext.Builder()
+                            .request(request)
+                            .pet(lookup.pet(request.getPetId()).orElse(null));
+                    switch (request.getRequestType()) {
+                        case BOARDING_EXTENSION -> context
+                                .boarding(lookup.boarding(request.getBoardingId()).orElse(null))
+                                .pricing(pricingSearch.getBoardingPricingCqrs(request.getBoardingId()).orElse(null))
+                                .extension(requestSearch.searchExtensionByRequestIdCqrs(request.getId()));
+                        case GROOMING_SERVICE -> context
+                                .grooming(requestSearch.searchGroomingByRequestIdCqrs(request.getId()));
+                        default -> {
+                        }
+                    }
+                    return context.build();
+                }
+
+                default -> {
+                    return null;
+                }
+            }
+        } catch (PersistenceException | IllegalStateException | NullPointerException ex) {
+            log.warn("Failed to build activity log context for activity {}: {}", activity.getId(), ex.getMessage());
+            return null;
+        }
+    }
+}
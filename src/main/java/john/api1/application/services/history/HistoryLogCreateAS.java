@@ -1,6 +1,8 @@
 package john.api1.application.services.history;
 
 import com.mongodb.MongoException;
+import jakarta.annotation.PreDestroy;
+import john.api1.application.components.LogSink;
 import john.api1.application.components.enums.ActivityLogType;
 import john.api1.application.components.enums.boarding.BoardingStatus;
 import john.api1.application.components.enums.boarding.RequestType;
@@ -11,19 +13,42 @@ import john.api1.application.domain.models.ActivityLogDomain;
 import john.api1.application.domain.models.boarding.BoardingDomain;
 import john.api1.application.domain.models.request.RequestDomain;
 import john.api1.application.ports.repositories.history.IHistoryLogCreateRepository;
+import john.api1.application.ports.repositories.wrapper.UsernameAndId;
+import john.api1.application.ports.services.history.IActivityLogSnapshot;
 import john.api1.application.ports.services.history.IHistoryLogCreate;
+import john.api1.common.config.LogSinkConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
+// Single logs are built on the caller's thread and handed to the log sink, nothing else runs there
+// The flusher snapshots each batch's display context with one lookup per port, then writes it,
+// so a snapshot can be up to one flush interval younger than the change, see LogSink and ActivityLogSnapshotAS
 @Service
 @Transactional(rollbackFor = {DomainArgumentException.class, PersistenceException.class, MongoException.class})
 public class HistoryLogCreateAS implements IHistoryLogCreate {
+    private static final Logger log = LoggerFactory.getLogger(HistoryLogCreateAS.class);
     private final IHistoryLogCreateRepository createRepository;
+    private final IActivityLogSnapshot snapshot;
+    private final LogSink<ActivityLogDomain> sink;
 
     @Autowired
-    public HistoryLogCreateAS(IHistoryLogCreateRepository createRepository) {
+    public HistoryLogCreateAS(IHistoryLogCreateRepository createRepository,
+                              IActivityLogSnapshot snapshot,
+                              LogSinkConfig sinkConfig) {
         this.createRepository = createRepository;
+        this.snapshot = snapshot;
+        this.sink = sinkConfig.create("history_log", sinkConfig.getHistorySpill(), batch -> writeLogs(withSnapshots(batch)));
+    }
+
+    @PreDestroy
+    public void drain() {
+        sink.close();
     }
 
     @Override
@@ -37,7 +62,7 @@ public class HistoryLogCreateAS implements IHistoryLogCreate {
         };
 
         var domain = ActivityLogDomain.createForRequest(request, ActivityLogType.REQUEST_MANAGEMENT, description, petOwner, pet);
-        saveOrThrow(domain);
+        enqueue(domain);
     }
 
     @Override
@@ -48,21 +73,21 @@ public class HistoryLogCreateAS implements IHistoryLogCreate {
             default -> "Pet boarding activity log";
         };
         var domain = ActivityLogDomain.createForBoarding(request, ActivityLogType.BOARDING_MANAGEMENT, petOwner, pet, description);
-        saveOrThrow(domain);
+        enqueue(domain);
     }
 
     @Override
     public void createActivityLogOwnerRegister(String ownerId, String petOwner) {
         String description = "New pet owner registered";
         var domain = ActivityLogDomain.create(ActivityLogType.PET_OWNER_MANAGEMENT, ownerId, petOwner, null, description);
-        saveOrThrow(domain);
+        enqueue(domain);
     }
 
     @Override
     public void createActivityLogOwnerRegisterByOwner(String ownerId, String petOwner) {
         String description = "Pet owner account pending";
         var domain = ActivityLogDomain.create(ownerId, ActivityLogType.PET_OWNER_MANAGEMENT, petOwner + (" (Owner)"), petOwner, null, description);
-        saveOrThrow(domain);
+        enqueue(domain);
     }
 
 
@@ -70,18 +95,39 @@ public class HistoryLogCreateAS implements IHistoryLogCreate {
     public void createActivityLogPetRegister(String petId, String petOwner, String pet) {
         String description = "New pet added";
         var domain = ActivityLogDomain.create(ActivityLogType.PET_MANAGEMENT, petId, petOwner, pet, description);
-        saveOrThrow(domain);
+        enqueue(domain);
+    }
+
+    @Override
+    public void createActivityLogRegisterBatch(List<UsernameAndId> owners, List<RegisteredPet> pets) {
+        List<ActivityLogDomain> domains = new ArrayList<>(owners.size() + pets.size());
+        owners.forEach(owner -> domains.add(
+                ActivityLogDomain.create(ActivityLogType.PET_OWNER_MANAGEMENT, owner.id(), owner.username(), null, "New pet owner registered")));
+        pets.forEach(pet -> domains.add(
+                ActivityLogDomain.create(ActivityLogType.PET_MANAGEMENT, pet.petId(), pet.petOwner(), pet.pet(), "New pet added")));
+
+        // already one batch, written directly so the import sees the failure
+        writeLogs(withSnapshots(domains));
+    }
+
+    // The caller only pays for the offer, lookups happen per batch in the flusher
+    private void enqueue(ActivityLogDomain domain) {
+        sink.offer(domain);
+    }
+
+    private void writeLogs(List<ActivityLogDomain> domains) {
+        int saved = createRepository.createNewLogs(domains);
+        if (saved != domains.size())
+            throw new PersistenceHistoryException("Activity log batch saved " + saved + " of " + domains.size());
     }
 
-    // Shared save method with exception handling
-    private void saveOrThrow(ActivityLogDomain domain) {
+    // A failed lookup never costs the log itself, it is saved without a snapshot and the backfill retries it
+    private List<ActivityLogDomain> withSnapshots(List<ActivityLogDomain> domains) {
         try {
-            var saved = createRepository.createNewLog(domain);
-            if (saved.isEmpty()) {
-                throw new PersistenceHistoryException("Activity log failed to save: " + domain);
-            }
-        } catch (NullPointerException e) {
-            throw new PersistenceHistoryException("Activity log failed to save due to null pointer: " + domain);
+            return snapshot.capture(domains);
+        } catch (PersistenceException | DomainArgumentException | MongoException e) {
+            log.warn("Activity log snapshot skipped for {} log(s): {}", domains.size(), e.getMessage());
+            return domains;
         }
     }
 }
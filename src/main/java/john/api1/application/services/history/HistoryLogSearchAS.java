@@ -1,58 +1,61 @@
 package john.api1.application.services.history;
 
+import com.mongodb.MongoException;
+import jakarta.annotation.Nullable;
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.PageCursor;
 import john.api1.application.components.enums.ActivityLogType;
+import john.api1.application.components.enums.boarding.RequestType;
+import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.cores.ActivityLogDS;
-import john.api1.application.domain.cores.ActivityLogDataContext;
 import john.api1.application.domain.models.ActivityLogDomain;
 import john.api1.application.dto.mapper.history.ActivityLogDTO;
+import john.api1.application.dto.mapper.history.ActivityLogPageDTO;
+import john.api1.application.ports.repositories.history.HistoryLogRange;
+import john.api1.application.ports.repositories.history.IHistoryLogArchiveRepository;
 import john.api1.application.ports.repositories.history.IHistoryLogSearchRepository;
-import john.api1.application.ports.repositories.pet.IPetSearchRepository;
-import john.api1.application.ports.services.IPetOwnerSearch;
-import john.api1.application.ports.services.boarding.IBoardingSearch;
-import john.api1.application.ports.services.boarding.IPricingManagement;
+import john.api1.application.ports.services.history.IActivityLogSnapshot;
 import john.api1.application.ports.services.history.IHistoryLogSearch;
-import john.api1.application.ports.services.pet.IPetSearch;
-import john.api1.application.ports.services.request.IRequestSearch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 // Note: This layer throw persistence exception instead of handling. Expected other actors who use will catch gracefully!
 @Service
 public class HistoryLogSearchAS implements IHistoryLogSearch {
     private static final Logger log = LoggerFactory.getLogger(HistoryLogSearchAS.class);
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int STREAM_CHUNK_SIZE = 200;
 
     private final IHistoryLogSearchRepository searchRepository;
-    private final IBoardingSearch boardingSearch;
-    private final IPetOwnerSearch ownerSearch;
-    private final IPetSearch petSearch;
-    private final IPetSearchRepository petSearchRepository;
-    private final IRequestSearch requestSearch;
-    private final IPricingManagement pricingSearch;
+    private final IHistoryLogArchiveRepository archiveRepository;
+    private final IActivityLogSnapshot snapshot;
 
 
     @Autowired
     public HistoryLogSearchAS(IHistoryLogSearchRepository searchRepository,
-                              IBoardingSearch boardingSearch,
-                              IPetOwnerSearch ownerSearch,
-                              IPetSearch petSearch,
-                              IPetSearchRepository petSearchRepository,
-                              IRequestSearch requestSearch,
-                              IPricingManagement pricingSearch) {
+                              IHistoryLogArchiveRepository archiveRepository,
+                              IActivityLogSnapshot snapshot) {
         this.searchRepository = searchRepository;
-        this.boardingSearch = boardingSearch;
-        this.ownerSearch = ownerSearch;
-        this.petSearch = petSearch;
-        this.petSearchRepository = petSearchRepository;
-        this.requestSearch = requestSearch;
-        this.pricingSearch = pricingSearch;
+        this.archiveRepository = archiveRepository;
+        this.snapshot = snapshot;
     }
 
     public Optional<ActivityLogDTO> getRecentLog() {
@@ -60,12 +63,7 @@ public class HistoryLogSearchAS implements IHistoryLogSearch {
             var activity = searchRepository.searchRecently();
             if (activity.isEmpty()) throw new PersistenceException("No recent activity log found");
 
-            ActivityLogDomain domain = activity.get();
-            ActivityLogDataContext context = buildDataContext(domain);
-
-            ActivityLogDTO dto = transformLog(domain, context);
-
-            return Optional.ofNullable(dto);
+            return Optional.ofNullable(transformLogs(List.of(activity.get())).get(0));
         } catch (PersistenceException | NullPointerException e) {
             log.error("Error occurred while fetching activity logs: {}", e.getMessage());
             throw e;
@@ -80,12 +78,7 @@ public class HistoryLogSearchAS implements IHistoryLogSearch {
                 throw new PersistenceException("No activity logs found");
             }
 
-            return activities.stream()
-                    .map(domain -> {
-                        ActivityLogDataContext context = buildDataContext(domain);
-                        return transformLog(domain, context);
-                    })
-                    .collect(Collectors.toList());
+            return transformLogs(activities);
         } catch (PersistenceException | NullPointerException e) {
             log.error("Error occurred while fetching activity logs: {}", e.getMessage());
             throw e;
@@ -102,199 +95,136 @@ public class HistoryLogSearchAS implements IHistoryLogSearch {
                 throw new PersistenceException("Activity log not found with ID: " + id);
             }
 
-            ActivityLogDomain domain = activity.get();
-            ActivityLogDataContext context = buildDataContext(domain);
-            return Optional.ofNullable(transformLog(domain, context));
+            return Optional.ofNullable(transformLogs(List.of(activity.get())).get(0));
         } catch (PersistenceException | NullPointerException e) {
             log.error("Error occurred while fetching activity logs: {}", e.getMessage());
             throw e;
         }
     }
 
-    // LOW PRIORITY ///////////////
-    public Optional<List<ActivityLogDTO>> getByDate(Instant time) {
-        return Optional.empty();
-    }
-
-    public Optional<List<ActivityLogDTO>> getByBetweenDate(Instant start, Instant end) {
-        return Optional.empty();
-    }
-    ////////////////////////////////
-
     @Override
-    public List<ActivityLogDTO> searchByActivityType(ActivityLogType type) {
+    public DomainResponse<HistoryLogRange> range(@Nullable Instant from, @Nullable Instant to,
+                                                 @Nullable String activityType, @Nullable String requestType) {
         try {
-            List<ActivityLogDomain> activities = searchRepository.searchByActivityType(type);
-            if (activities.isEmpty()) {
-                return List.of();
+            Instant start = from != null ? from : LocalDate.now(ZONE).atStartOfDay(ZONE).toInstant();
+            Instant end = to != null ? to : Instant.now();
+            if (!start.isBefore(end)) return DomainResponse.error("'from' must be before 'to'.");
+
+            ActivityLogType type = (activityType == null || activityType.isBlank()) ? null : ActivityLogType.fromString(activityType);
+            RequestType request = (requestType == null || requestType.isBlank()) ? null : RequestType.fromString(requestType);
+
+            // only request logs carry a request type, narrowing to them keeps the typed index in play
+            if (request != null) {
+                if (type != null && type != ActivityLogType.REQUEST_MANAGEMENT)
+                    return DomainResponse.error("Request type filter only applies to request management logs.");
+                type = ActivityLogType.REQUEST_MANAGEMENT;
             }
 
-            return activities.stream()
-                    .map(domain -> {
-                        ActivityLogDataContext context = buildDataContext(domain);
-                        if (context != null) {
-                            return transformLog(domain, context);
-                        }
-                        return null;
-                    })
-                    .collect(Collectors.toList());
-        } catch (PersistenceException | NullPointerException e) {
-            log.error("Error occurred while fetching activity logs: {}", e.getMessage());
-            throw e;
+            return DomainResponse.success(new HistoryLogRange(start, end, type, request));
+        } catch (DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
         }
     }
 
-    private ActivityLogDataContext buildDataContext(ActivityLogDomain activity) {
+    @Override
+    public DomainResponse<ActivityLogPageDTO> searchRange(HistoryLogRange range, @Nullable String cursor, int limit) {
         try {
-            log.info("Before Switch: Starting searching data for " + activity.getActivityType().getActivityLogTypeToDTO());
-            switch (activity.getActivityType()) {
-                case BOARDING_MANAGEMENT -> {
-                    log.info("Starting searching data for Boarding Management");
-                    if (activity.getTypeId() != null) {
-                        var boardingResult = boardingSearch.findBoardingById(activity.getTypeId());
-                        if (boardingResult.isSuccess()) {
-                            var boarding = boardingResult.getData();
-                            var pricingOpt = pricingSearch.getBoardingPricingCqrs(boarding.getId());
-                            var petOpt = petSearch.getPetBoardingDetails(boarding.getPetId());
-
-                            if (pricingOpt.isPresent() && petOpt != null) {
-                                log.info("Successfully build data for Boarding Management, proceed to transform data ");
-                                return new ActivityLogDataContext.Builder()
-                                        .boarding(boarding)
-                                        .pricing(pricingOpt.get())
-                                        .pet(petOpt)
-                                        .build();
-                            }
-                        }
-                    }
-                    return null;
-                }
+            if (limit < 1 || limit > MAX_PAGE_SIZE)
+                return DomainResponse.error("Page limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+
+            PageCursor after = (cursor == null || cursor.isBlank()) ? null : PageCursor.decode(cursor);
+
+            // one extra row tells if there is a next page
+            // archived logs are all older than live ones, a short live page continues into the archive
+            List<ActivityLogDomain> activities = new ArrayList<>(searchRepository.searchRange(range, after, limit + 1));
+            if (activities.size() <= limit) {
+                PageCursor archiveAfter = activities.isEmpty() ? after : cursorOf(activities.get(activities.size() - 1));
+                Set<String> live = activities.stream().map(ActivityLogDomain::getId).collect(Collectors.toSet());
+                archiveRepository.searchRange(range, archiveAfter, limit + 1 - activities.size()).stream()
+                        .filter(activity -> !live.contains(activity.getId()))
+                        .forEach(activities::add);
+            }
+            boolean hasNext = activities.size() > limit;
+            if (hasNext) activities = activities.subList(0, limit);
 
-                case PET_OWNER_MANAGEMENT -> {
-                    log.info("Starting searching data for Pet Owner Management");
-                    if (activity.getTypeId() != null) {
-
-                        var ownerOpt = ownerSearch.getPetOwnerBoardingDetails(activity.getTypeId());
-                        if (ownerOpt != null) {
-                            log.info("Successfully build data for Pet Owner Management, proceed to transform data ");
-                            return new ActivityLogDataContext.Builder()
-                                    .owner(ownerOpt)
-                                    .build();
-                        }
-                        return null;
-                    }
-                    return null;
+            String nextCursor = null;
+            if (hasNext) {
+                nextCursor = cursorOf(activities.get(activities.size() - 1)).encode();
+            }
 
-                }
+            // cursor follows the raw rows, logs that cannot be displayed are dropped
+            var dto = transformLogs(activities).stream()
+                    .filter(Objects::nonNull)
+                    .toList();
+            return DomainResponse.success(new ActivityLogPageDTO(dto, nextCursor), "Activity logs successfully retrieved.");
 
-                // New Pet Created
-                case PET_MANAGEMENT -> {
-                    log.info("Starting searching data for Pet Management");
-                    if (activity.getTypeId() != null) {
-
-                        var pet = petSearchRepository.getPetById(activity.getTypeId());
-                        if (pet.isPresent()) {
-                            var ownerOpt = ownerSearch.getPetOwnerBoardingDetails(pet.get().getOwnerId());
-                            var petOpt = petSearch.getPetBoardingDetails(pet.get().getId());
-
-                            if (ownerOpt != null && petOpt != null) {
-                                log.info("Successfully build data for Pet Management, proceed to transform data ");
-                                return new ActivityLogDataContext.Builder()
-                                        .owner(ownerOpt)
-                                        .pet(petOpt)
-                                        .build();
-                            }
-                        }
-                    }
-                    return null;
+        } catch (PersistenceException | DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
 
+    // Heap stays at one chunk regardless of the range, live logs then archived ones
+    @Override
+    public void streamRange(HistoryLogRange range, Consumer<ActivityLogDTO> consumer) {
+        try (var stream = Stream.concat(searchRepository.streamRange(range), archiveRepository.streamRange(range))) {
+            List<ActivityLogDomain> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+            var iterator = stream.iterator();
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == STREAM_CHUNK_SIZE) {
+                    emit(chunk, consumer);
+                    chunk.clear();
                 }
+            }
 
-                case REQUEST_MANAGEMENT -> {
-                    if (activity.getTypeId() != null) {
-                        log.info("Starting searching data for Request Management");
-                        var request = requestSearch.searchByRequestId(activity.getTypeId());
-                        if (request != null) {
-                            log.info("Request Management: not null, proceed to search");
-                            var petOpt = petSearch.getPetBoardingDetails(request.getPetId());
-                            if (petOpt == null) return null;
-
-                            return switch (request.getRequestType()) {
-                                case BOARDING_EXTENSION -> {
-                                    log.info("Starting searching data for Boarding Extension");
-                                    var boardingResult = boardingSearch.findBoardingById(request.getBoardingId());
-                                    var pricingOpt = pricingSearch.getBoardingPricingCqrs(request.getBoardingId());
-                                    var extension = requestSearch.searchExtensionByRequestIdCqrs(request.getId());
-
-                                    if (boardingResult.isSuccess() && pricingOpt.isPresent() && extension != null) {
-                                        log.info("Successfully build data for Boarding Extension, proceed to transform data ");
-                                        yield new ActivityLogDataContext.Builder()
-                                                .boarding(boardingResult.getData())
-                                                .pricing(pricingOpt.get())
-                                                .extension(extension)
-                                                .pet(petOpt)
-                                                .build();
-                                    }
-                                    yield null;
-                                }
-
-                                case GROOMING_SERVICE -> {
-                                    log.info("Starting searching data for Grooming Service");
-                                    var grooming = requestSearch.searchGroomingByRequestIdCqrs(request.getId());
-                                    if (grooming != null) {
-                                        log.info("Successfully build data for Grooming Service, proceed to transform data ");
-                                        yield new ActivityLogDataContext.Builder()
-                                                .grooming(grooming)
-                                                .pet(petOpt)
-                                                .build();
-                                    }
-                                    yield null;
-                                }
-
-                                case PHOTO_REQUEST, VIDEO_REQUEST -> new ActivityLogDataContext.Builder()
-                                        .pet(petOpt)
-                                        .build();
-
-                                default -> null;
-                            };
-                        }
-                    }
-                    return null;
-                }
+            if (!chunk.isEmpty()) emit(chunk, consumer);
+        }
+    }
 
-                default -> {
-                    return null;
-                }
+    @Override
+    public List<ActivityLogDTO> searchByActivityType(ActivityLogType type) {
+        try {
+            List<ActivityLogDomain> activities = searchRepository.searchByActivityType(type);
+            if (activities.isEmpty()) {
+                return List.of();
             }
-        } catch (PersistenceException | IllegalStateException |
-                 NullPointerException ex) {
-            // Optionally log the error for debugging:
-            log.warn("Failed to build activity log context for activity {}: {}", activity.getId(), ex.getMessage());
-        }
 
-        return null;
+            return transformLogs(activities);
+        } catch (PersistenceException | NullPointerException e) {
+            log.error("Error occurred while fetching activity logs: {}", e.getMessage());
+            throw e;
+        }
     }
 
+    private PageCursor cursorOf(ActivityLogDomain activity) {
+        return new PageCursor(activity.getTimestamp(), activity.getId());
+    }
 
-    private ActivityLogDTO transformLog(ActivityLogDomain domain, ActivityLogDataContext context) {
-        return switch (domain.getActivityType()) {
-            case BOARDING_MANAGEMENT -> ActivityLogDS.transformBoarding(domain, context);
-            case PET_OWNER_MANAGEMENT -> ActivityLogDS.transformRegisterOwner(domain, context);
-            case PET_MANAGEMENT -> ActivityLogDS.transformRegisterPet(domain, context);
-            case REQUEST_MANAGEMENT -> {
-                if (domain.getRequestType() == null) {
-                    throw new PersistenceException("Request type is null for request management log");
-                }
-                yield switch (domain.getRequestType()) {
-                    case PHOTO_REQUEST, VIDEO_REQUEST -> ActivityLogDS.transformRequestMedia(domain, context);
-                    case BOARDING_EXTENSION -> ActivityLogDS.transformRequestExtension(domain, context);
-                    case GROOMING_SERVICE -> ActivityLogDS.transformRequestGrooming(domain, context);
-                    default -> null;
-                };
-            }
-            default -> null;
-        };
+    private void emit(List<ActivityLogDomain> chunk, Consumer<ActivityLogDTO> consumer) {
+        transformLogs(chunk).stream()
+                .filter(Objects::nonNull)
+                .forEach(consumer);
     }
 
+    // Logs written before snapshots (not backfilled yet) are resolved in one batch, nothing is written back
+    private List<ActivityLogDTO> transformLogs(List<ActivityLogDomain> activities) {
+        List<ActivityLogDomain> missing = activities.stream()
+                .filter(activity -> activity.getSnapshot() == null)
+                .toList();
+        if (missing.isEmpty()) {
+            return activities.stream()
+                    .map(ActivityLogDS::transform)
+                    .collect(Collectors.toList());
+        }
 
+        Map<String, ActivityLogDomain> captured = snapshot.capture(missing)
+                .stream()
+                .collect(Collectors.toMap(ActivityLogDomain::getId, Function.identity(), (a, b) -> a));
+        return activities.stream()
+                .map(activity -> ActivityLogDS.transform(captured.getOrDefault(activity.getId(), activity)))
+                .collect(Collectors.toList());
+    }
 }
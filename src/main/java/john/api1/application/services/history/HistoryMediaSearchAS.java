@@ -1,120 +1,206 @@
 package john.api1.application.services.history;
 
+import com.mongodb.MongoException;
+import jakarta.annotation.Nullable;
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.PageCursor;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.components.exception.PersistenceHistoryException;
+import john.api1.application.domain.models.request.PhotoRequestDomain;
+import john.api1.application.domain.models.request.VideoRequestDomain;
 import john.api1.application.dto.mapper.history.media.MediaHistoryDTO;
+import john.api1.application.dto.mapper.history.media.MediaHistoryPageDTO;
 import john.api1.application.dto.mapper.history.media.MediaHistoryPhotoDTO;
 import john.api1.application.dto.mapper.history.media.MediaHistoryVideoDTO;
+import john.api1.application.ports.repositories.owner.PetOwnerCQRS;
+import john.api1.application.ports.repositories.pet.PetCQRS;
 import john.api1.application.ports.repositories.request.IRequestCompletedSearchRepository;
+import john.api1.application.ports.repositories.request.IRequestSearchRepository;
 import john.api1.application.ports.repositories.request.RequestCQRS;
 import john.api1.application.ports.repositories.wrapper.MediaPreview;
 import john.api1.application.ports.services.IPetOwnerSearch;
 import john.api1.application.ports.services.history.IHistoryMediaSearch;
 import john.api1.application.ports.services.media.IMediaSearch;
 import john.api1.application.ports.services.pet.IPetSearch;
-import john.api1.application.ports.services.request.IRequestSearch;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
+// A page costs the same queries whatever its size:
+// requests, request_photo, request_video, storage_files, owners, pets, each one $in,
+// then every url on the page is presigned in one pass per bucket
 @Service
 public class HistoryMediaSearchAS implements IHistoryMediaSearch {
+    private static final Logger log = LoggerFactory.getLogger(HistoryMediaSearchAS.class);
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int RECENT_PAGE_SIZE = 20;
+
+    private final IRequestSearchRepository requestSearch;
     private final IRequestCompletedSearchRepository completedSearch;
     private final IMediaSearch mediaSearch;
-    private final IRequestSearch requestSearch;
     private final IPetOwnerSearch ownerSearch;
     private final IPetSearch petSearch;
 
-
-    // Get request media
-    // Get photo/video domain
-    // Call minio to create temporary url
-    // Return dto
     @Autowired
-    public HistoryMediaSearchAS(IRequestCompletedSearchRepository completedSearch,
+    public HistoryMediaSearchAS(IRequestSearchRepository requestSearch,
+                                IRequestCompletedSearchRepository completedSearch,
                                 IMediaSearch mediaSearch,
-                                IRequestSearch requestSearch,
                                 IPetOwnerSearch ownerSearch,
                                 IPetSearch petSearch) {
+        this.requestSearch = requestSearch;
         this.completedSearch = completedSearch;
         this.mediaSearch = mediaSearch;
-        this.requestSearch = requestSearch;
         this.ownerSearch = ownerSearch;
         this.petSearch = petSearch;
     }
 
+    @Override
     public Optional<MediaHistoryDTO> getRecentHistoryMedia() {
+        // the newest requests may have nothing to show, walk on until one does
+        String cursor = null;
+        do {
+            var page = getAllHistoryMedia(null, cursor, RECENT_PAGE_SIZE);
+            if (!page.isSuccess()) throw new PersistenceHistoryException(page.getMessage());
+
+            var first = page.getData().media().stream().findFirst();
+            if (first.isPresent()) return first;
+            cursor = page.getData().nextCursor();
+        } while (cursor != null);
+
+        return Optional.empty();
+    }
+
+    @Override
+    public DomainResponse<MediaHistoryPageDTO> getAllHistoryMedia(@Nullable String ownerId, @Nullable String cursor, int limit) {
         try {
-            var optionalRequest = requestSearch.searchRecentMediaRequest();
-            if (optionalRequest.isEmpty()) return Optional.empty();
-
-            RequestCQRS request = optionalRequest.get();
-            String requestId = request.id();
-            String ownerName = ownerSearch.getPetOwnerName(request.ownerId());
-            String petName = petSearch.getPetName(request.petId());
-            String description = request.description();
-
-            switch (request.type()) {
-                case PHOTO_REQUEST -> {
-                    var photoRequest = completedSearch.findPhotoRequestByRequestId(requestId)
-                            .orElseThrow(() -> new PersistenceHistoryException("No recent photo request history found"));
-
-                    var media = mediaSearch.findByRequestId(photoRequest.requestId())
-                            .orElseThrow(() -> new PersistenceException("No photos found. Failed to generate pre-signed URLs"));
-
-                    var dto = new MediaHistoryPhotoDTO(
-                            requestId,
-                            MediaPreview.MediaPreviewDTO.map(media),
-                            petName,
-                            ownerName,
-                            description,
-                            request.createdAt(),
-                            request.updatedAt()
-                    );
-                    return Optional.of(dto);
-                }
-
-                case VIDEO_REQUEST -> {
-                    var videoRequest = completedSearch.findVideoRequestByRequestId(requestId)
-                            .orElseThrow(() -> new PersistenceHistoryException("No recent video request history found"));
-
-
-                    var video = mediaSearch.findByRequestId(videoRequest.requestId())
-                            .filter(list -> list.size() == 1)
-                            .orElseThrow(() -> new PersistenceException("No video found or multiple videos found. Failed to generate pre-signed URL"));
-
-                    var firstUrl = video.getFirst().preSignedUrl();
-
-                    var dto = new MediaHistoryVideoDTO(
-                            requestId,
-                            firstUrl,
-                            petName,
-                            ownerName,
-                            description,
-                            request.createdAt(),
-                            request.updatedAt()
-                    );
-                    return Optional.of(dto);
-                }
-
-                default -> {
-                    return Optional.empty(); // Future-proofing for other request types
-                }
-            }
-
-        } catch (PersistenceException | DomainArgumentException | PersistenceHistoryException e) {
-            throw new PersistenceHistoryException(e.getMessage());
+            if (limit < 1 || limit > MAX_PAGE_SIZE)
+                return DomainResponse.error("Page limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+            if (ownerId != null && !ObjectId.isValid(ownerId))
+                return DomainResponse.error("Invalid owner id.");
+
+            PageCursor after = (cursor == null || cursor.isBlank()) ? null : PageCursor.decode(cursor);
+
+            // one extra row tells if there is a next page
+            List<RequestCQRS> requests = requestSearch.searchCompletedMedia(ownerId, after, limit + 1);
+            boolean hasNext = requests.size() > limit;
+            if (hasNext) requests = requests.subList(0, limit);
+
+            // keyset on _id alone, the request's times are not part of the cursor
+            String nextCursor = hasNext ? new PageCursor(null, requests.get(requests.size() - 1).id()).encode() : null;
+
+            // cursor follows the raw rows, requests without delivered media are dropped
+            var media = buildPage(requests).stream()
+                    .filter(Objects::nonNull)
+                    .toList();
+            return DomainResponse.success(new MediaHistoryPageDTO(media, nextCursor), "Media history successfully retrieved.");
+
+        } catch (PersistenceException | DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException | DataAccessException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
         }
     }
 
 
-    public List<MediaHistoryDTO> getAllHistoryMedia() {
+    private List<MediaHistoryDTO> buildPage(List<RequestCQRS> requests) {
+        if (requests.isEmpty()) return List.of();
+
+        Set<String> requestIds = new HashSet<>(requests.size());
+        Set<String> ownerIds = new HashSet<>();
+        Set<String> petIds = new HashSet<>();
+        for (RequestCQRS request : requests) {
+            requestIds.add(request.id());
+            ownerIds.add(request.ownerId());
+            petIds.add(request.petId());
+        }
 
-        return null;
+        Map<String, PhotoRequestDomain> photoMap = completedSearch.findPhotoRequestsByRequestIds(requestIds);
+        Map<String, VideoRequestDomain> videoMap = completedSearch.findVideoRequestsByRequestIds(requestIds);
+        Map<String, List<MediaPreview>> mediaMap = mediaSearch.findByRequestIds(requestIds);
+        Map<String, PetOwnerCQRS> ownerMap = ownerSearch.getPetOwnerBoardingDetailsByIds(ownerIds);
+        Map<String, PetCQRS> petMap = petSearch.getPetBoardingDetailsByIds(petIds);
+
+        List<MediaHistoryDTO> result = new ArrayList<>(requests.size());
+        for (RequestCQRS request : requests) {
+            var owner = ownerMap.get(request.ownerId());
+            var pet = petMap.get(request.petId());
+            String ownerName = owner != null ? owner.ownerName() : null;
+            String petName = pet != null ? pet.petName() : null;
+            List<MediaPreview> media = mediaMap.getOrDefault(request.id(), List.of());
+
+            result.add(switch (request.type()) {
+                case PHOTO_REQUEST -> mapPhoto(request, photoMap.get(request.id()), media, ownerName, petName);
+                case VIDEO_REQUEST -> mapVideo(request, videoMap.get(request.id()), media, ownerName, petName);
+                default -> null;
+            });
+        }
+        return result;
     }
 
+    // Only the files delivered with the request, as listed on its request_photo row
+    private MediaHistoryDTO mapPhoto(RequestCQRS request, @Nullable PhotoRequestDomain photo,
+                                     List<MediaPreview> media, String ownerName, String petName) {
+        if (photo == null) {
+            log.warn("Completed photo request {} has no photo record, skipped from media history", request.id());
+            return null;
+        }
 
+        Set<String> delivered = new HashSet<>();
+        photo.photo().forEach(file -> delivered.add(file.id()));
+        var photos = media.stream()
+                .filter(preview -> delivered.isEmpty() || delivered.contains(preview.id()))
+                .toList();
+        if (photos.isEmpty()) {
+            log.warn("Completed photo request {} has no stored photos, skipped from media history", request.id());
+            return null;
+        }
+
+        return new MediaHistoryPhotoDTO(
+                request.id(),
+                MediaPreview.MediaPreviewDTO.map(photos),
+                petName,
+                ownerName,
+                request.description(),
+                request.createdAt(),
+                request.updatedAt()
+        );
+    }
+
+    private MediaHistoryDTO mapVideo(RequestCQRS request, @Nullable VideoRequestDomain video,
+                                     List<MediaPreview> media, String ownerName, String petName) {
+        if (video == null) {
+            log.warn("Completed video request {} has no video record, skipped from media history", request.id());
+            return null;
+        }
+
+        var stored = media.stream()
+                .filter(preview -> preview.id().equals(video.mediaId()))
+                .findFirst();
+        if (stored.isEmpty()) {
+            log.warn("Completed video request {} has no stored video, skipped from media history", request.id());
+            return null;
+        }
+
+        return new MediaHistoryVideoDTO(
+                request.id(),
+                stored.get().preSignedUrl(),
+                petName,
+                ownerName,
+                request.description(),
+                request.createdAt(),
+                request.updatedAt()
+        );
+    }
 }
@@ -15,8 +15,12 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 public class MediaSearchAS implements IMediaSearch {
@@ -111,6 +115,31 @@ public class MediaSearchAS implements IMediaSearch {
         return Optional.ofNullable(results);
     }
 
+    @Override
+    public Map<String, List<MediaPreview>> findByRequestIds(Collection<String> requestIds) {
+        var found = mediaRepository.findByTypeIds(requestIds);
+        if (found.isEmpty()) return Map.of();
+
+        // file names grouped per bucket, each bucket signed in one call
+        Map<BucketType, Map<String, String>> urls = found.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.groupingBy(MediaEntityPreview::bucketType,
+                        Collectors.mapping(MediaEntityPreview::fileName, Collectors.toSet())))
+                .entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> minioAdapter.getReadUrls(e.getKey(), e.getValue())));
+
+        Map<String, List<MediaPreview>> result = new HashMap<>(found.size());
+        found.forEach((requestId, entities) -> result.put(requestId, entities.stream()
+                .map(entity -> new MediaPreview(
+                        entity.id(),
+                        entity.description(),
+                        entity.bucketType(),
+                        urls.get(entity.bucketType()).get(entity.fileName()),
+                        entity.expiredAt()))
+                .toList()));
+        return result;
+    }
+
 
     private MediaPreview mapToMediaPreview(MediaEntityPreview entity) {
         String preSignedUrl = minioAdapter.getReadUrl(entity.bucketType(), entity.fileName());
@@ -142,6 +142,35 @@ public class NotificationAS implements INotificationCreate, INotificationDelete
         }
     }
 
+    @Override
+    public DomainResponse<NotificationDTO> createBoardingNotification(String ownerId, String petId, NotificationType notificationType,
+                                                                      BoardingType boardingType, Instant checkoutTime) {
+        try {
+            validateId(ownerId, "owner");
+            validateId(petId, "pet");
+
+            var context = NotificationContext.builder()
+                    .notificationType(notificationType)
+                    .ownerName(ownerSearch.getPetOwnerName(ownerId))
+                    .petName(petSearch.getPetName(petId))
+                    .boardingType(boardingType)
+                    .checkoutTime(checkoutTime)
+                    .build();
+
+            NotificationDomain domain = NotificationDomain.create(ownerId, NotificationDescriptionDS.description(context), notificationType);
+
+            var saved = createRepository.save(domain);
+            if (saved.isEmpty())
+                throw new PersistenceException("Notification failed to saved to database after final step");
+            domain = NotificationDomain.mapWithId(saved.get(), domain);
+
+            return DomainResponse.success(NotificationDTO.map(domain));
+
+        } catch (DomainArgumentException | PersistenceException e) {
+            return DomainResponse.error(e.getMessage());
+        }
+    }
+
     // Delete
     @Override
     public DomainResponse<Void> deleteById(String id) {
@@ -1,9 +1,9 @@
 package john.api1.application.services.pet;
 
 import john.api1.application.components.DomainResponse;
+import john.api1.application.components.event.PetProfileChangedEvent;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
-import john.api1.application.components.exception.PersistenceHistoryException;
 import john.api1.application.domain.models.PetDomain;
 import john.api1.application.dto.request.PetRDTO;
 import john.api1.application.ports.repositories.owner.IPetOwnerUpdateRepository;
@@ -15,6 +15,7 @@ import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -25,16 +26,19 @@ public class PetRegistrationAS implements IPetRegister {
     private final IPetOwnerUpdateRepository ownerUpdate;
     private final IPetOwnerSearch ownerSearch;
     private final IHistoryLogCreate historyCreate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public PetRegistrationAS(IPetCreateRepository petCreate,
                              IPetOwnerUpdateRepository accountUpdate,
                              IPetOwnerSearch ownerSearch,
-                             IHistoryLogCreate historyCreate) {
+                             IHistoryLogCreate historyCreate,
+                             ApplicationEventPublisher eventPublisher) {
         this.petCreate = petCreate;
         this.ownerUpdate = accountUpdate;
         this.ownerSearch = ownerSearch;
         this.historyCreate = historyCreate;
+        this.eventPublisher = eventPublisher;
     }
 
     // Register new pet
@@ -72,14 +76,10 @@ public class PetRegistrationAS implements IPetRegister {
                     .orElseThrow(() -> new PersistenceException("Failed to register pet."));
             // update pet owner with new registered pet
             ownerUpdate.addNewPet(ownerId, petId);
+            eventPublisher.publishEvent(new PetProfileChangedEvent(petId));
 
             // history log
-            try {
-                historyCreate.createActivityLogPetRegister(petId, owner.get().ownerName(), registerPet.getPetName());
-                log.info("Activity log created for new registered pet '{}' owned to '{}'", petDomain.getPetName(), owner.get().ownerName());
-            } catch (PersistenceHistoryException e) {
-                log.warn("Activity log for new pet registration failed to save in class 'PetRegistrationAS'");
-            }
+            historyCreate.createActivityLogPetRegister(petId, owner.get().ownerName(), registerPet.getPetName());
 
             return DomainResponse.success(petId, "Pet '" + petDomain.getPetName() + "' has been successfully registered."
             );
@@ -1,5 +1,7 @@
 package john.api1.application.services.pet;
 
+import john.api1.application.components.TwoTierCache;
+import john.api1.application.components.enums.CacheRegion;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.ports.repositories.pet.IPetCQRSRepository;
 import john.api1.application.ports.repositories.pet.PetCQRS;
@@ -8,33 +10,48 @@ import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class PetSearchAS implements IPetSearch {
     private final IPetCQRSRepository petSearch;
+    private final TwoTierCache cache;
 
     @Autowired
-    public PetSearchAS(IPetCQRSRepository petSearch) {
+    public PetSearchAS(IPetCQRSRepository petSearch, TwoTierCache cache) {
         this.petSearch = petSearch;
+        this.cache = cache;
     }
 
     @Override
     public PetCQRS getPetBoardingDetails(String petId) {
         if (!ObjectId.isValid(petId)) throw new PersistenceException("Pet id is invalid.");
 
-        var pet = petSearch.getPetDetails(petId);
-        if (pet.isEmpty()) throw new PersistenceException("Pet cannot be found.");
-        return pet.get();
+        var pet = cache.get(CacheRegion.PET, petId, "details", PetCQRS.class,
+                () -> petSearch.getPetDetails(petId).orElse(null));
+        if (pet == null) throw new PersistenceException("Pet cannot be found.");
+        return pet;
+    }
+
+    @Override
+    public Map<String, PetCQRS> getPetBoardingDetailsByIds(Collection<String> petIds) {
+        return petSearch.getPetDetailsByIds(petIds)
+                .stream()
+                .collect(Collectors.toMap(PetCQRS::id, Function.identity(), (a, b) -> a));
     }
 
     @Override
     public PetCQRS getPetNameBreedSize(String petId) {
         if (!ObjectId.isValid(petId)) throw new PersistenceException("Pet id is invalid.");
 
-        var name = petSearch.getPetNameBreedSize(petId);
-        if (name.isEmpty()) throw new PersistenceException("Pet fileName cannot be found.");
-        return name.get();
+        var name = cache.get(CacheRegion.PET, petId, "nameBreedSize", PetCQRS.class,
+                () -> petSearch.getPetNameBreedSize(petId).orElse(null));
+        if (name == null) throw new PersistenceException("Pet fileName cannot be found.");
+        return name;
     }
 
 
@@ -42,9 +59,10 @@ public class PetSearchAS implements IPetSearch {
     public String getPetName(String petId) {
         if (!ObjectId.isValid(petId)) throw new PersistenceException("Pet id is invalid.");
 
-        var name = petSearch.getPetName(petId);
-        if (name.isEmpty()) throw new PersistenceException("Pet fileName cannot be found.");
-        return name.get();
+        var name = cache.get(CacheRegion.PET, petId, "name", String.class,
+                () -> petSearch.getPetName(petId).orElse(null));
+        if (name == null) throw new PersistenceException("Pet fileName cannot be found.");
+        return name;
     }
 
     // List
@@ -2,6 +2,7 @@ package john.api1.application.services.pet;
 
 import john.api1.application.components.DomainResponse;
 import john.api1.application.components.enums.boarding.BoardingStatus;
+import john.api1.application.components.event.PetProfileChangedEvent;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.models.PetDomain;
@@ -13,6 +14,7 @@ import john.api1.application.ports.services.pet.IPetUpdate;
 import john.api1.application.services.response.PetUpdateResponse;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
@@ -24,11 +26,15 @@ public class PetUpdateAS implements IPetUpdate {
     private static final Logger logger = Logger.getLogger(PetUpdateAS.class.getName());
     private final IPetUpdateRepository petUpdate;
     private final IPetSearchRepository petSearch;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public PetUpdateAS(IPetUpdateRepository petUpdate, IPetSearchRepository petSearch) {
+    public PetUpdateAS(IPetUpdateRepository petUpdate,
+                       IPetSearchRepository petSearch,
+                       ApplicationEventPublisher eventPublisher) {
         this.petUpdate = petUpdate;
         this.petSearch = petSearch;
+        this.eventPublisher = eventPublisher;
     }
 
     // Check pets id if exist
@@ -52,9 +58,11 @@ public class PetUpdateAS implements IPetUpdate {
                     profilePicUrl
             );
 
-            return petUpdate.updatePet(petDomain) ?
-                    DomainResponse.success(petId, "Pet '" + pet.getPetName() + "' successfully updated.") :
-                    DomainResponse.error("Failed to update pet '" + pet.getPetName() + "'.");
+            if (!petUpdate.updatePet(petDomain))
+                return DomainResponse.error("Failed to update pet '" + pet.getPetName() + "'.");
+
+            eventPublisher.publishEvent(new PetProfileChangedEvent(petId));
+            return DomainResponse.success(petId, "Pet '" + pet.getPetName() + "' successfully updated.");
 
         } catch (DomainArgumentException e) {
             logger.warning("Domain argument error for pet ID " + petId + ": " + e.getMessage());
@@ -136,6 +144,7 @@ public class PetUpdateAS implements IPetUpdate {
             logger.warning("Update operation failed for pet ID: " + petId + " - " + errorMessage);
             return DomainResponse.error(errorMessage);
         }
+        eventPublisher.publishEvent(new PetProfileChangedEvent(petId));
         return DomainResponse.success(response);
     }
 
@@ -2,12 +2,12 @@ package john.api1.application.services.request;
 
 import john.api1.application.components.DomainResponse;
 import john.api1.application.components.enums.GroomingType;
-import john.api1.application.components.enums.PetPrices;
 import john.api1.application.components.enums.PetSize;
 import john.api1.application.components.enums.SpeciesType;
 import john.api1.application.components.enums.boarding.BoardingType;
 import john.api1.application.components.enums.boarding.RequestStatus;
 import john.api1.application.components.enums.boarding.RequestType;
+import john.api1.application.components.event.RequestChangedEvent;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.cores.boarding.BoardingExtensionDS;
@@ -24,10 +24,12 @@ import john.api1.application.ports.repositories.request.IRequestCreateRepository
 import john.api1.application.ports.services.IPetOwnerSearch;
 import john.api1.application.ports.services.IRequestAggregation;
 import john.api1.application.ports.services.boarding.IBoardingSearch;
+import john.api1.application.ports.services.boarding.IPricingEngine;
 import john.api1.application.ports.services.pet.IPetSearch;
 import john.api1.application.ports.services.request.IRequestCreate;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -37,18 +39,24 @@ public class RequestCreateAS implements IRequestCreate {
     private final IBoardingSearch boardingSearch;
     private final IRequestCreateRepository requestCreate;
     private final IRequestAggregation aggregation;
+    private final IPricingEngine pricingEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public RequestCreateAS(IPetOwnerSearch petOwnerManagement,
                            IPetSearch petSearch,
                            IBoardingSearch boardingSearch,
                            IRequestCreateRepository requestCreate,
-                           IRequestAggregation aggregation) {
+                           IRequestAggregation aggregation,
+                           IPricingEngine pricingEngine,
+                           ApplicationEventPublisher eventPublisher) {
         this.petOwnerManagement = petOwnerManagement;
         this.petSearch = petSearch;
         this.boardingSearch = boardingSearch;
         this.requestCreate = requestCreate;
         this.aggregation = aggregation;
+        this.pricingEngine = pricingEngine;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -110,9 +118,10 @@ public class RequestCreateAS implements IRequestCreate {
             BoardingType type = BoardingExtensionDS.extensionType(request.getExtensionType());
             long extendedHours = BoardingExtensionDS.calculateExtendedHours(type, request.getExtensionDuration());
 
-            PetPrices priceRate = PetPrices.fromSpeciesAndSize(
+            var quote = pricingEngine.quoteExtension(
                     SpeciesType.fromStringToSpecies(pet.animalType()),
-                    PetSize.fromStringToSize(pet.size()));
+                    PetSize.fromStringToSize(pet.size()),
+                    extendedHours);
 
             // Create and persist extension domain
             ExtensionDomain extensionDomain = new ExtensionDomain(
@@ -120,7 +129,7 @@ public class RequestCreateAS implements IRequestCreate {
                     request.getBoardingId(),
                     request.getDescription());
             extensionDomain.setDurationType(type);
-            extensionDomain.setAdditionalPrice(priceRate, extendedHours);
+            extensionDomain.setAdditionalPrice(quote.totalCents(), extendedHours);
 
             var domainId = requestCreate.createInitialRequestExtension(extensionDomain);
             if (domainId.isEmpty()) return DomainResponse.error("Failed to save initial request extension");
@@ -161,16 +170,17 @@ public class RequestCreateAS implements IRequestCreate {
 
             // Determine grooming type and pricing per pet's size
             GroomingType groomingType = GroomingType.safeFromStringOrDefault(request.getGroomingService());
-            PetPrices priceRate = PetPrices.fromSpeciesAndSize(
+            var quote = pricingEngine.quoteGrooming(
                     SpeciesType.fromStringToSpecies(pet.animalType()),
-                    PetSize.fromStringToSize(pet.size()));
+                    PetSize.fromStringToSize(pet.size()),
+                    groomingType);
 
             // Create and persist extension domain
             GroomingDomain groomingDomain = new GroomingDomain(
                     domain.getId(),
                     request.getBoardingId(),
                     request.getDescription());
-            groomingDomain.setGroomingAndPrice(groomingType, priceRate);
+            groomingDomain.setGroomingAndPrice(groomingType, quote.totalCents());
 
             var domainId = requestCreate.createInitialRequestGrooming(groomingDomain);
             if (domainId.isEmpty()) return DomainResponse.error("Failed to save initial grooming request");
@@ -189,6 +199,7 @@ public class RequestCreateAS implements IRequestCreate {
     private RequestDomain saveRequest(RequestDomain domain) {
         var create = requestCreate.createRequest(domain);
         if (create.isEmpty()) throw new PersistenceException("Failed to create new request");
+        eventPublisher.publishEvent(new RequestChangedEvent(create.get()));
         return domain.withId(create.get());
     }
 
@@ -0,0 +1,355 @@
+package john.api1.application.services.request;
+
+import com.mongodb.MongoException;
+import jakarta.annotation.Nullable;
+import john.api1.application.components.DomainResponse;
+import john.api1.application.components.PageCursor;
+import john.api1.application.components.enums.boarding.RequestStatus;
+import john.api1.application.components.event.RequestChangedEvent;
+import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.domain.models.request.RequestDomain;
+import john.api1.application.dto.mapper.request.RequestInboxDeltaDTO;
+import john.api1.application.dto.mapper.request.RequestInboxDeltaDTO.Action;
+import john.api1.application.dto.mapper.request.RequestInboxItemDTO;
+import john.api1.application.dto.mapper.request.RequestInboxPageDTO;
+import john.api1.application.ports.repositories.owner.PetOwnerCQRS;
+import john.api1.application.ports.repositories.pet.PetCQRS;
+import john.api1.application.ports.repositories.request.IRequestSearchRepository;
+import john.api1.application.ports.services.IPetOwnerSearch;
+import john.api1.application.ports.services.pet.IPetSearch;
+import john.api1.application.ports.services.request.IRequestInbox;
+import john.api1.common.config.RequestInboxConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+// Open requests (pending, in-progress) with owner and pet names resolved, ordered oldest first on (requestTime, id)
+// Loaded on startup and on every resync, kept current by RequestChangedEvent after commit
+// The refresh runs on its own thread, with the change stream on only its events are applied so a local write counts once
+// Every change that alters an item bumps the version and is queued per subscriber, sends run on the push pool
+@Service
+public class RequestInboxAS implements IRequestInbox {
+    private static final Logger log = LoggerFactory.getLogger(RequestInboxAS.class);
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int LOAD_BATCH_SIZE = 200;
+    private static final Set<RequestStatus> OPEN = EnumSet.of(RequestStatus.PENDING, RequestStatus.IN_PROGRESS);
+    private static final Comparator<PageCursor> OLDEST_FIRST =
+            Comparator.comparing(PageCursor::createdAt).thenComparing(PageCursor::id);
+
+    private final IRequestSearchRepository requestSearch;
+    private final IPetOwnerSearch ownerSearch;
+    private final IPetSearch petSearch;
+    private final RequestInboxConfig config;
+    private final ThreadPoolTaskExecutor refreshExecutor;
+    private final ThreadPoolTaskExecutor pushExecutor;
+
+    // Writes hold the lock so both maps and the version move together, reads go straight to the skip list
+    private final NavigableMap<PageCursor, RequestInboxItemDTO> queue = new ConcurrentSkipListMap<>(OLDEST_FIRST);
+    private final Map<String, PageCursor> positions = new ConcurrentHashMap<>();
+    private final Map<Consumer<RequestInboxDeltaDTO>, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile long version;
+
+    // Ids refreshed while a load reads Mongo, the load leaves them alone so it cannot undo a newer change
+    private volatile Set<String> touchedDuringLoad;
+    private final AtomicBoolean syncing = new AtomicBoolean(false);
+    // Set when a refresh was rejected, the next check reloads everything
+    private final AtomicBoolean resyncDue = new AtomicBoolean(false);
+
+    @Autowired
+    public RequestInboxAS(IRequestSearchRepository requestSearch,
+                          IPetOwnerSearch ownerSearch,
+                          IPetSearch petSearch,
+                          RequestInboxConfig config,
+                          @Qualifier("requestInboxRefreshExecutor") ThreadPoolTaskExecutor refreshExecutor,
+                          @Qualifier("requestInboxPushExecutor") ThreadPoolTaskExecutor pushExecutor) {
+        this.requestSearch = requestSearch;
+        this.ownerSearch = ownerSearch;
+        this.petSearch = petSearch;
+        this.config = config;
+        this.refreshExecutor = refreshExecutor;
+        this.pushExecutor = pushExecutor;
+    }
+
+    @Override
+    public DomainResponse<RequestInboxPageDTO> page(@Nullable String cursor, int limit, @Nullable String status) {
+        try {
+            if (limit < 1 || limit > MAX_PAGE_SIZE)
+                return DomainResponse.error("Page limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+
+            RequestStatus filter = (status == null || status.isBlank()) ? null : RequestStatus.fromString(status);
+            if (filter != null && !OPEN.contains(filter))
+                return DomainResponse.error("Inbox only holds pending and in-progress requests.");
+
+            // Read first, deltas above it may already be in the page and apply again harmlessly
+            long atVersion = version;
+            PageCursor after = (cursor == null || cursor.isBlank()) ? null : PageCursor.decode(cursor);
+            var view = after == null ? queue : queue.tailMap(after, false);
+
+            List<RequestInboxItemDTO> rows = view.values()
+                    .stream()
+                    .filter(item -> filter == null || filter.getRequestStatus().equals(item.status()))
+                    .limit(limit + 1L)
+                    .toList();
+            boolean hasNext = rows.size() > limit;
+            if (hasNext) rows = rows.subList(0, limit);
+
+            String nextCursor = hasNext ? positionOf(rows.get(rows.size() - 1)).encode() : null;
+            return DomainResponse.success(new RequestInboxPageDTO(rows, nextCursor, atVersion));
+
+        } catch (DomainArgumentException | IllegalArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        }
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
+    @Override
+    public void subscribe(Consumer<RequestInboxDeltaDTO> listener, Runnable onDropped) {
+        subscribers.put(listener, new Subscriber(listener, onDropped, config.getSubscriberQueue()));
+    }
+
+    @Override
+    public void unsubscribe(Consumer<RequestInboxDeltaDTO> listener) {
+        subscribers.remove(listener);
+    }
+
+    // After commit so a rolled back status never reaches the screens
+    // Only marks and queues on the writer's thread, a full queue rejects the refresh and forces a resync
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequestChanged(RequestChangedEvent event) {
+        if (config.isChangeStream() && !event.fromChangeStream()) return;
+
+        var touched = touchedDuringLoad;
+        if (touched != null) touched.add(event.requestId());
+
+        try {
+            refreshExecutor.execute(() -> refresh(event.requestId()));
+        } catch (TaskRejectedException e) {
+            resyncDue.set(true);
+            log.warn("Request inbox refresh queue full, resync forced. ID: {}", event.requestId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        resync();
+    }
+
+    // Reconciles against Mongo, only differences produce deltas
+    @Scheduled(fixedDelayString = "${request.inbox.resync-ms:300000}", initialDelayString = "${request.inbox.resync-ms:300000}")
+    public void resync() {
+        sync();
+    }
+
+    // A resync already running may have skipped the rejected id as touched, so a busy check stays due
+    @Scheduled(fixedDelay = 1000)
+    public void resyncIfDue() {
+        if (resyncDue.compareAndSet(true, false) && !sync()) resyncDue.set(true);
+    }
+
+    private boolean sync() {
+        if (!syncing.compareAndSet(false, true)) return false;
+
+        long start = System.currentTimeMillis();
+        Set<String> touched = ConcurrentHashMap.newKeySet();
+        touchedDuringLoad = touched;
+
+        try {
+            List<RequestInboxItemDTO> loaded = new ArrayList<>();
+            List<RequestDomain> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+            try (var open = requestSearch.streamByStatuses(OPEN)) {
+                for (RequestDomain request : (Iterable<RequestDomain>) open::iterator) {
+                    batch.add(request);
+                    if (batch.size() == LOAD_BATCH_SIZE) {
+                        loaded.addAll(resolve(batch));
+                        batch.clear();
+                    }
+                }
+            }
+            loaded.addAll(resolve(batch));
+
+            Set<String> loadedIds = new HashSet<>(loaded.size());
+            for (RequestInboxItemDTO item : loaded) {
+                loadedIds.add(item.requestId());
+                if (!touched.contains(item.requestId())) upsert(item);
+            }
+            for (String requestId : List.copyOf(positions.keySet())) {
+                if (!loadedIds.contains(requestId) && !touched.contains(requestId)) remove(requestId);
+            }
+
+            log.debug("Request inbox synced, {} open request(s) in {} ms", loaded.size(), System.currentTimeMillis() - start);
+        } catch (PersistenceException | DomainArgumentException | MongoException e) {
+            log.warn("Request inbox resync failed, keeping the current queue. Error: {}", e.getMessage());
+        } finally {
+            touchedDuringLoad = null;
+            syncing.set(false);
+        }
+        return true;
+    }
+
+    private void refresh(String requestId) {
+        try {
+            var request = requestSearch.findById(requestId);
+            if (request.isEmpty() || !OPEN.contains(request.get().getRequestStatus())) {
+                remove(requestId);
+                return;
+            }
+
+            upsert(resolve(List.of(request.get())).get(0));
+        } catch (PersistenceException | DomainArgumentException | MongoException e) {
+            log.warn("Failed to refresh request inbox. ID: {}. Error: {}", requestId, e.getMessage());
+        }
+    }
+
+    private void upsert(RequestInboxItemDTO item) {
+        synchronized (writeLock) {
+            PageCursor position = positionOf(item);
+            PageCursor previous = positions.put(item.requestId(), position);
+            if (previous != null && !previous.equals(position)) queue.remove(previous);
+
+            RequestInboxItemDTO replaced = queue.put(position, item);
+            if (item.equals(replaced)) return;
+            push(new RequestInboxDeltaDTO(version + 1, Action.UPSERT, item.requestId(), item));
+        }
+    }
+
+    private void remove(String requestId) {
+        synchronized (writeLock) {
+            PageCursor position = positions.remove(requestId);
+            if (position == null) return;
+
+            queue.remove(position);
+            push(new RequestInboxDeltaDTO(version + 1, Action.REMOVE, requestId, null));
+        }
+    }
+
+    // Called under the write lock so every subscriber queue fills in version order
+    private void push(RequestInboxDeltaDTO delta) {
+        version = delta.version();
+        for (Subscriber subscriber : subscribers.values()) {
+            if (!subscriber.pending.offer(delta)) {
+                drop(subscriber, "queue full");
+                continue;
+            }
+            schedule(subscriber);
+        }
+    }
+
+    // One drain per subscriber at a time, so its deltas are sent in order while others send in parallel
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) return;
+        try {
+            pushExecutor.execute(() -> drain(subscriber));
+        } catch (TaskRejectedException e) {
+            subscriber.draining.set(false);
+            drop(subscriber, "push pool rejected");
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            RequestInboxDeltaDTO delta;
+            while ((delta = subscriber.pending.poll()) != null) {
+                if (subscribers.get(subscriber.listener) != subscriber) return;
+                try {
+                    subscriber.listener.accept(delta);
+                } catch (RuntimeException e) {
+                    drop(subscriber, e.getMessage());
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // A delta offered between the last poll and the reset would otherwise wait for the next push
+        } while (!subscriber.pending.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    // The client reconnects, reads the version and refetches its page, so nothing it missed is lost
+    private void drop(Subscriber subscriber, String reason) {
+        if (!subscribers.remove(subscriber.listener, subscriber)) return;
+        subscriber.pending.clear();
+        log.debug("Request inbox subscriber dropped. Reason: {}", reason);
+        try {
+            subscriber.onDropped.run();
+        } catch (RuntimeException e) {
+            log.debug("Request inbox subscriber close failed. Error: {}", e.getMessage());
+        }
+    }
+
+    // One $in per port for the whole batch
+    private List<RequestInboxItemDTO> resolve(List<RequestDomain> requests) {
+        if (requests.isEmpty()) return List.of();
+
+        Set<String> ownerIds = new HashSet<>();
+        Set<String> petIds = new HashSet<>();
+        for (RequestDomain request : requests) {
+            ownerIds.add(request.getOwnerId());
+            petIds.add(request.getPetId());
+        }
+        Map<String, PetOwnerCQRS> owners = ownerSearch.getPetOwnerBoardingDetailsByIds(ownerIds);
+        Map<String, PetCQRS> pets = petSearch.getPetBoardingDetailsByIds(petIds);
+
+        return requests.stream()
+                .map(request -> {
+                    var owner = owners.get(request.getOwnerId());
+                    var pet = pets.get(request.getPetId());
+                    return new RequestInboxItemDTO(
+                            request.getId(),
+                            request.getOwnerId(),
+                            owner != null ? owner.ownerName() : null,
+                            request.getPetId(),
+                            pet != null ? pet.petName() : null,
+                            request.getBoardingId(),
+                            request.getRequestType().getRequestType(),
+                            request.getRequestStatus().getRequestStatus(),
+                            request.getDescription(),
+                            request.getRequestTime() != null ? request.getRequestTime() : Instant.EPOCH);
+                })
+                .toList();
+    }
+
+    private PageCursor positionOf(RequestInboxItemDTO item) {
+        return new PageCursor(item.requestTime(), item.requestId());
+    }
+
+    private static final class Subscriber {
+        private final Consumer<RequestInboxDeltaDTO> listener;
+        private final Runnable onDropped;
+        private final BlockingQueue<RequestInboxDeltaDTO> pending;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        private Subscriber(Consumer<RequestInboxDeltaDTO> listener, Runnable onDropped, int capacity) {
+            this.listener = listener;
+            this.onDropped = onDropped;
+            this.pending = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package john.api1.application.services.request;
 
 import john.api1.application.components.DomainResponse;
 import john.api1.application.components.enums.boarding.RequestStatus;
+import john.api1.application.components.event.RequestChangedEvent;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.cores.RequestStatusDS;
@@ -14,6 +15,7 @@ import john.api1.application.ports.services.pet.IPetSearch;
 import john.api1.application.ports.services.request.IRequestStatusManagement;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -22,16 +24,19 @@ public class RequestStatusManagementAS implements IRequestStatusManagement {
     private final IRequestSearchRepository searchRepository;
     private final IPetOwnerSearch ownerSearch;
     private final IPetSearch petSearch;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public RequestStatusManagementAS(IRequestUpdateRepository updateRepository,
                                      IRequestSearchRepository searchRepository,
                                      IPetOwnerSearch ownerSearch,
-                                     IPetSearch petSearch) {
+                                     IPetSearch petSearch,
+                                     ApplicationEventPublisher eventPublisher) {
         this.updateRepository = updateRepository;
         this.searchRepository = searchRepository;
         this.ownerSearch = ownerSearch;
         this.petSearch = petSearch;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -81,6 +86,7 @@ public class RequestStatusManagementAS implements IRequestStatusManagement {
 
             if (updated.isEmpty())
                 return DomainResponse.error("Request status update failed. No documents were updated.");
+            eventPublisher.publishEvent(new RequestChangedEvent(requestId));
 
             var updatedRequest = updated.get();
             String ownerName = ownerSearch.getPetOwnerName(updatedRequest.ownerId());
@@ -116,6 +122,7 @@ public class RequestStatusManagementAS implements IRequestStatusManagement {
 
             if (updated.isEmpty())
                 return DomainResponse.error("Request status update failed. No documents were updated.");
+            eventPublisher.publishEvent(new RequestChangedEvent(requestId));
 
             var updatedRequest = updated.get();
             String ownerName = ownerSearch.getPetOwnerName(updatedRequest.ownerId());
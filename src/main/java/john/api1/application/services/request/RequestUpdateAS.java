@@ -3,6 +3,7 @@ package john.api1.application.services.request;
 import com.mongodb.MongoException;
 import john.api1.application.components.DomainResponse;
 import john.api1.application.components.enums.boarding.RequestStatus;
+import john.api1.application.components.event.RequestChangedEvent;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.cores.RequestStatusDS;
@@ -13,6 +14,7 @@ import john.api1.application.ports.repositories.request.IRequestUpdateRepository
 import john.api1.application.ports.services.request.IRequestUpdate;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,14 +24,17 @@ public class RequestUpdateAS implements IRequestUpdate {
     private final IRequestUpdateRepository updateRepository;
     private final IRequestDeleteRepository deleteRepository;
     private final IRequestSearchRepository searchRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public RequestUpdateAS(IRequestUpdateRepository updateRepository,
                            IRequestDeleteRepository deleteRepository,
-                           IRequestSearchRepository searchRepository) {
+                           IRequestSearchRepository searchRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.updateRepository = updateRepository;
         this.deleteRepository = deleteRepository;
         this.searchRepository = searchRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -42,6 +47,7 @@ public class RequestUpdateAS implements IRequestUpdate {
             RequestDomain archived = request.get();
             archived.markStatus(RequestStatus.COMPLETED);
             updateRepository.updateToComplete(archived.getId(), archived.getRequestStatus(), message, archived.isActive());
+            eventPublisher.publishEvent(new RequestChangedEvent(requestId));
 
             return DomainResponse.success("Successfully marked request as completed");
 
@@ -64,6 +70,7 @@ public class RequestUpdateAS implements IRequestUpdate {
             RequestDomain archived = request.get();
             archived.markStatus(RequestStatus.COMPLETED);
             updateRepository.updateRequestStatusAndActive(archived.getId(), archived.getRequestStatus(), archived.isActive());
+            eventPublisher.publishEvent(new RequestChangedEvent(requestId));
 
             return DomainResponse.success("Successfully marked request as completed");
 
@@ -84,6 +91,7 @@ public class RequestUpdateAS implements IRequestUpdate {
             RequestDomain archived = request.get();
             archived.markStatus(RequestStatus.ARCHIVED);
             updateRepository.updateRequestStatusAndActive(archived.getId(), archived.getRequestStatus(), archived.isActive());
+            eventPublisher.publishEvent(new RequestChangedEvent(requestId));
 
             return DomainResponse.success("Request successfully archived");
 
@@ -106,6 +114,7 @@ public class RequestUpdateAS implements IRequestUpdate {
             RequestStatusDS.deletable(archived);
 
             deleteRepository.deleteById(new ObjectId(requestId));
+            eventPublisher.publishEvent(new RequestChangedEvent(requestId));
             return DomainResponse.success("Request successfully deleted");
 
         } catch (DomainArgumentException | PersistenceException e) {
@@ -119,6 +128,7 @@ public class RequestUpdateAS implements IRequestUpdate {
     public void rollbackAsActive(String requestId) {
         validateId(requestId);
         updateRepository.updateRequestStatusAndActive(requestId, RequestStatus.PENDING, true);
+        eventPublisher.publishEvent(new RequestChangedEvent(requestId));
     }
 
     private void validateId(String id) {
@@ -6,7 +6,6 @@ import john.api1.application.components.enums.BucketType;
 import john.api1.application.components.enums.boarding.RequestType;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
-import john.api1.application.components.exception.PersistenceHistoryException;
 import john.api1.application.domain.cores.RequestStatusDS;
 import john.api1.application.domain.models.MediaDomain;
 import john.api1.application.domain.models.boarding.BoardingDomain;
@@ -19,12 +18,12 @@ import john.api1.application.dto.request.request.admin.RequestCompletePhotoRDTO;
 import john.api1.application.dto.request.request.admin.RequestCompleteVideoRDTO;
 import john.api1.application.ports.repositories.request.IRequestCompletedCreateRepository;
 import john.api1.application.ports.repositories.wrapper.PreSignedUrlResponse;
+import john.api1.application.ports.services.ILookupLoader;
 import john.api1.application.ports.services.IPetOwnerSearch;
 import john.api1.application.ports.services.boarding.IBoardingSearch;
 import john.api1.application.ports.services.history.IHistoryLogCreate;
 import john.api1.application.ports.services.media.IMediaManagement;
 import john.api1.application.ports.services.pet.IPetSearch;
-import john.api1.application.ports.services.request.IRequestSearch;
 import john.api1.application.ports.services.request.IRequestUpdate;
 import john.api1.application.ports.services.request.admin.ICommitRequestMedia;
 import john.api1.application.services.aggregation.IAggregationCompletedRequest;
@@ -45,31 +44,31 @@ public class CommitRequestMediasAS implements ICommitRequestMedia {
     private final IMediaManagement mediaManagement;
     private final IRequestUpdate requestUpdate;
     private final IBoardingSearch boardingSearch;
-    private final IRequestSearch requestSearch;
     private final IPetSearch petSearch;
     private final IPetOwnerSearch ownerSearch;
     private final IHistoryLogCreate historyLog;
     private final IAggregationCompletedRequest aggregation;
+    private final ILookupLoader lookup;
 
     @Autowired
     public CommitRequestMediasAS(IRequestCompletedCreateRepository createRepository,
                                  IMediaManagement mediaManagement,
                                  IRequestUpdate requestUpdate,
                                  IBoardingSearch boardingSearch,
-                                 IRequestSearch requestSearch,
                                  IPetSearch petSearch,
                                  IPetOwnerSearch ownerSearch,
                                  IHistoryLogCreate historyCreate,
-                                 IAggregationCompletedRequest aggregation) {
+                                 IAggregationCompletedRequest aggregation,
+                                 ILookupLoader lookup) {
         this.createRepository = createRepository;
         this.mediaManagement = mediaManagement;
         this.requestUpdate = requestUpdate;
         this.boardingSearch = boardingSearch;
-        this.requestSearch = requestSearch;
         this.petSearch = petSearch;
         this.ownerSearch = ownerSearch;
         this.historyLog = historyCreate;
         this.aggregation = aggregation;
+        this.lookup = lookup;
     }
 
 
@@ -84,7 +83,7 @@ public class CommitRequestMediasAS implements ICommitRequestMedia {
         try {
             validateId(request.getRequestId());
 
-            RequestDomain requestdomain = requestSearch.searchByRequestId(request.getRequestId());
+            RequestDomain requestdomain = findRequest(request.getRequestId());
             if (requestdomain.getRequestType() != RequestType.PHOTO_REQUEST)
                 throw new DomainArgumentException("Invalid. The request is not a photo request");
             RequestStatusDS.isValidToCommit(requestdomain);
@@ -121,6 +120,7 @@ public class CommitRequestMediasAS implements ICommitRequestMedia {
             // Update request status
             var saved = createRepository.createPhotoRequest(photo);
             var update = requestUpdate.markRequestAsCompletedWithMessage(request.getRequestId(), request.getNotes());
+            lookup.forgetRequest(request.getRequestId());
             String photoId = saved
                     .orElseThrow(() -> new PersistenceException("Failed to save video domain..."));
             if (!update.isSuccess())
@@ -133,12 +133,7 @@ public class CommitRequestMediasAS implements ICommitRequestMedia {
             var dto = aggregation.completedPhotoRequest(photo, Arrays.asList(mediaResponse));
 
             // History log
-            try {
-                historyLog.createActivityLogCompletedRequest(requestdomain, ownerName, petName);
-                log.info("Activity log created for completing photo request made by '{}'", ownerName);
-            } catch (PersistenceHistoryException e) {
-                log.warn("Activity log for completing photo failed to save in class 'CommitRequestMediaAS'");
-            }
+            historyLog.createActivityLogCompletedRequest(requestdomain, ownerName, petName);
 
 
             return DomainResponse.success(dto, "Photo request successfully completed");
@@ -158,7 +153,7 @@ public class CommitRequestMediasAS implements ICommitRequestMedia {
         try {
             validateId(request.getRequestId());
 
-            RequestDomain requestdomain = requestSearch.searchByRequestId(request.getRequestId());
+            RequestDomain requestdomain = findRequest(request.getRequestId());
             if (requestdomain.getRequestType() != RequestType.VIDEO_REQUEST)
                 throw new DomainArgumentException("Invalid. The request is not a video request");
 
@@ -192,6 +187,7 @@ public class CommitRequestMediasAS implements ICommitRequestMedia {
             // Update request status
             var saved = createRepository.createVideoRequest(video);
             var update = requestUpdate.markRequestAsCompletedWithMessage(request.getRequestId(), request.getNotes());
+            lookup.forgetRequest(request.getRequestId());
             String videoId = saved
                     .orElseThrow(() -> new PersistenceException("Failed to save video domain..."));
             if (!update.isSuccess())
@@ -205,12 +201,7 @@ public class CommitRequestMediasAS implements ICommitRequestMedia {
             var dto = aggregation.completedVideoRequest(video, mediaResponse);
 
             // History log
-            try {
-                historyLog.createActivityLogCompletedRequest(requestdomain, ownerName, petName);
-                log.info("Activity log created for completing video request made by '{}'", ownerName);
-            } catch (PersistenceHistoryException e) {
-                log.warn("Activity log for completing video failed to save in class 'CommitRequestMediaAS'");
-            }
+            historyLog.createActivityLogCompletedRequest(requestdomain, ownerName, petName);
 
 
             return DomainResponse.success(dto, "Video request successfully completed");
@@ -219,10 +210,16 @@ public class CommitRequestMediasAS implements ICommitRequestMedia {
         }
     }
 
+    private RequestDomain findRequest(String requestId) {
+        return lookup.request(requestId)
+                .orElseThrow(() -> new PersistenceException("Request cannot be found"));
+    }
+
     private BoardingDomain validateActiveRequest(String requestId) {
         validateId(requestId);
 
-        var request = requestSearch.searchByRequestId(requestId);
+        // Memoized, the commit already loaded it
+        var request = findRequest(requestId);
         RequestStatusDS.isValidToCommit(request);
 
         var active = boardingSearch.findBoardingById(request.getBoardingId());
@@ -7,7 +7,6 @@ import john.api1.application.components.enums.boarding.PaymentStatus;
 import john.api1.application.components.enums.boarding.RequestStatus;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
-import john.api1.application.components.exception.PersistenceHistoryException;
 import john.api1.application.domain.cores.RequestStatusDS;
 import john.api1.application.domain.models.boarding.BoardingDomain;
 import john.api1.application.domain.models.boarding.BoardingPricingDomain;
@@ -16,7 +15,10 @@ import john.api1.application.dto.request.request.admin.RequestCompleteServiceRDT
 import john.api1.application.ports.repositories.boarding.IBoardingManagementRepository;
 import john.api1.application.ports.repositories.request.IRequestCompletedUpdateRepository;
 import john.api1.application.ports.services.IPetOwnerSearch;
+import john.api1.application.ports.services.analytics.IRevenueRollup;
+import john.api1.application.ports.services.boarding.IBoardingEffectiveEnd;
 import john.api1.application.ports.services.boarding.IBoardingSearch;
+import john.api1.application.ports.services.boarding.IKennelAvailability;
 import john.api1.application.ports.services.boarding.IPricingManagement;
 import john.api1.application.ports.services.history.IHistoryLogCreate;
 import john.api1.application.ports.services.pet.IPetSearch;
@@ -28,8 +30,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.List;
 
 @Service
 @Transactional(rollbackFor = {DomainArgumentException.class, PersistenceException.class, MongoException.class})
@@ -45,6 +47,9 @@ public class CommitRequestServicesAS implements ICommitRequestServices {
     private final IPetSearch petSearch;
     private final IPetOwnerSearch ownerSearch;
     private final IHistoryLogCreate historyLog;
+    private final IBoardingEffectiveEnd effectiveEnd;
+    private final IRevenueRollup revenueRollup;
+    private final IKennelAvailability kennel;
 
 
     @Autowired
@@ -56,7 +61,10 @@ public class CommitRequestServicesAS implements ICommitRequestServices {
                                    IRequestSearch requestSearch,
                                    IPetSearch petSearch,
                                    IPetOwnerSearch ownerSearch,
-                                   IHistoryLogCreate historyLog) {
+                                   IHistoryLogCreate historyLog,
+                                   IBoardingEffectiveEnd effectiveEnd,
+                                   IRevenueRollup revenueRollup,
+                                   IKennelAvailability kennel) {
         this.boardingUpdate = boardingUpdate;
         this.serviceUpdate = serviceUpdate;
         this.pricingSearch = pricingSearch;
@@ -66,6 +74,9 @@ public class CommitRequestServicesAS implements ICommitRequestServices {
         this.petSearch = petSearch;
         this.ownerSearch = ownerSearch;
         this.historyLog = historyLog;
+        this.effectiveEnd = effectiveEnd;
+        this.revenueRollup = revenueRollup;
+        this.kennel = kennel;
     }
 
 
@@ -84,11 +95,16 @@ public class CommitRequestServicesAS implements ICommitRequestServices {
             var check = requestSearch.searchByRequestId(request.getRequestId());
             var boarding = validateActiveRequest(check.getBoardingId());
             var extension = requestSearch.searchExtensionByRequestId(request.getRequestId());
-            var pricing = pricingSearch.getBreakdown(check.getBoardingId());
 
             // Check request status
             RequestStatusDS.isValidToCommit(check);
 
+            // Kennel admission for the extended days, nothing is committed when a kennel is not free
+            Instant extendedEnd = effectiveEnd.currentEnd(boarding.getId(), extension.getId())
+                    .plus(Duration.ofHours(extension.getExtendedHours()));
+            var held = kennel.reserveExtension(boarding.getId(), boarding.getBoardingStart(), extendedEnd);
+            if (!held.isSuccess()) return DomainResponse.error(held.getMessage());
+
             // Approve extension
             // Add reply message to request
             // Update boarding
@@ -100,13 +116,21 @@ public class CommitRequestServicesAS implements ICommitRequestServices {
             boarding.updateBoardingStatus(BoardingStatus.BOARDING);
 
             // Boarding pricing update;
-            addPricingBreakdown(pricing, check.getId(), check.getRequestType().getRequestType(), extension.getAdditionalPrice());
+            var breakdown = BoardingPricingDomain.RequestBreakdown.createNew(check.getId(), check.getRequestType().getRequestType(), extension.getAdditionalPrice());
 
             // Save all to DB
-            serviceUpdate.updateApprovalExtension(extension.getId(), extension.isApproved(), extension.getUpdatedAt());   // CHECK
+            // effective end before the approval, a migration running meanwhile must not count this extension as a baseline one
+            try {
+                boardingUpdate.updateAfterExtension(boarding.getId(), boarding.getBoardingType(), boarding.getBoardingStatus(), boarding.getPaymentStatus());
+                effectiveEnd.extend(boarding.getId(), extension.getId(), extension.getExtendedHours());
+                serviceUpdate.updateApprovalExtension(extension.getId(), extension.isApproved(), extension.getUpdatedAt());   // CHECK
+            } catch (RuntimeException e) {
+                kennel.cancelExtension(boarding.getId(), held.getData());
+                throw e;
+            }
             requestUpdate.markRequestAsCompletedWithMessage(check.getId(), check.getResponseMessage());  // CHECK
-            boardingUpdate.updateBoarding(boarding);    // CHECK
-            pricingSearch.unwrappedUpdateRequestBreakdown(boarding.getId(), pricing);    // CHECK
+            pricingSearch.unwrappedUpdateRequestBreakdown(boarding.getId(), breakdown);    // CHECK
+            revenueRollup.recordRequest(check.getId(), check.getRequestType(), breakdown.total(), breakdown.createdAt());
 
             // DTO
             String petName = petSearch.getPetName(boarding.getPetId());
@@ -120,12 +144,7 @@ public class CommitRequestServicesAS implements ICommitRequestServices {
             );
 
             // History log
-            try {
-                historyLog.createActivityLogCompletedRequest(check, ownerName, petName);
-                log.info("Activity log created for completing extension request made by '{}'", ownerName);
-            } catch (PersistenceHistoryException e) {
-                log.warn("Activity log for completing extension failed to save in class 'CommitRequestServicesAS'");
-            }
+            historyLog.createActivityLogCompletedRequest(check, ownerName, petName);
 
             return DomainResponse.success(dto, message);
 
@@ -150,7 +169,6 @@ public class CommitRequestServicesAS implements ICommitRequestServices {
             var check = requestSearch.searchByRequestId(request.getRequestId());
             var boarding = validateActiveRequest(check.getBoardingId());
             var grooming = requestSearch.searchGroomingByRequestId(request.getRequestId());
-            var pricing = pricingSearch.getBreakdown(check.getBoardingId());
 
             // Check request status
             RequestStatusDS.isValidToCommit(check);
@@ -163,13 +181,15 @@ public class CommitRequestServicesAS implements ICommitRequestServices {
             boarding.updatePaymentStatus(PaymentStatus.PENDING);
 
             // Boarding pricing update
-            addPricingBreakdown(pricing, check.getId(), check.getRequestType().getRequestType(), grooming.getGroomingPrice());
+            var breakdown = BoardingPricingDomain.RequestBreakdown.createNew(check.getId(), check.getRequestType().getRequestType(), grooming.getGroomingPrice());
 
             // Save all to DB
             serviceUpdate.updateApprovalExtension(grooming.getId(), grooming.isApproved(), grooming.getUpdatedAt());
             requestUpdate.markRequestAsCompletedWithMessage(check.getId(), check.getResponseMessage());
-            boardingUpdate.updateBoarding(boarding);
-            pricingSearch.unwrappedUpdateRequestBreakdown(boarding.getId(), pricing);
+            boardingUpdate.updatePaidStatusUnlessReleased(boarding.getId(), boarding.getPaymentStatus())
+                    .orElseThrow(() -> new PersistenceException("Boarding with id " + boarding.getId() + " is already released"));
+            pricingSearch.unwrappedUpdateRequestBreakdown(boarding.getId(), breakdown);
+            revenueRollup.recordRequest(check.getId(), check.getRequestType(), breakdown.total(), breakdown.createdAt());
 
             // DTO
             String petName = petSearch.getPetName(boarding.getPetId());
@@ -183,12 +203,7 @@ public class CommitRequestServicesAS implements ICommitRequestServices {
             );
 
             // History log
-            try {
-                historyLog.createActivityLogCompletedRequest(check, ownerName, petName);
-                log.info("Activity log created for completing grooming request made by '{}'", ownerName);
-            } catch (PersistenceHistoryException e) {
-                log.warn("Activity log for completing grooming failed to save in class 'CommitRequestServicesAS'");
-            }
+            historyLog.createActivityLogCompletedRequest(check, ownerName, petName);
 
             return DomainResponse.success(dto, message);
 
@@ -197,12 +212,6 @@ public class CommitRequestServicesAS implements ICommitRequestServices {
         }
     }
 
-    private void addPricingBreakdown(List<BoardingPricingDomain.RequestBreakdown> pricing, String requestId, String requestType, double amount) {
-        var breakDown = BoardingPricingDomain.RequestBreakdown.createNew(requestId, requestType, amount);
-        pricing.add(breakDown);
-    }
-
-
     private BoardingDomain validateActiveRequest(String boardingId) {
         var active = boardingSearch.findBoardingById(boardingId);
         if (!active.isSuccess())
@@ -2,11 +2,13 @@ package john.api1.application.services.user;
 
 import john.api1.application.components.DomainResponse;
 import john.api1.application.components.enums.AccountCredentialType;
+import john.api1.application.components.enums.AccountKeyType;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.domain.cores.ClientLoginDS;
 import john.api1.application.domain.models.ClientAccountDomain;
 import john.api1.application.ports.repositories.owner.IAccountSearchRepository;
+import john.api1.application.ports.services.IAccountExistenceFilter;
 import john.api1.application.ports.services.ILoginPetOwner;
 import org.bson.types.ObjectId;
 import org.slf4j.Logger;
@@ -22,11 +24,15 @@ public class ClientLoginAS implements ILoginPetOwner {
     private static final Logger logger = LoggerFactory.getLogger(ClientLoginAS.class);
     private final IAccountSearchRepository searchRepository;
     private final ClientLoginDS clientLogin;
+    private final IAccountExistenceFilter accountFilter;
 
     @Autowired
-    public ClientLoginAS(@Qualifier("MongoAccountSearchRepo") IAccountSearchRepository searchRepository, ClientLoginDS clientLogin) {
+    public ClientLoginAS(@Qualifier("MongoAccountSearchRepo") IAccountSearchRepository searchRepository,
+                         ClientLoginDS clientLogin,
+                         IAccountExistenceFilter accountFilter) {
         this.searchRepository = searchRepository;
         this.clientLogin = clientLogin;
+        this.accountFilter = accountFilter;
     }
 
     private Optional<ClientAccountDomain> checkEmail(String email) {
@@ -41,6 +47,12 @@ public class ClientLoginAS implements ILoginPetOwner {
     @Override
     public DomainResponse<String> login(AccountCredentialType type, String userAccount, String password) {
         try {
+            // Never registered, skip the database (same answer as a database miss)
+            var keyType = type == AccountCredentialType.EMAIL ? AccountKeyType.CLIENT_EMAIL : AccountKeyType.CLIENT_PHONE;
+            if (!accountFilter.mightContain(keyType, userAccount)) {
+                return DomainResponse.error("Invalid account");
+            }
+
             var account = switch (type) {
                 case EMAIL -> checkEmail(userAccount);
                 case PHONE_NUMBER -> checkPhoneNumber(userAccount);
@@ -1,6 +1,8 @@
 package john.api1.application.services.user;
 
 import john.api1.application.components.DomainResponse;
+import john.api1.application.components.TwoTierCache;
+import john.api1.application.components.enums.CacheRegion;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.ports.repositories.owner.IPetOwnerCQRSRepository;
@@ -10,24 +12,32 @@ import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class PetOwnerSearchAS implements IPetOwnerSearch {
     private final IPetOwnerCQRSRepository petOwnerCQRS;
+    private final TwoTierCache cache;
 
     @Autowired
-    public PetOwnerSearchAS(IPetOwnerCQRSRepository petOwnerCQRS) {
+    public PetOwnerSearchAS(IPetOwnerCQRSRepository petOwnerCQRS, TwoTierCache cache) {
         this.petOwnerCQRS = petOwnerCQRS;
+        this.cache = cache;
     }
 
     @Override
     public PetOwnerCQRS getPetOwnerBoardingDetails(String petOwnerId) {
         if (!ObjectId.isValid(petOwnerId)) throw new DomainArgumentException("Pet-owner id is invalid");
 
-        return petOwnerCQRS.getDetails(petOwnerId)
-                .orElseThrow(() -> new PersistenceException("Pet-owner cannot be found!"));
+        var owner = cache.get(CacheRegion.OWNER, petOwnerId, "details", PetOwnerCQRS.class,
+                () -> petOwnerCQRS.getDetails(petOwnerId).orElse(null));
+        if (owner == null) throw new PersistenceException("Pet-owner cannot be found!");
+        return owner;
     }
 
     @Override
@@ -41,6 +51,13 @@ public class PetOwnerSearchAS implements IPetOwnerSearch {
                 });
     }
 
+    @Override
+    public Map<String, PetOwnerCQRS> getPetOwnerBoardingDetailsByIds(Collection<String> ids) {
+        return petOwnerCQRS.getDetailsByIds(ids)
+                .stream()
+                .collect(Collectors.toMap(PetOwnerCQRS::id, Function.identity(), (a, b) -> a));
+    }
+
     @Override
     public List<String> getPetOwnerPets(String petOwnerId) {
         if (!ObjectId.isValid(petOwnerId)) throw new DomainArgumentException("Pet-owner id is invalid");
@@ -84,9 +101,10 @@ public class PetOwnerSearchAS implements IPetOwnerSearch {
     public String getPetOwnerName(String ownerId) {
         if (!ObjectId.isValid(ownerId)) throw new PersistenceException("Pet-owner id is invalid");
 
-        var name = petOwnerCQRS.getPetOwnerName(ownerId);
-        if (name.isEmpty()) throw new PersistenceException("Pet fileName cannot be found.");
-        return name.get();
+        var name = cache.get(CacheRegion.OWNER, ownerId, "name", String.class,
+                () -> petOwnerCQRS.getPetOwnerName(ownerId).orElse(null));
+        if (name == null) throw new PersistenceException("Pet fileName cannot be found.");
+        return name;
 
     }
 
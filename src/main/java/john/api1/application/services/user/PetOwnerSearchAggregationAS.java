@@ -1,10 +1,16 @@
 package john.api1.application.services.user;
 
+import com.mongodb.MongoException;
+import jakarta.annotation.Nullable;
 import john.api1.application.components.DateUtils;
 import john.api1.application.components.DomainResponse;
+import john.api1.application.components.PageCursor;
+import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
 import john.api1.application.dto.mapper.owner.PetOwnerDTO;
+import john.api1.application.dto.mapper.owner.PetOwnerPageDTO;
 import john.api1.application.dto.mapper.owner.PetOwnerPendingDTO;
+import john.api1.application.ports.repositories.owner.IPetOwnerCQRSRepository;
 import john.api1.application.ports.repositories.owner.PetOwnerCQRS;
 import john.api1.application.ports.repositories.pet.PetCQRS;
 import john.api1.application.ports.services.IPetOwnerSearch;
@@ -13,37 +19,81 @@ import john.api1.application.ports.services.pet.IPetSearch;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class PetOwnerSearchAggregationAS implements IPetOwnerSearchAggregation {
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final IPetOwnerSearch ownerSearch;
     private final IPetSearch petSearch;
+    private final IPetOwnerCQRSRepository ownerRepository;
 
     @Autowired
     public PetOwnerSearchAggregationAS(IPetOwnerSearch ownerSearch,
-                                       IPetSearch petSearch) {
+                                       IPetSearch petSearch,
+                                       IPetOwnerCQRSRepository ownerRepository) {
         this.ownerSearch = ownerSearch;
         this.petSearch = petSearch;
+        this.ownerRepository = ownerRepository;
     }
 
+    // Unpaged list kept for existing clients, walks the same aggregation a page at a time
     @Override
     public DomainResponse<List<PetOwnerDTO>> searchAllActive() {
         try {
-            var allActive = ownerSearch.getAllActivePetOwner();
+            List<PetOwnerDTO> owners = new ArrayList<>();
+            PageCursor after = null;
+
+            while (true) {
+                var rows = ownerRepository.getActivePageWithPets(after, MAX_PAGE_SIZE);
+                if (rows.isEmpty()) break;
+
+                rows.forEach(row -> owners.add(mapToDTO(row.owner(), row.pets(), row.currentlyBoarding())));
+                var last = rows.get(rows.size() - 1).owner();
+                after = new PageCursor(last.createdAt(), last.id());
+                if (rows.size() < MAX_PAGE_SIZE) break;
+            }
+
+            return DomainResponse.success(owners, "Successfully retrieved active owners");
+
+        } catch (PersistenceException | DomainArgumentException e) {
+            return DomainResponse.error(e.getMessage());
+        } catch (MongoException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
+        }
+    }
+
+    // One aggregation per page, owners joined with their pets
+    @Override
+    public DomainResponse<PetOwnerPageDTO> activeOwnerPage(@Nullable String cursor, int limit) {
+        try {
+            if (limit < 1 || limit > MAX_PAGE_SIZE)
+                return DomainResponse.error("Page limit must be between 1 and " + MAX_PAGE_SIZE + ".");
 
-            List<PetOwnerDTO> result = allActive.stream()
-                    .map(owner -> {
-                        var pets = petSearch.getAllByOwner(owner.id());
-                        return mapToDTO(owner, pets);
-                    })
+            PageCursor after = (cursor == null || cursor.isBlank()) ? null : PageCursor.decode(cursor);
+
+            // one extra row tells if there is a next page
+            var rows = ownerRepository.getActivePageWithPets(after, limit + 1);
+            boolean hasNext = rows.size() > limit;
+            if (hasNext) rows = rows.subList(0, limit);
+
+            String nextCursor = null;
+            if (hasNext) {
+                var last = rows.get(rows.size() - 1).owner();
+                nextCursor = new PageCursor(last.createdAt(), last.id()).encode();
+            }
+
+            var owners = rows.stream()
+                    .map(row -> mapToDTO(row.owner(), row.pets(), row.currentlyBoarding()))
                     .toList();
+            return DomainResponse.success(new PetOwnerPageDTO(owners, nextCursor), "Successfully retrieved active owners");
 
-            return DomainResponse.success(result, "Successfully retrieved active owners");
-        } catch (PersistenceException e) {
+        } catch (PersistenceException | DomainArgumentException e) {
             return DomainResponse.error(e.getMessage());
-        } catch (Exception e) {
-            return DomainResponse.error("Something went wrong. Please try again later.");
+        } catch (MongoException e) {
+            return DomainResponse.error("Something wrong with the database, try again later.");
         }
     }
 
@@ -121,6 +171,10 @@ public class PetOwnerSearchAggregationAS implements IPetOwnerSearchAggregation {
 
     // DRY utility method
     private PetOwnerDTO mapToDTO(PetOwnerCQRS owner, List<PetCQRS> pets) {
+        return mapToDTO(owner, pets, (int) pets.stream().filter(PetCQRS::boarding).count());
+    }
+
+    private PetOwnerDTO mapToDTO(PetOwnerCQRS owner, List<PetCQRS> pets, int currentlyBoarding) {
         var petDTOs = pets.stream()
                 .map(pet -> new PetOwnerDTO.PetDTO(
                         pet.id(),
@@ -132,8 +186,6 @@ public class PetOwnerSearchAggregationAS implements IPetOwnerSearchAggregation {
                         pet.boarding()
                 )).toList();
 
-        int currentlyBoarding = (int) pets.stream().filter(PetCQRS::boarding).count();
-
         return new PetOwnerDTO(
                 owner.id(),
                 owner.ownerName(),
@@ -1,15 +1,17 @@
 package john.api1.application.services.user;
 
 import john.api1.application.components.DomainResponse;
+import john.api1.application.components.enums.AccountKeyType;
 import john.api1.application.components.exception.DomainArgumentException;
 import john.api1.application.components.exception.PersistenceException;
-import john.api1.application.components.exception.PersistenceHistoryException;
 import john.api1.application.domain.cores.ClientCreationDS;
 import john.api1.application.domain.models.ClientDomain;
 import john.api1.application.dto.request.RegisterOwnerRDTO;
 import john.api1.application.dto.request.RegisterRDTO;
 import john.api1.application.ports.repositories.owner.IAccountCreateRepository;
 import john.api1.application.ports.repositories.owner.IAccountSearchRepository;
+import john.api1.application.ports.services.IAccountExistenceFilter;
+import john.api1.application.ports.services.IAccountExistenceFilter.Probe;
 import john.api1.application.ports.services.IRegisterNewClient;
 import john.api1.application.ports.services.history.IHistoryLogCreate;
 import john.api1.application.services.admin.RegisterNewClientAS;
@@ -29,16 +31,19 @@ public class RegisterOwnerAS implements IRegisterNewClient<RegisterOwnerRDTO, St
     private final IAccountSearchRepository searchRepository;
     private final IAccountCreateRepository createRepository;
     private final IHistoryLogCreate historyLog;
+    private final IAccountExistenceFilter accountFilter;
 
     @Autowired
     public RegisterOwnerAS(ClientCreationDS clientCreation,
                            @Qualifier("MongoAccountSearchRepo") IAccountSearchRepository searchRepository,
                            @Qualifier("MongoCreateRepo") IAccountCreateRepository createRepository,
-                           IHistoryLogCreate historyLog) {
+                           IHistoryLogCreate historyLog,
+                           IAccountExistenceFilter accountFilter) {
         this.clientCreation = clientCreation;
         this.searchRepository = searchRepository;
         this.createRepository = createRepository;
         this.historyLog = historyLog;
+        this.accountFilter = accountFilter;
     }
 
 
@@ -56,15 +61,13 @@ public class RegisterOwnerAS implements IRegisterNewClient<RegisterOwnerRDTO, St
                     request.getCityAddress(),
                     request.getStateAddress(),
                     request.getEmergencyPhoneNumber());
+            accountFilter.add(
+                    new Probe(AccountKeyType.CLIENT_EMAIL, registerAccount.getEmail()),
+                    new Probe(AccountKeyType.CLIENT_PHONE, registerAccount.getPhoneNumber()));
             String registeredId = createRepository.createNewClient(registerAccount, information);
             log.info("Successfully create new account. Currently pending to be approved:");
 
-            try {
-                historyLog.createActivityLogOwnerRegisterByOwner(registeredId, information.getFullName());
-                log.info("Activity log created for pending registered owner '{}'", information.getFullName());
-            } catch (PersistenceHistoryException e) {
-                log.warn("Activity log for new owner registration failed to save in class 'RegisterOwnerAS'");
-            }
+            historyLog.createActivityLogOwnerRegisterByOwner(registeredId, information.getFullName());
 
             return DomainResponse.success(registeredId, "Successfully create new account, currently locked and pending await to approved");
         } catch (DomainArgumentException | PersistenceException e) {
@@ -74,9 +77,17 @@ public class RegisterOwnerAS implements IRegisterNewClient<RegisterOwnerRDTO, St
     }
 
 
+    // Filter miss on both skips the database, otherwise one $or query confirms
     private Optional<String> validateRequest(RegisterRDTO request) {
-        boolean emailExists = searchRepository.getAccountByEmail(request.getEmail()).isPresent();
-        boolean phoneExists = searchRepository.getAccountByPhoneNumber(request.getPhoneNumber()).isPresent();
+        String email = request.getEmail();
+        String phoneNumber = request.getPhoneNumber();
+        if (!accountFilter.mightContainAny(
+                new Probe(AccountKeyType.CLIENT_EMAIL, email),
+                new Probe(AccountKeyType.CLIENT_PHONE, phoneNumber))) return Optional.empty();
+
+        var taken = searchRepository.getKeysByEmailOrPhoneNumber(email, phoneNumber);
+        boolean emailExists = taken.stream().anyMatch(account -> email.equals(account.email()));
+        boolean phoneExists = taken.stream().anyMatch(account -> phoneNumber.equals(account.phoneNumber()));
 
         return emailExists ? Optional.of("Email is already used") :
                 phoneExists ? Optional.of("Phone-number is already used") :
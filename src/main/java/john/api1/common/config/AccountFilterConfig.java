@@ -0,0 +1,21 @@
+package john.api1.common.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+// Redis bitmap Bloom filter over registered emails, phone numbers and admin usernames
+@Getter
+@Configuration
+public class AccountFilterConfig {
+
+    @Value("${account.filter.enabled:true}")
+    private boolean enabled;
+
+    // Sized per identifier type, past this count the false positive rate climbs above the target
+    @Value("${account.filter.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${account.filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+}
@@ -0,0 +1,61 @@
+package john.api1.common.config;
+
+import john.api1.application.ports.services.archive.IArchiveStore;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// Archival of history_log, email_logs and sms_logs into monthly segments, see LogArchiveAS
+@Getter
+@Configuration
+public class ArchiveConfig {
+
+    public enum Store {LOCAL, S3}
+
+    // Scheduled runs only, the admin endpoint works either way
+    @Value("${archive.enabled:false}")
+    private boolean enabled;
+
+    // Documents older than this are moved
+    @Value("${archive.horizon:P180D}")
+    private Duration horizon;
+
+    @Value("${archive.run-ms:86400000}")
+    private long runMs;
+
+    // Documents read, written and deleted per step
+    @Value("${archive.chunk-size:1000}")
+    private int chunkSize;
+
+    // Pause between chunks, keeps the mover from competing with live traffic
+    @Value("${archive.pause:PT0.2S}")
+    private Duration pause;
+
+    // A run stops here and the next one continues
+    @Value("${archive.max-run:PT30M}")
+    private Duration maxRun;
+
+    @Value("${archive.store:LOCAL}")
+    private Store store;
+
+    @Value("${archive.local.dir:./archive}")
+    private String localDir;
+
+    // Key prefix inside the digital ocean bucket
+    @Value("${archive.s3.prefix:archive}")
+    private String s3Prefix;
+
+    // Decoded segments kept in memory for paging through archived history
+    @Value("${archive.segment-cache:8}")
+    private int segmentCache;
+
+    @Bean(name = "archiveStore")
+    public IArchiveStore archiveStore(@Qualifier("LocalArchiveStore") IArchiveStore local,
+                                      @Qualifier("S3ArchiveStore") IArchiveStore s3) {
+        return store == Store.S3 ? s3 : local;
+    }
+}
@@ -0,0 +1,38 @@
+package john.api1.common.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+// Two-tier lookup cache, near tier per node in front of the shared Redis tier
+@Getter
+@Configuration
+public class CacheConfig {
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+
+    @Value("${cache.enabled:true}")
+    private boolean enabled;
+
+    // Entities kept per region on each node, least recently used is evicted first
+    @Value("${cache.near.max-entries:5000}")
+    private int nearMaxEntries;
+
+    // Safety net for a missed invalidation message
+    @Value("${cache.near.ttl:PT30S}")
+    private Duration nearTtl;
+
+    @Value("${cache.redis.ttl:PT10M}")
+    private Duration redisTtl;
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -0,0 +1,68 @@
+package john.api1.common.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+// Bulk owner and pet import
+@Getter
+@Configuration
+public class ImportConfig {
+
+    // Owners validated, hashed and inserted together, also the most rows held in memory
+    @Value("${import.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${import.timeout:PT30M}")
+    private Duration timeout;
+
+    // Bcrypt is cpu bound, 0 means one thread per core
+    @Value("${import.hash-threads:0}")
+    private int hashThreads;
+
+    @Bean(name = "passwordHashExecutor")
+    public Executor passwordHashExecutor() {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(chunkSize);
+        // A full queue hashes on the caller instead of dropping
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("PasswordHash-");
+        executor.initialize();
+        return executor;
+    }
+
+    // One import at a time, a second one is rejected instead of queued
+    @Bean(name = "ownerImportExecutor")
+    public ThreadPoolTaskExecutor ownerImportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("OwnerImport-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Omnisearch rebuild after an import, one running and one waiting, a rebuild already waiting covers later imports
+    @Bean(name = "omniSearchRebuildExecutor")
+    public Executor omniSearchRebuildExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setThreadNamePrefix("OmniSearchRebuild-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,40 @@
+package john.api1.common.config;
+
+import john.api1.application.components.enums.PetSize;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class KennelCapacityConfig {
+
+    @Value("${kennel.capacity.small:10}")
+    private int small;
+
+    @Value("${kennel.capacity.medium:8}")
+    private int medium;
+
+    @Value("${kennel.capacity.large:6}")
+    private int large;
+
+    @Value("${kennel.capacity.xl:4}")
+    private int xl;
+
+    @Value("${kennel.capacity.kitten:6}")
+    private int kitten;
+
+    @Value("${kennel.capacity.adult:6}")
+    private int adult;
+
+    public int capacityOf(PetSize size) {
+        return switch (size) {
+            case SMALL -> small;
+            case MEDIUM -> medium;
+            case LARGE -> large;
+            case XL -> xl;
+            case KITTEN -> kitten;
+            case ADULT -> adult;
+        };
+    }
+}
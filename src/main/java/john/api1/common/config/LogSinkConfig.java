@@ -0,0 +1,45 @@
+package john.api1.common.config;
+
+import john.api1.application.components.LogSink;
+import john.api1.application.components.LogSink.SpillPolicy;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Buffered history, email and sms log writes, see LogSink
+@Getter
+@Configuration
+public class LogSinkConfig {
+
+    // Logs held per collection before the spill policy applies
+    @Value("${log.sink.capacity:10000}")
+    private int capacity;
+
+    // Logs per insertMany
+    @Value("${log.sink.batch-size:500}")
+    private int batchSize;
+
+    // Longest a log waits in the buffer when traffic is low
+    @Value("${log.sink.flush-interval:PT0.2S}")
+    private Duration flushInterval;
+
+    @Value("${log.sink.drain-timeout:PT10S}")
+    private Duration drainTimeout;
+
+    @Value("${log.sink.history.spill:CALLER_RUNS}")
+    private SpillPolicy historySpill;
+
+    @Value("${log.sink.email.spill:DROP}")
+    private SpillPolicy emailSpill;
+
+    @Value("${log.sink.sms.spill:DROP}")
+    private SpillPolicy smsSpill;
+
+    public <T> LogSink<T> create(String name, SpillPolicy spillPolicy, Consumer<List<T>> writer) {
+        return new LogSink<>(name, capacity, batchSize, flushInterval, drainTimeout, spillPolicy, writer);
+    }
+}
@@ -0,0 +1,204 @@
+package john.api1.common.config;
+
+import john.api1.application.adapters.repositories.ActivityLogEntity;
+import john.api1.application.adapters.repositories.ArchiveSegmentEntity;
+import john.api1.application.adapters.repositories.BoardingEntity;
+import john.api1.application.adapters.repositories.ClientEntity;
+import john.api1.application.adapters.repositories.ExtensionEntity;
+import john.api1.application.adapters.repositories.MinioEntity;
+import john.api1.application.adapters.repositories.NotificationEntity;
+import john.api1.application.adapters.repositories.PetEntity;
+import john.api1.application.adapters.repositories.PhotoRequestEntity;
+import john.api1.application.adapters.repositories.RequestEntity;
+import john.api1.application.adapters.repositories.VideoRequestEntity;
+import john.api1.application.components.enums.ActivityLogType;
+import john.api1.application.components.enums.BucketType;
+import john.api1.application.components.enums.boarding.BoardingStatus;
+import john.api1.application.components.enums.boarding.RequestStatus;
+import john.api1.application.components.enums.boarding.RequestType;
+import lombok.Getter;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+// Central list of indexes the hot queries depend on
+// Indexes are created idempotently on startup, canonical queries are explained against them
+// New repository query on a hot path -> add its index and a canonical query here
+@Getter
+@Configuration
+public class MongoIndexCatalogue {
+
+    public enum VerifyMode {OFF, WARN, FAIL}
+
+    public record IndexSpec(Class<?> entity, Index index) {
+    }
+
+    public record CanonicalQuery(String name, Class<?> entity, Query query) {
+    }
+
+    @Value("${mongodb.index.verify:WARN}")
+    private VerifyMode verifyMode;
+
+    // Single-field names follow the @Indexed default (property name) so existing indexes are reused
+    private final List<IndexSpec> indexes = List.of(
+            new IndexSpec(BoardingEntity.class, new Index()
+                    .named("boardingStatus_createdAt_desc")
+                    .on("boardingStatus", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)),
+            new IndexSpec(MinioEntity.class, new Index()
+                    .named("ownerId_bucketType_uploadedAt_desc")
+                    .on("ownerId", Sort.Direction.ASC)
+                    .on("bucketType", Sort.Direction.ASC)
+                    .on("uploadedAt", Sort.Direction.DESC)),
+            new IndexSpec(NotificationEntity.class, new Index()
+                    .named("ownerId_createdAt_desc")
+                    .on("ownerId", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)),
+            new IndexSpec(PetEntity.class, new Index()
+                    .named("petOwnerId")
+                    .on("petOwnerId", Sort.Direction.ASC)),
+            new IndexSpec(ExtensionEntity.class, new Index()
+                    .named("requestId")
+                    .on("requestId", Sort.Direction.ASC)),
+            new IndexSpec(ClientEntity.class, new Index()
+                    .named("phoneNumber")
+                    .on("phoneNumber", Sort.Direction.ASC)),
+            new IndexSpec(ClientEntity.class, new Index()
+                    .named("accountLock_createAt_id_desc")
+                    .on("accountLock", Sort.Direction.ASC)
+                    .on("createAt", Sort.Direction.DESC)
+                    .on("_id", Sort.Direction.DESC)),
+            new IndexSpec(RequestEntity.class, new Index()
+                    .named("requestStatus")
+                    .on("requestStatus", Sort.Direction.ASC)),
+            // media history, the type $in is merged on the sort instead of sorted in memory
+            new IndexSpec(RequestEntity.class, new Index()
+                    .named("requestStatus_requestType_id_desc")
+                    .on("requestStatus", Sort.Direction.ASC)
+                    .on("requestType", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.DESC)),
+            new IndexSpec(RequestEntity.class, new Index()
+                    .named("ownerId_requestStatus_requestType_id_desc")
+                    .on("ownerId", Sort.Direction.ASC)
+                    .on("requestStatus", Sort.Direction.ASC)
+                    .on("requestType", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.DESC)),
+            new IndexSpec(PhotoRequestEntity.class, new Index()
+                    .named("requestId")
+                    .on("requestId", Sort.Direction.ASC)),
+            new IndexSpec(VideoRequestEntity.class, new Index()
+                    .named("requestId")
+                    .on("requestId", Sort.Direction.ASC)),
+            new IndexSpec(ActivityLogEntity.class, new Index()
+                    .named("createdAt_id_desc")
+                    .on("createdAt", Sort.Direction.DESC)
+                    .on("_id", Sort.Direction.DESC)),
+            // equality before range, a typed range walks only its own type
+            new IndexSpec(ActivityLogEntity.class, new Index()
+                    .named("activityType_createdAt_id_desc")
+                    .on("activityType", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)
+                    .on("_id", Sort.Direction.DESC)),
+            new IndexSpec(ArchiveSegmentEntity.class, new Index()
+                    .named("collection_toTime_desc")
+                    .on("collection", Sort.Direction.ASC)
+                    .on("toTime", Sort.Direction.DESC))
+    );
+
+    // Shapes of the repository queries, values are placeholders
+    private final List<CanonicalQuery> queries = List.of(
+            new CanonicalQuery("boarding by status newest first", BoardingEntity.class,
+                    new Query(Criteria.where("boardingStatus").is(BoardingStatus.BOARDING.getBoardingStatus()))
+                            .with(Sort.by(Sort.Direction.DESC, "createdAt"))),
+            new CanonicalQuery("boarding keyset page", BoardingEntity.class,
+                    new Query(new Criteria().orOperator(
+                            Criteria.where("createdAt").lt(Instant.now()),
+                            Criteria.where("createdAt").is(Instant.now()).and("_id").lt(new ObjectId())))
+                            .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                            .limit(50)),
+            new CanonicalQuery("boarding by owner", BoardingEntity.class,
+                    new Query(Criteria.where("ownerId").is(new ObjectId()))),
+            new CanonicalQuery("boarding ending between", BoardingEntity.class,
+                    new Query(Criteria.where("effectiveEnd").gte(Instant.now()).lt(Instant.now().plus(1, ChronoUnit.DAYS))
+                            .and("active").is(true))
+                            .with(Sort.by(Sort.Direction.ASC, "effectiveEnd"))),
+            new CanonicalQuery("profile photo by owner", MinioEntity.class,
+                    new Query(Criteria.where("ownerId").is(new ObjectId())
+                            .and("bucketType").is(BucketType.PROFILE_PHOTO.getBucketType()))
+                            .with(Sort.by(Sort.Direction.DESC, "uploadedAt"))
+                            .limit(1)),
+            new CanonicalQuery("notifications by owner newest first", NotificationEntity.class,
+                    new Query(Criteria.where("ownerId").is(new ObjectId()))
+                            .with(Sort.by(Sort.Direction.DESC, "createdAt"))),
+            new CanonicalQuery("pets by owner", PetEntity.class,
+                    new Query(Criteria.where("petOwnerId").is(new ObjectId()))),
+            new CanonicalQuery("extension by request", ExtensionEntity.class,
+                    new Query(Criteria.where("requestId").is(new ObjectId()))),
+            new CanonicalQuery("extensions by boarding ids", ExtensionEntity.class,
+                    new Query(Criteria.where("boardingId").in(List.of(new ObjectId(), new ObjectId())))),
+            new CanonicalQuery("client by phone number", ClientEntity.class,
+                    new Query(Criteria.where("phoneNumber").is("09000000000"))),
+            new CanonicalQuery("active owners keyset page", ClientEntity.class,
+                    new Query(Criteria.where("accountLock").is(false).orOperator(
+                            Criteria.where("createAt").lt(Instant.now()),
+                            Criteria.where("createAt").is(Instant.now()).and("_id").lt(new ObjectId())))
+                            .with(Sort.by(Sort.Direction.DESC, "createAt", "_id"))
+                            .limit(50)),
+            new CanonicalQuery("open requests for the inbox", RequestEntity.class,
+                    new Query(Criteria.where("requestStatus").in(List.of(
+                            RequestStatus.PENDING.getRequestStatus(), RequestStatus.IN_PROGRESS.getRequestStatus())))),
+            new CanonicalQuery("media history keyset page", RequestEntity.class,
+                    new Query(Criteria.where("requestStatus").is(RequestStatus.COMPLETED.getRequestStatus())
+                            .and("requestType").in(List.of(
+                                    RequestType.PHOTO_REQUEST.getRequestType(), RequestType.VIDEO_REQUEST.getRequestType()))
+                            .and("_id").lt(new ObjectId()))
+                            .with(Sort.by(Sort.Direction.DESC, "_id"))
+                            .limit(50)),
+            new CanonicalQuery("media history by owner", RequestEntity.class,
+                    new Query(Criteria.where("ownerId").is(new ObjectId())
+                            .and("requestStatus").is(RequestStatus.COMPLETED.getRequestStatus())
+                            .and("requestType").in(List.of(
+                                    RequestType.PHOTO_REQUEST.getRequestType(), RequestType.VIDEO_REQUEST.getRequestType())))
+                            .with(Sort.by(Sort.Direction.DESC, "_id"))
+                            .limit(50)),
+            new CanonicalQuery("photo requests by request ids", PhotoRequestEntity.class,
+                    new Query(Criteria.where("requestId").in(List.of(new ObjectId(), new ObjectId())))),
+            new CanonicalQuery("video requests by request ids", VideoRequestEntity.class,
+                    new Query(Criteria.where("requestId").in(List.of(new ObjectId(), new ObjectId())))),
+            new CanonicalQuery("storage files by request ids", MinioEntity.class,
+                    new Query(Criteria.where("typeId").in(List.of(new ObjectId(), new ObjectId())))),
+            new CanonicalQuery("history range keyset page", ActivityLogEntity.class,
+                    new Query(Criteria.where("createdAt").gte(Instant.now().minus(7, ChronoUnit.DAYS)).lt(Instant.now())
+                            .orOperator(
+                                    Criteria.where("createdAt").lt(Instant.now()),
+                                    Criteria.where("createdAt").is(Instant.now()).and("_id").lt(new ObjectId())))
+                            .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                            .limit(50)),
+            new CanonicalQuery("history range by activity type", ActivityLogEntity.class,
+                    new Query(Criteria.where("createdAt").gte(Instant.now().minus(7, ChronoUnit.DAYS)).lt(Instant.now())
+                            .and("activityType").is(ActivityLogType.BOARDING_MANAGEMENT.getActivityLogType()))
+                            .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                            .limit(50)),
+            new CanonicalQuery("history archive mover chunk", ActivityLogEntity.class,
+                    new Query(Criteria.where("createdAt").lt(Instant.now()))
+                            .with(Sort.by(Sort.Direction.ASC, "createdAt", "_id"))
+                            .limit(1000)),
+            new CanonicalQuery("archive segments overlapping a range", ArchiveSegmentEntity.class,
+                    new Query(Criteria.where("collection").is("history_log")
+                            .and("toTime").gte(Instant.now().minus(7, ChronoUnit.DAYS))
+                            .and("fromTime").lt(Instant.now()))
+                            .with(Sort.by(Sort.Direction.DESC, "toTime"))),
+            new CanonicalQuery("archive segments overlapping a chunk", ArchiveSegmentEntity.class,
+                    new Query(Criteria.where("collection").is("history_log")
+                            .and("toTime").gte(Instant.now().minus(7, ChronoUnit.DAYS))
+                            .and("fromTime").lte(Instant.now())))
+    );
+}
@@ -0,0 +1,59 @@
+package john.api1.common.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// In-memory inbox of pending and in-progress requests, pushed to admin screens over SSE
+@Getter
+@Configuration
+public class RequestInboxConfig {
+
+    // Needs a replica set, picks up request writes made by other nodes
+    @Value("${request.inbox.change-stream:false}")
+    private boolean changeStream;
+
+    // Full reload from Mongo, safety net for missed events on multi-node without the change stream
+    @Value("${request.inbox.resync-ms:300000}")
+    private long resyncMs;
+
+    // Refreshes waiting for Mongo, a rejected one forces a resync
+    @Value("${request.inbox.refresh-queue:10000}")
+    private int refreshQueue;
+
+    // Deltas waiting for one SSE client, a client that falls this far behind is dropped and reconnects
+    @Value("${request.inbox.subscriber-queue:1000}")
+    private int subscriberQueue;
+
+    @Value("${request.inbox.push-threads:2}")
+    private int pushThreads;
+
+    // Reads Mongo for one changed request, kept apart from the sends so a slow client never delays it
+    @Bean(name = "requestInboxRefreshExecutor")
+    public ThreadPoolTaskExecutor requestInboxRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(refreshQueue);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix("RequestInboxRefresh-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Drains subscriber queues, at most one task per subscriber is queued at a time
+    @Bean(name = "requestInboxPushExecutor")
+    public ThreadPoolTaskExecutor requestInboxPushExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pushThreads);
+        executor.setMaxPoolSize(pushThreads);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix("RequestInboxPush-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,116 @@
+package john.api1.application.adapters.repositories.analytics;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import john.api1.application.adapters.repositories.RevenueRollupAppliedEntity;
+import john.api1.application.adapters.repositories.RevenueRollupEntity;
+import john.api1.application.components.enums.boarding.RequestType;
+import john.api1.application.domain.cores.analytics.RevenueRollupDS;
+import john.api1.application.ports.repositories.analytics.RevenueRollupCQRS;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RevenueRollupRepositoryTest {
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 3);
+    private static final String KEY = RevenueRollupDS.requestKey("65a1f0c2e4b0a1b2c3d4e5f6");
+    private static final RevenueRollupCQRS DELTA = RevenueRollupDS.requestDelta(RequestType.PHOTO_REQUEST, 1500);
+    private static final String STAGING = "revenue_rollups_rebuild";
+
+    private MongoTemplate mongoTemplate;
+    private RevenueRollupRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        repository = new RevenueRollupRepository(mongoTemplate);
+    }
+
+    @Test
+    void sourceIsRecordedBeforeEitherBucketMoves() {
+        assertThat(repository.increment(KEY, DAY, DELTA)).isTrue();
+
+        InOrder order = inOrder(mongoTemplate);
+        var marker = ArgumentCaptor.forClass(RevenueRollupAppliedEntity.class);
+        order.verify(mongoTemplate).insert(marker.capture());
+        var queries = ArgumentCaptor.forClass(Query.class);
+        var updates = ArgumentCaptor.forClass(Update.class);
+        order.verify(mongoTemplate, times(2)).upsert(queries.capture(), updates.capture(), eq(RevenueRollupEntity.class));
+
+        assertThat(marker.getValue().getId()).isEqualTo(KEY);
+        assertThat(marker.getValue().getRequestRevenueCents()).isEqualTo(1500L);
+        assertThat(queries.getAllValues()).extracting(Query::getQueryObject)
+                .containsExactly(new Document("_id", "DAY:2025-01-03"), new Document("_id", "MONTH:2025-01"));
+        for (Update update : updates.getAllValues()) {
+            Document inc = (Document) update.getUpdateObject().get("$inc");
+            assertThat(inc.get("requestRevenueCents")).isEqualTo(1500L);
+            assertThat(update.getUpdateObject()).doesNotContainKey("$addToSet");
+        }
+    }
+
+    @Test
+    void recordedSourceNeverReachesTheBuckets() {
+        when(mongoTemplate.insert(any(RevenueRollupAppliedEntity.class))).thenThrow(new DuplicateKeyException("E11000"));
+
+        assertThat(repository.increment(KEY, DAY, DELTA)).isFalse();
+
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(UpdateDefinition.class), eq(RevenueRollupEntity.class));
+    }
+
+    @Test
+    void rebuildReplaysOnlyLiveSourcesItDidNotScan() {
+        stubRename();
+        String liveKey = RevenueRollupDS.requestKey("65a1f0c2e4b0a1b2c3d4e5f7");
+        var scanned = applied(KEY);
+        var live = applied(liveKey);
+        when(mongoTemplate.find(any(Query.class), eq(RevenueRollupAppliedEntity.class))).thenReturn(List.of(scanned, live));
+
+        repository.replaceAll(List.of(), Set.of(KEY), Instant.now());
+
+        // the live source goes into the day and month staging bucket once, the second pass finds nothing new
+        var queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).upsert(queries.capture(), any(UpdateDefinition.class), eq(STAGING));
+        assertThat(queries.getAllValues()).extracting(Query::getQueryObject)
+                .containsExactly(new Document("_id", "DAY:2025-01-03"), new Document("_id", "MONTH:2025-01"));
+        verify(mongoTemplate, times(2)).find(any(Query.class), eq(RevenueRollupAppliedEntity.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRename() {
+        var db = mock(MongoDatabase.class);
+        when(db.getName()).thenReturn("test");
+        when(mongoTemplate.getDb()).thenReturn(db);
+        when(mongoTemplate.getCollectionName(RevenueRollupEntity.class)).thenReturn("revenue_rollups");
+        when(mongoTemplate.getCollection(anyString())).thenReturn(mock(MongoCollection.class));
+    }
+
+    private static RevenueRollupAppliedEntity applied(String sourceKey) {
+        return new RevenueRollupAppliedEntity(sourceKey, DAY.toString(), 0, 1500,
+                Map.of(RequestType.PHOTO_REQUEST.name(), 1500L), Map.of(RequestType.PHOTO_REQUEST.name(), 1L),
+                0, 0, Map.of(), Map.of(), Instant.now());
+    }
+}
@@ -0,0 +1,156 @@
+package john.api1.application.adapters.repositories.archive;
+
+import john.api1.application.adapters.repositories.ArchiveSegmentEntity;
+import john.api1.application.components.enums.ArchiveCollection;
+import john.api1.application.components.exception.PersistenceException;
+import john.api1.application.ports.services.archive.IArchiveStore;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LogArchiveRepositoryTest {
+    private static final Instant T1 = Instant.parse("2025-01-03T10:00:00Z");
+    private static final Instant T2 = Instant.parse("2025-01-03T11:00:00Z");
+    private static final Instant CUTOFF = Instant.parse("2025-06-01T00:00:00Z");
+
+    private MongoTemplate mongoTemplate;
+    private IArchiveStore archiveStore;
+    private LogArchiveRepository repository;
+
+    // a and b share an instant, ids in creation order
+    private final Document a = log(new ObjectId(), T1);
+    private final Document b = log(new ObjectId(), T1);
+    private final Document c = log(new ObjectId(), T2);
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        archiveStore = mock(IArchiveStore.class);
+        repository = new LogArchiveRepository(mongoTemplate, archiveStore);
+    }
+
+    @Test
+    void chunkIsOrderedByTimeThenId() {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("history_log"))).thenReturn(List.of());
+
+        assertThat(repository.moveChunk(ArchiveCollection.HISTORY_LOG, CUTOFF, 100)).isEmpty();
+
+        var query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Document.class), eq("history_log"));
+        assertThat(query.getValue().getSortObject()).isEqualTo(new Document("createdAt", 1).append("_id", 1));
+    }
+
+    @Test
+    void firstRunWritesSegmentThenDeletes() {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("history_log"))).thenReturn(List.of(a, b, c));
+        when(mongoTemplate.find(any(Query.class), eq(ArchiveSegmentEntity.class))).thenReturn(List.of());
+
+        var segment = repository.moveChunk(ArchiveCollection.HISTORY_LOG, CUTOFF, 100).orElseThrow();
+
+        assertThat(segment.key()).isEqualTo(key(a, c));
+        assertThat(segment.count()).isEqualTo(3);
+        assertThat(ids(stored(segment.key()))).containsExactly(id(a), id(b), id(c));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(ArchiveSegmentEntity.class));
+        verify(mongoTemplate).remove(any(Query.class), eq("history_log"));
+        verify(archiveStore, never()).delete(anyString());
+    }
+
+    @Test
+    void rerunFoldsOverlappingSegmentWithoutRepeatingRows() {
+        // the crashed run archived a and b, then deleted only a
+        String oldKey = key(a, b);
+        var old = new ArchiveSegmentEntity(oldKey, "history_log", "2025-01", T1, T1,
+                id(a), id(b), 2, 0, Instant.now());
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("history_log"))).thenReturn(List.of(b, c));
+        when(mongoTemplate.find(any(Query.class), eq(ArchiveSegmentEntity.class))).thenReturn(List.of(old));
+        when(archiveStore.get(oldKey)).thenReturn(Optional.of(SegmentCodec.encode(List.of(a, b))));
+
+        var segment = repository.moveChunk(ArchiveCollection.HISTORY_LOG, CUTOFF, 100).orElseThrow();
+
+        assertThat(segment.key()).isEqualTo(key(a, c));
+        assertThat(segment.count()).isEqualTo(3);
+        assertThat(ids(stored(segment.key()))).containsExactly(id(a), id(b), id(c));
+
+        var removed = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(removed.capture(), eq(ArchiveSegmentEntity.class));
+        assertThat(removed.getValue().getQueryObject().toJson()).contains(oldKey);
+
+        // catalogue entry first, then its object
+        var order = inOrder(mongoTemplate, archiveStore);
+        order.verify(mongoTemplate).remove(any(Query.class), eq(ArchiveSegmentEntity.class));
+        order.verify(archiveStore).delete(oldKey);
+    }
+
+    @Test
+    void failedDeleteOfAReplacedObjectStillDeletesTheSourceRows() {
+        String oldKey = key(a, b);
+        var old = new ArchiveSegmentEntity(oldKey, "history_log", "2025-01", T1, T1,
+                id(a), id(b), 2, 0, Instant.now());
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("history_log"))).thenReturn(List.of(b, c));
+        when(mongoTemplate.find(any(Query.class), eq(ArchiveSegmentEntity.class))).thenReturn(List.of(old));
+        when(archiveStore.get(oldKey)).thenReturn(Optional.of(SegmentCodec.encode(List.of(a, b))));
+        doThrow(new PersistenceException("bucket down")).when(archiveStore).delete(oldKey);
+
+        assertThat(repository.moveChunk(ArchiveCollection.HISTORY_LOG, CUTOFF, 100)).isPresent();
+
+        verify(mongoTemplate).remove(any(Query.class), eq("history_log"));
+    }
+
+    @Test
+    void segmentEndingBeforeTheChunkOnATieIsKept() {
+        // same instant as b, but its last id sorts before b: the previous chunk, not a crashed one
+        var previous = new ArchiveSegmentEntity("history_log/2025-01/previous.ndjson.gz", "history_log", "2025-01",
+                T1, T1, id(a), id(a), 1, 0, Instant.now());
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("history_log"))).thenReturn(List.of(b, c));
+        when(mongoTemplate.find(any(Query.class), eq(ArchiveSegmentEntity.class))).thenReturn(List.of(previous));
+
+        var segment = repository.moveChunk(ArchiveCollection.HISTORY_LOG, CUTOFF, 100).orElseThrow();
+
+        assertThat(segment.key()).isEqualTo(key(b, c));
+        verify(archiveStore, never()).get(anyString());
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(ArchiveSegmentEntity.class));
+        verify(archiveStore, never()).delete(anyString());
+    }
+
+    private List<Document> stored(String key) {
+        var body = ArgumentCaptor.forClass(byte[].class);
+        verify(archiveStore).put(eq(key), body.capture());
+        return SegmentCodec.decode(body.getValue());
+    }
+
+    private static List<String> ids(List<Document> documents) {
+        return documents.stream().map(LogArchiveRepositoryTest::id).toList();
+    }
+
+    private static String id(Document document) {
+        return document.get("_id").toString();
+    }
+
+    private static String key(Document first, Document last) {
+        return "history_log/2025-01/" + id(first) + "-" + id(last) + ".ndjson.gz";
+    }
+
+    private static Document log(ObjectId id, Instant createdAt) {
+        return new Document("_id", id).append("createdAt", Date.from(createdAt));
+    }
+}
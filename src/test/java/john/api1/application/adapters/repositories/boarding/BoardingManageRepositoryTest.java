@@ -0,0 +1,97 @@
+package john.api1.application.adapters.repositories.boarding;
+
+import com.mongodb.client.result.UpdateResult;
+import john.api1.application.adapters.repositories.BoardingEntity;
+import john.api1.application.components.enums.boarding.BoardingStatus;
+import john.api1.application.components.enums.boarding.BoardingType;
+import john.api1.application.components.enums.boarding.PaymentStatus;
+import john.api1.application.components.exception.PersistenceException;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardingManageRepositoryTest {
+    private MongoTemplate mongoTemplate;
+    private BoardingManageRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        repository = new BoardingManageRepository(mongoTemplate);
+    }
+
+    @Test
+    void extensionSetsOnlyTheFieldsItChanges() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(BoardingEntity.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        repository.updateAfterExtension(new ObjectId().toHexString(),
+                BoardingType.LONG_STAY, BoardingStatus.BOARDING, PaymentStatus.PENDING);
+
+        var update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(BoardingEntity.class));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertThat(set.keySet()).containsExactlyInAnyOrder("boardingCategory", "boardingStatus", "paymentStatus", "updatedAt");
+    }
+
+    @Test
+    void releasedBoardingIsNotReopened() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(BoardingEntity.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        assertThatThrownBy(() -> repository.updateAfterExtension(new ObjectId().toHexString(),
+                BoardingType.LONG_STAY, BoardingStatus.BOARDING, PaymentStatus.PENDING))
+                .isInstanceOf(PersistenceException.class);
+
+        var query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateFirst(query.capture(), any(Update.class), eq(BoardingEntity.class));
+        assertThat(query.getValue().getQueryObject().toJson()).contains(BoardingStatus.RELEASED.getBoardingStatus());
+    }
+
+    @Test
+    void transitionIsOneUpdateThenOneReadOfItsOwnToken() {
+        var moved = new BoardingEntity();
+        moved.setId(new ObjectId());
+        var ids = List.of(moved.getId().toHexString(), new ObjectId().toHexString());
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(BoardingEntity.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        when(mongoTemplate.find(any(Query.class), eq(BoardingEntity.class))).thenReturn(List.of(moved));
+
+        var flipped = repository.transitionStatus(ids, BoardingStatus.BOARDING, BoardingStatus.DONE_BOARDING);
+
+        assertThat(flipped).containsExactly(moved.getId().toHexString());
+        var update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(any(Query.class), update.capture(), eq(BoardingEntity.class));
+        String token = (String) ((Document) update.getValue().getUpdateObject().get("$set")).get("transitionToken");
+        var read = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(read.capture(), eq(BoardingEntity.class));
+        assertThat(read.getValue().getQueryObject().get("transitionToken")).isEqualTo(token);
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class), eq(BoardingEntity.class));
+    }
+
+    @Test
+    void transitionThatMovedNothingSkipsTheRead() {
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(BoardingEntity.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        assertThat(repository.transitionStatus(List.of(new ObjectId().toHexString()),
+                BoardingStatus.BOARDING, BoardingStatus.DONE_BOARDING)).isEmpty();
+        verify(mongoTemplate, never()).find(any(Query.class), eq(BoardingEntity.class));
+    }
+}
@@ -0,0 +1,103 @@
+package john.api1.application.adapters.repositories.boarding;
+
+import john.api1.application.adapters.repositories.KennelOccupancyEntity;
+import john.api1.application.adapters.repositories.KennelReservationEntity;
+import john.api1.application.components.enums.PetSize;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KennelReservationRepositoryTest {
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 3);
+
+    private MongoTemplate mongoTemplate;
+    private KennelReservationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        repository = new KennelReservationRepository(mongoTemplate);
+    }
+
+    @Test
+    void reservesEveryDay() {
+        assertThat(repository.tryReserve(PetSize.SMALL, List.of(DAY, DAY.plusDays(1)), 2)).isTrue();
+
+        verify(mongoTemplate, times(2)).upsert(any(Query.class), any(Update.class), eq(KennelOccupancyEntity.class));
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(KennelOccupancyEntity.class));
+    }
+
+    @Test
+    void firstReservationOfADayRacingAnotherIsRetried() {
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(KennelOccupancyEntity.class)))
+                .thenThrow(new DuplicateKeyException("E11000"))
+                .thenReturn(null);
+
+        assertThat(repository.tryReserve(PetSize.SMALL, List.of(DAY), 2)).isTrue();
+
+        verify(mongoTemplate, times(2)).upsert(any(Query.class), any(Update.class), eq(KennelOccupancyEntity.class));
+    }
+
+    @Test
+    void fullDayGivesBackTakenDays() {
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(KennelOccupancyEntity.class)))
+                .thenReturn(null)
+                .thenThrow(new DuplicateKeyException("E11000"));
+
+        assertThat(repository.tryReserve(PetSize.SMALL, List.of(DAY, DAY.plusDays(1)), 2)).isFalse();
+
+        // one success, then the full day fails on both attempts
+        verify(mongoTemplate, times(3)).upsert(any(Query.class), any(Update.class), eq(KennelOccupancyEntity.class));
+        verify(mongoTemplate).updateMulti(any(Query.class), any(Update.class), eq(KennelOccupancyEntity.class));
+    }
+
+    @Test
+    void zeroCapacityNeverTouchesTheCounters() {
+        assertThat(repository.tryReserve(PetSize.SMALL, List.of(DAY), 0)).isFalse();
+
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(KennelOccupancyEntity.class));
+    }
+
+    @Test
+    void availabilityReadsOneIdRangePerSizeClass() {
+        when(mongoTemplate.find(any(Query.class), eq(KennelOccupancyEntity.class)))
+                .thenReturn(List.of(new KennelOccupancyEntity("SMALL:" + DAY, "SMALL", DAY.toString(), 3)));
+
+        var reserved = repository.reservedBetween(DAY, DAY.plusDays(7));
+
+        assertThat(reserved).containsOnlyKeys(PetSize.SMALL);
+        assertThat(reserved.get(PetSize.SMALL)).containsEntry(DAY, 3);
+        var query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(KennelOccupancyEntity.class));
+        String json = query.getValue().getQueryObject().toJson();
+        assertThat(json).contains("SMALL:" + DAY, "SMALL:" + DAY.plusDays(7), "XL:" + DAY);
+    }
+
+    @Test
+    void removedDaysAreOnlyThoseStillRecorded() {
+        String boardingId = new ObjectId().toHexString();
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(KennelReservationEntity.class)))
+                .thenReturn(new KennelReservationEntity(new ObjectId(boardingId), "SMALL", List.of(DAY.toString()), Instant.now()));
+
+        assertThat(repository.removeReservationDays(boardingId, List.of(DAY, DAY.plusDays(1)))).containsExactly(DAY);
+    }
+}
@@ -0,0 +1,92 @@
+package john.api1.application.components;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FanOutTest {
+    private final FanOut fanOut = new FanOut();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        fanOut.shutdown();
+    }
+
+    @Test
+    void laterForkFailingIsSeenWithoutWaitingForEarlierOnes() throws InterruptedException {
+        var interrupted = new CountDownLatch(1);
+        long started = System.nanoTime();
+
+        assertThatThrownBy(() -> {
+            try (var scope = fanOut.open(Duration.ofSeconds(10))) {
+                scope.fork(() -> {
+                    try {
+                        Thread.sleep(Duration.ofSeconds(10));
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return "slow";
+                });
+                scope.fork(() -> {
+                    throw new IllegalStateException("down");
+                });
+                scope.join();
+            }
+        }).isInstanceOf(IllegalStateException.class).hasMessage("down");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void forksShareTheCallersRequestMemo() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        var loader = new RequestLoader();
+        var fetches = new AtomicInteger();
+
+        try (var scope = fanOut.open()) {
+            var first = scope.fork(() -> loader.load("pet", "1", ids -> {
+                fetches.incrementAndGet();
+                return Map.of("1", "rex");
+            }));
+            var second = scope.fork(() -> loader.load("pet", "1", ids -> {
+                fetches.incrementAndGet();
+                return Map.of("1", "rex");
+            }));
+            scope.join();
+
+            assertThat(first.get()).isEqualTo("rex");
+            assertThat(second.get()).isEqualTo("rex");
+        }
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void callPastItsDeadlineTimesOut() {
+        assertThatThrownBy(() -> {
+            try (var scope = fanOut.open(Duration.ofMillis(100))) {
+                scope.fork(() -> {
+                    try {
+                        Thread.sleep(Duration.ofSeconds(10));
+                    } catch (InterruptedException ignored) {
+                        // cancelled by the scope
+                    }
+                    return "slow";
+                });
+                scope.join();
+            }
+        }).hasMessageContaining("timed out");
+    }
+}
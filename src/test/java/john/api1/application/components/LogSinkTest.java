@@ -0,0 +1,135 @@
+package john.api1.application.components;
+
+import john.api1.application.components.LogSink.SpillPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSinkTest {
+    // long enough that only size, close() or a spill makes the sink write
+    private static final Duration IDLE = Duration.ofMinutes(10);
+    private static final Duration DRAIN = Duration.ofSeconds(5);
+
+    @Test
+    void closeDrainsTheBuffer() {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        var sink = sink(10, 5, SpillPolicy.DROP, written::addAll);
+
+        sink.offer("a");
+        sink.offer("b");
+        sink.close();
+
+        assertThat(written).containsExactly("a", "b");
+        assertThat(sink.dropped()).isZero();
+    }
+
+    @Test
+    void offerAfterCloseIsWrittenInline() {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        var sink = sink(10, 5, SpillPolicy.DROP, written::addAll);
+        sink.close();
+
+        sink.offer("late");
+
+        assertThat(written).containsExactly("late");
+    }
+
+    @Test
+    void failedBatchIsRetriedWithTheSameItems() {
+        List<List<String>> attempts = Collections.synchronizedList(new ArrayList<>());
+        var sink = sink(10, 2, SpillPolicy.DROP, batch -> {
+            attempts.add(List.copyOf(batch));
+            if (attempts.size() == 1) throw new IllegalStateException("down");
+        });
+
+        sink.offer("a");
+        sink.offer("b");
+        sink.close();
+
+        assertThat(attempts).containsExactly(List.of("a", "b"), List.of("a", "b"));
+        assertThat(sink.dropped()).isZero();
+    }
+
+    @Test
+    void batchIsDroppedAndCountedAfterThreeAttempts() {
+        var calls = new AtomicInteger();
+        var sink = sink(10, 2, SpillPolicy.DROP, batch -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("down");
+        });
+
+        sink.offer("a");
+        sink.offer("b");
+        sink.close();
+
+        assertThat(calls).hasValue(3);
+        assertThat(sink.dropped()).isEqualTo(2);
+    }
+
+    @Test
+    void fullBufferDropsWithDropPolicy() throws InterruptedException {
+        var blocked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        var sink = sink(1, 1, SpillPolicy.DROP, blockingWriter(blocked, release, written));
+
+        sink.offer("a");
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        sink.offer("b");
+        sink.offer("c");
+
+        assertThat(sink.dropped()).isEqualTo(1);
+        release.countDown();
+        sink.close();
+        assertThat(written).containsExactly("a", "b");
+    }
+
+    @Test
+    void fullBufferWritesOnCallerWithCallerRunsPolicy() throws InterruptedException {
+        var blocked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        var sink = sink(1, 1, SpillPolicy.CALLER_RUNS, blockingWriter(blocked, release, written));
+
+        sink.offer("a");
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        sink.offer("b");
+        sink.offer("c");
+
+        // "c" found the buffer full and was written by this thread
+        assertThat(written).containsExactly("c");
+        release.countDown();
+        sink.close();
+        assertThat(written).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(sink.dropped()).isZero();
+    }
+
+    private static LogSink<String> sink(int capacity, int batchSize, SpillPolicy policy, Consumer<List<String>> writer) {
+        return new LogSink<>("test", capacity, batchSize, IDLE, DRAIN, policy, writer);
+    }
+
+    // The flusher's first batch blocks until released, inline writes go straight through
+    private static Consumer<List<String>> blockingWriter(CountDownLatch blocked, CountDownLatch release, List<String> written) {
+        String flusher = "LogSink-test";
+        return batch -> {
+            if (Thread.currentThread().getName().equals(flusher) && blocked.getCount() > 0) {
+                blocked.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            written.addAll(batch);
+        };
+    }
+}
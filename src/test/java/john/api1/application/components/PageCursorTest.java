@@ -0,0 +1,61 @@
+package john.api1.application.components;
+
+import john.api1.application.components.exception.DomainArgumentException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    void roundTripsDatedCursor() {
+        var cursor = new PageCursor(Instant.ofEpochMilli(1_700_000_000_123L), new ObjectId().toHexString());
+
+        assertThat(PageCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsUndatedCursor() {
+        var cursor = new PageCursor(null, new ObjectId().toHexString());
+
+        var decoded = PageCursor.decode(cursor.encode());
+
+        assertThat(decoded.createdAt()).isNull();
+        assertThat(decoded.id()).isEqualTo(cursor.id());
+    }
+
+    @Test
+    void tokenIsUrlSafe() {
+        var token = new PageCursor(Instant.now(), new ObjectId().toHexString()).encode();
+
+        assertThat(token).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void rejectsGarbage() {
+        assertThatThrownBy(() -> PageCursor.decode("not a cursor"))
+                .isInstanceOf(DomainArgumentException.class);
+    }
+
+    @Test
+    void rejectsInvalidId() {
+        assertThatThrownBy(() -> PageCursor.decode(token("123:not-an-object-id")))
+                .isInstanceOf(DomainArgumentException.class);
+    }
+
+    @Test
+    void rejectsInvalidTime() {
+        assertThatThrownBy(() -> PageCursor.decode(token("abc:" + new ObjectId().toHexString())))
+                .isInstanceOf(DomainArgumentException.class);
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
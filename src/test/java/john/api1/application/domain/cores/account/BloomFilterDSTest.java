@@ -0,0 +1,55 @@
+package john.api1.application.domain.cores.account;
+
+import john.api1.application.components.exception.DomainArgumentException;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterDSTest {
+
+    @Test
+    void sizesForTheTargetRate() {
+        long bits = BloomFilterDS.optimalBits(1_000_000, 0.01);
+
+        // ~9.59 bits and 7 hashes per element at 1%
+        assertThat(bits).isBetween(9_500_000L, 9_700_000L);
+        assertThat(BloomFilterDS.optimalHashes(1_000_000, bits)).isEqualTo(7);
+    }
+
+    @Test
+    void rejectsInvalidSizing() {
+        assertThatThrownBy(() -> BloomFilterDS.optimalBits(0, 0.01)).isInstanceOf(DomainArgumentException.class);
+        assertThatThrownBy(() -> BloomFilterDS.optimalBits(100, 1)).isInstanceOf(DomainArgumentException.class);
+    }
+
+    @Test
+    void offsetsAreStableInRangeAndNormalized() {
+        long[] offsets = BloomFilterDS.offsets("Owner@Example.com ", 1024, 7);
+
+        assertThat(offsets).hasSize(7).allMatch(offset -> offset >= 0 && offset < 1024);
+        assertThat(BloomFilterDS.offsets("owner@example.com", 1024, 7)).containsExactly(offsets);
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        int expected = 10_000;
+        long bits = BloomFilterDS.optimalBits(expected, 0.01);
+        int hashes = BloomFilterDS.optimalHashes(expected, bits);
+        BitSet bitmap = new BitSet((int) bits);
+
+        for (int i = 0; i < expected; i++) {
+            for (long offset : BloomFilterDS.offsets("owner" + i + "@example.com", bits, hashes)) bitmap.set((int) offset);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < expected; i++) {
+            boolean all = true;
+            for (long offset : BloomFilterDS.offsets("stranger" + i + "@example.com", bits, hashes)) all &= bitmap.get((int) offset);
+            if (all) falsePositives++;
+        }
+        assertThat(falsePositives).isLessThan(expected * 2 / 100);
+    }
+}
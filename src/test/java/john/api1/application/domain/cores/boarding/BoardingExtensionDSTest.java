@@ -0,0 +1,109 @@
+package john.api1.application.domain.cores.boarding;
+
+import john.api1.application.components.enums.boarding.BoardingStatus;
+import john.api1.application.components.enums.boarding.BoardingType;
+import john.api1.application.components.enums.boarding.PaymentStatus;
+import john.api1.application.components.exception.DomainArgumentException;
+import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.domain.models.request.ExtensionDomain;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardingExtensionDSTest {
+    private static final Instant START = Instant.parse("2025-01-01T08:00:00Z");
+    private static final Instant BOOKED_END = START.plus(Duration.ofDays(3));
+
+    @Test
+    void unextendedBoardingKeepsItsEnd() {
+        var boarding = legacyBoarding(BOOKED_END);
+
+        BoardingExtensionDS.resolveEffectiveEnd(boarding, List.of());
+
+        assertThat(boarding.getBoardingEnd()).isEqualTo(BOOKED_END);
+        assertThat(boarding.getEffectiveEnd()).isEqualTo(BOOKED_END);
+        assertThat(boarding.getDurationHours()).isEqualTo(72);
+    }
+
+    @Test
+    void baselineShiftIsTakenOffBeforeHoursAreAdded() {
+        // the baseline moved the end by 5 days for a 5 hour extension
+        var boarding = legacyBoarding(BOOKED_END.plus(Duration.ofDays(5)));
+
+        BoardingExtensionDS.resolveEffectiveEnd(boarding, List.of(extension(5, true)));
+
+        assertThat(boarding.getBoardingEnd()).isEqualTo(BOOKED_END);
+        assertThat(boarding.getEffectiveEnd()).isEqualTo(BOOKED_END.plus(Duration.ofHours(5)));
+        assertThat(boarding.getDurationHours()).isEqualTo(77);
+        assertThat(boarding.getDurationDays()).isEqualTo(3);
+    }
+
+    @Test
+    void unapprovedExtensionsNeverMovedTheEnd() {
+        var boarding = legacyBoarding(BOOKED_END.plus(Duration.ofDays(2)));
+
+        BoardingExtensionDS.resolveEffectiveEnd(boarding, List.of(extension(2, true), extension(4, false)));
+
+        assertThat(boarding.getBoardingEnd()).isEqualTo(BOOKED_END);
+        assertThat(boarding.getEffectiveEnd()).isEqualTo(BOOKED_END.plus(Duration.ofHours(2)));
+    }
+
+    @Test
+    void extensionCommittedNowIsLeftToTheCaller() {
+        var earlier = extension(3, true);
+        var now = extension(10, true);
+        var boarding = legacyBoarding(BOOKED_END.plus(Duration.ofDays(3)));
+
+        BoardingExtensionDS.resolveEffectiveEnd(boarding, List.of(earlier, now), now.getId());
+
+        assertThat(boarding.getBoardingEnd()).isEqualTo(BOOKED_END);
+        assertThat(boarding.getEffectiveEnd()).isEqualTo(BOOKED_END.plus(Duration.ofHours(3)));
+    }
+
+    @Test
+    void migratedBoardingIsLeftAlone() {
+        var boarding = legacyBoarding(BOOKED_END);
+        boarding.recordEffectiveEnd(BOOKED_END.plus(Duration.ofHours(4)));
+
+        BoardingExtensionDS.resolveEffectiveEnd(boarding, List.of(extension(4, true)));
+
+        assertThat(boarding.getBoardingEnd()).isEqualTo(BOOKED_END);
+        assertThat(boarding.getEffectiveEnd()).isEqualTo(BOOKED_END.plus(Duration.ofHours(4)));
+    }
+
+    @Test
+    void shiftLargerThanTheStayIsRejected() {
+        // end was never moved by these extensions, taking them off would end before the start
+        var boarding = legacyBoarding(BOOKED_END);
+
+        assertThatThrownBy(() -> BoardingExtensionDS.resolveEffectiveEnd(boarding, List.of(extension(48, true))))
+                .isInstanceOf(DomainArgumentException.class);
+    }
+
+    private static BoardingDomain legacyBoarding(Instant storedEnd) {
+        return BoardingDomain.builder()
+                .id(new ObjectId().toHexString())
+                .petId(new ObjectId().toHexString())
+                .ownerId(new ObjectId().toHexString())
+                .boardingType(BoardingType.LONG_STAY)
+                .boardingStart(START)
+                .boardingEnd(storedEnd)
+                .boardingStatus(BoardingStatus.BOARDING)
+                .paymentStatus(PaymentStatus.PENDING)
+                .createdAt(START)
+                .updatedAt(START)
+                .active(true)
+                .build();
+    }
+
+    private static ExtensionDomain extension(long hours, boolean approved) {
+        return new ExtensionDomain(new ObjectId().toHexString(), new ObjectId().toHexString(), new ObjectId().toHexString(),
+                0, hours, BoardingType.DAYCARE, null, START, START, approved);
+    }
+}
@@ -0,0 +1,139 @@
+package john.api1.application.services;
+
+import john.api1.application.components.enums.AccountKeyType;
+import john.api1.application.domain.cores.account.BloomFilterDS;
+import john.api1.application.ports.repositories.admin.IAdminSearchRepository;
+import john.api1.application.ports.repositories.owner.IAccountSearchRepository;
+import john.api1.application.ports.services.IAccountExistenceFilter.Probe;
+import john.api1.common.config.AccountFilterConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountExistenceFilterASTest {
+    private static final long EXPECTED = 1000;
+    private static final double RATE = 0.01;
+    private static final Probe PROBE = new Probe(AccountKeyType.CLIENT_EMAIL, "owner@example.com");
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> values;
+    private IAccountSearchRepository clientSearch;
+    private IAdminSearchRepository adminSearch;
+    private AccountExistenceFilterAS filter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        AccountFilterConfig config = mock(AccountFilterConfig.class);
+        when(config.isEnabled()).thenReturn(true);
+        when(config.getExpectedInsertions()).thenReturn(EXPECTED);
+        when(config.getFalsePositiveRate()).thenReturn(RATE);
+
+        redisTemplate = mock(StringRedisTemplate.class);
+        values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        clientSearch = mock(IAccountSearchRepository.class);
+        adminSearch = mock(IAdminSearchRepository.class);
+        filter = new AccountExistenceFilterAS(config, redisTemplate, clientSearch, adminSearch);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedAddDropsTheSharedReadyMarker() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        filter.add(PROBE);
+
+        // the drop bumps the generation in the same script
+        verify(redisTemplate).execute(any(RedisScript.class), eq(markerKeys()));
+
+        // this node also fails open until the add is replayed
+        assertThat(filter.mightContainAny(PROBE)).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void markerDropIsRetriedByMaintenance() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(List.of());
+        when(redisTemplate.execute(any(RedisScript.class), eq(markerKeys())))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(1L);
+        when(values.get(generationKey())).thenReturn("1");
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(Boolean.TRUE);
+
+        filter.add(PROBE);
+        filter.maintain();
+
+        // failed drop, retried drop, then the ready check finds the marker
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), eq(markerKeys()));
+        verify(redisTemplate, times(1)).execute(any(RedisCallback.class));
+        verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void seedOverlappingAMarkerDropLeavesItUnsetAndReseeds() {
+        when(values.get(generationKey())).thenReturn("3");
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(Boolean.FALSE);
+        when(redisTemplate.execute(any(RedisScript.class), eq(markerKeys()), eq("3"))).thenReturn(0L);
+        when(clientSearch.streamAccountKeys()).thenAnswer(invocation -> Stream.empty());
+        when(adminSearch.streamAccountKeys()).thenAnswer(invocation -> Stream.empty());
+
+        filter.maintain();
+        filter.maintain();
+
+        // the marker was never set, so the next maintenance seeds again
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), eq(markerKeys()), eq("3"));
+        verify(clientSearch, times(2)).streamAccountKeys();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void seedMarksReadyAgainstTheGenerationReadBeforeTheCheck() {
+        when(values.get(generationKey())).thenReturn(null);
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenReturn(Boolean.FALSE)
+                .thenReturn(Boolean.TRUE);
+        when(redisTemplate.execute(any(RedisScript.class), eq(markerKeys()), eq("0"))).thenReturn(1L);
+        when(clientSearch.streamAccountKeys()).thenAnswer(invocation -> Stream.empty());
+        when(adminSearch.streamAccountKeys()).thenAnswer(invocation -> Stream.empty());
+
+        filter.maintain();
+        filter.maintain();
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(markerKeys()), eq("0"));
+        verify(clientSearch, times(1)).streamAccountKeys();
+    }
+
+    private static List<String> markerKeys() {
+        return List.of("bloom:account:ready:" + suffix(), generationKey());
+    }
+
+    private static String generationKey() {
+        return "bloom:account:generation:" + suffix();
+    }
+
+    private static String suffix() {
+        long bits = BloomFilterDS.optimalBits(EXPECTED, RATE);
+        int hashes = BloomFilterDS.optimalHashes(EXPECTED, bits);
+        return bits + ":" + hashes;
+    }
+}
@@ -0,0 +1,131 @@
+package john.api1.application.services.boarding;
+
+import john.api1.application.components.FanOut;
+import john.api1.application.components.PageCursor;
+import john.api1.application.components.enums.boarding.BoardingStatus;
+import john.api1.application.components.enums.boarding.BoardingType;
+import john.api1.application.components.enums.boarding.PaymentStatus;
+import john.api1.application.domain.models.boarding.BoardingDomain;
+import john.api1.application.dto.mapper.boarding.BoardingDTO;
+import john.api1.application.ports.repositories.boarding.BoardingPageRow;
+import john.api1.application.ports.repositories.boarding.IBoardingSearchRepository;
+import john.api1.application.ports.repositories.request.IRequestCompletedSearchRepository;
+import john.api1.application.ports.services.IBoardingAggregation;
+import john.api1.application.ports.services.IPetOwnerSearch;
+import john.api1.application.ports.services.boarding.IBoardingView;
+import john.api1.application.ports.services.boarding.IPricingManagement;
+import john.api1.application.ports.services.media.IMediaSearch;
+import john.api1.application.ports.services.pet.IPetSearch;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardingSearchASTest {
+    private static final Instant T1 = Instant.parse("2025-01-03T10:00:00Z");
+    private static final Instant T2 = Instant.parse("2025-01-02T10:00:00Z");
+    private static final Instant T3 = Instant.parse("2025-01-01T10:00:00Z");
+
+    private IBoardingSearchRepository searchRepository;
+    private IBoardingView boardingView;
+    private BoardingSearchAS service;
+
+    @BeforeEach
+    void setUp() {
+        searchRepository = mock(IBoardingSearchRepository.class);
+        boardingView = mock(IBoardingView.class);
+        service = new BoardingSearchAS(searchRepository, mock(IPricingManagement.class), mock(IPetOwnerSearch.class),
+                mock(IPetSearch.class), mock(IRequestCompletedSearchRepository.class), mock(IBoardingAggregation.class),
+                boardingView, mock(IMediaSearch.class), mock(FanOut.class));
+    }
+
+    @Test
+    void unmappableRowStillCountsTowardsTheNextPage() {
+        var first = boarding(T1);
+        var broken = new BoardingPageRow(new PageCursor(T2, new ObjectId().toHexString()), null);
+        var third = boarding(T3);
+        when(searchRepository.searchPage(null, 3)).thenReturn(List.of(row(first), broken, row(third)));
+        var dto = mock(BoardingDTO.class);
+        when(boardingView.aggregate(List.of(first))).thenReturn(List.of(dto));
+
+        var page = service.boardingPage(null, 2).getData();
+
+        assertThat(page.boardings()).containsExactly(dto);
+        assertThat(page.nextCursor()).isEqualTo(broken.position().encode());
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        var first = boarding(T1);
+        when(searchRepository.searchPage(null, 3)).thenReturn(List.of(row(first)));
+        when(boardingView.aggregate(anyList())).thenReturn(List.of(mock(BoardingDTO.class)));
+
+        var page = service.boardingPage(null, 2).getData();
+
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void builtViewServesThePageWithoutLiveAggregation() {
+        when(boardingView.isBuilt()).thenReturn(true);
+        var a = view(T1);
+        var b = view(T2);
+        when(boardingView.findPage(null, 2)).thenReturn(List.of(a, b));
+
+        var page = service.boardingPage(null, 1).getData();
+
+        assertThat(page.boardings()).containsExactly(a);
+        assertThat(page.nextCursor()).isEqualTo(new PageCursor(T1, a.id()).encode());
+        verify(searchRepository, never()).searchPage(any(), anyInt());
+        verify(boardingView, never()).aggregate(anyList());
+    }
+
+    @Test
+    void allBoardingWalksLivePagesUntilTheViewIsBuilt() {
+        var first = boarding(T1);
+        when(searchRepository.searchPage(null, 200)).thenReturn(List.of(row(first)));
+        var dto = mock(BoardingDTO.class);
+        when(boardingView.aggregate(List.of(first))).thenReturn(List.of(dto));
+
+        assertThat(service.allBoarding().getData()).containsExactly(dto);
+        verify(searchRepository, never()).searchAll();
+    }
+
+    private static BoardingPageRow row(BoardingDomain boarding) {
+        return new BoardingPageRow(new PageCursor(boarding.getCreatedAt(), boarding.getId()), boarding);
+    }
+
+    private static BoardingDTO view(Instant createdAt) {
+        var dto = mock(BoardingDTO.class);
+        when(dto.id()).thenReturn(new ObjectId().toHexString());
+        when(dto.createdAt()).thenReturn(createdAt);
+        return dto;
+    }
+
+    private static BoardingDomain boarding(Instant createdAt) {
+        return BoardingDomain.builder()
+                .id(new ObjectId().toHexString())
+                .petId(new ObjectId().toHexString())
+                .ownerId(new ObjectId().toHexString())
+                .boardingType(BoardingType.LONG_STAY)
+                .boardingStart(createdAt)
+                .boardingEnd(createdAt.plusSeconds(86_400))
+                .boardingStatus(BoardingStatus.BOARDING)
+                .paymentStatus(PaymentStatus.PENDING)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package john.api1.application.services.boarding;
+
+import john.api1.application.components.enums.PetSize;
+import john.api1.application.components.enums.boarding.BoardingStatus;
+import john.api1.application.components.event.BoardingChangedEvent;
+import john.api1.application.domain.cores.boarding.KennelCapacityDS;
+import john.api1.application.ports.repositories.boarding.IBoardingSearchRepository;
+import john.api1.application.ports.repositories.boarding.IKennelReservationRepository;
+import john.api1.application.ports.repositories.boarding.KennelReservationCQRS;
+import john.api1.application.ports.repositories.request.IRequestCompletedSearchRepository;
+import john.api1.application.ports.services.pet.IPetSearch;
+import john.api1.common.config.KennelCapacityConfig;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class KennelAvailabilityASTest {
+    private static final LocalDate D1 = LocalDate.of(2025, 1, 3);
+    private static final LocalDate D2 = D1.plusDays(1);
+    private static final LocalDate D3 = D1.plusDays(2);
+    private static final String BOARDING_ID = new ObjectId().toHexString();
+
+    private IKennelReservationRepository reservationRepository;
+    private IBoardingSearchRepository boardingSearch;
+    private KennelAvailabilityAS service;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(IKennelReservationRepository.class);
+        boardingSearch = mock(IBoardingSearchRepository.class);
+        var capacity = mock(KennelCapacityConfig.class);
+        when(capacity.capacityOf(any(PetSize.class))).thenReturn(2);
+        service = new KennelAvailabilityAS(reservationRepository, boardingSearch,
+                mock(IRequestCompletedSearchRepository.class), mock(IPetSearch.class), capacity);
+    }
+
+    @Test
+    void extensionHoldsOnlyTheDaysNotHeldYet() {
+        when(reservationRepository.findReservation(BOARDING_ID))
+                .thenReturn(Optional.of(new KennelReservationCQRS(BOARDING_ID, PetSize.SMALL, List.of(D1, D2))));
+        when(reservationRepository.tryReserve(PetSize.SMALL, List.of(D3), 2)).thenReturn(true);
+        when(reservationRepository.addReservationDays(BOARDING_ID, List.of(D3))).thenReturn(List.of(D3));
+
+        var held = service.reserveExtension(BOARDING_ID, at(D1), at(D3));
+
+        assertThat(held.isSuccess()).isTrue();
+        assertThat(held.getData()).containsExactly(D3);
+        verify(reservationRepository, never()).forceReserve(any(PetSize.class), anyList());
+    }
+
+    @Test
+    void extensionIntoAFullDayIsRejected() {
+        when(reservationRepository.findReservation(BOARDING_ID))
+                .thenReturn(Optional.of(new KennelReservationCQRS(BOARDING_ID, PetSize.SMALL, List.of(D1, D2))));
+        when(reservationRepository.tryReserve(PetSize.SMALL, List.of(D3), 2)).thenReturn(false);
+
+        var held = service.reserveExtension(BOARDING_ID, at(D1), at(D3));
+
+        assertThat(held.isSuccess()).isFalse();
+        verify(reservationRepository, never()).addReservationDays(anyString(), anyList());
+    }
+
+    @Test
+    void dayRecordedByAConcurrentCommitIsGivenBack() {
+        when(reservationRepository.findReservation(BOARDING_ID))
+                .thenReturn(Optional.of(new KennelReservationCQRS(BOARDING_ID, PetSize.SMALL, List.of(D1))));
+        when(reservationRepository.tryReserve(PetSize.SMALL, List.of(D2, D3), 2)).thenReturn(true);
+        when(reservationRepository.addReservationDays(BOARDING_ID, List.of(D2, D3))).thenReturn(List.of(D3));
+
+        assertThat(service.reserveExtension(BOARDING_ID, at(D1), at(D3)).getData()).containsExactly(D3);
+        verify(reservationRepository).unreserve(PetSize.SMALL, List.of(D2));
+    }
+
+    @Test
+    void changeThatKeepsStatusAndEndIsIgnored() {
+        service.onBoardingChanged(new BoardingChangedEvent(BOARDING_ID));
+        service.onBoardingChanged(BoardingChangedEvent.statusChanged(BOARDING_ID, BoardingStatus.OVERDUE));
+
+        verifyNoInteractions(reservationRepository, boardingSearch);
+    }
+
+    @Test
+    void releaseGivesBackTheRecordedDays() {
+        when(reservationRepository.removeReservation(BOARDING_ID))
+                .thenReturn(Optional.of(new KennelReservationCQRS(BOARDING_ID, PetSize.LARGE, List.of(D1, D2))));
+
+        service.onBoardingChanged(BoardingChangedEvent.statusChanged(BOARDING_ID, BoardingStatus.RELEASED));
+
+        verify(reservationRepository).unreserve(PetSize.LARGE, List.of(D1, D2));
+        verifyNoInteractions(boardingSearch);
+    }
+
+    @Test
+    void freeSlotsAreReadFromTheSharedCounters() {
+        LocalDate today = KennelCapacityDS.today();
+        when(reservationRepository.reservedBetween(today, today.plusDays(2)))
+                .thenReturn(Map.of(PetSize.SMALL, Map.of(today, 2, today.plusDays(1), 1)));
+
+        var slots = service.freeSlots(2).getData();
+
+        assertThat(slots.get(0).freeSlots().get(PetSize.SMALL)).isZero();
+        assertThat(slots.get(1).freeSlots().get(PetSize.SMALL)).isEqualTo(1);
+        assertThat(slots.get(1).freeSlots().get(PetSize.LARGE)).isEqualTo(2);
+        verify(reservationRepository, never()).tryReserve(any(PetSize.class), anyList(), anyInt());
+    }
+
+    private static Instant at(LocalDate day) {
+        return KennelCapacityDS.startOfDay(day).plus(Duration.ofHours(10));
+    }
+}
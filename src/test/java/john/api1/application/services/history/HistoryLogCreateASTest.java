@@ -0,0 +1,66 @@
+package john.api1.application.services.history;
+
+import john.api1.application.components.LogSink;
+import john.api1.application.components.LogSink.SpillPolicy;
+import john.api1.application.domain.models.ActivityLogDomain;
+import john.api1.application.ports.repositories.history.IHistoryLogCreateRepository;
+import john.api1.application.ports.services.history.IActivityLogSnapshot;
+import john.api1.common.config.LogSinkConfig;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HistoryLogCreateASTest {
+    private IHistoryLogCreateRepository repository;
+    private IActivityLogSnapshot snapshot;
+    private HistoryLogCreateAS service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(IHistoryLogCreateRepository.class);
+        snapshot = mock(IActivityLogSnapshot.class);
+        when(snapshot.capture(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.createNewLogs(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // flushes only on close, so the test sees what the caller's thread did
+        LogSinkConfig config = mock(LogSinkConfig.class);
+        when(config.create(anyString(), any(), any())).thenAnswer(invocation -> new LogSink<ActivityLogDomain>(
+                "history_log", 10, 5, Duration.ofMinutes(10), Duration.ofSeconds(5), SpillPolicy.CALLER_RUNS,
+                invocation.<Consumer<List<ActivityLogDomain>>>getArgument(2)));
+
+        service = new HistoryLogCreateAS(repository, snapshot, config);
+    }
+
+    @Test
+    void callerOnlyQueuesTheLog() {
+        service.createActivityLogOwnerRegister(new ObjectId().toHexString(), "Ana");
+        service.createActivityLogPetRegister(new ObjectId().toHexString(), "Ana", "Milo");
+
+        verify(snapshot, never()).capture(anyList());
+        verify(repository, never()).createNewLogs(anyList());
+    }
+
+    @Test
+    void flusherSnapshotsTheWholeBatchOnce() {
+        service.createActivityLogOwnerRegister(new ObjectId().toHexString(), "Ana");
+        service.createActivityLogPetRegister(new ObjectId().toHexString(), "Ana", "Milo");
+
+        service.drain();
+
+        verify(snapshot).capture(argThat(logs -> logs.size() == 2));
+        verify(repository).createNewLogs(argThat(logs -> logs.size() == 2));
+    }
+}
@@ -0,0 +1,170 @@
+package john.api1.application.services.request;
+
+import john.api1.application.components.enums.boarding.RequestStatus;
+import john.api1.application.components.enums.boarding.RequestType;
+import john.api1.application.components.event.RequestChangedEvent;
+import john.api1.application.domain.models.request.RequestDomain;
+import john.api1.application.dto.mapper.request.RequestInboxDeltaDTO;
+import john.api1.application.ports.repositories.request.IRequestSearchRepository;
+import john.api1.application.ports.services.IPetOwnerSearch;
+import john.api1.application.ports.services.pet.IPetSearch;
+import john.api1.common.config.RequestInboxConfig;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RequestInboxASTest {
+    private IRequestSearchRepository requestSearch;
+    private ThreadPoolTaskExecutor refreshExecutor;
+    private ThreadPoolTaskExecutor pushExecutor;
+    private RequestInboxAS service;
+
+    @BeforeEach
+    void setUp() {
+        requestSearch = mock(IRequestSearchRepository.class);
+        var ownerSearch = mock(IPetOwnerSearch.class);
+        var petSearch = mock(IPetSearch.class);
+        when(ownerSearch.getPetOwnerBoardingDetailsByIds(anyCollection())).thenReturn(Map.of());
+        when(petSearch.getPetBoardingDetailsByIds(anyCollection())).thenReturn(Map.of());
+
+        var config = mock(RequestInboxConfig.class);
+        when(config.getSubscriberQueue()).thenReturn(2);
+
+        // refreshes run inline, sends on a real pool so one client can block while another keeps up
+        refreshExecutor = mock(ThreadPoolTaskExecutor.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(refreshExecutor).execute(any(Runnable.class));
+
+        pushExecutor = new ThreadPoolTaskExecutor();
+        pushExecutor.setCorePoolSize(2);
+        pushExecutor.setMaxPoolSize(2);
+        pushExecutor.initialize();
+
+        service = new RequestInboxAS(requestSearch, ownerSearch, petSearch, config, refreshExecutor, pushExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pushExecutor.shutdown();
+    }
+
+    @Test
+    void subscriberThatFallsAQueueBehindIsDroppedWhileOthersKeepUp() throws InterruptedException {
+        var slowBlocked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var slowDropped = new CountDownLatch(1);
+        List<Long> slowSeen = Collections.synchronizedList(new ArrayList<>());
+        service.subscribe(delta -> {
+            slowSeen.add(delta.version());
+            slowBlocked.countDown();
+            await(release);
+        }, slowDropped::countDown);
+
+        var fastDone = new CountDownLatch(4);
+        List<Long> fastSeen = Collections.synchronizedList(new ArrayList<>());
+        service.subscribe(delta -> {
+            fastSeen.add(delta.version());
+            fastDone.countDown();
+        }, () -> {
+            throw new AssertionError("fast subscriber dropped");
+        });
+
+        change();
+        assertThat(slowBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+        // the slow one holds version 1, 2 and 3 fill its queue, 4 does not fit
+        change();
+        change();
+        change();
+
+        assertThat(slowDropped.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fastDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fastSeen).containsExactly(1L, 2L, 3L, 4L);
+
+        release.countDown();
+        change();
+        pushExecutor.shutdown();
+        assertThat(pushExecutor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(slowSeen).containsExactly(1L);
+    }
+
+    @Test
+    void subscriberThatThrowsIsDroppedAndClosed() throws InterruptedException {
+        var dropped = new CountDownLatch(1);
+        List<RequestInboxDeltaDTO> seen = Collections.synchronizedList(new ArrayList<>());
+        service.subscribe(delta -> {
+            seen.add(delta);
+            throw new IllegalStateException("client gone");
+        }, dropped::countDown);
+
+        change();
+        assertThat(dropped.await(5, TimeUnit.SECONDS)).isTrue();
+        change();
+
+        assertThat(seen).hasSize(1);
+        assertThat(service.version()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectedRefreshForcesTheNextResyncCheckToReload() {
+        doThrow(new TaskRejectedException("full")).when(refreshExecutor).execute(any(Runnable.class));
+        when(requestSearch.streamByStatuses(anyCollection())).thenAnswer(invocation -> Stream.empty());
+
+        service.onRequestChanged(new RequestChangedEvent(new ObjectId().toHexString()));
+        verify(requestSearch, never()).findById(any());
+
+        service.resyncIfDue();
+        service.resyncIfDue();
+
+        // one reload, the second check finds nothing due
+        verify(requestSearch, times(1)).streamByStatuses(anyCollection());
+    }
+
+    @Test
+    void resyncCheckWithoutARejectionDoesNothing() {
+        service.resyncIfDue();
+
+        verify(requestSearch, never()).streamByStatuses(anyCollection());
+    }
+
+    // A new open request each time, so every change bumps the version
+    private void change() {
+        String id = new ObjectId().toHexString();
+        var request = RequestDomain.create(new ObjectId().toHexString(), new ObjectId().toHexString(),
+                new ObjectId().toHexString(), RequestType.PHOTO_REQUEST, RequestStatus.PENDING, "photo").withId(id);
+        when(requestSearch.findById(id)).thenReturn(Optional.of(request));
+        service.onRequestChanged(new RequestChangedEvent(id));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}